@@ -11,6 +11,8 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.client.ElasticsearchHttpClientConfigurer;
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchWireFormat;
+import org.hibernate.search.backend.elasticsearch.index.IndexingQueueScope;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.SimpleIndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
@@ -162,6 +164,46 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String CONNECTION_TIMEOUT = "connection_timeout";
 
+	/**
+	 * Whether read-only search requests should be hedged,
+	 * i.e. sent to a second node when the first node does not answer quickly enough.
+	 * <p>
+	 * When enabled, the first response wins and the other request is cancelled,
+	 * and hedged requests are routed preferably to nodes with a low latency, as observed on previous responses.
+	 * Only search and count requests are hedged; in particular scroll requests are never hedged.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#REQUEST_HEDGING_ENABLED}.
+	 */
+	public static final String REQUEST_HEDGING_ENABLED = "request_hedging.enabled";
+
+	/**
+	 * The percentile of observed search latencies after which a search request is hedged.
+	 * <p>
+	 * Only effective if {@link #REQUEST_HEDGING_ENABLED request hedging is enabled}.
+	 * <p>
+	 * Expects a positive Integer value between 1 and 100, such as {@code 95},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#REQUEST_HEDGING_PERCENTILE}.
+	 */
+	public static final String REQUEST_HEDGING_PERCENTILE = "request_hedging.percentile";
+
+	/**
+	 * The minimum time to wait for a response before hedging a search request.
+	 * <p>
+	 * Only effective if {@link #REQUEST_HEDGING_ENABLED request hedging is enabled}.
+	 * Also used as the hedging delay until enough latencies have been observed.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 50},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#REQUEST_HEDGING_MIN_DELAY}.
+	 */
+	public static final String REQUEST_HEDGING_MIN_DELAY = "request_hedging.min_delay";
+
 	/**
 	 * The maximum number of simultaneous connections to the Elasticsearch cluster,
 	 * all hosts taken together.
@@ -227,6 +269,29 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LOG_JSON_PRETTY_PRINTING = "log.json_pretty_printing";
 
+	/**
+	 * The format of request and response bodies exchanged with the Elasticsearch cluster.
+	 * <p>
+	 * Expects a {@link ElasticsearchWireFormat} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#WIRE_FORMAT}.
+	 */
+	public static final String WIRE_FORMAT = "wire_format";
+
+	/**
+	 * The scope of indexing queues, i.e. whether each index has its own queues
+	 * or all indexes of the backend share the same queues.
+	 * <p>
+	 * Expects a {@link IndexingQueueScope} value, or a String representation of such value.
+	 * <p>
+	 * When queues are shared by the backend, indexing queue settings
+	 * (see {@link ElasticsearchIndexSettings#INDEXING_QUEUE_COUNT} and similar)
+	 * are taken from the backend configuration only: index-specific values are ignored.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_SCOPE}.
+	 */
+	public static final String INDEXING_QUEUE_SCOPE = "indexing.queue_scope";
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -300,11 +365,16 @@ private Defaults() {
 		public static final String PATH_PREFIX = "";
 		public static final int READ_TIMEOUT = 30000;
 		public static final int CONNECTION_TIMEOUT = 1000;
+		public static final boolean REQUEST_HEDGING_ENABLED = false;
+		public static final int REQUEST_HEDGING_PERCENTILE = 95;
+		public static final int REQUEST_HEDGING_MIN_DELAY = 20;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
+		public static final ElasticsearchWireFormat WIRE_FORMAT = ElasticsearchWireFormat.JSON;
+		public static final IndexingQueueScope INDEXING_QUEUE_SCOPE = IndexingQueueScope.INDEX;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 
 		/**
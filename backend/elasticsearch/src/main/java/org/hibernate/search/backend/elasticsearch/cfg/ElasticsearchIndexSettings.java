@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.cfg;
 
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
+import org.hibernate.search.backend.elasticsearch.index.DocumentEncoding;
 import org.hibernate.search.backend.elasticsearch.index.DynamicMapping;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 
@@ -144,6 +145,48 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of the payload of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * Applies in addition to {@link #INDEXING_MAX_BULK_SIZE}.
+	 * A single work larger than this limit will still be sent, alone in its own bulk request.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no limit.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * The ideal size of the payload of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * When set, bulk requests are filled until their payload reaches this size,
+	 * regardless of the number of works they contain: {@link #INDEXING_MAX_BULK_SIZE} is ignored.
+	 * Bulk requests may still be smaller when the indexing queue does not hold enough works.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no target, i.e. bulk requests are limited by {@link #INDEXING_MAX_BULK_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_TARGET_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.TARGET_BULK_BYTES;
+
+	/**
+	 * How documents are represented in memory while they wait in indexing queues.
+	 * <p>
+	 * Expects a {@link DocumentEncoding} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_DOCUMENT_ENCODING}.
+	 */
+	public static final String INDEXING_DOCUMENT_ENCODING = INDEXING_PREFIX + IndexingRadicals.DOCUMENT_ENCODING;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -155,6 +198,9 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String TARGET_BULK_BYTES = "target_bulk_bytes";
+		public static final String DOCUMENT_ENCODING = "document_encoding";
 	}
 
 	/**
@@ -170,6 +216,7 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final DocumentEncoding INDEXING_DOCUMENT_ENCODING = DocumentEncoding.TREE;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
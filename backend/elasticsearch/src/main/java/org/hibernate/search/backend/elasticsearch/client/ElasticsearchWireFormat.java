@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The format of request and response bodies exchanged with the Elasticsearch cluster.
+ */
+@Incubating
+public enum ElasticsearchWireFormat {
+
+	/**
+	 * Bodies are encoded as JSON text.
+	 */
+	JSON("json"),
+	/**
+	 * Bodies are encoded in the binary SMILE format,
+	 * and Elasticsearch is asked to answer in the same format.
+	 * <p>
+	 * SMILE bodies are generally smaller than their JSON equivalent and cheaper to parse,
+	 * in particular for numeric values.
+	 */
+	SMILE("smile");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ElasticsearchWireFormat of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ElasticsearchWireFormat.values(),
+				ElasticsearchWireFormat::externalRepresentation,
+				log::invalidWireFormat,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ElasticsearchWireFormat(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
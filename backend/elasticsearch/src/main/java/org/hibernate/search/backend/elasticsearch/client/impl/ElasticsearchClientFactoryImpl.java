@@ -10,16 +10,19 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.ElasticsearchHttpClientConfigurer;
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchWireFormat;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -33,6 +36,7 @@
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.elasticsearch.client.NodeSelector;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
@@ -112,6 +116,24 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.CONNECTION_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REQUEST_HEDGING_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.REQUEST_HEDGING_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.REQUEST_HEDGING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REQUEST_HEDGING_PERCENTILE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.REQUEST_HEDGING_PERCENTILE )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchBackendSettings.Defaults.REQUEST_HEDGING_PERCENTILE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REQUEST_HEDGING_MIN_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.REQUEST_HEDGING_MIN_DELAY )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.REQUEST_HEDGING_MIN_DELAY )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_TOTAL_CONNECTION =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_CONNECTIONS )
 					.asIntegerStrictlyPositive()
@@ -136,6 +158,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<ElasticsearchWireFormat> WIRE_FORMAT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.WIRE_FORMAT )
+					.as( ElasticsearchWireFormat.class, ElasticsearchWireFormat::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.WIRE_FORMAT )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends ElasticsearchHttpClientConfigurer>>
 			CLIENT_CONFIGURER = ConfigurationProperty.forKey( ElasticsearchBackendSettings.CLIENT_CONFIGURER )
 			.asBeanReference( ElasticsearchHttpClientConfigurer.class )
@@ -152,29 +180,51 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 			ThreadProvider threadProvider, String threadNamePrefix,
 			ScheduledExecutorService timeoutExecutorService,
 			GsonProvider gsonProvider) {
+		return create( beanResolver, propertySource, threadProvider, threadNamePrefix, timeoutExecutorService,
+				gsonProvider, MetricsRegistry.noOp() );
+	}
+
+	@Override
+	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
+			ThreadProvider threadProvider, String threadNamePrefix,
+			ScheduledExecutorService timeoutExecutorService,
+			GsonProvider gsonProvider, MetricsRegistry metricsRegistry) {
 		Optional<Integer> requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 		int connectionTimeoutMs = CONNECTION_TIMEOUT.get( propertySource );
 
 		ServerUris hosts = ServerUris
 				.fromOptionalStrings( PROTOCOL.get( propertySource ), HOSTS.get( propertySource ), URIS.get( propertySource ) );
+		LatencyAwareNodeSelector nodeSelector = null;
+		RequestHedgingPolicy hedgingPolicy = null;
+		if ( REQUEST_HEDGING_ENABLED.get( propertySource ) ) {
+			nodeSelector = new LatencyAwareNodeSelector();
+			hedgingPolicy = new RequestHedgingPolicy( REQUEST_HEDGING_PERCENTILE.get( propertySource ),
+					TimeUnit.MILLISECONDS.toNanos( REQUEST_HEDGING_MIN_DELAY.get( propertySource ) ) );
+		}
 		RestClient restClient = createClient( beanResolver, propertySource, threadProvider, threadNamePrefix, hosts,
-				PATH_PREFIX.get( propertySource ) );
+				PATH_PREFIX.get( propertySource ), nodeSelector );
 		Sniffer sniffer = createSniffer( propertySource, restClient, hosts );
 
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, timeoutExecutorService,
 				requestTimeoutMs, connectionTimeoutMs,
-				gsonProvider.getGson(), gsonProvider.getLogHelper()
+				gsonProvider.getGson(), gsonProvider.getLogHelper(),
+				ElasticsearchWireCodec.of( WIRE_FORMAT.get( propertySource ) ),
+				nodeSelector, hedgingPolicy,
+				metricsRegistry
 		);
 	}
 
 	private RestClient createClient(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
-			ServerUris hosts, String pathPrefix) {
+			ServerUris hosts, String pathPrefix, NodeSelector nodeSelector) {
 		RestClientBuilder builder = RestClient.builder( hosts.asHostsArray() );
 		if ( !pathPrefix.isEmpty() ) {
 			builder.setPathPrefix( pathPrefix );
 		}
+		if ( nodeSelector != null ) {
+			builder.setNodeSelector( nodeSelector );
+		}
 
 		Optional<? extends BeanHolder<? extends ElasticsearchHttpClientConfigurer>> customConfig = CLIENT_CONFIGURER
 				.getAndMap( propertySource, beanResolver::resolve );
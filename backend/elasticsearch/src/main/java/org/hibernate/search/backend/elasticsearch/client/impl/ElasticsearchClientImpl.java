@@ -7,13 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.lang.invoke.MethodHandles;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +23,11 @@
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.Deadline;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.Futures;
@@ -35,8 +36,11 @@
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
-import org.apache.http.entity.ContentType;
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.Node;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
@@ -52,6 +56,20 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final JfrEventType REQUEST_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.elasticsearch.Request", "Elasticsearch Request" )
+					.description( "HTTP request to an Elasticsearch cluster" )
+					.category( "Elasticsearch" )
+					.field( String.class, "method", "Method" )
+					.field( String.class, "path", "Path" )
+					.field( int.class, "statusCode", "Status Code" )
+					.field( boolean.class, "failed", "Failed" )
+					.build();
+	private static final int REQUEST_EVENT_METHOD = 0;
+	private static final int REQUEST_EVENT_PATH = 1;
+	private static final int REQUEST_EVENT_STATUS_CODE = 2;
+	private static final int REQUEST_EVENT_FAILED = 3;
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -63,11 +81,37 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
+	private final ElasticsearchWireCodec wireCodec;
+	private final RequestOptions defaultRequestOptions;
+
+	private final LatencyAwareNodeSelector nodeSelector;
+	private final RequestHedgingPolicy hedgingPolicy;
+
+	private final Histogram requestDurations;
+	private final Counter requestFailures;
+	private final Counter hedgedRequests;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
 			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
-			Gson gson, JsonLogHelper jsonLogHelper) {
+			Gson gson, JsonLogHelper jsonLogHelper, ElasticsearchWireCodec wireCodec,
+			MetricsRegistry metricsRegistry) {
+		this( restClient, sniffer, timeoutExecutorService, requestTimeoutMs, connectionTimeoutMs,
+				gson, jsonLogHelper, wireCodec, null, null, metricsRegistry );
+	}
+
+	/**
+	 * @param nodeSelector The node selector used by the {@code restClient}, to be fed with observed latencies,
+	 * or {@code null} to not track latencies.
+	 * @param hedgingPolicy The policy for hedging requests, or {@code null} to disable hedging.
+	 * Requires a {@code nodeSelector}.
+	 */
+	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
+			ScheduledExecutorService timeoutExecutorService,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Gson gson, JsonLogHelper jsonLogHelper, ElasticsearchWireCodec wireCodec,
+			LatencyAwareNodeSelector nodeSelector, RequestHedgingPolicy hedgingPolicy,
+			MetricsRegistry metricsRegistry) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
@@ -75,12 +119,34 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 		this.connectionTimeoutMs = connectionTimeoutMs;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
+		this.wireCodec = wireCodec;
+		String acceptedMimeType = wireCodec.acceptedMimeType();
+		this.defaultRequestOptions = acceptedMimeType == null ? RequestOptions.DEFAULT
+				: RequestOptions.DEFAULT.toBuilder().addHeader( HttpHeaders.ACCEPT, acceptedMimeType ).build();
+		this.nodeSelector = nodeSelector;
+		this.hedgingPolicy = hedgingPolicy;
+		this.requestDurations = metricsRegistry.histogram( "elasticsearch.request.duration" );
+		this.requestFailures = metricsRegistry.counter( "elasticsearch.request.failures" );
+		this.hedgedRequests = metricsRegistry.counter( "elasticsearch.request.hedged" );
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		JfrEvent event = REQUEST_EVENT_TYPE.begin();
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
 				.thenApply( this::convertResponse );
+		if ( event.isRecording() ) {
+			result.whenComplete( (response, throwable) -> event
+					.set( REQUEST_EVENT_METHOD, request.method() )
+					.set( REQUEST_EVENT_PATH, request.path() )
+					.set( REQUEST_EVENT_STATUS_CODE, response == null ? 0 : response.statusCode() )
+					.set( REQUEST_EVENT_FAILED, throwable != null )
+					.commit() );
+		}
+		if ( requestDurations.isEnabled() ) {
+			long startTime = System.nanoTime();
+			result.whenComplete( (response, throwable) -> recordMetrics( startTime, response, throwable ) );
+		}
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -98,41 +164,19 @@ public <T> T unwrap(Class<T> clientClass) {
 	}
 
 	private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchRequest) {
-		CompletableFuture<Response> completableFuture = new CompletableFuture<>();
-
-		HttpEntity entity;
-		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+		CompletableFuture<Response> completableFuture;
+		Runnable cancellation;
+		if ( hedgingPolicy != null && hedgingPolicy.isHedgeable( elasticsearchRequest ) ) {
+			HedgedRequest hedgedRequest = new HedgedRequest( elasticsearchRequest );
+			completableFuture = hedgedRequest.start();
+			cancellation = hedgedRequest::cancel;
 		}
-		catch (IOException | RuntimeException e) {
-			completableFuture.completeExceptionally( e );
-			return completableFuture;
+		else {
+			completableFuture = new CompletableFuture<>();
+			Cancellable cancellable = sendAttempt( elasticsearchRequest, null, completableFuture );
+			cancellation = () -> cancel( cancellable );
 		}
 
-		restClient.performRequestAsync(
-				toRequest( elasticsearchRequest, entity ),
-				new ResponseListener() {
-					@Override
-					public void onSuccess(Response response) {
-						completableFuture.complete( response );
-					}
-					@Override
-					public void onFailure(Exception exception) {
-						if ( exception instanceof ResponseException ) {
-							/*
-							 * The client tries to guess what's an error and what's not, but it's too naive.
-							 * A 404 on DELETE is not always important to us, for instance.
-							 * Thus we ignore the exception and do our own checks afterwards.
-							 */
-							completableFuture.complete( ( (ResponseException) exception ).getResponse() );
-						}
-						else {
-							completableFuture.completeExceptionally( exception );
-						}
-					}
-				}
-				);
-
 		Deadline deadline = elasticsearchRequest.deadline();
 		if ( deadline == null && !requestTimeoutMs.isPresent() ) {
 			// no need to schedule a client side timeout
@@ -142,11 +186,6 @@ public void onFailure(Exception exception) {
 		long currentTimeoutValue = deadline == null ?
 				Long.valueOf( requestTimeoutMs.get() ) : deadline.checkRemainingTimeMillis();
 
-		/*
-		 * TODO HSEARCH-3590 maybe the callback should also cancel the request?
-		 *  In any case, the RestClient doesn't return the Future<?> from Apache HTTP client,
-		 *  so we can't do much until this changes.
-		 */
 		ScheduledFuture<?> timeout = timeoutExecutorService.schedule(
 				() -> {
 					if ( !completableFuture.isDone() ) {
@@ -156,6 +195,8 @@ public void onFailure(Exception exception) {
 						completableFuture.completeExceptionally(
 								deadline != null ? deadline.forceTimeoutAndCreateException( cause ) : cause
 						);
+						// Nobody will use the response anymore: free the connections.
+						cancellation.run();
 					}
 				},
 				currentTimeoutValue, TimeUnit.MILLISECONDS
@@ -165,8 +206,74 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
+	/**
+	 * @param elasticsearchRequest The request to send.
+	 * @param node The node to send a hedgeable request to,
+	 * or {@code null} for requests that are not hedgeable, to let the REST client decide.
+	 * Latencies are only recorded for hedgeable requests.
+	 * @param completableFuture The future to complete with the response.
+	 * @return A handle to cancel the request, or {@code null} if the request could not be sent.
+	 */
+	private Cancellable sendAttempt(ElasticsearchRequest elasticsearchRequest, Node node,
+			CompletableFuture<Response> completableFuture) {
+		HttpEntity entity;
+		try {
+			entity = ElasticsearchClientUtils.toEntity( wireCodec, gson, elasticsearchRequest );
+		}
+		catch (IOException | RuntimeException e) {
+			completableFuture.completeExceptionally( e );
+			return null;
+		}
+
+		Request request = toRequest( elasticsearchRequest, entity );
+		long startTime = System.nanoTime();
+		ResponseListener listener = new ResponseListener() {
+			@Override
+			public void onSuccess(Response response) {
+				recordLatency( node, response.getHost(), startTime );
+				completableFuture.complete( response );
+			}
+			@Override
+			public void onFailure(Exception exception) {
+				if ( exception instanceof ResponseException ) {
+					/*
+					 * The client tries to guess what's an error and what's not, but it's too naive.
+					 * A 404 on DELETE is not always important to us, for instance.
+					 * Thus we ignore the exception and do our own checks afterwards.
+					 */
+					Response response = ( (ResponseException) exception ).getResponse();
+					recordLatency( node, response.getHost(), startTime );
+					completableFuture.complete( response );
+				}
+				else {
+					completableFuture.completeExceptionally( exception );
+				}
+			}
+		};
+
+		if ( node == null ) {
+			return restClient.performRequestAsync( request, listener );
+		}
+		else {
+			return nodeSelector.pinned( node, () -> restClient.performRequestAsync( request, listener ) );
+		}
+	}
+
+	private void recordLatency(Node node, HttpHost host, long startTime) {
+		if ( node != null ) {
+			nodeSelector.record( host, System.nanoTime() - startTime );
+		}
+	}
+
+	private static void cancel(Cancellable cancellable) {
+		if ( cancellable != null ) {
+			cancellable.cancel();
+		}
+	}
+
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
+		request.setOptions( defaultRequestOptions );
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -194,7 +301,7 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 				.setConnectTimeout( connectionTimeoutMs )
 				.build();
 
-		RequestOptions.Builder requestOptions = RequestOptions.DEFAULT.toBuilder()
+		RequestOptions.Builder requestOptions = defaultRequestOptions.toBuilder()
 				.setRequestConfig( requestConfig );
 
 		request.setOptions( requestOptions );
@@ -221,17 +328,15 @@ private JsonObject parseBody(Response response) throws IOException {
 			return null;
 		}
 
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
-		}
+		// Elasticsearch may answer in JSON even when asked for another format, e.g. for some errors
+		return ElasticsearchWireCodec.forResponse( entity ).parse( gson, entity );
 	}
 
-	private static Charset getCharset(HttpEntity entity) {
-		ContentType contentType = ContentType.get( entity );
-		Charset charset = contentType.getCharset();
-		return charset != null ? charset : StandardCharsets.UTF_8;
+	private void recordMetrics(long start, ElasticsearchResponse response, Throwable throwable) {
+		requestDurations.record( System.nanoTime() - start );
+		if ( throwable != null || !ElasticsearchClientUtils.isSuccessCode( response.statusCode() ) ) {
+			requestFailures.increment();
+		}
 	}
 
 	private void log(ElasticsearchRequest request, long start, ElasticsearchResponse response) {
@@ -257,6 +362,128 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 		}
 	}
 
+	/**
+	 * A read-only request sent to one node, then to another node if the first one doesn't answer quickly enough.
+	 * <p>
+	 * The first response wins, and the other request is cancelled.
+	 * <p>
+	 * The result is always completed outside of locks,
+	 * so that callbacks registered on the result never run while holding a lock.
+	 */
+	private final class HedgedRequest {
+		private final ElasticsearchRequest request;
+		private final List<Node> nodes;
+		private final CompletableFuture<Response> result = new CompletableFuture<>();
+		private final long startTime = System.nanoTime();
+
+		// Guarded by "this"
+		private boolean done = false;
+		private int attemptsInFlight = 0;
+		private boolean hedgeSent = false;
+		private Node primaryNode;
+		private Cancellable primaryCancellable;
+		private Cancellable hedgeCancellable;
+
+		private HedgedRequest(ElasticsearchRequest request) {
+			this.request = request;
+			this.nodes = restClient.getNodes();
+		}
+
+		CompletableFuture<Response> start() {
+			Node node = nodeSelector.choose( nodes, null );
+			synchronized ( this ) {
+				primaryNode = node;
+				++attemptsInFlight;
+			}
+			attempt( node, true );
+			ScheduledFuture<?> hedgeTimer = timeoutExecutorService.schedule(
+					this::hedge, hedgingPolicy.delayNanos(), TimeUnit.NANOSECONDS );
+			result.whenComplete( (response, throwable) -> hedgeTimer.cancel( false ) );
+			return result;
+		}
+
+		/**
+		 * Cancels all attempts still in flight, e.g. because the result was completed by a client-side timeout.
+		 */
+		void cancel() {
+			Cancellable primaryToCancel;
+			Cancellable hedgeToCancel;
+			synchronized ( this ) {
+				done = true;
+				primaryToCancel = primaryCancellable;
+				hedgeToCancel = hedgeCancellable;
+			}
+			ElasticsearchClientImpl.cancel( primaryToCancel );
+			ElasticsearchClientImpl.cancel( hedgeToCancel );
+		}
+
+		private void hedge() {
+			Node hedgeNode;
+			synchronized ( this ) {
+				if ( hedgeSent || done ) {
+					return;
+				}
+				hedgeSent = true;
+				hedgeNode = nodeSelector.choose( nodes, primaryNode == null ? null : primaryNode.getHost() );
+				if ( hedgeNode == null ) {
+					// There is no other node to send the request to.
+					return;
+				}
+				++attemptsInFlight;
+			}
+			hedgedRequests.increment();
+			attempt( hedgeNode, false );
+		}
+
+		private void attempt(Node node, boolean primary) {
+			CompletableFuture<Response> attempt = new CompletableFuture<>();
+			Cancellable cancellable = sendAttempt( request, node, attempt );
+			boolean alreadyDone;
+			synchronized ( this ) {
+				if ( primary ) {
+					primaryCancellable = cancellable;
+				}
+				else {
+					hedgeCancellable = cancellable;
+				}
+				alreadyDone = done;
+			}
+			if ( alreadyDone ) {
+				// The other attempt won, or the request timed out, while this attempt was being sent.
+				ElasticsearchClientImpl.cancel( cancellable );
+			}
+			attempt.whenComplete( (response, throwable) -> onAttemptCompleted( response, throwable, primary ) );
+		}
+
+		private void onAttemptCompleted(Response response, Throwable throwable, boolean primary) {
+			if ( throwable != null && primary ) {
+				// The attempt failed without a response, e.g. because the node is unreachable.
+				// Try another node right away, unless it's already done.
+				hedge();
+			}
+			Cancellable loser = null;
+			synchronized ( this ) {
+				--attemptsInFlight;
+				if ( done || throwable != null && attemptsInFlight > 0 ) {
+					// Either the result is already known, or we need to wait for the other attempt.
+					return;
+				}
+				done = true;
+				if ( throwable == null ) {
+					loser = primary ? hedgeCancellable : primaryCancellable;
+				}
+			}
+			if ( throwable != null ) {
+				result.completeExceptionally( throwable );
+				return;
+			}
+			if ( result.complete( response ) ) {
+				hedgingPolicy.recordLatency( System.nanoTime() - startTime );
+			}
+			ElasticsearchClientImpl.cancel( loser );
+		}
+	}
+
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
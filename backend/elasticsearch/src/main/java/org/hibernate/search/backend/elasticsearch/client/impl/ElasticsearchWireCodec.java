@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchWireFormat;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * Converts between the JSON model used everywhere else in the backend
+ * and the bodies of HTTP requests and responses, for a given {@link ElasticsearchWireFormat wire format}.
+ * <p>
+ * This allows request building and result extraction to ignore the wire format altogether.
+ */
+public interface ElasticsearchWireCodec {
+
+	static ElasticsearchWireCodec of(ElasticsearchWireFormat format) {
+		switch ( format ) {
+			case SMILE:
+				return SmileWireCodec.INSTANCE;
+			case JSON:
+			default:
+				return JsonWireCodec.INSTANCE;
+		}
+	}
+
+	/**
+	 * @param entity A response entity.
+	 * @return The codec able to parse this entity, based on its content type.
+	 */
+	static ElasticsearchWireCodec forResponse(HttpEntity entity) {
+		ContentType contentType = ContentType.get( entity );
+		if ( contentType != null && SmileWireCodec.MIME_TYPE.equalsIgnoreCase( contentType.getMimeType() ) ) {
+			return SmileWireCodec.INSTANCE;
+		}
+		return JsonWireCodec.INSTANCE;
+	}
+
+	/**
+	 * @return The MIME type to request for responses, or {@code null} to let Elasticsearch pick a default.
+	 */
+	String acceptedMimeType();
+
+	/**
+	 * @param gson The Gson instance to use.
+	 * @param bodyParts The body parts of a request: each element is either a {@link JsonObject}
+	 * or an {@link EncodedJsonObject}. Must not be empty.
+	 * @return An entity holding the given parts, one after the other.
+	 * @throws IOException If encoding fails.
+	 */
+	HttpEntity toEntity(Gson gson, List<?> bodyParts) throws IOException;
+
+	/**
+	 * @param gson The Gson instance to use.
+	 * @param entity A response entity.
+	 * @return The parsed response body.
+	 * @throws IOException If reading or decoding fails.
+	 */
+	JsonObject parse(Gson gson, HttpEntity entity) throws IOException;
+
+}
@@ -24,6 +24,7 @@
 import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
@@ -55,6 +56,9 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts may also be {@link EncodedJsonObject pre-encoded},
+ * typically on the thread that built them, in which case their bytes are simply copied to the output.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -81,7 +85,10 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
 	private final Gson gson;
-	private final List<JsonObject> bodyParts;
+	/**
+	 * Each element is either a {@link JsonObject} or an {@link EncodedJsonObject}.
+	 */
+	private final List<?> bodyParts;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -121,7 +128,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, List<?> bodyParts) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
@@ -172,8 +179,14 @@ public void writeTo(OutputStream out) throws IOException {
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
+		for ( Object bodyPart : bodyParts ) {
+			if ( bodyPart instanceof EncodedJsonObject ) {
+				outWriter.flush();
+				( (EncodedJsonObject) bodyPart ).writeTo( countingStream );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, outWriter );
+			}
 			outWriter.append( '\n' );
 		}
 		outWriter.flush();
@@ -234,8 +247,13 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			Object bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			if ( bodyPart instanceof EncodedJsonObject ) {
+				writer.writeBytes( ( (EncodedJsonObject) bodyPart ).asByteBuffer() );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, writer );
+			}
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Base64;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Converts Gson trees to events of a Jackson {@link JsonGenerator},
+ * and events of a Jackson {@link JsonParser} to Gson trees.
+ * <p>
+ * Used to encode and decode formats other than JSON text, for which Gson has no support.
+ */
+final class GsonJacksonConverter {
+
+	private GsonJacksonConverter() {
+	}
+
+	/**
+	 * @param generator The generator to write to.
+	 * @param element The element to write.
+	 * @param serializeNulls Whether object members with a {@code null} value should be written.
+	 * @throws IOException If writing fails.
+	 */
+	static void write(JsonGenerator generator, JsonElement element, boolean serializeNulls) throws IOException {
+		if ( element == null || element.isJsonNull() ) {
+			generator.writeNull();
+		}
+		else if ( element.isJsonObject() ) {
+			generator.writeStartObject();
+			for ( Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet() ) {
+				JsonElement value = entry.getValue();
+				if ( !serializeNulls && ( value == null || value.isJsonNull() ) ) {
+					continue;
+				}
+				generator.writeFieldName( entry.getKey() );
+				write( generator, value, serializeNulls );
+			}
+			generator.writeEndObject();
+		}
+		else if ( element.isJsonArray() ) {
+			generator.writeStartArray();
+			for ( JsonElement value : element.getAsJsonArray() ) {
+				write( generator, value, serializeNulls );
+			}
+			generator.writeEndArray();
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isBoolean() ) {
+				generator.writeBoolean( primitive.getAsBoolean() );
+			}
+			else if ( primitive.isNumber() ) {
+				writeNumber( generator, primitive.getAsNumber() );
+			}
+			else {
+				generator.writeString( primitive.getAsString() );
+			}
+		}
+	}
+
+	/**
+	 * @param parser A parser positioned on the first token of a value.
+	 * @return The value, as a Gson tree.
+	 * @throws IOException If reading fails.
+	 */
+	static JsonElement read(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		switch ( token ) {
+			case START_OBJECT:
+				JsonObject object = new JsonObject();
+				while ( parser.nextToken() == JsonToken.FIELD_NAME ) {
+					String name = parser.getCurrentName();
+					parser.nextToken();
+					object.add( name, read( parser ) );
+				}
+				return object;
+			case START_ARRAY:
+				JsonArray array = new JsonArray();
+				while ( parser.nextToken() != JsonToken.END_ARRAY ) {
+					array.add( read( parser ) );
+				}
+				return array;
+			case VALUE_STRING:
+				return new JsonPrimitive( parser.getText() );
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				return new JsonPrimitive( parser.getNumberValue() );
+			case VALUE_TRUE:
+				return new JsonPrimitive( true );
+			case VALUE_FALSE:
+				return new JsonPrimitive( false );
+			case VALUE_NULL:
+				return JsonNull.INSTANCE;
+			case VALUE_EMBEDDED_OBJECT:
+				// Binary values: use the same representation as in JSON
+				return new JsonPrimitive( Base64.getEncoder().encodeToString( parser.getBinaryValue() ) );
+			default:
+				throw new IllegalStateException( "Unexpected token: " + token );
+		}
+	}
+
+	private static void writeNumber(JsonGenerator generator, Number number) throws IOException {
+		if ( number instanceof Integer || number instanceof Short || number instanceof Byte ) {
+			generator.writeNumber( number.intValue() );
+		}
+		else if ( number instanceof Long ) {
+			generator.writeNumber( number.longValue() );
+		}
+		else if ( number instanceof Double ) {
+			generator.writeNumber( number.doubleValue() );
+		}
+		else if ( number instanceof Float ) {
+			generator.writeNumber( number.floatValue() );
+		}
+		else if ( number instanceof BigInteger ) {
+			generator.writeNumber( (BigInteger) number );
+		}
+		else if ( number instanceof BigDecimal ) {
+			generator.writeNumber( (BigDecimal) number );
+		}
+		else {
+			// Typically a number parsed from JSON text, whose type is not known:
+			// do the same as Jackson's own JSON parser, i.e. use a double for anything not integral.
+			String text = number.toString();
+			if ( isIntegral( text ) ) {
+				generator.writeNumber( text );
+			}
+			else {
+				generator.writeNumber( Double.parseDouble( text ) );
+			}
+		}
+	}
+
+	private static boolean isIntegral(String text) {
+		for ( int i = 0; i < text.length(); i++ ) {
+			char c = text.charAt( i );
+			if ( c == '.' || c == 'e' || c == 'E' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+
+final class JsonWireCodec implements ElasticsearchWireCodec {
+
+	static final JsonWireCodec INSTANCE = new JsonWireCodec();
+
+	private JsonWireCodec() {
+	}
+
+	@Override
+	public String acceptedMimeType() {
+		// Elasticsearch answers in JSON by default
+		return null;
+	}
+
+	@Override
+	public HttpEntity toEntity(Gson gson, List<?> bodyParts) throws IOException {
+		return new GsonHttpEntity( gson, bodyParts );
+	}
+
+	@Override
+	public JsonObject parse(Gson gson, HttpEntity entity) throws IOException {
+		Charset charset = getCharset( entity );
+		try ( InputStream inputStream = entity.getContent();
+				Reader reader = new InputStreamReader( inputStream, charset ) ) {
+			return gson.fromJson( reader, JsonObject.class );
+		}
+	}
+
+	private static Charset getCharset(HttpEntity entity) {
+		ContentType contentType = ContentType.get( entity );
+		Charset charset = contentType == null ? null : contentType.getCharset();
+		return charset != null ? charset : StandardCharsets.UTF_8;
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+/**
+ * A {@link NodeSelector} that sends hedgeable requests to a specific node, chosen according to observed latencies:
+ * see {@link #choose(List, HttpHost)} and {@link #pinned(Node, Supplier)}.
+ * <p>
+ * Latencies are tracked through an exponentially weighted moving average (EWMA)
+ * of the response times observed for each node.
+ * When the chosen node is dead, nodes whose latency is much higher than that of the fastest node are avoided.
+ * <p>
+ * Requests sent outside of {@link #pinned(Node, Supplier)}, e.g. indexing requests,
+ * are left to the default node selection of the REST client:
+ * their response times depend too much on their content to be compared with each other.
+ */
+final class LatencyAwareNodeSelector implements NodeSelector {
+
+	/**
+	 * The weight of each new sample in the moving average.
+	 */
+	private static final double EWMA_WEIGHT = 0.2;
+
+	/**
+	 * Nodes whose latency is higher than the latency of the fastest node multiplied by this factor are avoided.
+	 */
+	private static final double SLOW_NODE_FACTOR = 3.0;
+
+	/**
+	 * Latency samples older than this are ignored,
+	 * so that avoided nodes eventually get requests again, and get a chance to prove they are no longer slow.
+	 */
+	private static final long STALE_AFTER_NANOS = TimeUnit.SECONDS.toNanos( 30 );
+
+	private final LongSupplier nanoTime;
+	private final ConcurrentMap<HttpHost, NodeLatency> latencies = new ConcurrentHashMap<>();
+	private final ThreadLocal<HttpHost> pinnedHost = new ThreadLocal<>();
+
+	LatencyAwareNodeSelector() {
+		this( System::nanoTime );
+	}
+
+	LatencyAwareNodeSelector(LongSupplier nanoTime) {
+		this.nanoTime = nanoTime;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public void select(Iterable<Node> nodes) {
+		HttpHost pinned = pinnedHost.get();
+		if ( pinned == null ) {
+			// Not a hedgeable request: keep all nodes.
+			return;
+		}
+		if ( contains( nodes, pinned ) ) {
+			for ( Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+				if ( !pinned.equals( iterator.next().getHost() ) ) {
+					iterator.remove();
+				}
+			}
+			return;
+		}
+
+		long now = nanoTime.getAsLong();
+		double fastest = Double.MAX_VALUE;
+		for ( Node node : nodes ) {
+			double latency = latency( node.getHost(), now );
+			if ( latency >= 0 && latency < fastest ) {
+				fastest = latency;
+			}
+		}
+		if ( fastest == Double.MAX_VALUE ) {
+			// No information about any node: keep all of them.
+			return;
+		}
+		double threshold = fastest * SLOW_NODE_FACTOR;
+		// The fastest node is never removed, so at least one node remains.
+		for ( Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+			if ( latency( iterator.next().getHost(), now ) > threshold ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * @param host The host that sent a response to a hedgeable request.
+	 * @param durationNanos The time it took to get the response, in nanoseconds.
+	 */
+	void record(HttpHost host, long durationNanos) {
+		latencies.computeIfAbsent( host, ignored -> new NodeLatency() )
+				.record( durationNanos, nanoTime.getAsLong() );
+	}
+
+	/**
+	 * Chooses a node to send a request to,
+	 * picking the node with the lowest latency among two random nodes ("power of two choices").
+	 * <p>
+	 * Nodes without recent latency information are considered as fast as possible,
+	 * so that they get a chance to prove otherwise.
+	 *
+	 * @param nodes The nodes to choose from.
+	 * @param excluded A host to exclude, or {@code null}.
+	 * @return The chosen node, or {@code null} if there is no node to choose from.
+	 */
+	Node choose(List<Node> nodes, HttpHost excluded) {
+		List<Node> candidates = new ArrayList<>( nodes.size() );
+		for ( Node node : nodes ) {
+			if ( !node.getHost().equals( excluded ) ) {
+				candidates.add( node );
+			}
+		}
+		int candidateCount = candidates.size();
+		if ( candidateCount <= 1 ) {
+			return candidateCount == 0 ? null : candidates.get( 0 );
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int firstIndex = random.nextInt( candidateCount );
+		int secondIndex = random.nextInt( candidateCount - 1 );
+		if ( secondIndex >= firstIndex ) {
+			++secondIndex;
+		}
+		Node first = candidates.get( firstIndex );
+		Node second = candidates.get( secondIndex );
+		long now = nanoTime.getAsLong();
+		return latency( second.getHost(), now ) < latency( first.getHost(), now ) ? second : first;
+	}
+
+	/**
+	 * Executes the given action, which is expected to send a hedgeable request,
+	 * making sure that the request will be sent to the given node if it is alive,
+	 * or to one of the fastest nodes otherwise.
+	 * <p>
+	 * Relies on the REST client selecting nodes synchronously, in the thread sending the request.
+	 *
+	 * @param node The node to send the request to.
+	 * @param action The action sending the request.
+	 * @param <T> The type of the result of the action.
+	 * @return The result of the action.
+	 */
+	<T> T pinned(Node node, Supplier<T> action) {
+		pinnedHost.set( node.getHost() );
+		try {
+			return action.get();
+		}
+		finally {
+			pinnedHost.remove();
+		}
+	}
+
+	/**
+	 * @return The latency of the given host, or {@code -1} if unknown.
+	 */
+	private double latency(HttpHost host, long now) {
+		NodeLatency latency = latencies.get( host );
+		return latency == null ? -1 : latency.get( now );
+	}
+
+	private static boolean contains(Iterable<Node> nodes, HttpHost host) {
+		for ( Node node : nodes ) {
+			if ( host.equals( node.getHost() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class NodeLatency {
+		private double ewmaNanos = -1;
+		private long lastUpdateNanos;
+
+		synchronized void record(long durationNanos, long now) {
+			ewmaNanos = ewmaNanos < 0 ? durationNanos : ewmaNanos + EWMA_WEIGHT * ( durationNanos - ewmaNanos );
+			lastUpdateNanos = now;
+		}
+
+		synchronized double get(long now) {
+			return now - lastUpdateNanos > STALE_AFTER_NANOS ? -1 : ewmaNanos;
+		}
+	}
+}
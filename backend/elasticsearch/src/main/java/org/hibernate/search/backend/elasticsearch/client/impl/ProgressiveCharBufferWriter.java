@@ -144,6 +144,80 @@ else if ( len > charBuffer.remaining() ) {
 		}
 	}
 
+	/**
+	 * Writes pre-encoded bytes, bypassing the charset encoder.
+	 * <p>
+	 * Small inputs are copied to the current page;
+	 * larger inputs are added as a page of their own, without any copy.
+	 *
+	 * @param input The bytes to write. Must not be modified afterwards.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeBytes(ByteBuffer input) throws IOException {
+		// Preserve ordering with chars written previously
+		flush();
+		int length = input.remaining();
+		if ( currentPage != null && length <= currentPage.remaining() ) {
+			currentPage.put( input );
+		}
+		else {
+			if ( currentPage != null && currentPage.position() > 0 ) {
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+			}
+			currentPage = null;
+			if ( length < pageSize ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+				currentPage.put( input );
+			}
+			else {
+				needWritingPages.add( input );
+				// Avoid storing buffers if we can simply flush them
+				attemptFlushPendingBuffers( false );
+			}
+		}
+		contentLength += length;
+	}
+
+	/**
+	 * Writes pre-encoded bytes, bypassing the charset encoder.
+	 * <p>
+	 * Unlike {@link #writeBytes(ByteBuffer)}, the input is always copied to buffer pages,
+	 * so the caller may reuse the array as soon as this method returns.
+	 *
+	 * @param input The array holding the bytes to write.
+	 * @param offset The offset of the first byte to write in the array.
+	 * @param length The number of bytes to write.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeBytes(byte[] input, int offset, int length) throws IOException {
+		// Preserve ordering with chars written previously
+		flush();
+		int written = 0;
+		while ( written < length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int toCopy = Math.min( length - written, currentPage.remaining() );
+			currentPage.put( input, offset + written, toCopy );
+			written += toCopy;
+			contentLength += toCopy;
+			if ( !currentPage.hasRemaining() ) {
+				// Avoid storing buffers if we can simply flush them
+				attemptFlushPendingBuffers( true );
+				if ( currentPage != null ) {
+					/*
+					 * We couldn't flush the current page, but it's full,
+					 * so let's move it out of the way.
+					 */
+					currentPage.flip();
+					needWritingPages.add( currentPage );
+					currentPage = null;
+				}
+			}
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if ( charBuffer.position() == 0 ) {
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+
+/**
+ * Decides which requests should be hedged, i.e. sent to a second node if the first one is too slow to answer,
+ * and how long to wait before sending the second request.
+ * <p>
+ * The delay is a percentile of the latencies observed for recent hedgeable requests,
+ * so that only the slowest requests get hedged.
+ */
+final class RequestHedgingPolicy {
+
+	private static final int WINDOW_SIZE = 1024;
+	private static final int REFRESH_INTERVAL = 64;
+
+	private final double percentile;
+	private final long minDelayNanos;
+
+	private final long[] window = new long[WINDOW_SIZE];
+	private int sampleCount = 0;
+	private int nextSampleIndex = 0;
+	private volatile long percentileNanos = -1L;
+
+	/**
+	 * @param percentile The percentile of observed latencies to use as a delay, between 1 and 100.
+	 * @param minDelayNanos The minimum delay, used in particular until enough latencies have been observed.
+	 */
+	RequestHedgingPolicy(int percentile, long minDelayNanos) {
+		this.percentile = Math.min( 100, percentile );
+		this.minDelayNanos = minDelayNanos;
+	}
+
+	/**
+	 * @param request A request.
+	 * @return {@code true} if the request is read-only and idempotent, and thus can safely be sent twice.
+	 */
+	boolean isHedgeable(ElasticsearchRequest request) {
+		if ( request.parameters().containsKey( "scroll" ) ) {
+			// Sending the request twice would open (or advance) two scrolls.
+			return false;
+		}
+		String path = request.path();
+		return path.endsWith( "/_search" ) || path.endsWith( "/_count" ) || path.endsWith( "/_msearch" );
+	}
+
+	/**
+	 * @return The time to wait for a response before hedging, in nanoseconds.
+	 */
+	long delayNanos() {
+		return Math.max( minDelayNanos, percentileNanos );
+	}
+
+	/**
+	 * @param latencyNanos The latency of a hedgeable request, in nanoseconds.
+	 */
+	synchronized void recordLatency(long latencyNanos) {
+		window[nextSampleIndex] = latencyNanos;
+		nextSampleIndex = ( nextSampleIndex + 1 ) % WINDOW_SIZE;
+		if ( sampleCount < WINDOW_SIZE ) {
+			++sampleCount;
+		}
+		if ( sampleCount >= REFRESH_INTERVAL && nextSampleIndex % REFRESH_INTERVAL == 0 ) {
+			long[] sorted = Arrays.copyOf( window, sampleCount );
+			Arrays.sort( sorted );
+			int index = (int) Math.ceil( percentile / 100.0 * sampleCount ) - 1;
+			percentileNanos = sorted[Math.max( 0, index )];
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.apache.http.protocol.HTTP;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+import org.hibernate.search.util.common.impl.Contracts;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Adapter to encode GSON objects into SMILE HttpEntity instances.
+ * <p>
+ * Each body part is written as a separate SMILE document, followed by an end-of-content marker,
+ * which Elasticsearch also expects as a separator between parts in bulk and multi-search requests.
+ * <p>
+ * Just like {@link GsonHttpEntity}, this entity encodes body parts directly into the buffers
+ * of the HTTP client, one part at a time, stopping whenever flow control pushes back,
+ * and only reports its content length upfront if the whole content fits in a small buffer.
+ * See {@link GsonHttpEntity} for details.
+ */
+final class SmileHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+
+	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, SmileWireCodec.MIME_TYPE );
+
+	/**
+	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}.
+	 * See {@link GsonHttpEntity}.
+	 */
+	private static final int BYTE_BUFFER_PAGE_SIZE = 1024;
+
+	private final Gson gson;
+	/**
+	 * Each element is either a {@link JsonObject} or an {@link EncodedJsonObject}.
+	 */
+	private final List<?> bodyParts;
+
+	private long contentLength;
+
+	private boolean contentLengthWasProvided = false;
+
+	private int nextBodyToEncodeIndex = 0;
+
+	/**
+	 * Holds the encoded bytes while flow control refuses to accept more.
+	 * Only its byte buffer pages are used, so its char buffer is empty.
+	 */
+	private ProgressiveCharBufferWriter writer = createWriter();
+
+	public SmileHttpEntity(Gson gson, List<?> bodyParts) throws IOException {
+		Contracts.assertNotNull( gson, "gson" );
+		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		this.gson = gson;
+		this.bodyParts = bodyParts;
+		this.contentLength = -1;
+		attemptOnePassEncoding();
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public boolean isChunked() {
+		return false;
+	}
+
+	@Override
+	public long getContentLength() {
+		this.contentLengthWasProvided = true;
+		return this.contentLength;
+	}
+
+	@Override
+	public Header getContentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public Header getContentEncoding() {
+		return null;
+	}
+
+	@Override
+	public InputStream getContent() {
+		return new HttpAsyncContentProducerInputStream( this, BYTE_BUFFER_PAGE_SIZE );
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		// For this method we use no pagination, so ignore the mutable fields.
+		CountingOutputStream countingStream = new CountingOutputStream( out );
+		for ( Object bodyPart : bodyParts ) {
+			writeBodyPart( countingStream, bodyPart );
+		}
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // javac warns about this method being deprecated, but we have to implement it
+	public void consumeContent() {
+		//not used (and deprecated)
+	}
+
+	@Override
+	public void close() {
+		// Re-wind the stream so that we can start from the beginning if needed
+		this.nextBodyToEncodeIndex = 0;
+		//Discard previous buffers as they might contain in-process content:
+		this.writer = createWriter();
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		Contracts.assertNotNull( encoder, "encoder" );
+		// Warning: this method is possibly invoked multiple times, depending on the output buffers
+		// to have available space !
+
+		//Re-set the encoder as it might be a different one than a previously used instance:
+		writer.setOutput( encoder );
+
+		//First write unfinished business from previous attempts
+		writer.resumePendingWrites();
+		if ( writer.isFlowControlPushingBack() ) {
+			return;
+		}
+
+		triggerFullWrite();
+		if ( writer.isFlowControlPushingBack() ) {
+			return;
+		}
+
+		writer.flushToOutput();
+		if ( writer.isFlowControlPushingBack() ) {
+			return;
+		}
+
+		// If we haven't aborted yet, we finished!
+		hintContentLength( writer.contentLength() );
+		encoder.complete();
+	}
+
+	private void attemptOnePassEncoding() throws IOException {
+		// The writer has no output yet, so this will stop after the first part.
+		triggerFullWrite();
+		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
+			hintContentLength( writer.contentLength() );
+		}
+	}
+
+	private void triggerFullWrite() throws IOException {
+		OutputStream out = new WriterOutputStream( writer );
+		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
+			writeBodyPart( out, bodyParts.get( nextBodyToEncodeIndex++ ) );
+			if ( writer.isFlowControlPushingBack() ) {
+				//Just quit: return control to the caller and trust we'll be called again.
+				return;
+			}
+		}
+	}
+
+	private void writeBodyPart(OutputStream out, Object bodyPart) throws IOException {
+		// Closing the generator writes the end-of-content marker, but does not close the stream
+		try ( JsonGenerator generator = SmileWireCodec.SMILE_FACTORY.createGenerator( out ) ) {
+			if ( bodyPart instanceof EncodedJsonObject ) {
+				// Convert the JSON text directly, without building a tree
+				try ( InputStream inputStream = ( (EncodedJsonObject) bodyPart ).inputStream();
+						JsonParser parser = SmileWireCodec.JSON_FACTORY.createParser( inputStream ) ) {
+					parser.nextToken();
+					generator.copyCurrentStructure( parser );
+				}
+			}
+			else {
+				GsonJacksonConverter.write( generator, (JsonObject) bodyPart, gson.serializeNulls() );
+			}
+		}
+	}
+
+	private void hintContentLength(long contentLength) {
+		if ( !contentLengthWasProvided ) {
+			this.contentLength = contentLength;
+		}
+	}
+
+	private static ProgressiveCharBufferWriter createWriter() {
+		return new ProgressiveCharBufferWriter( StandardCharsets.UTF_8, 0, BYTE_BUFFER_PAGE_SIZE );
+	}
+
+	private static final class WriterOutputStream extends OutputStream {
+		private final ProgressiveCharBufferWriter writer;
+		private final byte[] singleByte = new byte[1];
+
+		private WriterOutputStream(ProgressiveCharBufferWriter writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			singleByte[0] = (byte) b;
+			writer.writeBytes( singleByte, 0, 1 );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			writer.writeBytes( b, off, len );
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.HttpEntity;
+
+/**
+ * A codec for the <a href="https://github.com/FasterXML/smile-format-specification">SMILE format</a>,
+ * relying on Jackson's implementation.
+ *
+ * @see SmileHttpEntity
+ */
+final class SmileWireCodec implements ElasticsearchWireCodec {
+
+	static final SmileWireCodec INSTANCE = new SmileWireCodec();
+
+	static final String MIME_TYPE = "application/smile";
+
+	static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+			// Elasticsearch expects this marker after each part in bulk and multi-search requests
+			.enable( SmileGenerator.Feature.WRITE_END_MARKER )
+			// Same as Elasticsearch: 7-bit encoding is only useful for transports that are not 8-bit clean
+			.disable( SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT )
+			// Body parts are written one after the other to the same stream
+			.disable( StreamWriteFeature.AUTO_CLOSE_TARGET )
+			.build();
+
+	/**
+	 * Used to read {@link org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject pre-encoded} body parts.
+	 */
+	static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private SmileWireCodec() {
+	}
+
+	@Override
+	public String acceptedMimeType() {
+		return MIME_TYPE;
+	}
+
+	@Override
+	public HttpEntity toEntity(Gson gson, List<?> bodyParts) throws IOException {
+		return new SmileHttpEntity( gson, bodyParts );
+	}
+
+	@Override
+	public JsonObject parse(Gson gson, HttpEntity entity) throws IOException {
+		try ( InputStream inputStream = entity.getContent();
+				JsonParser parser = SMILE_FACTORY.createParser( inputStream ) ) {
+			if ( parser.nextToken() == null ) {
+				return null;
+			}
+			return GsonJacksonConverter.read( parser ).getAsJsonObject();
+		}
+	}
+}
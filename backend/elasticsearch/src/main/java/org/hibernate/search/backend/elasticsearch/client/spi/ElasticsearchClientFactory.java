@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 
@@ -24,4 +25,17 @@ ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPr
 			ScheduledExecutorService timeoutExecutorService,
 			GsonProvider gsonProvider);
 
+	/**
+	 * Creates the Elasticsearch client, recording metrics about requests in the given registry.
+	 * <p>
+	 * Defaults to ignoring the registry.
+	 */
+	default ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
+			ThreadProvider threadProvider, String threadNamePrefix,
+			ScheduledExecutorService timeoutExecutorService,
+			GsonProvider gsonProvider, MetricsRegistry metricsRegistry) {
+		return create( beanResolver, propertySource, threadProvider, threadNamePrefix, timeoutExecutorService,
+				gsonProvider );
+	}
+
 }
@@ -15,6 +15,7 @@
 import java.util.StringJoiner;
 
 import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -45,7 +46,8 @@ public static Builder builder(String method) {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
-	private final List<JsonObject> bodyParts;
+	// Each element is either a JsonObject or an EncodedJsonObject
+	private final List<Object> bodyParts;
 	private final Deadline deadline;
 
 	private ElasticsearchRequest(Builder builder) {
@@ -68,7 +70,26 @@ public Map<String, String> parameters() {
 		return parameters;
 	}
 
+	/**
+	 * @return The body parts of this request, as JSON trees.
+	 * {@link EncodedJsonObject Pre-encoded} body parts are decoded, which is costly:
+	 * prefer {@link #rawBodyParts()} when possible.
+	 */
 	public List<JsonObject> bodyParts() {
+		List<JsonObject> result = new ArrayList<>( bodyParts.size() );
+		for ( Object bodyPart : bodyParts ) {
+			result.add( bodyPart instanceof EncodedJsonObject
+					? ( (EncodedJsonObject) bodyPart ).decode()
+					: (JsonObject) bodyPart );
+		}
+		return result;
+	}
+
+	/**
+	 * @return The body parts of this request, as passed to the builder:
+	 * each element is either a {@link JsonObject} or an {@link EncodedJsonObject}.
+	 */
+	public List<?> rawBodyParts() {
 		return bodyParts;
 	}
 
@@ -94,7 +115,7 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
 		private Deadline deadline;
 
 		private Builder(String method) {
@@ -160,6 +181,14 @@ public Builder body(JsonObject object) {
 			return this;
 		}
 
+		public Builder body(EncodedJsonObject object) {
+			if ( bodyParts == null ) {
+				bodyParts = new ArrayList<>();
+			}
+			bodyParts.add( object );
+			return this;
+		}
+
 		public Builder deadline(Deadline deadline) {
 			this.deadline = deadline;
 			return this;
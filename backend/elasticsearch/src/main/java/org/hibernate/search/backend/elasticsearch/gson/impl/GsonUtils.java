@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.gson.impl;
 
+import java.util.Map;
+import java.util.Set;
+
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 public final class GsonUtils {
 
@@ -61,4 +65,65 @@ public static <T> T deepCopy(Gson gson, Class<T> objectType, T object) {
 		return gson.fromJson( gson.toJsonTree( object ), objectType );
 	}
 
+	/**
+	 * Estimates the size of the compact JSON representation of an element, encoded in UTF-8,
+	 * without actually encoding it.
+	 * <p>
+	 * The estimate ignores escape sequences in strings, but is otherwise exact.
+	 *
+	 * @param element The element whose size should be estimated.
+	 * @return The estimated size, in bytes.
+	 */
+	public static long estimateEncodedSize(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			Set<Map.Entry<String, JsonElement>> entries = element.getAsJsonObject().entrySet();
+			// Braces, colons and commas
+			long size = 2 + Math.max( 0, 2 * entries.size() - 1 );
+			for ( Map.Entry<String, JsonElement> entry : entries ) {
+				size += estimateEncodedSize( entry.getKey() ) + estimateEncodedSize( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			// Brackets and commas
+			long size = 2 + Math.max( 0, array.size() - 1 );
+			for ( JsonElement item : array ) {
+				size += estimateEncodedSize( item );
+			}
+			return size;
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return estimateEncodedSize( primitive.getAsString() );
+			}
+			else {
+				// Numbers and booleans: always ASCII
+				return primitive.getAsString().length();
+			}
+		}
+	}
+
+	private static long estimateEncodedSize(String string) {
+		long size = 2; // Quotes
+		for ( int i = 0; i < string.length(); i++ ) {
+			char c = string.charAt( i );
+			if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 || Character.isSurrogate( c ) ) {
+				// Surrogate pairs take 4 bytes, i.e. 2 per char
+				size += 2;
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A JSON object already encoded to UTF-8 bytes.
+ * <p>
+ * Useful to encode large objects, such as documents, on the thread that created them,
+ * and to only keep a compact representation in memory until they are sent,
+ * instead of a tree of {@link JsonObject}s.
+ */
+public final class EncodedJsonObject {
+
+	/**
+	 * Buffers larger than this will not be kept around after encoding,
+	 * so as to not waste memory after encoding an unusually large object.
+	 */
+	private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+	private static final ThreadLocal<EncodingBuffer> BUFFERS = ThreadLocal.withInitial( EncodingBuffer::new );
+
+	/**
+	 * @param gson The Gson instance to use for encoding; should be the one used to send requests.
+	 * @param object The object to encode.
+	 * @return The encoded object.
+	 */
+	public static EncodedJsonObject encode(Gson gson, JsonObject object) {
+		EncodingBuffer buffer = BUFFERS.get();
+		boolean success = false;
+		try {
+			JsonWriter jsonWriter = gson.newJsonWriter( buffer.writer );
+			gson.toJson( object, jsonWriter );
+			jsonWriter.flush();
+			EncodedJsonObject result = new EncodedJsonObject( buffer.toByteArray() );
+			success = true;
+			return result;
+		}
+		catch (IOException e) {
+			throw new JsonIOException( e );
+		}
+		finally {
+			if ( success ) {
+				buffer.clear();
+			}
+			else {
+				// The writer may still hold characters of the failed object that were not flushed:
+				// drop the whole buffer so that they don't end up in the next encoded object.
+				BUFFERS.remove();
+			}
+		}
+	}
+
+	private final byte[] bytes;
+
+	private EncodedJsonObject(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return The length of the encoded object, in bytes.
+	 */
+	public int length() {
+		return bytes.length;
+	}
+
+	/**
+	 * @return A read-only buffer exposing the encoded object.
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap( bytes ).asReadOnlyBuffer();
+	}
+
+	/**
+	 * @param out The stream to write the encoded object to.
+	 * @throws IOException If writing fails.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write( bytes );
+	}
+
+	/**
+	 * Decodes this object back into a tree.
+	 * <p>
+	 * This is costly: only use it for logging or testing.
+	 *
+	 * @return The decoded object.
+	 */
+	public JsonObject decode() {
+		return new JsonParser().parse( new InputStreamReader( inputStream(), StandardCharsets.UTF_8 ) )
+				.getAsJsonObject();
+	}
+
+	/**
+	 * @return A stream of the encoded object, as UTF-8 JSON text.
+	 */
+	public InputStream inputStream() {
+		return new ByteArrayInputStream( bytes );
+	}
+
+	private static final class EncodingBuffer extends ByteArrayOutputStream {
+		private final Writer writer = new OutputStreamWriter( this, StandardCharsets.UTF_8 );
+
+		private EncodingBuffer() {
+			super( 1024 );
+		}
+
+		private void clear() {
+			reset();
+			if ( buf.length > MAX_POOLED_BUFFER_SIZE ) {
+				buf = new byte[1024];
+			}
+		}
+	}
+}
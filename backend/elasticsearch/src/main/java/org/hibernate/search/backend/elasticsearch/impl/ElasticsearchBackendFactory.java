@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchDialectFactory;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.ElasticsearchModelDialect;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.index.IndexingQueueScope;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
@@ -74,6 +75,12 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAPPING_TYPE_NAME_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<IndexingQueueScope> INDEXING_QUEUE_SCOPE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_QUEUE_SCOPE )
+					.as( IndexingQueueScope.class, IndexingQueueScope::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_QUEUE_SCOPE )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends IndexLayoutStrategy>> LAYOUT_STRATEGY =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LAYOUT_STRATEGY )
 					.asBeanReference( IndexLayoutStrategy.class )
@@ -106,7 +113,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
 			link = new ElasticsearchLinkImpl(
 					clientFactoryHolder, threads, defaultGsonProvider, logPrettyPrinting,
-					dialectFactory, configuredVersion
+					dialectFactory, configuredVersion,
+					buildContext.metricsRegistry()
 			);
 
 			ElasticsearchModelDialect dialect;
@@ -139,7 +147,9 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					getMultiTenancyStrategy( propertySource, buildContext ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.failureHandler(), buildContext.timingSource()
+					INDEXING_QUEUE_SCOPE.get( propertySource ),
+					buildContext.failureHandler(), buildContext.timingSource(),
+					buildContext.metricsRegistry()
 			);
 		}
 		catch (RuntimeException e) {
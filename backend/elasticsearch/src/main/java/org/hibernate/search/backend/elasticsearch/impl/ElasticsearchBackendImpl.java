@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexRootBuilder;
 import org.hibernate.search.backend.elasticsearch.index.DynamicMapping;
+import org.hibernate.search.backend.elasticsearch.index.IndexingQueueScope;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
 import org.hibernate.search.backend.elasticsearch.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
@@ -34,6 +35,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSimpleWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
@@ -46,6 +48,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -92,6 +95,7 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 	private final ElasticsearchLinkImpl link;
 
 	private final ElasticsearchSimpleWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator;
 
 	private final ElasticsearchIndexFieldTypeFactoryProvider typeFactoryProvider;
 	private final MultiTenancyStrategy multiTenancyStrategy;
@@ -109,7 +113,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler, TimingSource timingSource) {
+			IndexingQueueScope indexingQueueScope,
+			FailureHandler failureHandler, TimingSource timingSource,
+			MetricsRegistry metricsRegistry) {
 		this.eventContext = eventContext;
 		this.threads = threads;
 		this.link = link;
@@ -118,6 +124,12 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				"Elasticsearch general purpose orchestrator - " + eventContext.render(),
 				link
 		);
+		this.sharedIndexingOrchestrator = IndexingQueueScope.BACKEND.equals( indexingQueueScope )
+				? new ElasticsearchBatchingWorkOrchestrator(
+						"Elasticsearch indexing orchestrator for backend " + eventContext.render(),
+						threads, link, failureHandler, metricsRegistry
+				)
+				: null;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.typeFactoryProvider = typeFactoryProvider;
 		this.indexLayoutStrategyHolder = indexLayoutStrategyHolder;
@@ -130,7 +142,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				failureHandler, timingSource,
-				generalPurposeOrchestrator
+				metricsRegistry,
+				generalPurposeOrchestrator,
+				sharedIndexingOrchestrator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
 	}
@@ -145,16 +159,25 @@ public void start(BackendStartContext context) {
 		threads.onStart( context.configurationPropertySource(), context.threadPoolProvider() );
 		link.onStart( context.beanResolver(), context.configurationPropertySource() );
 		generalPurposeOrchestrator.start( context.configurationPropertySource() );
+		if ( sharedIndexingOrchestrator != null ) {
+			// Indexing queue settings are taken from the backend configuration,
+			// which acts as the default configuration for all indexes.
+			sharedIndexingOrchestrator.start( context.configurationPropertySource() );
+		}
 	}
 
 	@Override
 	public CompletableFuture<?> preStop() {
-		return generalPurposeOrchestrator.preStop();
+		if ( sharedIndexingOrchestrator == null ) {
+			return generalPurposeOrchestrator.preStop();
+		}
+		return CompletableFuture.allOf( sharedIndexingOrchestrator.preStop(), generalPurposeOrchestrator.preStop() );
 	}
 
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ElasticsearchBatchingWorkOrchestrator::stop, sharedIndexingOrchestrator );
 			closer.push( ElasticsearchSimpleWorkOrchestrator::stop, generalPurposeOrchestrator );
 			closer.push( ElasticsearchLinkImpl::onStop, link );
 			closer.push( BeanHolder::close, indexLayoutStrategyHolder );
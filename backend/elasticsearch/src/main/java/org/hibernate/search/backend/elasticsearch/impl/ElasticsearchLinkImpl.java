@@ -28,6 +28,7 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -62,6 +63,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private final boolean logPrettyPrinting;
 	private final ElasticsearchDialectFactory dialectFactory;
 	private final Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional;
+	private final MetricsRegistry metricsRegistry;
 
 	private ElasticsearchClientImplementor clientImplementor;
 	private ElasticsearchVersion elasticsearchVersion;
@@ -75,13 +77,15 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
 			ElasticsearchDialectFactory dialectFactory,
-			Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional) {
+			Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional,
+			MetricsRegistry metricsRegistry) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.threads = threads;
 		this.defaultGsonProvider = defaultGsonProvider;
 		this.logPrettyPrinting = logPrettyPrinting;
 		this.dialectFactory = dialectFactory;
 		this.configuredVersionOnBackendCreationOptional = configuredVersionOnBackendCreationOptional;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	@Override
@@ -135,7 +139,8 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 		if ( clientImplementor == null ) {
 			clientImplementor = clientFactoryHolder.get().create(
 					beanResolver, propertySource, threads.getThreadProvider(), threads.getPrefix(),
-					threads.getWorkExecutor(), defaultGsonProvider
+					threads.getWorkExecutor(), defaultGsonProvider,
+					metricsRegistry
 			);
 			clientFactoryHolder.close(); // We won't need it anymore
 
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * How documents are represented in memory between the moment they are built and the moment they are sent to Elasticsearch.
+ */
+@Incubating
+public enum DocumentEncoding {
+
+	/**
+	 * Documents are kept as JSON trees until they are sent to Elasticsearch,
+	 * and are serialized on the thread sending the request.
+	 */
+	TREE("tree"),
+	/**
+	 * Documents are serialized to UTF-8 bytes as soon as they are built,
+	 * on the thread that built them,
+	 * and only the bytes are kept until they are sent to Elasticsearch.
+	 * <p>
+	 * This reduces the memory footprint of indexing queues and the work performed by the thread sending requests,
+	 * at the cost of slightly more work on the thread that built the document.
+	 */
+	BYTES("bytes");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static DocumentEncoding of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				DocumentEncoding.values(),
+				DocumentEncoding::externalRepresentation,
+				log::invalidDocumentEncoding,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	DocumentEncoding(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
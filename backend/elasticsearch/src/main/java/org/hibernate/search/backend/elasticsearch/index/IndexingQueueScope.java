@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The scope of indexing queues, i.e. which indexes share the same queues and thus the same bulk requests.
+ */
+@Incubating
+public enum IndexingQueueScope {
+
+	/**
+	 * Each index has its own indexing queues:
+	 * a bulk request only ever targets a single index.
+	 */
+	INDEX("index"),
+	/**
+	 * All indexes of the backend share the same indexing queues:
+	 * a single bulk request may target multiple indexes.
+	 * <p>
+	 * This reduces the number of requests sent to Elasticsearch
+	 * when many indexes receive a few indexing works at the same time.
+	 */
+	BACKEND("backend");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IndexingQueueScope of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				IndexingQueueScope.values(),
+				IndexingQueueScope::externalRepresentation,
+				log::invalidIndexingQueueScope,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IndexingQueueScope(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.metamodel.ElasticsearchIndexDescriptor;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
+import org.hibernate.search.backend.elasticsearch.index.DocumentEncoding;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -72,14 +73,23 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 					.withDefault( ElasticsearchIndexSettings.Defaults.SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<DocumentEncoding> INDEXING_DOCUMENT_ENCODING =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_DOCUMENT_ENCODING )
+					.as( DocumentEncoding.class, DocumentEncoding::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_DOCUMENT_ENCODING )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final ElasticsearchIndexModel model;
 	private final List<DocumentMetadataContributor> documentMetadataContributors;
 
 	private final ElasticsearchBatchingWorkOrchestrator indexingOrchestrator;
+	// When shared, the orchestrator is started and stopped by the backend.
+	private final boolean indexingOrchestratorShared;
 
 	private ElasticsearchIndexSchemaManager schemaManager;
+	private DocumentEncoding documentEncoding = ElasticsearchIndexSettings.Defaults.INDEXING_DOCUMENT_ENCODING;
 
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
@@ -87,7 +97,11 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 		this.backendContext = backendContext;
 		this.model = model;
 		this.documentMetadataContributors = documentMetadataContributors;
-		this.indexingOrchestrator = backendContext.createIndexingOrchestrator( model.hibernateSearchName() );
+		ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator = backendContext.sharedIndexingOrchestrator();
+		this.indexingOrchestratorShared = sharedIndexingOrchestrator != null;
+		this.indexingOrchestrator = indexingOrchestratorShared
+				? sharedIndexingOrchestrator
+				: backendContext.createIndexingOrchestrator( model.hibernateSearchName() );
 	}
 
 	@Override
@@ -120,28 +134,39 @@ model, createLifecycleExecutionOptions( context.configurationPropertySource() )
 					}
 			);
 
-			indexingOrchestrator.start( context.configurationPropertySource() );
+			documentEncoding = INDEXING_DOCUMENT_ENCODING.get( context.configurationPropertySource() );
+
+			if ( !indexingOrchestratorShared ) {
+				indexingOrchestrator.start( context.configurationPropertySource() );
+			}
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.push( ElasticsearchBatchingWorkOrchestrator::stop, indexingOrchestrator );
+					.push( ElasticsearchBatchingWorkOrchestrator::stop, ownIndexingOrchestrator() );
 			throw e;
 		}
 	}
 
 	@Override
 	public CompletableFuture<?> preStop() {
+		if ( indexingOrchestratorShared ) {
+			return CompletableFuture.completedFuture( null );
+		}
 		return indexingOrchestrator.preStop();
 	}
 
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.push( ElasticsearchBatchingWorkOrchestrator::stop, indexingOrchestrator );
+			closer.push( ElasticsearchBatchingWorkOrchestrator::stop, ownIndexingOrchestrator() );
 			schemaManager = null;
 		}
 	}
 
+	private ElasticsearchBatchingWorkOrchestrator ownIndexingOrchestrator() {
+		return indexingOrchestratorShared ? null : indexingOrchestrator;
+	}
+
 	@Override
 	public String getMappedTypeName() {
 		return model.mappedTypeName();
@@ -157,6 +182,11 @@ public String toElasticsearchId(String tenantId, String id) {
 		return backendContext.toElasticsearchId( tenantId, id );
 	}
 
+	@Override
+	public DocumentEncoding getDocumentEncoding() {
+		return documentEncoding;
+	}
+
 	@Override
 	public JsonObject createDocument(String tenantId, String id,
 			DocumentContributor documentContributor) {
@@ -41,6 +41,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
@@ -59,7 +60,9 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final FailureHandler failureHandler;
 	private final TimingSource timingSource;
+	private final MetricsRegistry metricsRegistry;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -71,7 +74,9 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			TypeNameMapping typeNameMapping,
 			FailureHandler failureHandler,
 			TimingSource timingSource,
-			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator) {
+			MetricsRegistry metricsRegistry,
+			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator,
+			ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -81,7 +86,9 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.failureHandler = failureHandler;
 		this.timingSource = timingSource;
+		this.metricsRegistry = metricsRegistry;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
+		this.sharedIndexingOrchestrator = sharedIndexingOrchestrator;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -190,11 +197,20 @@ ElasticsearchIndexSchemaManager createSchemaManager(ElasticsearchIndexModel mode
 		);
 	}
 
+	/**
+	 * @return The indexing orchestrator shared by all indexes of the backend,
+	 * or {@code null} if each index should {@link #createIndexingOrchestrator(String) create its own}.
+	 */
+	ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator() {
+		return sharedIndexingOrchestrator;
+	}
+
 	ElasticsearchBatchingWorkOrchestrator createIndexingOrchestrator(String indexName) {
 		return new ElasticsearchBatchingWorkOrchestrator(
 				"Elasticsearch indexing orchestrator for index " + indexName,
 				threads, link,
-				failureHandler
+				failureHandler,
+				metricsRegistry
 		);
 	}
 
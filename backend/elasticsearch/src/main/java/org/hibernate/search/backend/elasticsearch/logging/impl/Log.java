@@ -709,4 +709,16 @@ SearchException customIndexMappingErrorOnLoading(String filePath, @Cause Excepti
 	SearchException customIndexMappingJsonSyntaxErrors(String filePath, @Cause Exception cause,
 			@Param EventContext context);
 
+	@Message(id = ID_OFFSET + 154, value = "Invalid document encoding: '%1$s'."
+			+ " Valid encodings are: %2$s.")
+	SearchException invalidDocumentEncoding(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 155, value = "Invalid wire format: '%1$s'."
+			+ " Valid formats are: %2$s.")
+	SearchException invalidWireFormat(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 158, value = "Invalid indexing queue scope: '%1$s'."
+			+ " Valid scopes are: %2$s.")
+	SearchException invalidIndexingQueueScope(String invalidRepresentation, List<String> validRepresentations);
+
 }
@@ -84,6 +84,7 @@ public TypeNameFromIndexNameExtractionHelper(IndexLayoutStrategy indexLayoutStra
 		@Override
 		public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 			// No need to request any additional information, Elasticsearch metadata is enough
+			context.requireHitProperty( "_index" );
 		}
 
 		@Override
@@ -138,6 +138,7 @@ private static final class DiscriminatorMultiTenancyIdProjectionExtractionHelper
 		@Override
 		public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 			context.getSearchSyntax().requestDocValues( requestBody, ID_FIELD_NAME_JSON );
+			context.requireHitProperty( "fields" );
 		}
 
 		@Override
@@ -86,6 +86,7 @@ public String toElasticsearchId(String tenantId, String id) {
 		@Override
 		public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 			// No need to request any additional information, Elasticsearch metadata is enough
+			context.requireHitProperty( "_id" );
 		}
 
 		@Override
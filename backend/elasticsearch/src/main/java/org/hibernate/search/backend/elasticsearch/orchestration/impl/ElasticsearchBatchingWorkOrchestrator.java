@@ -15,7 +15,10 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
@@ -53,8 +56,20 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> TARGET_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_TARGET_BULK_BYTES )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
+	private final Counter bulkItemFailures;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor>> executors;
 
@@ -63,13 +78,16 @@
 	 * @param threads The threads for this backend.
 	 * @param link The Elasticsearch link for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry The registry to record indexing metrics in.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
 			String name, BackendThreads threads, ElasticsearchLink link,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
 		super( name, link );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
+		this.bulkItemFailures = metricsRegistry.counter( "elasticsearch.bulk.item.failures" );
 	}
 
 	@Override
@@ -84,19 +102,24 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkBytes = MAX_BULK_BYTES.get( propertySource ).orElse( 0 );
+		long targetBulkBytes = TARGET_BULK_BYTES.get( propertySource ).orElse( 0 );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext,
+					maxBulkSize, maxBulkBytes, targetBulkBytes );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
-					failureHandler
+					failureHandler,
+					metricsRegistry,
+					"elasticsearch.indexing"
 			) );
 		}
 
@@ -127,13 +150,14 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
-		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+			int maxBulkSize, long maxBulkBytes, long targetBulkBytes) {
+		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context,
+				bulkItemFailures );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				maxBulkSize, maxBulkBytes, targetBulkBytes
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
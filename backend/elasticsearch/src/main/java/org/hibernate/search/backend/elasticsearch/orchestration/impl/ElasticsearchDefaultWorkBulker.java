@@ -21,11 +21,14 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkBytes;
+	private final long targetBulkBytes;
 
 	private final List<BulkableWork<?>> currentBulkItems;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
+	private long currentBulkBytes;
 
 	/**
 	 * @param sequenceBuilder The sequence builder to add works to
@@ -37,9 +40,31 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, 0L, 0L );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * Ignored if {@code targetBulkBytes} is strictly positive.
+	 * @param maxBulkBytes Maximum estimated size of a single bulk, in bytes, or {@code 0} for no limit.
+	 * If adding a work would make a non-empty bulk exceed this size,
+	 * the bulk will be {@link #finalizeBulkWork() finalized} before the work is added.
+	 * @param targetBulkBytes Target estimated size of a single bulk, in bytes, or {@code 0} for no target.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}, regardless of the number of works it contains.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, long maxBulkBytes, long targetBulkBytes) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.targetBulkBytes = targetBulkBytes;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -58,6 +83,16 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = 0L;
+		if ( maxBulkBytes > 0L || targetBulkBytes > 0L ) {
+			workBytes = work.getEstimatedSizeInBytes();
+			if ( maxBulkBytes > 0L && !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the current bulk too large; start a new one.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,18 +100,29 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( isCurrentBulkFull() ) {
 			finalizeBulkWork();
 		}
 
 		return future;
 	}
 
+	private boolean isCurrentBulkFull() {
+		if ( maxBulkBytes > 0L && currentBulkBytes >= maxBulkBytes ) {
+			return true;
+		}
+		if ( targetBulkBytes > 0L ) {
+			return currentBulkBytes >= targetBulkBytes;
+		}
+		return currentBulkItems.size() >= maxBulkSize;
+	}
+
 	@Override
 	public void finalizeBulkWork() {
 		if ( currentBulkWorkFuture == null ) {
@@ -95,5 +141,6 @@ public void reset() {
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
+		this.currentBulkBytes = 0L;
 	}
 }
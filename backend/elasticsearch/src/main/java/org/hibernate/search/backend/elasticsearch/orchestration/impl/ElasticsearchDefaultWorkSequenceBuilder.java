@@ -16,6 +16,8 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -27,11 +29,17 @@ class ElasticsearchDefaultWorkSequenceBuilder implements ElasticsearchWorkSequen
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final ElasticsearchWorkExecutionContext context;
+	private final Counter bulkItemFailures;
 
 	private SequenceContext currentlyBuildingSequenceContext;
 
 	ElasticsearchDefaultWorkSequenceBuilder(ElasticsearchWorkExecutionContext context) {
+		this( context, MetricsRegistry.noOp().counter( "elasticsearch.bulk.item.failures" ) );
+	}
+
+	ElasticsearchDefaultWorkSequenceBuilder(ElasticsearchWorkExecutionContext context, Counter bulkItemFailures) {
 		this.context = context;
+		this.bulkItemFailures = bulkItemFailures;
 	}
 
 	@Override
@@ -104,7 +112,7 @@ public <T> CompletableFuture<T> addBulkResultExtraction(CompletableFuture<BulkRe
 				sequenceContext.tail.thenCombine( bulkResultFuture, (ignored, bulkResult) -> bulkResult );
 
 		BulkedWorkExecutionState<T> workExecutionState =
-				new BulkedWorkExecutionState<>( sequenceContext, bulkedWork, index );
+				new BulkedWorkExecutionState<>( sequenceContext, bulkedWork, index, bulkItemFailures );
 
 		CompletableFuture<T> handledWorkExecutionFuture = delayedBulkResultFuture
 				// If the bulk work fails, make sure to notify the caller as necessary.
@@ -224,13 +232,16 @@ CompletableFuture<R> onPreviousWorkComplete(Object ignored) {
 
 		private final int index;
 
+		private final Counter bulkItemFailures;
+
 		private BulkResult bulkResult;
 
 		private BulkedWorkExecutionState(SequenceContext sequenceContext,
-				BulkableWork<R> bulkedWork, int index) {
+				BulkableWork<R> bulkedWork, int index, Counter bulkItemFailures) {
 			super( sequenceContext, bulkedWork );
 			this.bulkedWork = bulkedWork;
 			this.index = index;
+			this.bulkItemFailures = bulkItemFailures;
 		}
 
 		void onBulkWorkComplete(Object ignored, Throwable throwable) {
@@ -248,9 +259,15 @@ CompletableFuture<R> onBulkWorkSuccess(BulkResult bulkResult) {
 		}
 
 		private CompletableFuture<R> extract() {
-			return CompletableFuture.completedFuture(
-					bulkResult.extract( sequenceContext.executionContext, bulkedWork, index )
-			);
+			try {
+				return CompletableFuture.completedFuture(
+						bulkResult.extract( sequenceContext.executionContext, bulkedWork, index )
+				);
+			}
+			catch (RuntimeException e) {
+				bulkItemFailures.increment();
+				throw e;
+			}
 		}
 	}
 }
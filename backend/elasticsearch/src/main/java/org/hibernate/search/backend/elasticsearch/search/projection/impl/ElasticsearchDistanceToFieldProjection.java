@@ -109,7 +109,8 @@ public String toString() {
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		if ( !multiValued && context.getDistanceSortIndex( absoluteFieldPath, center ) != null ) {
-			// Nothing to do, we'll rely on the sort key
+			// we rely on the sort key
+			context.requireHitProperty( "sort" );
 		}
 		else if ( scriptFieldName != null ) {
 			// we rely on a script to compute the distance
@@ -117,6 +118,7 @@ else if ( scriptFieldName != null ) {
 					.property( scriptFieldName ).asObject()
 					.property( "script" ).asObject()
 					.set( requestBody, createScript( absoluteFieldPath, center ) );
+			context.requireHitProperty( "fields" );
 		}
 		else {
 			// we rely on the _source to compute the distance
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -84,14 +85,19 @@ public String toString() {
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
 		REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, fieldPathJson );
+		context.requireHitProperty( "_source" );
 	}
 
 	@Override
 	public E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		E extracted = accumulator.createInitial();
-		JsonObject source = HIT_SOURCE_ACCESSOR.get( hit ).get();
-		extracted = collect( source, extracted, 0 );
+		Optional<JsonObject> source = HIT_SOURCE_ACCESSOR.get( hit );
+		if ( !source.isPresent() ) {
+			// The response was filtered and the source, being empty, was removed from the hit.
+			return extracted;
+		}
+		extracted = collect( source.get(), extracted, 0 );
 		return extracted;
 	}
 
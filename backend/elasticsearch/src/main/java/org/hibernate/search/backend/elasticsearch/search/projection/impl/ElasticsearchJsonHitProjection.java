@@ -27,7 +27,8 @@ public String toString() {
 
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
-		// No-op
+		// The whole hit is returned to the user: it must not be filtered.
+		context.requireWholeHits();
 	}
 
 	@Override
@@ -32,6 +32,7 @@ public String toString() {
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		TRACK_SCORES_ACCESSOR.set( requestBody, true );
+		context.requireHitProperty( "_score" );
 	}
 
 	@Override
@@ -37,6 +37,7 @@ public String toString() {
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, WILDCARD_ALL );
+		context.requireHitProperty( "_source" );
 	}
 
 	@Override
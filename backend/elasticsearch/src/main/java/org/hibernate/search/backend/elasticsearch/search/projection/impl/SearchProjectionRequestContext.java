@@ -15,4 +15,18 @@ public interface SearchProjectionRequestContext {
 
 	ElasticsearchSearchSyntax getSearchSyntax();
 
+	/**
+	 * Require a property of each hit to be included in the response.
+	 * <p>
+	 * Hit properties that are not required by any projection may be filtered out of the response.
+	 *
+	 * @param propertyName The name of a property of hits, e.g. {@code _source} or {@code fields}.
+	 */
+	void requireHitProperty(String propertyName);
+
+	/**
+	 * Require hits to be included in the response as-is, without filtering out any property.
+	 */
+	void requireWholeHits();
+
 }
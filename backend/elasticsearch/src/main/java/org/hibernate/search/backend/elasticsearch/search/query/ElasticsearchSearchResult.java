@@ -22,6 +22,8 @@
 	 * and even depending on how Hibernate Search features are implemented.
 	 * Thus this method cannot be guaranteed to return the same data when upgrading Hibernate Search,
 	 * even for micro upgrades ({@code x.y.z} to {@code x.y.(z+1)}).
+	 * In particular, unless a request transformer is set, Hibernate Search asks Elasticsearch
+	 * to leave out of the response any information it does not need to build the result.
 	 * Use this at your own risk.
 	 */
 	@Incubating
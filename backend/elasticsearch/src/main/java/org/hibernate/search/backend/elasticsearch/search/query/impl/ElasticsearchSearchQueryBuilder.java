@@ -56,6 +56,14 @@
 
 	private static final JsonAccessor<JsonElement> REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" );
 
+	/**
+	 * Properties of the request body that only affect hits,
+	 * and that can be removed when no hit is requested.
+	 */
+	private static final Set<String> HITS_ONLY_REQUEST_PROPERTIES = CollectionHelper.asImmutableSet(
+			"sort", "_source", "docvalue_fields", "stored_fields", "script_fields", "track_scores", "explain"
+	);
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
@@ -236,6 +244,22 @@ public ElasticsearchSearchQuery<H> build() {
 			REQUEST_SOURCE_ACCESSOR.set( payload, new JsonPrimitive( Boolean.FALSE ) );
 		}
 
+		JsonObject noHitsPayload;
+		String filterPath;
+		String noHitsFilterPath;
+		if ( requestTransformer == null ) {
+			noHitsPayload = createNoHitsPayload( payload );
+			filterPath = requestContext.createResponseFilterPath( true, aggregations != null );
+			noHitsFilterPath = requestContext.createResponseFilterPath( false, aggregations != null );
+		}
+		else {
+			// The transformer may alter the request in ways we cannot anticipate,
+			// and may expect to find the corresponding parts in the response: don't trim anything.
+			noHitsPayload = payload;
+			filterPath = null;
+			noHitsFilterPath = null;
+		}
+
 		TimeoutManager timeoutManager = scope.createTimeoutManager(
 				timeoutValue, timeoutUnit, exceptionOnTimeout );
 
@@ -249,10 +273,21 @@ public ElasticsearchSearchQuery<H> build() {
 		return new ElasticsearchSearchQueryImpl<>(
 				workFactory, queryOrchestrator,
 				scope, sessionContext, loadingContext, routingKeys,
-				payload, requestTransformer,
+				payload, noHitsPayload, filterPath, noHitsFilterPath, requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
 				scrollTimeout, totalHitCountThreshold
 		);
 	}
+
+	private static JsonObject createNoHitsPayload(JsonObject payload) {
+		JsonObject noHitsPayload = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			if ( !HITS_ONLY_REQUEST_PROPERTIES.contains( entry.getKey() ) ) {
+				noHitsPayload.add( entry.getKey(), entry.getValue() );
+			}
+		}
+		REQUEST_SOURCE_ACCESSOR.set( noHitsPayload, new JsonPrimitive( Boolean.FALSE ) );
+		return noHitsPayload;
+	}
 }
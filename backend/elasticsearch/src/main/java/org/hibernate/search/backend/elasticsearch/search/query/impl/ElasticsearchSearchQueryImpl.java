@@ -33,6 +33,8 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
@@ -50,6 +52,22 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JfrEventType QUERY_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.elasticsearch.Query", "Elasticsearch Query" )
+					.description( "Execution of a search query, including entity loading" )
+					.category( "Elasticsearch" )
+					.field( String.class, "indexNames", "Index Names" )
+					.field( long.class, "hitCount", "Hit Count" )
+					.field( long.class, "tookMillis", "Took (ms)" )
+					.field( boolean.class, "timedOut", "Timed Out" )
+					.field( boolean.class, "failed", "Failed" )
+					.build();
+	private static final int QUERY_EVENT_INDEX_NAMES = 0;
+	private static final int QUERY_EVENT_HIT_COUNT = 1;
+	private static final int QUERY_EVENT_TOOK = 2;
+	private static final int QUERY_EVENT_TIMED_OUT = 3;
+	private static final int QUERY_EVENT_FAILED = 4;
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
 	private final ElasticsearchSearchIndexScope<?> scope;
@@ -57,6 +75,17 @@
 	private final SearchLoadingContext<?, ?> loadingContext;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
+	/**
+	 * The payload to send when no hit is requested (limit set to 0),
+	 * stripped of everything that only affects hits.
+	 */
+	private final JsonObject noHitsPayload;
+	/**
+	 * The {@code filter_path} restricting the response to what is necessary to extract results,
+	 * or {@code null} to get the full response.
+	 */
+	private final String filterPath;
+	private final String noHitsFilterPath;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
@@ -75,7 +104,8 @@
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			JsonObject payload,
+			JsonObject payload, JsonObject noHitsPayload,
+			String filterPath, String noHitsFilterPath,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
 			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
@@ -86,6 +116,9 @@
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
+		this.noHitsPayload = noHitsPayload;
+		this.filterPath = filterPath;
+		this.noHitsFilterPath = noHitsFilterPath;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutManager = timeoutManager;
@@ -113,24 +146,32 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		timeoutManager.start();
+		JfrEvent event = QUERY_EVENT_TYPE.begin();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit, offset )
-				.totalHitCountThreshold( totalHitCountThreshold )
-				.build();
-
-		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit( work ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
+		ElasticsearchSearchResultImpl<H> result = null;
+		try {
+			timeoutManager.start();
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( defaultedLimit )
+					.paging( defaultedLimit, offset )
+					.totalHitCountThreshold( totalHitCountThreshold )
+					.build();
+
+			result = Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit( work ) )
+					/*
+					 * WARNING: the following call must run in the user thread.
+					 * If we introduce async query execution, we will have to add a loadAsync method here,
+					 * as well as in ProjectionHitMapper and EntityLoader.
+					 * This method may not be easy to implement for blocking mappers,
+					 * so we may choose to throw exceptions for those.
+					 */
+					.loadBlocking();
+			timeoutManager.stop();
+		}
+		finally {
+			// Also record failed queries, which are generally the most interesting ones
+			commitQueryEvent( event, result );
+		}
 
 		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
 			// user may not be aware of this defaultedLimit
@@ -141,24 +182,32 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
-		timeoutManager.start();
+		JfrEvent event = QUERY_EVENT_TYPE.begin();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit, offset )
-				.disableTrackTotalHits()
-				.build();
-
-		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit( work ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
+		ElasticsearchSearchResultImpl<H> result = null;
+		try {
+			timeoutManager.start();
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( defaultedLimit )
+					.paging( defaultedLimit, offset )
+					.disableTrackTotalHits()
+					.build();
+
+			result = Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit( work ) )
+					/*
+					 * WARNING: the following call must run in the user thread.
+					 * If we introduce async query execution, we will have to add a loadAsync method here,
+					 * as well as in ProjectionHitMapper and EntityLoader.
+					 * This method may not be easy to implement for blocking mappers,
+					 * so we may choose to throw exceptions for those.
+					 */
+					.loadBlocking();
+			timeoutManager.stop();
+		}
+		finally {
+			// Also record failed queries, which are generally the most interesting ones
+			commitQueryEvent( event, result );
+		}
 
 		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
 			// user may not be aware of this defaultedLimit
@@ -198,11 +247,11 @@ public long fetchTotalHitCount() {
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
 
-		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder( chunkSize )
 				.scrolling( chunkSize, scrollTimeoutString );
 
 		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, searchResultExtractor,
-				scrollTimeoutString, firstScroll, timeoutManager );
+				scrollTimeoutString, filterPath, firstScroll, loadingContext, timeoutManager );
 	}
 
 	@Override
@@ -233,9 +282,11 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
-	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(int limit) {
+		// Queries that only need the total hit count or aggregations don't need anything related to hits
+		boolean withHits = limit > 0;
 		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder =
-				workFactory.search( payload, searchResultExtractor );
+				workFactory.search( withHits ? payload : noHitsPayload, searchResultExtractor );
 		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
 			builder.index( index.names().read() );
 		}
@@ -244,7 +295,8 @@ private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilde
 				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				);
+				)
+				.filterPath( withHits ? filterPath : noHitsFilterPath );
 		return builder;
 	}
 
@@ -266,6 +318,19 @@ private Integer defaultedLimit(Integer limit, Integer offset) {
 		}
 	}
 
+	private void commitQueryEvent(JfrEvent event, ElasticsearchSearchResultImpl<H> resultOrNull) {
+		if ( !event.isRecording() ) {
+			return;
+		}
+		event.set( QUERY_EVENT_INDEX_NAMES, String.join( ",", scope.hibernateSearchIndexNames() ) );
+		if ( resultOrNull != null ) {
+			event.set( QUERY_EVENT_HIT_COUNT, resultOrNull.total().hitCountLowerBound() )
+					.set( QUERY_EVENT_TOOK, resultOrNull.took().toMillis() )
+					.set( QUERY_EVENT_TIMED_OUT, resultOrNull.timedOut() );
+		}
+		event.set( QUERY_EVENT_FAILED, resultOrNull == null ).commit();
+	}
+
 	private JsonObject doExplain(ElasticsearchSearchIndexContext index, Object id) {
 		JsonObject queryOnlyPayload = new JsonObject();
 		JsonElement query = payload.get( "query" );
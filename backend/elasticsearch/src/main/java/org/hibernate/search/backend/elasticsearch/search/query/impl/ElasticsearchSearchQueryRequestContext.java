@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
@@ -28,6 +32,8 @@
  *     <li>When building later parts of the query, to get information on more basic parts of the query.
  *     For example distance projections need to inspect distance sorts (if any) for optimization purposes.
  *     ({@link #getDistanceSortIndex(String, GeoPoint)}</li>
+ *     <li>When building the request, to compute the parts of the response that are actually needed
+ *     ({@link #createResponseFilterPath(boolean, boolean)}</li>
  *     <li>When extracting data from the response, to get an "extract" context linked to the session/loading context
  *     ({@link #createExtractContext(JsonObject)}</li>
  * </ul>
@@ -40,6 +46,9 @@ class ElasticsearchSearchQueryRequestContext implements SearchProjectionRequestC
 	private final PredicateRequestContext rootPredicateContext;
 	private final Map<DistanceSortKey, Integer> distanceSorts;
 
+	private final Set<String> requiredHitProperties = new TreeSet<>();
+	private boolean wholeHitsRequired;
+
 	ElasticsearchSearchQueryRequestContext(
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
@@ -72,6 +81,52 @@ public ElasticsearchSearchSyntax getSearchSyntax() {
 		return scope.searchSyntax();
 	}
 
+	@Override
+	public void requireHitProperty(String propertyName) {
+		requiredHitProperties.add( propertyName );
+	}
+
+	@Override
+	public void requireWholeHits() {
+		wholeHitsRequired = true;
+	}
+
+	/**
+	 * @param withHits Whether hits will be extracted from the response.
+	 * @param withAggregations Whether aggregations will be extracted from the response.
+	 * @return The value of the {@code filter_path} parameter restricting the response
+	 * to what is necessary to extract results.
+	 */
+	String createResponseFilterPath(boolean withHits, boolean withAggregations) {
+		List<String> paths = new ArrayList<>();
+		paths.add( "took" );
+		paths.add( "timed_out" );
+		paths.add( "_shards" );
+		paths.add( "_scroll_id" );
+		paths.add( "hits.total" );
+		if ( withHits ) {
+			if ( wholeHitsRequired ) {
+				paths.add( "hits.hits" );
+			}
+			else {
+				Set<String> hitProperties = new TreeSet<>( requiredHitProperties );
+				// Always keep the ID, so that each hit is still represented in the response
+				// even if no other property is required.
+				hitProperties.add( "_id" );
+				for ( String property : hitProperties ) {
+					paths.add( "hits.hits." + property );
+				}
+			}
+		}
+		if ( withAggregations ) {
+			paths.add( "aggregations" );
+		}
+		// Filtering also applies to error responses
+		paths.add( "error" );
+		paths.add( "status" );
+		return String.join( ",", paths );
+	}
+
 	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
@@ -23,7 +24,9 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final String scrollTimeoutString;
+	private final String filterPath;
 	private final SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll;
+	private final SearchLoadingContext<?, ?> loadingContext;
 	private final TimeoutManager timeoutManager;
 
 	private String scrollId;
@@ -31,14 +34,17 @@
 	public ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			String scrollTimeoutString,
+			String scrollTimeoutString, String filterPath,
 			SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll,
+			SearchLoadingContext<?, ?> loadingContext,
 			TimeoutManager timeoutManager) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchResultExtractor = searchResultExtractor;
 		this.scrollTimeoutString = scrollTimeoutString;
+		this.filterPath = filterPath;
 		this.firstScroll = firstScroll;
+		this.loadingContext = loadingContext;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -53,9 +59,14 @@ public void close() {
 	public ElasticsearchSearchScrollResult<H> next() {
 		timeoutManager.start();
 
+		if ( scrollId != null ) {
+			loadingContext.beforeLoadingNextChunk();
+		}
+
 		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null ) ? firstScroll.build() :
 				workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
 						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+						.filterPath( filterPath )
 						.build();
 
 		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( scroll ) );
@@ -51,7 +51,8 @@ public IndexWorkBuilder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey, JsonObject document) {
 		return IndexWork.Builder.forElasticsearch67AndBelow( entityTypeName, entityIdentifier,
-				elasticsearchIndexName, Paths.DOC, documentIdentifier, routingKey, document );
+				elasticsearchIndexName, Paths.DOC, documentIdentifier, routingKey, document,
+				gsonProvider.getGson() );
 	}
 
 	@Override
@@ -78,7 +78,8 @@ public IndexWorkBuilder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey, JsonObject document) {
 		return IndexWork.Builder.forElasticsearch7AndAbove( entityTypeName, entityIdentifier,
-				elasticsearchIndexName, documentIdentifier, routingKey, document );
+				elasticsearchIndexName, documentIdentifier, routingKey, document,
+				gsonProvider.getGson() );
 	}
 
 	@Override
@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import org.hibernate.search.backend.elasticsearch.index.DocumentEncoding;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 
 
 public interface IndexWorkBuilder extends ElasticsearchWorkBuilder<SingleDocumentIndexingWork>, IndexWriteWorkBuilder<IndexWorkBuilder> {
 
+	IndexWorkBuilder documentEncoding(DocumentEncoding encoding);
+
 }
@@ -14,4 +14,6 @@
 
 	ScrollWorkBuilder<R> deadline(Deadline deadline, boolean allowPartialResults);
 
+	ScrollWorkBuilder<R> filterPath(String filterPath);
+
 }
@@ -32,4 +32,6 @@
 	SearchWorkBuilder<R> disableTrackTotalHits();
 
 	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
+
+	SearchWorkBuilder<R> filterPath(String filterPath);
 }
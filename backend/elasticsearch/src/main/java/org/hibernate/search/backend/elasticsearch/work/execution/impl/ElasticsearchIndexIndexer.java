@@ -83,6 +83,7 @@ private CompletableFuture<?> index(DocumentReferenceProvider referenceProvider,
 				indexManagerContext.getElasticsearchIndexWriteName(),
 				elasticsearchId, routingKey, document
 		)
+				.documentEncoding( indexManagerContext.getDocumentEncoding() )
 				// The commit strategy is ignored, because Elasticsearch always commits changes to its transaction log.
 				.refresh( refreshStrategy )
 				.build();
@@ -109,6 +109,7 @@ private void index(DocumentReferenceProvider referenceProvider,
 						indexManagerContext.getElasticsearchIndexWriteName(),
 						elasticsearchId, routingKey, document
 				)
+						.documentEncoding( indexManagerContext.getDocumentEncoding() )
 						.refresh( refreshStrategy )
 						.build()
 		);
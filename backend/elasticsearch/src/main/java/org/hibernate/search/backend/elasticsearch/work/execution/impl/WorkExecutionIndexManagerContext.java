@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import org.hibernate.search.backend.elasticsearch.index.DocumentEncoding;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
@@ -30,6 +31,8 @@ public interface WorkExecutionIndexManagerContext {
 
 	String toElasticsearchId(String tenantId, String id);
 
+	DocumentEncoding getDocumentEncoding();
+
 	JsonObject createDocument(String tenantId, String id,
 			DocumentContributor documentContributor);
 
@@ -8,6 +8,8 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -22,6 +24,7 @@
 
 	private final JsonObject bulkableActionMetadata;
 	private final JsonObject bulkableActionBody;
+	private final EncodedJsonObject encodedBulkableActionBody;
 	protected final ElasticsearchRequestSuccessAssessor resultAssessor;
 
 	private final String entityTypeName;
@@ -30,9 +33,12 @@
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
+	private long estimatedSizeInBytes = -1L;
+
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
-		this.bulkableActionBody = builder.buildBulkableActionBody();
+		this.encodedBulkableActionBody = builder.buildEncodedBulkableActionBody();
+		this.bulkableActionBody = encodedBulkableActionBody == null ? builder.buildBulkableActionBody() : null;
 		this.resultAssessor = builder.resultAssessor;
 		this.entityTypeName = builder.entityTypeName;
 		this.entityIdentifier = builder.entityIdentifier;
@@ -67,7 +73,30 @@ public JsonObject getBulkableActionMetadata() {
 
 	@Override
 	public JsonObject getBulkableActionBody() {
-		return bulkableActionBody;
+		return bulkableActionBody != null || encodedBulkableActionBody == null
+				? bulkableActionBody
+				: encodedBulkableActionBody.decode();
+	}
+
+	@Override
+	public EncodedJsonObject getEncodedBulkableActionBody() {
+		return encodedBulkableActionBody;
+	}
+
+	@Override
+	public long getEstimatedSizeInBytes() {
+		// Computed lazily, so that we don't walk the document tree unless bulks are limited by size.
+		if ( estimatedSizeInBytes < 0L ) {
+			long size = GsonUtils.estimateEncodedSize( bulkableActionMetadata ) + 1; // +1 for the line feed
+			if ( encodedBulkableActionBody != null ) {
+				size += encodedBulkableActionBody.length() + 1;
+			}
+			else if ( bulkableActionBody != null ) {
+				size += GsonUtils.estimateEncodedSize( bulkableActionBody ) + 1;
+			}
+			estimatedSizeInBytes = size;
+		}
+		return estimatedSizeInBytes;
 	}
 
 	@Override
@@ -112,5 +141,9 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 
 		protected abstract JsonObject buildBulkableActionBody();
 
+		protected EncodedJsonObject buildEncodedBulkableActionBody() {
+			return null;
+		}
+
 	}
 }
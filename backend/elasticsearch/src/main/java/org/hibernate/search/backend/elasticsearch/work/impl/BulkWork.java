@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -67,6 +68,11 @@ protected ElasticsearchRequest buildRequest() {
 
 			for ( BulkableWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
+				EncodedJsonObject encodedActionBody = work.getEncodedBulkableActionBody();
+				if ( encodedActionBody != null ) {
+					builder.body( encodedActionBody );
+					continue;
+				}
 				JsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
 					builder.body( actionBody );
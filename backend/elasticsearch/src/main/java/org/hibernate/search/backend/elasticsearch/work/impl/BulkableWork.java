@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonObject;
@@ -19,6 +20,20 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @return The body of the bulkable action, already encoded,
+	 * or {@code null} if the body was not encoded in advance, in which case {@link #getBulkableActionBody()} should be used.
+	 */
+	default EncodedJsonObject getEncodedBulkableActionBody() {
+		return null;
+	}
+
+	/**
+	 * @return An estimate of the size of this work in the payload of a bulk request, in bytes,
+	 * including both the metadata and the body.
+	 */
+	long getEstimatedSizeInBytes();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
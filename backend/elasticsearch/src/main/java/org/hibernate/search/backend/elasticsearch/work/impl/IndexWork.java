@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+import org.hibernate.search.backend.elasticsearch.index.DocumentEncoding;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -26,30 +29,41 @@ private IndexWork(Builder builder) {
 		private final URLEncodedString typeName;
 		private final String routingKey;
 		private final JsonObject document;
+		private final Gson gson;
+
+		private DocumentEncoding documentEncoding = DocumentEncoding.TREE;
 
 		public static Builder forElasticsearch67AndBelow(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
 				String documentIdentifier, String routingKey,
-				JsonObject document) {
+				JsonObject document, Gson gson) {
 			return new Builder( entityTypeName, entityIdentifier,
-					elasticsearchIndexName, typeName, documentIdentifier, routingKey, document );
+					elasticsearchIndexName, typeName, documentIdentifier, routingKey, document, gson );
 		}
 
 		public static Builder forElasticsearch7AndAbove(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey,
-				JsonObject document) {
+				JsonObject document, Gson gson) {
 			return new Builder( entityTypeName, entityIdentifier,
-					elasticsearchIndexName, null, documentIdentifier, routingKey, document );
+					elasticsearchIndexName, null, documentIdentifier, routingKey, document, gson );
 		}
 
 		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
-					URLEncodedString typeName, String documentIdentifier, String routingKey, JsonObject document) {
+					URLEncodedString typeName, String documentIdentifier, String routingKey, JsonObject document,
+					Gson gson) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE, entityTypeName, entityIdentifier,
 					documentIdentifier );
 			this.indexName = elasticsearchIndexName;
 			this.typeName = typeName;
 			this.routingKey = routingKey;
 			this.document = document;
+			this.gson = gson;
+		}
+
+		@Override
+		public Builder documentEncoding(DocumentEncoding encoding) {
+			this.documentEncoding = encoding;
+			return this;
 		}
 
 		@Override
@@ -77,6 +91,16 @@ protected JsonObject buildBulkableActionBody() {
 			return document;
 		}
 
+		@Override
+		protected EncodedJsonObject buildEncodedBulkableActionBody() {
+			if ( documentEncoding != DocumentEncoding.BYTES ) {
+				return null;
+			}
+			// Encode on the calling thread, so that the (potentially large) tree can be garbage-collected
+			// while the work waits in the queue.
+			return EncodedJsonObject.encode( gson, document );
+		}
+
 		@Override
 		public IndexWork build() {
 			return new IndexWork( this );
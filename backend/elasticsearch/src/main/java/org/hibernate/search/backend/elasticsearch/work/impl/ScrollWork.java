@@ -42,6 +42,7 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private String filterPath;
 
 		public Builder(String scrollId, String scrollTimeout, ElasticsearchSearchResultExtractor<R> resultExtractor) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -57,6 +58,12 @@ public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			return this;
 		}
 
+		@Override
+		public Builder<R> filterPath(String filterPath) {
+			this.filterPath = filterPath;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			JsonObject body = new JsonObject();
@@ -69,6 +76,10 @@ protected ElasticsearchRequest buildRequest() {
 					.pathComponent( Paths.SCROLL )
 					.body( body );
 
+			if ( filterPath != null ) {
+				builder.param( "filter_path", filterPath );
+			}
+
 			return builder.build();
 		}
 
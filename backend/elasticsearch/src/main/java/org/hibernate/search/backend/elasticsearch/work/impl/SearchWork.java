@@ -88,6 +88,7 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private String filterPath;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -151,6 +152,12 @@ public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold)
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> filterPath(String filterPath) {
+			this.filterPath = filterPath;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -186,6 +193,10 @@ protected ElasticsearchRequest buildRequest() {
 				}
 			}
 
+			if ( filterPath != null ) {
+				builder.param( "filter_path", filterPath );
+			}
+
 			handleDeadline( builder );
 
 			return builder.build();
@@ -24,6 +24,7 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
 import org.junit.Test;
@@ -42,8 +43,17 @@
 @RunWith(Parameterized.class)
 public class GsonHttpEntityTest {
 
-	@Parameterized.Parameters(name = "{0}")
+	@Parameterized.Parameters(name = "{0}, preEncoded = {2}")
 	public static List<Object[]> params() {
+		List<Object[]> params = new ArrayList<>();
+		for ( Object[] payloadParams : payloadParams() ) {
+			params.add( new Object[] { payloadParams[0], payloadParams[1], false } );
+			params.add( new Object[] { payloadParams[0], payloadParams[1], true } );
+		}
+		return params;
+	}
+
+	private static List<Object[]> payloadParams() {
 		List<Object[]> params = new ArrayList<>();
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
 
@@ -146,10 +156,10 @@ public static List<Object[]> params() {
 	private final int expectedContentLength;
 
 	@SuppressWarnings("unused")
-	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload, boolean preEncoded) throws IOException {
 		this.payload = payload;
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.gsonEntity = new GsonHttpEntity( gson, preEncoded ? preEncode( gson, payload ) : payload );
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -238,6 +248,16 @@ public void getContent() throws IOException {
 		}
 	}
 
+	private static List<Object> preEncode(Gson gson, List<JsonObject> payload) {
+		// Only encode every other part, so as to mix pre-encoded parts with JSON trees
+		List<Object> result = new ArrayList<>();
+		for ( int i = 0; i < payload.size(); i++ ) {
+			JsonObject object = payload.get( i );
+			result.add( i % 2 == 0 ? EncodedJsonObject.encode( gson, object ) : object );
+		}
+		return result;
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
@@ -293,7 +313,15 @@ public int write(ByteBuffer src) throws IOException {
 				return 0;
 			}
 			pushedBack = false;
-			outputStream.write( src.array(), src.arrayOffset(), toWrite );
+			if ( src.hasArray() ) {
+				outputStream.write( src.array(), src.arrayOffset(), toWrite );
+			}
+			else {
+				// Read-only buffers, e.g. pre-encoded parts
+				byte[] bytes = new byte[toWrite];
+				src.duplicate().get( bytes );
+				outputStream.write( bytes );
+			}
 			written += toWrite;
 			return toWrite;
 		}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+
+public class LatencyAwareNodeSelectorTest {
+
+	private final AtomicLong now = new AtomicLong( 0L );
+	private final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector( now::get );
+
+	private final Node node1 = new Node( new HttpHost( "node1", 9200 ) );
+	private final Node node2 = new Node( new HttpHost( "node2", 9200 ) );
+	private final Node node3 = new Node( new HttpHost( "node3", 9200 ) );
+	private final Node deadNode = new Node( new HttpHost( "deadNode", 9200 ) );
+
+	@Test
+	public void select_noLatency() {
+		assertThat( selectPinnedToDeadNode( node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+	}
+
+	@Test
+	public void select_notPinned() {
+		selector.record( node1.getHost(), millis( 10 ) );
+		selector.record( node2.getHost(), millis( 500 ) );
+
+		// Requests that are not hedgeable are left to the default node selection
+		assertThat( select( node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+	}
+
+	@Test
+	public void select_slowNode() {
+		selector.record( node1.getHost(), millis( 10 ) );
+		selector.record( node2.getHost(), millis( 500 ) );
+		selector.record( node3.getHost(), millis( 20 ) );
+
+		assertThat( selectPinnedToDeadNode( node1, node2, node3 ) ).containsExactly( node1, node3 );
+
+		// The slow node gets faster
+		for ( int i = 0; i < 20; i++ ) {
+			selector.record( node2.getHost(), millis( 15 ) );
+		}
+		assertThat( selectPinnedToDeadNode( node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+	}
+
+	@Test
+	public void select_slowNode_stale() {
+		selector.record( node1.getHost(), millis( 10 ) );
+		now.addAndGet( TimeUnit.SECONDS.toNanos( 20 ) );
+		selector.record( node2.getHost(), millis( 500 ) );
+		now.addAndGet( TimeUnit.SECONDS.toNanos( 20 ) );
+		selector.record( node3.getHost(), millis( 20 ) );
+
+		// Latency information for node1 is stale: node2 is only compared to node3.
+		assertThat( selectPinnedToDeadNode( node1, node2, node3 ) ).containsExactly( node1, node3 );
+
+		now.addAndGet( TimeUnit.SECONDS.toNanos( 20 ) );
+		// Latency information for node2 is stale too: it gets a new chance.
+		assertThat( selectPinnedToDeadNode( node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+	}
+
+	@Test
+	public void select_pinned() {
+		selector.record( node1.getHost(), millis( 10 ) );
+		selector.record( node2.getHost(), millis( 500 ) );
+
+		assertThat( selector.pinned( node2, () -> select( node1, node2, node3 ) ) ).containsExactly( node2 );
+		// Pinned node is dead, i.e. not passed to the selector: fall back to latency-based selection
+		assertThat( selector.pinned( node2, () -> select( node1, node3 ) ) ).containsExactly( node1, node3 );
+		assertThat( selector.pinned( node3, () -> select( node1, node2 ) ) ).containsExactly( node1 );
+		// Pinning does not leak
+		assertThat( select( node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+	}
+
+	@Test
+	public void choose() {
+		selector.record( node1.getHost(), millis( 10 ) );
+		selector.record( node2.getHost(), millis( 500 ) );
+
+		List<Node> nodes = Arrays.asList( node1, node2 );
+		// With two candidates, the fastest one always wins
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( selector.choose( nodes, null ) ).isSameAs( node1 );
+		}
+		assertThat( selector.choose( nodes, node1.getHost() ) ).isSameAs( node2 );
+		assertThat( selector.choose( Arrays.asList( node1 ), node1.getHost() ) ).isNull();
+	}
+
+	@Test
+	public void choose_unknownLatency() {
+		selector.record( node1.getHost(), millis( 10 ) );
+
+		// Nodes without latency information get a chance to prove themselves
+		assertThat( selector.choose( Arrays.asList( node1, node3 ), null ) ).isSameAs( node3 );
+	}
+
+	private List<Node> selectPinnedToDeadNode(Node... nodes) {
+		return selector.pinned( deadNode, () -> select( nodes ) );
+	}
+
+	private List<Node> select(Node... nodes) {
+		List<Node> list = new ArrayList<>( Arrays.asList( nodes ) );
+		selector.select( list );
+		return list;
+	}
+
+	private static long millis(long millis) {
+		return TimeUnit.MILLISECONDS.toNanos( millis );
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+public class RequestHedgingPolicyTest {
+
+	private static final URLEncodedString INDEX = URLEncodedString.fromString( "myindex" );
+
+	private final RequestHedgingPolicy policy = new RequestHedgingPolicy( 90, 5L );
+
+	@Test
+	public void isHedgeable() {
+		assertThat( policy.isHedgeable( ElasticsearchRequest.post()
+				.pathComponent( INDEX ).pathComponent( Paths._SEARCH ).build() ) )
+				.isTrue();
+		assertThat( policy.isHedgeable( ElasticsearchRequest.post()
+				.pathComponent( INDEX ).pathComponent( Paths._COUNT ).build() ) )
+				.isTrue();
+		assertThat( policy.isHedgeable( ElasticsearchRequest.post()
+				.pathComponent( INDEX ).pathComponent( Paths._SEARCH ).param( "scroll", "1m" ).build() ) )
+				.isFalse();
+		assertThat( policy.isHedgeable( ElasticsearchRequest.post()
+				.pathComponent( Paths._SEARCH ).pathComponent( Paths.SCROLL ).build() ) )
+				.isFalse();
+		assertThat( policy.isHedgeable( ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK ).build() ) )
+				.isFalse();
+		assertThat( policy.isHedgeable( ElasticsearchRequest.post()
+				.pathComponent( INDEX ).pathComponent( Paths._DELETE_BY_QUERY ).build() ) )
+				.isFalse();
+	}
+
+	@Test
+	public void delay() {
+		// Not enough samples: use the minimum delay
+		assertThat( policy.delayNanos() ).isEqualTo( 5L );
+
+		for ( int i = 1; i <= 100; i++ ) {
+			policy.recordLatency( i * 100L );
+		}
+		// Only the first 64 samples were taken into account so far
+		assertThat( policy.delayNanos() ).isEqualTo( 5800L );
+
+		for ( int i = 101; i <= 128; i++ ) {
+			policy.recordLatency( i * 100L );
+		}
+		assertThat( policy.delayNanos() ).isEqualTo( 11600L );
+	}
+
+	@Test
+	public void delay_minimum() {
+		for ( int i = 0; i < 64; i++ ) {
+			policy.recordLatency( 1L );
+		}
+		assertThat( policy.delayNanos() ).isEqualTo( 5L );
+	}
+}
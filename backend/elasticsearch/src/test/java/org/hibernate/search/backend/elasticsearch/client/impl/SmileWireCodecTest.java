@@ -0,0 +1,274 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+
+public class SmileWireCodecTest {
+
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+
+	@Test
+	public void encode_simple() throws IOException {
+		JsonObject object = new JsonObject();
+		object.addProperty( "a", 1 );
+		object.addProperty( "b", 100 );
+
+		HttpEntity entity = SmileWireCodec.INSTANCE.toEntity( gson, Collections.singletonList( object ) );
+
+		assertThat( entity.getContentType().getValue() ).isEqualTo( "application/smile" );
+		assertThat( EntityUtils.toByteArray( entity ) ).containsExactly( bytes(
+				// Header: shared names enabled, shared values disabled, raw binary enabled
+				0x3A, 0x29, 0x0A, 0x05,
+				0xFA,
+				// "a": 1 (small int)
+				0x80, 'a', 0xC2,
+				// "b": 100 (int32, zigzag variable-length)
+				0x80, 'b', 0x24, 0x03, 0x88,
+				0xFB,
+				0xFF
+		) );
+	}
+
+	@Test
+	public void encode_decodedByReferenceImplementation() throws IOException {
+		JsonObject object = new JsonParser().parse(
+				"{\"title\":\"foo\",\"rating\":4.5,\"count\":12345678901,\"tags\":[\"a\",\"b\"],"
+						+ "\"nested\":{\"title\":\"bar\",\"flag\":true,\"none\":null}}"
+		).getAsJsonObject();
+
+		byte[] content = EntityUtils.toByteArray(
+				SmileWireCodec.INSTANCE.toEntity( gson, Collections.singletonList( object ) ) );
+
+		assertThat( decodeWithReference( content ) ).isEqualTo( gson.toJson( object ) );
+	}
+	@Test
+	public void roundTrip() throws IOException {
+		JsonObject object = new JsonObject();
+		object.addProperty( "emptyString", "" );
+		object.addProperty( "tinyAscii", "foo" );
+		object.addProperty( "shortAscii", repeat( "abcd", 12 ) );
+		object.addProperty( "longAscii", repeat( "abcd", 100 ) );
+		object.addProperty( "tinyUnicode", "café" );
+		object.addProperty( "shortUnicode", repeat( "été", 8 ) );
+		object.addProperty( "longUnicode", repeat( "été", 100 ) );
+		object.addProperty( "smallInt", -16 );
+		object.addProperty( "int", Integer.MIN_VALUE );
+		object.addProperty( "long", Long.MAX_VALUE );
+		object.addProperty( "negativeLong", Long.MIN_VALUE );
+		object.addProperty( "float", 42.42f );
+		object.addProperty( "double", -0.1 );
+		object.addProperty( "bigInteger", new BigInteger( "123456789012345678901234567890" ) );
+		object.addProperty( "bigDecimal", new BigDecimal( "-12345678901234567890.1234567890" ) );
+		object.addProperty( "true", true );
+		object.addProperty( "false", false );
+		object.add( "null", JsonNull.INSTANCE );
+		object.addProperty( "", "empty name" );
+		object.addProperty( repeat( "name", 20 ), "long name" );
+		object.addProperty( "näme", "unicode name" );
+		JsonArray array = new JsonArray();
+		array.add( 1 );
+		array.add( "two" );
+		array.add( new JsonArray() );
+		JsonObject nested = new JsonObject();
+		nested.addProperty( "nested", 3.0 );
+		array.add( nested );
+		object.add( "array", array );
+
+		JsonObject result = roundTrip( object );
+
+		assertThat( result ).isEqualTo( object );
+		assertThat( result.get( "long" ).getAsLong() ).isEqualTo( Long.MAX_VALUE );
+		assertThat( result.get( "negativeLong" ).getAsLong() ).isEqualTo( Long.MIN_VALUE );
+		assertThat( result.get( "float" ).getAsFloat() ).isEqualTo( 42.42f );
+		assertThat( result.get( "bigInteger" ).getAsBigInteger() )
+				.isEqualTo( new BigInteger( "123456789012345678901234567890" ) );
+		assertThat( result.get( "bigDecimal" ).getAsBigDecimal() )
+				.isEqualTo( new BigDecimal( "-12345678901234567890.1234567890" ) );
+	}
+
+	@Test
+	public void roundTrip_numbersFromJsonText() throws IOException {
+		JsonObject object = new JsonParser().parse(
+				"{\"int\": 12, \"long\": 12345678901, \"bigInteger\": 123456789012345678901234567890,"
+						+ " \"double\": 1.5e10, \"decimal\": 0.25}"
+		).getAsJsonObject();
+
+		JsonObject result = roundTrip( object );
+
+		assertThat( result.get( "int" ).getAsInt() ).isEqualTo( 12 );
+		assertThat( result.get( "long" ).getAsLong() ).isEqualTo( 12345678901L );
+		assertThat( result.get( "bigInteger" ).getAsBigInteger() )
+				.isEqualTo( new BigInteger( "123456789012345678901234567890" ) );
+		assertThat( result.get( "double" ).getAsDouble() ).isEqualTo( 1.5e10 );
+		assertThat( result.get( "decimal" ).getAsDouble() ).isEqualTo( 0.25 );
+	}
+
+	@Test
+	public void encode_multipleParts_preEncoded() throws IOException {
+		JsonObject metadata = new JsonParser().parse( "{\"index\":{\"_id\":\"1\"}}" ).getAsJsonObject();
+		JsonObject document = new JsonParser().parse( "{\"title\":\"foo\",\"rating\":4.5,\"tags\":[\"a\",\"b\"]}" )
+				.getAsJsonObject();
+
+		byte[] fromTrees = EntityUtils.toByteArray(
+				SmileWireCodec.INSTANCE.toEntity( gson, Arrays.asList( metadata, document ) ) );
+		byte[] fromEncoded = EntityUtils.toByteArray(
+				SmileWireCodec.INSTANCE.toEntity( gson, Arrays.asList( metadata, EncodedJsonObject.encode( gson, document ) ) ) );
+
+		assertThat( fromEncoded ).containsExactly( fromTrees );
+		// Each part is a separate document followed by an end-of-content marker
+		int firstPartEnd = indexOf( fromTrees, (byte) 0xFF );
+		assertThat( decode( Arrays.copyOfRange( fromTrees, 0, firstPartEnd + 1 ) ) ).isEqualTo( metadata );
+		assertThat( decode( Arrays.copyOfRange( fromTrees, firstPartEnd + 1, fromTrees.length ) ) ).isEqualTo( document );
+	}
+
+	@Test
+	public void decode_referenceImplementation_sharedNamesAndValues() throws IOException {
+		JsonObject object = new JsonParser().parse(
+				"{\"a\":{\"a\":\"x\",\"b\":[\"x\",\"x\",12,-0.5,null]},\"b\":\"x\"}"
+		).getAsJsonObject();
+		SmileFactory referenceFactory = SmileFactory.builder()
+				.enable( SmileGenerator.Feature.CHECK_SHARED_NAMES, SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES )
+				.build();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try ( com.fasterxml.jackson.core.JsonParser parser = SmileWireCodec.JSON_FACTORY.createParser( gson.toJson( object ) );
+				JsonGenerator generator = referenceFactory.createGenerator( outputStream ) ) {
+			parser.nextToken();
+			generator.copyCurrentStructure( parser );
+		}
+
+		assertThat( decode( outputStream.toByteArray() ) ).isEqualTo( object );
+	}
+
+	@Test
+	public void decode_invalid() {
+		assertThatThrownBy( () -> decode( bytes( 0x3A, 0x29, 0x0A, 0x00, 0xFA, 0x80, 'a', 0xFB ) ) )
+				.isInstanceOf( JsonParseException.class );
+	}
+
+	@Test
+	public void streaming() throws IOException {
+		List<Object> bodyParts = new ArrayList<>();
+		JsonObject metadata = new JsonParser().parse( "{\"index\":{\"_id\":\"1\"}}" ).getAsJsonObject();
+		for ( int i = 0; i < 200; i++ ) {
+			JsonObject document = new JsonObject();
+			document.addProperty( "text", repeat( "text" + i, 10 ) );
+			bodyParts.add( metadata );
+			bodyParts.add( i % 2 == 0 ? document : EncodedJsonObject.encode( gson, document ) );
+		}
+
+		HttpEntity entity = SmileWireCodec.INSTANCE.toEntity( gson, bodyParts );
+		// The content is too large to be encoded upfront
+		assertThat( entity.getContentLength() ).isEqualTo( -1 );
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		entity.writeTo( outputStream );
+		byte[] expected = outputStream.toByteArray();
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			// This goes through flow control, as the input stream only accepts content one buffer at a time
+			assertThat( EntityUtils.toByteArray( entity ) ).containsExactly( expected );
+		}
+		assertThat( countEndMarkers( expected ) ).isEqualTo( bodyParts.size() );
+	}
+
+	@Test
+	public void forResponse() {
+		assertThat( ElasticsearchWireCodec.forResponse(
+				new ByteArrayEntity( new byte[0], ContentType.create( "application/smile" ) ) ) )
+				.isSameAs( SmileWireCodec.INSTANCE );
+		assertThat( ElasticsearchWireCodec.forResponse(
+				new ByteArrayEntity( new byte[0], ContentType.APPLICATION_JSON ) ) )
+				.isSameAs( JsonWireCodec.INSTANCE );
+	}
+
+	private JsonObject roundTrip(JsonObject object) throws IOException {
+		HttpEntity entity = SmileWireCodec.INSTANCE.toEntity( gson, Collections.singletonList( object ) );
+		return SmileWireCodec.INSTANCE.parse( gson, entity );
+	}
+
+	private JsonObject decode(byte[] content) throws IOException {
+		return SmileWireCodec.INSTANCE.parse( gson, new ByteArrayEntity( content, ContentType.create( "application/smile" ) ) );
+	}
+
+	private static byte[] bytes(int... values) {
+		byte[] result = new byte[values.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			result[i] = (byte) values[i];
+		}
+		return result;
+	}
+
+	private String decodeWithReference(byte[] content) throws IOException {
+		try ( com.fasterxml.jackson.core.JsonParser parser = new SmileFactory().createParser( content );
+				StringWriter writer = new StringWriter() ) {
+			try ( JsonGenerator generator = SmileWireCodec.JSON_FACTORY.createGenerator( writer ) ) {
+				parser.nextToken();
+				generator.copyCurrentStructure( parser );
+			}
+			return writer.toString();
+		}
+	}
+
+	private static int countEndMarkers(byte[] content) {
+		int count = 0;
+		for ( byte b : content ) {
+			// This byte cannot appear anywhere else in SMILE content without raw binary values
+			if ( b == (byte) 0xFF ) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private static int indexOf(byte[] array, byte value) {
+		for ( int i = 0; i < array.length; i++ ) {
+			if ( array[i] == value ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < count; i++ ) {
+			builder.append( value );
+		}
+		return builder.toString();
+	}
+}
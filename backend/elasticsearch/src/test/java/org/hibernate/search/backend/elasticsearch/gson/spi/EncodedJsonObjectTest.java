@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+public class EncodedJsonObjectTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void encode() {
+		JsonObject object = new JsonObject();
+		object.addProperty( "text", "some text with non-ASCII characters: éè中" );
+		object.addProperty( "number", 42 );
+
+		EncodedJsonObject encoded = EncodedJsonObject.encode( gson, object );
+		assertThat( encoded.decode() ).isEqualTo( object );
+		assertThat( encoded.length() ).isEqualTo( encoded.toString().getBytes( StandardCharsets.UTF_8 ).length );
+	}
+
+	@Test
+	public void encode_afterFailure() {
+		JsonObject failingObject = new JsonObject();
+		failingObject.addProperty( "text", "some text that will be written before the failure" );
+		failingObject.add( "failing", new JsonPrimitive( new FailingNumber() ) );
+
+		assertThatThrownBy( () -> EncodedJsonObject.encode( gson, failingObject ) )
+				.isInstanceOf( IllegalStateException.class )
+				.hasMessage( "Simulated failure" );
+
+		// Characters written before the failure must not leak into the next encoded object
+		JsonObject object = new JsonObject();
+		object.addProperty( "text", "other text" );
+		EncodedJsonObject encoded = EncodedJsonObject.encode( gson, object );
+		assertThat( encoded.toString() ).isEqualTo( "{\"text\":\"other text\"}" );
+	}
+
+	private static class FailingNumber extends Number {
+		@Override
+		public int intValue() {
+			throw new IllegalStateException( "Simulated failure" );
+		}
+
+		@Override
+		public long longValue() {
+			throw new IllegalStateException( "Simulated failure" );
+		}
+
+		@Override
+		public float floatValue() {
+			throw new IllegalStateException( "Simulated failure" );
+		}
+
+		@Override
+		public double doubleValue() {
+			throw new IllegalStateException( "Simulated failure" );
+		}
+
+		@Override
+		public String toString() {
+			throw new IllegalStateException( "Simulated failure" );
+		}
+	}
+}
@@ -262,6 +262,111 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void newBulkOnTooManyBytes() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = workMock( 7 );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+						1000L, 0L );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work1.getEstimatedSizeInBytes() ).thenReturn( 400L );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work2.getEstimatedSizeInBytes() ).thenReturn( 500L );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// 400 + 500 + 200 > 1000 => new bulk before adding the work
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work3.getEstimatedSizeInBytes() ).thenReturn( 200L );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		// A work larger than the limit goes alone in its own bulk
+		when( work4.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work4.getEstimatedSizeInBytes() ).thenReturn( 5000L );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork3 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork3 );
+	}
+
+	@Test
+	public void targetBytes_ignoresMaxBulkSize() {
+		List<BulkableWork<Void>> works = new ArrayList<>();
+		for ( int i = 0 ; i < DEFAULT_MAX_BULK_SIZE + 2 ; ++i ) {
+			works.add( bulkableWorkMock( i ) );
+		}
+		BulkableWork<Void> lastWork = works.get( works.size() - 1 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 100 );
+
+		CompletableFuture<BulkResult> bulkWorkResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWorkFutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+						0L, 1000L );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		// Many small works: the bulk grows beyond the maximum number of works
+		when( sequenceBuilderMock.addBulkExecution( bulkWorkFutureArgumentCaptor.capture() ) ).thenReturn( bulkWorkResultFuture );
+		for ( int i = 0 ; i < works.size() - 1 ; ++i ) {
+			BulkableWork<Void> work = works.get( i );
+			when( work.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+			when( work.getEstimatedSizeInBytes() ).thenReturn( 50L );
+			when( sequenceBuilderMock.addBulkResultExtraction( bulkWorkResultFuture, work, i ) )
+					.thenReturn( new CompletableFuture<>() );
+			bulker.add( work );
+		}
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWorkFutureArgumentCaptor.getValue() ).isPending();
+
+		// Reaching the target => the bulk is finalized
+		when( lastWork.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( lastWork.getEstimatedSizeInBytes() ).thenReturn( 900L );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWorkResultFuture, lastWork, works.size() - 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( works, DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		bulker.add( lastWork );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWorkFutureArgumentCaptor.getValue() ).isSuccessful( bulkWork );
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
@@ -54,6 +54,39 @@ private LuceneBackendSettings() {
 	 */
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy.strategy";
 
+	/**
+	 * The maximum number of tenant shards whose index writer and index reader can be open at the same time,
+	 * across all indexes of the backend.
+	 * <p>
+	 * Only relevant when using the {@link MultiTenancyStrategyName#SHARD_PER_TENANT shard-per-tenant}
+	 * multi-tenancy strategy.
+	 * When this limit is exceeded, the index writer and index reader of the least recently used tenant shards
+	 * are closed; they will be re-opened on demand.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#MULTI_TENANCY_MAX_OPEN_SHARDS}.
+	 */
+	public static final String MULTI_TENANCY_MAX_OPEN_SHARDS = "multi_tenancy.max_open_shards";
+
+	/**
+	 * The time after which the index writer and index reader of a tenant shard are closed
+	 * if that shard is not used, in milliseconds.
+	 * <p>
+	 * Only relevant when using the {@link MultiTenancyStrategyName#SHARD_PER_TENANT shard-per-tenant}
+	 * multi-tenancy strategy.
+	 * The index writer and index reader will be re-opened on demand.
+	 * <p>
+	 * Expects a positive or zero integer value, in milliseconds,
+	 * or a string that can be parsed to such integer value.
+	 * Setting this to {@code 0} disables closing of idle shards:
+	 * index writers and index readers will only be closed when {@link #MULTI_TENANCY_MAX_OPEN_SHARDS} is exceeded.
+	 * <p>
+	 * Defaults to {@link Defaults#MULTI_TENANCY_SHARD_IDLE_TIMEOUT}.
+	 */
+	public static final String MULTI_TENANCY_SHARD_IDLE_TIMEOUT = "multi_tenancy.shard_idle_timeout";
+
 	/**
 	 * The analysis configurer to use.
 	 * <p>
@@ -108,5 +141,8 @@ private Defaults() {
 		 */
 		@Deprecated
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int MULTI_TENANCY_MAX_OPEN_SHARDS = 100;
+		public static final int MULTI_TENANCY_SHARD_IDLE_TIMEOUT = 300_000;
 	}
 }
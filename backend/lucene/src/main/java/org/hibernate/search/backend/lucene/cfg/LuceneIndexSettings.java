@@ -79,6 +79,81 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files to preload into the page cache when they are opened,
+	 * see {@link org.apache.lucene.store.MMapDirectory#setPreload(boolean)}.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * and only effective when the filesystem access strategy results in files being memory-mapped:
+	 * "mmap", or "auto" on most 64-bit platforms.
+	 * <p>
+	 * Preloading avoids page faults on the first queries after an index is opened, e.g. after a restart,
+	 * at the cost of reading these files entirely when the index is opened.
+	 * <p>
+	 * Expects either a String containing multiple file extensions separated by commas (','),
+	 * such as "dvd,tim,tip,kdd,kdi", or a {@code Collection<String>} containing such file extensions.
+	 * The extension of lock files, "lock", is not allowed.
+	 * <p>
+	 * Defaults to no extension: no file is preloaded.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS;
+
+	/**
+	 * The extensions of index files to read using {@link org.apache.lucene.store.NIOFSDirectory NIO}
+	 * instead of memory-mapping them.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * and only effective when the filesystem access strategy results in files being memory-mapped:
+	 * "mmap", or "auto" on most 64-bit platforms.
+	 * <p>
+	 * Useful for large files that are rarely accessed, e.g. stored fields,
+	 * so that they do not compete with other, frequently accessed files for the page cache.
+	 * These extensions take precedence over {@link #DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS}.
+	 * <p>
+	 * Expects either a String containing multiple file extensions separated by commas (','),
+	 * such as "fdt", or a {@code Collection<String>} containing such file extensions.
+	 * The extension of lock files, "lock", is not allowed.
+	 * <p>
+	 * Defaults to no extension: all files are memory-mapped.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS;
+
+	/**
+	 * The maximum total size of newly flushed segments to keep in memory instead of writing them to the filesystem,
+	 * see {@link org.apache.lucene.store.NRTCachingDirectory}.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Cached segments are written to the filesystem when the index is committed,
+	 * and are generally merged into larger segments before that,
+	 * so that small, short-lived segments created by frequent refreshes never reach the disk.
+	 * <p>
+	 * Expects a positive or zero Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables caching.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_CACHED_SIZE;
+
+	/**
+	 * The maximum size of a single flushed or merged segment for it to be kept in memory,
+	 * see {@link org.apache.lucene.store.NRTCachingDirectory}.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * and only effective when {@link #DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_SEGMENT_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHE_MAX_SEGMENT_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_SEGMENT_SIZE;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -421,6 +496,10 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS = "filesystem_access.mmap.preload_extensions";
+		public static final String FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS = "filesystem_access.mmap.nio_extensions";
+		public static final String NRT_CACHE_MAX_CACHED_SIZE = "nrt_cache.max_cached_size";
+		public static final String NRT_CACHE_MAX_SEGMENT_SIZE = "nrt_cache.max_segment_size";
 	}
 
 	/**
@@ -504,6 +583,8 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		public static final int DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE = 0;
+		public static final int DIRECTORY_NRT_CACHE_MAX_SEGMENT_SIZE = 5;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
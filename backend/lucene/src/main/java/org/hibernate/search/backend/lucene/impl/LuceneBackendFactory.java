@@ -23,6 +23,8 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.ShardPerTenantMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactoryImpl;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
@@ -97,7 +99,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					cachingContext,
 					multiTenancyStrategy,
 					buildContext.timingSource(),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					new BackendMetrics( buildContext.metricsRegistry() )
 			);
 		}
 		catch (RuntimeException e) {
@@ -136,7 +139,7 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 							&& buildContext.multiTenancyEnabled() ) {
 						throw log.multiTenancyRequiredButExplicitlyDisabledByBackend();
 					}
-					if ( MultiTenancyStrategyName.DISCRIMINATOR.equals( optionalName )
+					if ( !MultiTenancyStrategyName.NONE.equals( optionalName )
 							&& !buildContext.multiTenancyEnabled() ) {
 						throw log.multiTenancyNotRequiredButExplicitlyEnabledByTheBackend();
 					}
@@ -153,6 +156,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case SHARD_PER_TENANT:
+				return new ShardPerTenantMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'",
@@ -15,9 +15,11 @@
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexRootBuilder;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
+import org.hibernate.search.backend.lucene.index.impl.TenantShardTracker;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.Backend;
@@ -49,6 +51,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final TenantShardTracker tenantShardTracker;
 
 	private final IndexManagerBackendContext indexManagerBackendContext;
 
@@ -59,7 +63,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneQueryCachingContext cachingContext,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			BackendMetrics metrics) {
 		this.eventContext = eventContext;
 		this.threads = threads;
 
@@ -70,12 +75,17 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
 		);
 
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.tenantShardTracker = new TenantShardTracker( threads, timingSource );
+
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
 				this, eventContext, threads, similarity,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator,
+				tenantShardTracker,
+				metrics
 		);
 	}
 
@@ -87,6 +97,9 @@ public String toString() {
 	@Override
 	public void start(BackendStartContext context) {
 		threads.onStart( context.configurationPropertySource(), context.threadPoolProvider() );
+		if ( multiTenancyStrategy.isShardPerTenant() ) {
+			tenantShardTracker.start( context.configurationPropertySource() );
+		}
 	}
 
 	@Override
@@ -99,6 +112,7 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
+			closer.push( TenantShardTracker::stop, tenantShardTracker );
 			closer.push( BackendThreads::onStop, threads );
 		}
 	}
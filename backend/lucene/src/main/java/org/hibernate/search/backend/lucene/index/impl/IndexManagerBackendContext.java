@@ -19,12 +19,14 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.MetadataFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
@@ -77,6 +79,9 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final TenantShardTracker tenantShardTracker;
+	private final MetadataFilterCache metadataFilterCache;
+	private final BackendMetrics metrics;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -87,7 +92,9 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			TenantShardTracker tenantShardTracker,
+			BackendMetrics metrics) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -98,6 +105,9 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.tenantShardTracker = tenantShardTracker;
+		this.metadataFilterCache = new MetadataFilterCache();
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -149,7 +159,7 @@ public IndexWorkspace createWorkspace(WorkExecutionIndexManagerContext indexMana
 	public LuceneSearchQueryIndexScope<?> createSearchContext(BackendMappingContext mappingContext,
 			Set<? extends LuceneScopeIndexManagerContext> indexManagerContexts) {
 		return new LuceneSearchIndexScopeImpl( mappingContext, this, analysisDefinitionRegistry,
-				multiTenancyStrategy, timingSource, indexManagerContexts );
+				multiTenancyStrategy, metadataFilterCache, timingSource, indexManagerContexts );
 	}
 
 	@Override
@@ -166,7 +176,8 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 				scope,
 				sessionContext,
 				loadingContextBuilder,
-				rootProjection
+				rootProjection,
+				metrics
 		);
 	}
 
@@ -178,6 +189,14 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	boolean isShardPerTenant() {
+		return multiTenancyStrategy.isShardPerTenant();
+	}
+
+	TenantShardTracker tenantShardTracker() {
+		return tenantShardTracker;
+	}
+
 	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
@@ -185,10 +204,11 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( threads, failureHandler );
+				return DebugIOStrategy.create( threads, failureHandler, metrics );
 			case NEAR_REAL_TIME:
 			default:
-				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler,
+						metrics );
 		}
 	}
 
@@ -245,7 +265,8 @@ private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext
 						eventContext, indexAccessor
 				),
 				threads,
-				failureHandler
+				failureHandler,
+				metrics
 		);
 	}
 }
@@ -12,10 +12,12 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWork;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
+import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -33,6 +35,16 @@ public final class Shard {
 	private final LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private final LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 
+	// Only relevant for tenant shards, see TenantShardTracker
+	volatile long lastAccessTime;
+	volatile boolean tracked;
+	private final LuceneSerialWorkOrchestrator releasableIndexingOrchestrator = new ReleasableIndexingOrchestrator();
+	private final LuceneParallelWorkOrchestrator releasableManagementOrchestrator =
+			new ReleasableManagementOrchestrator();
+	// Guarded by this
+	private int usesInProgress = 0;
+	private boolean releasingResources = false;
+
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
 			LuceneParallelWorkOrchestratorImpl managementOrchestrator,
 			LuceneSerialWorkOrchestratorImpl indexingOrchestrator) {
@@ -74,10 +86,54 @@ void stop() {
 		}
 	}
 
+	void createIndexIfMissing() {
+		indexAccessor.createIndexIfMissing();
+	}
+
+	/**
+	 * Marks the index writer and index reader of this shard as being released,
+	 * unless they are being used or works are still pending.
+	 * <p>
+	 * If this method returns {@code true}, the caller must call {@link #releaseResources()}:
+	 * until then, new uses through the {@code releasable*} methods will wait.
+	 *
+	 * @return {@code true} if resources can be released, {@code false} otherwise.
+	 */
+	synchronized boolean tryStartReleasingResources() {
+		if ( releasingResources || usesInProgress > 0 || !indexingOrchestrator.isIdle() ) {
+			return false;
+		}
+		releasingResources = true;
+		return true;
+	}
+
+	void releaseResources() {
+		try {
+			indexAccessor.releaseResources();
+		}
+		finally {
+			synchronized ( this ) {
+				releasingResources = false;
+				notifyAll();
+			}
+		}
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
 
+	DirectoryReader openReleasableReader() throws IOException {
+		startUse();
+		try {
+			// The reader is reference-counted: it stays usable even if resources are released afterwards.
+			return openReader();
+		}
+		finally {
+			endUse();
+		}
+	}
+
 	LuceneSerialWorkOrchestrator indexingOrchestrator() {
 		return indexingOrchestrator;
 	}
@@ -86,7 +142,103 @@ LuceneParallelWorkOrchestrator managementOrchestrator() {
 		return managementOrchestrator;
 	}
 
+	/**
+	 * @return An indexing orchestrator that prevents {@link TenantShardTracker} from releasing resources
+	 * while submitted works are executing, and waits for ongoing releases to complete before submitting works.
+	 */
+	LuceneSerialWorkOrchestrator releasableIndexingOrchestrator() {
+		return releasableIndexingOrchestrator;
+	}
+
+	/**
+	 * @return A management orchestrator that prevents {@link TenantShardTracker} from releasing resources
+	 * while submitted works are executing, and waits for ongoing releases to complete before submitting works.
+	 */
+	LuceneParallelWorkOrchestrator releasableManagementOrchestrator() {
+		return releasableManagementOrchestrator;
+	}
+
 	public IndexAccessorImpl indexAccessorForTests() {
 		return indexAccessor;
 	}
+
+	private synchronized void startUse() {
+		while ( releasingResources ) {
+			try {
+				wait();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw log.threadInterruptedWhileWaitingForShardRelease( eventContext );
+			}
+		}
+		++usesInProgress;
+	}
+
+	private synchronized void endUse() {
+		--usesInProgress;
+	}
+
+	private class ReleasableIndexingOrchestrator implements LuceneSerialWorkOrchestrator {
+		@Override
+		public void submit(LuceneBatchedWork<?> work) {
+			startUse();
+			try {
+				indexingOrchestrator.submit( work );
+			}
+			catch (RuntimeException e) {
+				endUse();
+				throw e;
+			}
+			work.future.whenComplete( (result, throwable) -> endUse() );
+		}
+
+		@Override
+		public void forceCommitInCurrentThread() {
+			startUse();
+			try {
+				indexingOrchestrator.forceCommitInCurrentThread();
+			}
+			finally {
+				endUse();
+			}
+		}
+
+		@Override
+		public void forceRefreshInCurrentThread() {
+			startUse();
+			try {
+				indexingOrchestrator.forceRefreshInCurrentThread();
+			}
+			finally {
+				endUse();
+			}
+		}
+	}
+
+	private class ReleasableManagementOrchestrator implements LuceneParallelWorkOrchestrator {
+		@Override
+		public <T> void submit(CompletableFuture<T> future, IndexManagementWork<T> work) {
+			startUse();
+			try {
+				managementOrchestrator.submit( future, work );
+			}
+			catch (RuntimeException e) {
+				endUse();
+				throw e;
+			}
+			future.whenComplete( (result, throwable) -> endUse() );
+		}
+
+		@Override
+		public void forceCommitInCurrentThread() {
+			startUse();
+			try {
+				managementOrchestrator.forceCommitInCurrentThread();
+			}
+			finally {
+				endUse();
+			}
+		}
+	}
 }
@@ -7,17 +7,22 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -27,12 +32,16 @@
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
@@ -40,6 +49,12 @@ class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerC
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
 
+	// Only used with the shard-per-tenant multi-tenancy strategy: shards are then created lazily, one per tenant.
+	private TenantShardFactory tenantShardFactory;
+	private final ConcurrentMap<String, Shard> tenantShards = new ConcurrentHashMap<>();
+	private volatile boolean existingTenantShardsLoaded = false;
+	private volatile boolean stopping = false;
+
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
 		this.model = model;
@@ -56,6 +71,11 @@ void start(IndexManagerStartContext startContext) {
 		try {
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, propertySource );
+			if ( backendContext.isShardPerTenant() ) {
+				initializationContext.checkShardingDisabledForShardPerTenant();
+				this.tenantShardFactory = initializationContext.createTenantShardFactory();
+				return;
+			}
 			this.shardingStrategyHolder = initializationContext.create( shards );
 
 			if ( startContext.failureCollector().hasFailure() ) {
@@ -63,8 +83,13 @@ void start(IndexManagerStartContext startContext) {
 				return;
 			}
 
+			// Shards are independent: open their directories and writers in parallel.
+			List<Runnable> shardStarts = new ArrayList<>( shards.size() );
+			for ( Shard shard : shards.values() ) {
+				shardStarts.add( () -> shard.start( propertySource ) );
+			}
+			startContext.executeInParallel( shardStarts );
 			for ( Shard shard : shards.values() ) {
-				shard.start( propertySource );
 				managementOrchestrators.add( shard.managementOrchestrator() );
 			}
 		}
@@ -78,9 +103,10 @@ void start(IndexManagerStartContext startContext) {
 	}
 
 	CompletableFuture<?> preStop() {
-		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
+		Collection<Shard> allShards = allShards();
+		CompletableFuture<?>[] futures = new CompletableFuture[allShards.size()];
 		int i = 0;
-		for ( Shard shard : shards.values() ) {
+		for ( Shard shard : allShards ) {
 			futures[i] = shard.preStop();
 			i++;
 		}
@@ -88,19 +114,28 @@ CompletableFuture<?> preStop() {
 	}
 
 	void stop() {
+		// Prevent the creation of tenant shards that would never be stopped
+		stopping = true;
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
+			closer.pushAll( backendContext.tenantShardTracker()::onStop, tenantShards.values() );
+			closer.pushAll( Shard::stop, tenantShards.values() );
+			tenantShards.clear();
+			closer.push( TenantShardFactory::close, tenantShardFactory );
+			tenantShardFactory = null;
 		}
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException {
 		String mappedTypeName = model.mappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+			readerCollector.collect( mappedTypeName,
+					tenantShardFactory != null ? shard.openReleasableReader() : shard.openReader() );
 		}
 	}
 
@@ -110,30 +145,56 @@ public String mappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey) {
+	public LuceneSerialWorkOrchestrator indexingOrchestrator(String tenantId, String documentId, String routingKey) {
+		if ( tenantShardFactory != null ) {
+			return toTenantShard( tenantId ).releasableIndexingOrchestrator();
+		}
 		return toShard( documentId, routingKey ).indexingOrchestrator();
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
+	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(String tenantId, Set<String> routingKeys) {
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
-			orchestrators.add( shard.managementOrchestrator() );
+			orchestrators.add( tenantShardFactory != null ? shard.releasableManagementOrchestrator()
+					: shard.managementOrchestrator() );
 		}
 		return orchestrators;
 	}
 
 	@Override
 	public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
+		if ( tenantShardFactory != null ) {
+			List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+			for ( Shard shard : allTenantShards() ) {
+				orchestrators.add( shard.releasableManagementOrchestrator() );
+			}
+			return orchestrators;
+		}
 		return managementOrchestrators;
 	}
 
 	public List<Shard> shardsForTests() {
-		return new ArrayList<>( shards.values() );
+		return new ArrayList<>( allShards() );
+	}
+
+	private Collection<Shard> allShards() {
+		if ( tenantShardFactory != null ) {
+			return new ArrayList<>( tenantShards.values() );
+		}
+		return shards.values();
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
+	private Collection<Shard> toShards(String tenantId, Set<String> routingKeys) {
+		if ( tenantShardFactory != null ) {
+			if ( tenantId == null ) {
+				// No tenant => target the shards of all tenants
+				return allTenantShards();
+			}
+			return Collections.singletonList( toTenantShard( tenantId ) );
+		}
+
 		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
 			return shards.values();
@@ -157,4 +218,32 @@ private Shard toShard(String documentId, String routingKey) {
 		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
 		return shards.get( shardId );
 	}
+
+	/**
+	 * @return The shards of all tenants, including tenants whose shard exists from a previous run
+	 * but was not accessed yet.
+	 */
+	private Collection<Shard> allTenantShards() {
+		if ( !existingTenantShardsLoaded ) {
+			// toTenantShard() is idempotent, so it doesn't matter if multiple threads get here concurrently.
+			for ( String tenantId : tenantShardFactory.existingTenantIds() ) {
+				toTenantShard( tenantId );
+			}
+			existingTenantShardsLoaded = true;
+		}
+		List<Shard> result = new ArrayList<>( tenantShards.values() );
+		for ( Shard shard : result ) {
+			backendContext.tenantShardTracker().onAccess( shard );
+		}
+		return result;
+	}
+
+	private Shard toTenantShard(String tenantId) {
+		if ( stopping ) {
+			throw log.tenantShardAccessAfterStop( tenantId, EventContexts.fromIndexName( model.hibernateSearchName() ) );
+		}
+		Shard shard = tenantShards.computeIfAbsent( tenantId, tenantShardFactory::create );
+		backendContext.tenantShardTracker().onAccess( shard );
+		return shard;
+	}
 }
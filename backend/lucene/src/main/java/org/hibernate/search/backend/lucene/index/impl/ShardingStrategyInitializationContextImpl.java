@@ -121,30 +121,78 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 		return shardingStrategyHolder;
 	}
 
-	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
-		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( indexName(), shardId );
-		ConfigurationPropertySource shardPropertySource =
-				shardId.isPresent() ?
-						indexPropertySource.withMask( LuceneIndexSettings.SHARDS ).withMask( shardId.get() )
-								.withFallback( indexPropertySource )
-						: indexPropertySource;
+	/**
+	 * Checks that sharding is disabled, for indexes whose shards are assigned to tenants instead.
+	 */
+	public void checkShardingDisabledForShardPerTenant() {
+		try ( BeanHolder<? extends ShardingStrategy> shardingStrategyHolder =
+				SHARDING_STRATEGY.getAndTransform( shardingPropertySource, beanResolver()::resolve ) ) {
+			shardingStrategyHolder.get().initialize( this );
+			if ( shardIdentifiers != null ) {
+				throw log.shardingNotSupportedWithShardPerTenant( shardingStrategyHolder.get(),
+						EventContexts.fromIndexName( indexName() ) );
+			}
+		}
+	}
 
-		DirectoryHolder directoryHolder = null;
+	/**
+	 * @return A factory for tenant shards, to be used at runtime.
+	 * Only holds runtime dependencies, and must be closed when the index is stopped.
+	 */
+	public TenantShardFactory createTenantShardFactory() {
+		BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
+				DIRECTORY_TYPE.getAndTransform( indexPropertySource, beanResolver()::resolve );
+		return new TenantShardFactory( backendContext, model, indexPropertySource, directoryProviderHolder );
+	}
+
+	private Shard createShard(Optional<String> shardId) {
+		ConfigurationPropertySource shardPropertySource = shardPropertySource( indexPropertySource, shardId );
 		try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
 				DIRECTORY_TYPE.getAndTransform( shardPropertySource, startContext.beanResolver()::resolve ) ) {
+			return createShard( backendContext, model, shardPropertySource, beanResolver(),
+					directoryProviderHolder.get(), shardId );
+		}
+	}
+
+	static ConfigurationPropertySource shardPropertySource(ConfigurationPropertySource indexPropertySource,
+			Optional<String> shardId) {
+		return shardId.isPresent() ?
+				indexPropertySource.withMask( LuceneIndexSettings.SHARDS ).withMask( shardId.get() )
+						.withFallback( indexPropertySource )
+				: indexPropertySource;
+	}
+
+	/**
+	 * @param beanResolver The bean resolver, or {@code null} if the shard is created at runtime.
+	 * @return A new, non-started shard.
+	 */
+	static Shard createShard(IndexManagerBackendContext backendContext, LuceneIndexModel model,
+			ConfigurationPropertySource shardPropertySource, BeanResolver beanResolver,
+			DirectoryProvider directoryProvider, Optional<String> shardId) {
+		String indexName = model.hibernateSearchName();
+		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
+		DirectoryHolder directoryHolder = null;
+		try {
 			DirectoryCreationContext context = new DirectoryCreationContextImpl( shardEventContext,
-					indexName(), shardId, beanResolver(), shardPropertySource.withMask( "directory" ) );
-			directoryHolder = directoryProviderHolder.get().createDirectoryHolder( context );
+					indexName, shardId, beanResolver, shardPropertySource.withMask( "directory" ) );
+			directoryHolder = directoryProvider.createDirectoryHolder( context );
 
 			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource );
 
-			Shard shard = backendContext.createShard( model, shardEventContext, directoryHolder, ioStrategy,
+			return backendContext.createShard( model, shardEventContext, directoryHolder, ioStrategy,
 					shardPropertySource );
-			shardCollector.put( shardId.orElse( null ), shard );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e ).push( directoryHolder );
+			throw e;
+		}
+	}
 
+	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
+		try {
+			shardCollector.put( shardId.orElse( null ), createShard( shardId ) );
+		}
+		catch (RuntimeException e) {
 			ContextualFailureCollector failureCollector = startContext.failureCollector();
 			if ( shardId.isPresent() ) {
 				failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
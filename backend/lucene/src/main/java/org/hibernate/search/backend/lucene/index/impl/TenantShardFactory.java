@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+/**
+ * Creates the shards of an index lazily, one per tenant,
+ * for the shard-per-tenant multi-tenancy strategy.
+ * <p>
+ * Unlike {@link ShardingStrategyInitializationContextImpl}, this only holds runtime dependencies,
+ * so that bootstrap components such as the bean resolver are not retained after startup:
+ * the directory provider is resolved once, on startup.
+ * <p>
+ * Tenant identifiers are arbitrary strings, which may not be safe to use as-is in a shard identifier,
+ * e.g. as the name of a directory on the filesystem.
+ * Thus shard identifiers are made of a prefix followed by the hexadecimal representation
+ * of the UTF-8 encoding of the tenant identifier, which also works for an empty tenant identifier.
+ */
+final class TenantShardFactory implements AutoCloseable {
+
+	private static final String SHARD_ID_PREFIX = "tenant-";
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final IndexManagerBackendContext backendContext;
+	private final LuceneIndexModel model;
+	private final ConfigurationPropertySource indexPropertySource;
+	private final BeanHolder<? extends DirectoryProvider> directoryProviderHolder;
+
+	TenantShardFactory(IndexManagerBackendContext backendContext, LuceneIndexModel model,
+			ConfigurationPropertySource indexPropertySource,
+			BeanHolder<? extends DirectoryProvider> directoryProviderHolder) {
+		this.backendContext = backendContext;
+		this.model = model;
+		this.indexPropertySource = indexPropertySource;
+		this.directoryProviderHolder = directoryProviderHolder;
+	}
+
+	@Override
+	public void close() {
+		directoryProviderHolder.close();
+	}
+
+	/**
+	 * @return The identifiers of tenants whose shard exists, e.g. from a previous run,
+	 * as far as the directory provider can tell.
+	 */
+	Set<String> existingTenantIds() {
+		String indexName = model.hibernateSearchName();
+		DirectoryCreationContext context = new DirectoryCreationContextImpl( EventContexts.fromIndexName( indexName ),
+				indexName, Optional.empty(), null, indexPropertySource.withMask( "directory" ) );
+		Set<String> tenantIds = new LinkedHashSet<>();
+		for ( String shardId : directoryProviderHolder.get().existingShardIdentifiers( context ) ) {
+			// Ignore anything that is not a tenant shard
+			toTenantId( shardId ).ifPresent( tenantIds::add );
+		}
+		return tenantIds;
+	}
+
+	/**
+	 * @param tenantId The identifier of the tenant, used to derive a shard identifier.
+	 * @return A new, started shard, whose index exists.
+	 */
+	Shard create(String tenantId) {
+		Optional<String> shardId = Optional.of( toShardId( tenantId ) );
+		ConfigurationPropertySource shardPropertySource =
+				ShardingStrategyInitializationContextImpl.shardPropertySource( indexPropertySource, shardId );
+		Shard shard = ShardingStrategyInitializationContextImpl.createShard( backendContext, model,
+				shardPropertySource, null, directoryProviderHolder.get(), shardId );
+		try {
+			shard.start( indexPropertySource );
+			// Tenant shards are created after schema management was applied on startup,
+			// so we need to create the index ourselves.
+			shard.createIndexIfMissing();
+			return shard;
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( Shard::stop, shard );
+			throw e;
+		}
+	}
+
+	static String toShardId(String tenantId) {
+		byte[] bytes = tenantId.getBytes( StandardCharsets.UTF_8 );
+		StringBuilder builder = new StringBuilder( SHARD_ID_PREFIX.length() + bytes.length * 2 );
+		builder.append( SHARD_ID_PREFIX );
+		for ( byte b : bytes ) {
+			builder.append( HEX_DIGITS[( b >> 4 ) & 0xF] ).append( HEX_DIGITS[b & 0xF] );
+		}
+		return builder.toString();
+	}
+
+	static Optional<String> toTenantId(String shardId) {
+		if ( !shardId.startsWith( SHARD_ID_PREFIX ) ) {
+			return Optional.empty();
+		}
+		String hex = shardId.substring( SHARD_ID_PREFIX.length() );
+		if ( hex.length() % 2 != 0 ) {
+			return Optional.empty();
+		}
+		byte[] bytes = new byte[hex.length() / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			int high = Character.digit( hex.charAt( 2 * i ), 16 );
+			int low = Character.digit( hex.charAt( 2 * i + 1 ), 16 );
+			if ( high < 0 || low < 0 ) {
+				return Optional.empty();
+			}
+			bytes[i] = (byte) ( ( high << 4 ) | low );
+		}
+		String tenantId = new String( bytes, StandardCharsets.UTF_8 );
+		// Only accept the canonical representation, i.e. lowercase digits and valid UTF-8
+		return toShardId( tenantId ).equals( shardId ) ? Optional.of( tenantId ) : Optional.empty();
+	}
+
+}
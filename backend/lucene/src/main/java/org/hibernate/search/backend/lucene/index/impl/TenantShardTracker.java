@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+
+/**
+ * Keeps track of tenant shards whose index writer and index reader may be open,
+ * across all indexes of a backend,
+ * and closes the index writer and index reader of shards that are idle or least recently used.
+ * <p>
+ * Closed index writers and index readers are re-opened on demand.
+ * Shards that are being used, in particular shards with pending works, are never closed,
+ * and uses of a shard wait until its index writer and index reader are closed,
+ * see {@link Shard#tryStartReleasingResources()}.
+ */
+public final class TenantShardTracker {
+
+	private static final ConfigurationProperty<Integer> MAX_OPEN_SHARDS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.MULTI_TENANCY_MAX_OPEN_SHARDS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_MAX_OPEN_SHARDS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SHARD_IDLE_TIMEOUT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.MULTI_TENANCY_SHARD_IDLE_TIMEOUT )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_SHARD_IDLE_TIMEOUT )
+					.build();
+
+	private static final Comparator<Shard> LEAST_RECENTLY_USED_FIRST =
+			Comparator.comparingLong( shard -> shard.lastAccessTime );
+
+	private final BackendThreads threads;
+	private final TimingSource timingSource;
+
+	private int maxOpenShards;
+	private int idleTimeout;
+	private ScheduledFuture<?> idleShardsCheck;
+
+	// Guarded by this
+	private final Set<Shard> openShards = new LinkedHashSet<>();
+
+	public TenantShardTracker(BackendThreads threads, TimingSource timingSource) {
+		this.threads = threads;
+		this.timingSource = timingSource;
+	}
+
+	public void start(ConfigurationPropertySource propertySource) {
+		timingSource.ensureTimeEstimateIsInitialized();
+		maxOpenShards = MAX_OPEN_SHARDS.get( propertySource );
+		idleTimeout = SHARD_IDLE_TIMEOUT.get( propertySource );
+		if ( idleTimeout > 0 ) {
+			// Check twice per timeout period, so that idle shards get closed reasonably soon after the timeout.
+			long checkPeriod = Math.max( idleTimeout / 2, 1 );
+			idleShardsCheck = threads.getWriteExecutor().scheduleWithFixedDelay( this::releaseIdleShards,
+					checkPeriod, checkPeriod, TimeUnit.MILLISECONDS );
+		}
+	}
+
+	public void stop() {
+		if ( idleShardsCheck != null ) {
+			idleShardsCheck.cancel( false );
+			idleShardsCheck = null;
+		}
+		synchronized ( this ) {
+			openShards.clear();
+		}
+	}
+
+	/**
+	 * Records an access to the given shard, which may result in its index writer or index reader being opened,
+	 * and closes the index writer and index reader of least recently used shards if necessary.
+	 *
+	 * @param shard The tenant shard being accessed.
+	 */
+	void onAccess(Shard shard) {
+		shard.lastAccessTime = timingSource.monotonicTimeEstimate();
+		if ( shard.tracked ) {
+			// Fast path: the shard is already accounted for.
+			return;
+		}
+		List<Shard> toRelease;
+		synchronized ( this ) {
+			if ( !openShards.add( shard ) ) {
+				return;
+			}
+			shard.tracked = true;
+			toRelease = removeLeastRecentlyUsed( shard, openShards.size() - maxOpenShards );
+		}
+		for ( Shard shardToRelease : toRelease ) {
+			shardToRelease.releaseResources();
+		}
+	}
+
+	/**
+	 * Stops tracking the given shard, because it is being stopped.
+	 *
+	 * @param shard The tenant shard being stopped.
+	 */
+	synchronized void onStop(Shard shard) {
+		openShards.remove( shard );
+		shard.tracked = false;
+	}
+
+	private void releaseIdleShards() {
+		long lastAccessThreshold = timingSource.monotonicTimeEstimate() - idleTimeout;
+		List<Shard> toRelease = new ArrayList<>();
+		synchronized ( this ) {
+			for ( Iterator<Shard> iterator = openShards.iterator(); iterator.hasNext(); ) {
+				Shard shard = iterator.next();
+				if ( shard.lastAccessTime <= lastAccessThreshold && shard.tryStartReleasingResources() ) {
+					iterator.remove();
+					shard.tracked = false;
+					toRelease.add( shard );
+				}
+			}
+		}
+		for ( Shard shard : toRelease ) {
+			shard.releaseResources();
+		}
+	}
+
+	// Must be called while holding the lock on this
+	private List<Shard> removeLeastRecentlyUsed(Shard accessedShard, int count) {
+		if ( count <= 0 ) {
+			return new ArrayList<>();
+		}
+		List<Shard> candidates = new ArrayList<>( openShards );
+		candidates.sort( LEAST_RECENTLY_USED_FIRST );
+		List<Shard> removed = new ArrayList<>( count );
+		for ( Shard candidate : candidates ) {
+			if ( removed.size() >= count ) {
+				break;
+			}
+			// Shards being used are skipped: the limit may be exceeded temporarily.
+			if ( candidate != accessedShard && candidate.tryStartReleasingResources() ) {
+				openShards.remove( candidate );
+				candidate.tracked = false;
+				removed.add( candidate );
+			}
+		}
+		return removed;
+	}
+
+}
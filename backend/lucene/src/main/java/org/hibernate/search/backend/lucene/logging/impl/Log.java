@@ -588,4 +588,40 @@ SearchException indexSchemaNamedPredicateNameConflict(String relativeFilterName,
 			value = "Param with name '%1$s' has not been defined for the named predicate '%2$s'.")
 	SearchException paramNotDefined(String name, String predicateName, @Param EventContext context);
 
+	@Message(id = ID_OFFSET + 151,
+			value = "Invalid sharding configuration: sharding strategy '%1$s' cannot be used"
+					+ " with the shard-per-tenant multi-tenancy strategy, which already assigns a dedicated shard to each tenant.")
+	SearchException shardingNotSupportedWithShardPerTenant(Object strategy, @Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 152,
+			value = "Unable to close the index writer and index reader of an idle shard: %1$s %2$s")
+	void unableToReleaseIdleShardResources(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 153,
+			value = "Thread interrupted while waiting for the index writer and index reader of an idle shard to be closed.")
+	SearchException threadInterruptedWhileWaitingForShardRelease(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 154,
+			value = "Unable to provide a bean resolver: this directory is being created at runtime, after startup,"
+					+ " for a tenant shard. Directory providers used with the shard-per-tenant multi-tenancy strategy"
+					+ " must not resolve beans when creating directories.")
+	SearchException beanResolverUnavailableAtRuntime(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 155,
+			value = "Invalid index file extension: '%1$s'."
+					+ " Lock files use this extension and must be handled by the directory holding the lock,"
+					+ " so they cannot be preloaded or read using NIO.")
+	SearchException invalidMMapFileExtension(String extension);
+
+	@Message(id = ID_OFFSET + 156,
+			value = "Unable to list the shards of an index in directory '%1$s': %2$s")
+	SearchException unableToListShards(Path directory, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 157,
+			value = "Unable to access the shard of tenant '%1$s': the index is being stopped.")
+	SearchException tenantShardAccessAfterStop(String tenantId, @Param EventContext context);
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * An append-only list of binary values, stored contiguously in a single byte array.
+ * <p>
+ * Values are copied as raw bytes when collected,
+ * and only decoded on demand, i.e. when (and if) a hit is actually extracted.
+ */
+final class CollectedBinaryValues {
+
+	private byte[] bytes;
+	// ends[i] is the (exclusive) end offset of value #i in bytes; value #i starts at ends[i - 1], or 0.
+	private int[] ends;
+	private int size = 0;
+
+	CollectedBinaryValues(int expectedSize) {
+		this.ends = new int[CollectedDocIds.initialCapacity( expectedSize )];
+		this.bytes = new byte[0];
+	}
+
+	void add(BytesRef value) {
+		int start = size == 0 ? 0 : ends[size - 1];
+		int end = start + value.length;
+		if ( end > bytes.length ) {
+			bytes = ArrayUtil.grow( bytes, end );
+		}
+		System.arraycopy( value.bytes, value.offset, bytes, start, value.length );
+		if ( size == ends.length ) {
+			ends = ArrayUtil.grow( ends, size + 1 );
+		}
+		ends[size] = end;
+		++size;
+	}
+
+	String utf8ToString(int index) {
+		int start = index == 0 ? 0 : ends[index - 1];
+		return new String( bytes, start, ends[index] - start, StandardCharsets.UTF_8 );
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * An append-only list of collected document IDs,
+ * mapping each document ID to the position of its data in dense, per-collector arrays.
+ * <p>
+ * Collectors for top docs are executed sequentially, leaf after leaf, in a single search,
+ * so documents are always collected in ascending order of their (global) ID.
+ * We take advantage of that to look up positions using a binary search,
+ * instead of boxing document IDs into the keys of a hash map.
+ */
+final class CollectedDocIds {
+
+	/**
+	 * The maximum initial capacity of per-collector arrays.
+	 * <p>
+	 * The expected size is only an upper bound (e.g. the number of top docs),
+	 * and we don't want to allocate huge arrays upfront for queries that end up collecting few documents:
+	 * beyond this capacity, arrays are grown as documents are collected.
+	 */
+	private static final int MAX_INITIAL_CAPACITY = 1024;
+
+	private int[] docIds;
+	private int size = 0;
+
+	CollectedDocIds(int expectedSize) {
+		this.docIds = new int[initialCapacity( expectedSize )];
+	}
+
+	/**
+	 * @param expectedSize The expected number of collected documents.
+	 * @return The capacity to use when creating per-collector arrays.
+	 */
+	static int initialCapacity(int expectedSize) {
+		return Math.min( Math.max( expectedSize, 1 ), MAX_INITIAL_CAPACITY );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + Arrays.toString( Arrays.copyOf( docIds, size ) );
+	}
+
+	/**
+	 * @param docId The (global) ID of a collected document.
+	 * @return The position of the data for this document.
+	 */
+	int add(int docId) {
+		if ( size > 0 && docId <= docIds[size - 1] ) {
+			throw new AssertionFailure( "Collector.collect called in unexpected order" );
+		}
+		if ( size == docIds.length ) {
+			docIds = ArrayUtil.grow( docIds, size + 1 );
+		}
+		docIds[size] = docId;
+		return size++;
+	}
+
+	/**
+	 * @param docId The (global) ID of a document.
+	 * @return The position of the data for this document, or {@code -1} if this document was not collected.
+	 */
+	int indexOf(int docId) {
+		int index = Arrays.binarySearch( docIds, 0, size, docId );
+		return index < 0 ? -1 : index;
+	}
+
+	int size() {
+		return size;
+	}
+
+}
@@ -46,6 +46,10 @@ public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath) {
 		return new NestedDocsProvider( nestedDocumentPath, luceneQuery );
 	}
 
+	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath, Query nestedFilter) {
+		return new NestedDocsProvider( nestedDocumentPath, luceneQuery, nestedFilter );
+	}
+
 	public NestedDocsProvider createNestedDocsProvider(Set<String> nestedDocumentPaths) {
 		return new NestedDocsProvider( nestedDocumentPaths, luceneQuery );
 	}
@@ -7,8 +7,6 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneDocumentReference;
@@ -20,6 +18,7 @@
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.ArrayUtil;
 
 public final class DocumentReferenceCollector extends SimpleCollector {
 
@@ -43,19 +42,28 @@ public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, DocumentReference> collected = new HashMap<>();
+	private final CollectedDocIds collectedDocIds;
+	private final CollectedBinaryValues collectedIds;
+	// Type names are shared across all documents of a leaf: this array only holds references.
+	private String[] collectedMappedTypeNames;
 
 	private DocumentReferenceCollector(CollectorExecutionContext executionContext) {
 		this.metadataResolver = executionContext.getMetadataResolver();
+		this.collectedDocIds = new CollectedDocIds( executionContext.getMaxDocs() );
+		this.collectedIds = new CollectedBinaryValues( executionContext.getMaxDocs() );
+		this.collectedMappedTypeNames = new String[CollectedDocIds.initialCapacity( executionContext.getMaxDocs() )];
 	}
 
 	@Override
 	public void collect(int doc) throws IOException {
 		currentLeafIdDocValues.advance( doc );
-		collected.put( currentLeafDocBase + doc, new LuceneDocumentReference(
-				currentLeafMappedTypeName,
-				currentLeafIdDocValues.binaryValue().utf8ToString()
-		) );
+		int index = collectedDocIds.add( currentLeafDocBase + doc );
+		// Decoding to a string is delayed until the reference is actually retrieved, see get(int)
+		collectedIds.add( currentLeafIdDocValues.binaryValue() );
+		if ( index == collectedMappedTypeNames.length ) {
+			collectedMappedTypeNames = ArrayUtil.grow( collectedMappedTypeNames, index + 1 );
+		}
+		collectedMappedTypeNames[index] = currentLeafMappedTypeName;
 	}
 
 	@Override
@@ -64,7 +72,11 @@ public ScoreMode scoreMode() {
 	}
 
 	public DocumentReference get(int doc) {
-		return collected.get( doc );
+		int index = collectedDocIds.indexOf( doc );
+		if ( index < 0 ) {
+			return null;
+		}
+		return new LuceneDocumentReference( collectedMappedTypeNames[index], collectedIds.utf8ToString( index ) );
 	}
 
 	@Override
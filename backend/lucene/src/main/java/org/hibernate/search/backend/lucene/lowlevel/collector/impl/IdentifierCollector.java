@@ -7,8 +7,6 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 
@@ -25,7 +23,7 @@ public final class IdentifierCollector extends SimpleCollector {
 	public static final CollectorFactory<IdentifierCollector> FACTORY = new CollectorFactory<IdentifierCollector>() {
 		@Override
 		public IdentifierCollector createCollector(CollectorExecutionContext context) {
-			return new IdentifierCollector();
+			return new IdentifierCollector( context );
 		}
 
 		@Override
@@ -37,15 +35,20 @@ public CollectorKey<IdentifierCollector> getCollectorKey() {
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, String> collected = new HashMap<>();
+	private final CollectedDocIds collectedDocIds;
+	private final CollectedBinaryValues collectedIds;
 
-	private IdentifierCollector() {
+	private IdentifierCollector(CollectorExecutionContext executionContext) {
+		this.collectedDocIds = new CollectedDocIds( executionContext.getMaxDocs() );
+		this.collectedIds = new CollectedBinaryValues( executionContext.getMaxDocs() );
 	}
 
 	@Override
 	public void collect(int doc) throws IOException {
 		currentLeafIdDocValues.advance( doc );
-		collected.put( currentLeafDocBase + doc, currentLeafIdDocValues.binaryValue().utf8ToString() );
+		collectedDocIds.add( currentLeafDocBase + doc );
+		// Decoding to a string is delayed until the identifier is actually retrieved, see get(int)
+		collectedIds.add( currentLeafIdDocValues.binaryValue() );
 	}
 
 	@Override
@@ -54,7 +57,8 @@ public ScoreMode scoreMode() {
 	}
 
 	public String get(int doc) {
-		return collected.get( doc );
+		int index = collectedDocIds.indexOf( doc );
+		return index < 0 ? null : collectedIds.utf8ToString( index );
 	}
 
 	@Override
@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueRangeCounter;
+
+import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.cursors.IntCursor;
+import org.apache.lucene.facet.range.LongRange;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * A collector counting matching documents for each range of values of a numeric field,
+ * as documents are collected, without buffering matching documents.
+ */
+public class NumericRangeCollector extends SimpleCollector {
+
+	private final LongMultiValuesSource valuesSource;
+	private final int rangeCount;
+	private final LongMultiValueRangeCounter counter;
+
+	private final IntHashSet uniqueLeafIndicesForDocument = new IntHashSet();
+
+	private LongMultiValues values;
+
+	public NumericRangeCollector(LongMultiValuesSource valuesSource, LongRange[] ranges) {
+		this.valuesSource = valuesSource;
+		this.rangeCount = ranges.length;
+		this.counter = new LongMultiValueRangeCounter( ranges );
+	}
+
+	/**
+	 * @return The count of matching documents for each range, in the order ranges were passed to the constructor.
+	 */
+	public int[] counts() {
+		int[] counts = new int[rangeCount];
+		counter.fillCounts( counts );
+		return counts;
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return;
+		}
+		while ( values.hasNextValue() ) {
+			// Each document must be counted only once per range.
+			uniqueLeafIndicesForDocument.add( counter.findLeafIndex( values.nextValue() ) );
+		}
+		for ( IntCursor leafIndex : uniqueLeafIndicesForDocument ) {
+			counter.incrementCountForLeafWithIndex( leafIndex.value );
+		}
+		uniqueLeafIndicesForDocument.clear();
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongIntScatterMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * A collector counting matching documents for each value of a numeric field,
+ * as documents are collected, without buffering matching documents.
+ * <p>
+ * Each document is counted at most once per value.
+ */
+public class NumericTermsCollector extends SimpleCollector {
+
+	private final LongMultiValuesSource valuesSource;
+
+	private final LongHashSet uniqueValuesForDocument = new LongHashSet();
+	private final LongIntScatterMap counts = new LongIntScatterMap();
+
+	private LongMultiValues values;
+
+	public NumericTermsCollector(LongMultiValuesSource valuesSource) {
+		this.valuesSource = valuesSource;
+	}
+
+	/**
+	 * @return The count of matching documents for each value, with values represented as sortable longs.
+	 */
+	public LongIntScatterMap counts() {
+		return counts;
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return;
+		}
+		while ( values.hasNextValue() ) {
+			// Each document must be counted only once per value.
+			uniqueValuesForDocument.add( values.nextValue() );
+		}
+		for ( LongCursor value : uniqueValuesForDocument ) {
+			counts.addTo( value.value, 1 );
+		}
+		uniqueValuesForDocument.clear();
+	}
+
+}
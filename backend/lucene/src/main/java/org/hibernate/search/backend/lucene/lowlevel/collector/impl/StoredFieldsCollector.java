@@ -7,8 +7,6 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
@@ -23,6 +21,7 @@
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
 
 /**
  * Collects stored fields as Document instances.
@@ -49,7 +48,8 @@ public StoredFieldsCollector createCollector(CollectorExecutionContext context)
 					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
 				}
 
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher(),
+						context.getMaxDocs() );
 			}
 
 			@Override
@@ -68,20 +68,23 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 	private DocIdSetIterator currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
-	private final Map<Integer, Document> documents = new HashMap<>();
+	private final CollectedDocIds collectedDocIds;
+	private Document[] documents;
 
 	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			IndexSearcher indexSearcher) throws IOException {
+			IndexSearcher indexSearcher, int expectedSize) throws IOException {
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.collectedDocIds = new CollectedDocIds( expectedSize );
+		this.documents = new Document[CollectedDocIds.initialCapacity( expectedSize )];
 	}
 
 	@Override
 	public String toString() {
-		final StringBuilder sb = new StringBuilder( "ChildrenCollector{" );
-		sb.append( "documents=" ).append( documents );
+		final StringBuilder sb = new StringBuilder( "StoredFieldsCollector{" );
+		sb.append( "collectedDocIds=" ).append( collectedDocIds );
 		sb.append( '}' );
 		return sb.toString();
 	}
@@ -96,7 +99,11 @@ public void collect(int parentDoc) throws IOException {
 		// add root document contribution
 		currentLeafReader.document( parentDoc, storedFieldVisitor );
 
-		documents.put( currentLeafDocBase + parentDoc, storedFieldVisitor.getDocumentAndReset() );
+		int index = collectedDocIds.add( currentLeafDocBase + parentDoc );
+		if ( index == documents.length ) {
+			documents = ArrayUtil.grow( documents, index + 1 );
+		}
+		documents[index] = storedFieldVisitor.getDocumentAndReset();
 	}
 
 	private void collectChildDocs(int parentDoc) throws IOException {
@@ -129,7 +136,8 @@ public ScoreMode scoreMode() {
 	}
 
 	public Document getDocument(int docId) {
-		return documents.get( docId );
+		int index = collectedDocIds.indexOf( docId );
+		return index < 0 ? null : documents[index];
 	}
 
 	@Override
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.cursors.IntCursor;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+
+/**
+ * A collector counting matching documents for each value of a text field,
+ * as documents are collected, without buffering matching documents.
+ * <p>
+ * Documents are counted in the ordinal space of each segment,
+ * and counts are only migrated to global ordinals once the segment is fully collected.
+ * Each document is counted at most once per value.
+ */
+public class TextTermsCollector extends SimpleCollector {
+
+	private final TextMultiValuesSource valuesSource;
+
+	private final SortedSetDocValues globalDocValues;
+	private final OrdinalMap ordinalMap;
+	private final int[] counts;
+
+	private final IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
+
+	private TextMultiValues segmentValues;
+	private LongValues segmentToGlobalOrds;
+	private int[] segmentCounts;
+
+	public TextTermsCollector(IndexReader reader, String field, TextMultiValuesSource valuesSource) throws IOException {
+		this.valuesSource = valuesSource;
+		this.globalDocValues = MultiDocValues.getSortedSetValues( reader, field );
+		if ( globalDocValues != null && globalDocValues.getValueCount() > Integer.MAX_VALUE ) {
+			// We may want to remove this limitation?
+			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
+			// so this is no worse than the "legacy" facets from Search 5.
+			throw new IllegalStateException(
+					"Cannot aggregate when more than " + Integer.MAX_VALUE + " terms are indexed" );
+		}
+		this.ordinalMap = globalDocValues instanceof MultiDocValues.MultiSortedSetDocValues
+				? ( (MultiDocValues.MultiSortedSetDocValues) globalDocValues ).mapping
+				: null;
+		this.counts = new int[globalDocValues == null ? 0 : (int) globalDocValues.getValueCount()];
+	}
+
+	/**
+	 * @return The count of matching documents for each global ordinal.
+	 */
+	public int[] counts() {
+		flushSegmentCounts();
+		return counts;
+	}
+
+	public BytesRef lookupOrd(int globalOrd) throws IOException {
+		return globalDocValues.lookupOrd( globalOrd );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		flushSegmentCounts();
+		segmentValues = valuesSource.getValues( context );
+		if ( ordinalMap == null ) {
+			// No ordinal mapping (e.g., single segment index): segment ordinals are global ordinals.
+			segmentToGlobalOrds = null;
+			segmentCounts = counts;
+		}
+		else {
+			segmentToGlobalOrds = ordinalMap.getGlobalOrds( context.ord );
+			segmentCounts = new int[(int) segmentValues.getValueCount()];
+		}
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !segmentValues.advanceExact( doc ) ) {
+			return;
+		}
+		while ( segmentValues.hasNextValue() ) {
+			// Each document must be counted only once per value.
+			uniqueOrdinalsForDocument.add( (int) segmentValues.nextOrd() );
+		}
+		for ( IntCursor ord : uniqueOrdinalsForDocument ) {
+			segmentCounts[ord.value]++;
+		}
+		uniqueOrdinalsForDocument.clear();
+	}
+
+	private void flushSegmentCounts() {
+		if ( segmentToGlobalOrds != null ) {
+			for ( int ord = 0; ord < segmentCounts.length; ord++ ) {
+				int count = segmentCounts[ord];
+				if ( count != 0 ) {
+					counts[(int) segmentToGlobalOrds.get( ord )] += count;
+				}
+			}
+		}
+		segmentToGlobalOrds = null;
+		segmentCounts = null;
+	}
+
+}
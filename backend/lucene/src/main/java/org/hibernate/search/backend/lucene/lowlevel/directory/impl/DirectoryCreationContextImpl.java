@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -17,6 +19,7 @@
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.store.LockFactory;
@@ -35,6 +38,8 @@
  */
 public class DirectoryCreationContextImpl implements DirectoryCreationContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final OptionalConfigurationProperty<LockingStrategyName> LOCKING_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.LOCKING_STRATEGY )
 					.as( LockingStrategyName.class, LockingStrategyName::of )
@@ -46,6 +51,9 @@ public class DirectoryCreationContextImpl implements DirectoryCreationContext {
 	private final BeanResolver beanResolver;
 	private final ConfigurationPropertySource configurationPropertySource;
 
+	/**
+	 * @param beanResolver The bean resolver, or {@code null} if the directory is created at runtime.
+	 */
 	public DirectoryCreationContextImpl(EventContext eventContext, String indexName, Optional<String> shardId,
 			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource) {
 		this.eventContext = eventContext;
@@ -72,6 +80,9 @@ public Optional<String> shardId() {
 
 	@Override
 	public BeanResolver beanResolver() {
+		if ( beanResolver == null ) {
+			throw log.beanResolverUnavailableAtRuntime( eventContext );
+		}
 		return beanResolver;
 	}
 
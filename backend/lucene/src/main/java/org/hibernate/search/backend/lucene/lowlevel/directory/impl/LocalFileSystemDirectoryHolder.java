@@ -9,6 +9,8 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -17,7 +19,11 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
@@ -26,15 +32,26 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
+	private final Set<String> mmapPreloadExtensions;
+	private final Set<String> mmapNioExtensions;
+	private final int nrtCacheMaxCachedSize;
+	private final int nrtCacheMaxSegmentSize;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
-			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+			Supplier<LockFactory> lockFactorySupplier,
+			Set<String> mmapPreloadExtensions, Set<String> mmapNioExtensions,
+			int nrtCacheMaxCachedSize, int nrtCacheMaxSegmentSize,
+			EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
+		this.mmapPreloadExtensions = mmapPreloadExtensions;
+		this.mmapNioExtensions = mmapNioExtensions;
+		this.nrtCacheMaxCachedSize = nrtCacheMaxCachedSize;
+		this.nrtCacheMaxSegmentSize = nrtCacheMaxSegmentSize;
 		this.eventContext = eventContext;
 	}
 
@@ -47,7 +64,39 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		LockFactory lockFactory = lockFactorySupplier.get();
+		Directory fsDirectory = accessStrategy.createDirectory( directoryPath, lockFactory );
+		if ( fsDirectory instanceof MMapDirectory ) {
+			fsDirectory = applyMMapOptions( (MMapDirectory) fsDirectory, lockFactory );
+		}
+		if ( nrtCacheMaxCachedSize > 0 ) {
+			// Keeps small segments in memory until they are merged away or committed,
+			// so that frequent near-real-time refreshes do not translate into as many small writes to the disk.
+			this.directory = new NRTCachingDirectory( fsDirectory, nrtCacheMaxSegmentSize, nrtCacheMaxCachedSize );
+		}
+		else {
+			this.directory = fsDirectory;
+		}
+	}
+
+	private Directory applyMMapOptions(MMapDirectory mmapDirectory, LockFactory lockFactory) throws IOException {
+		// Lucene only allows preloading all files of a directory or none,
+		// so we use one directory per set of options on the same path, and dispatch files based on their extension.
+		// Write locks ("write.lock") have the extension "lock", which is rejected in both sets of extensions,
+		// so they always end up in the default directory.
+		Directory result = mmapDirectory;
+		Set<String> preloadExtensions = new HashSet<>( mmapPreloadExtensions );
+		preloadExtensions.removeAll( mmapNioExtensions );
+		if ( !preloadExtensions.isEmpty() ) {
+			MMapDirectory preloadingDirectory = new MMapDirectory( directoryPath, lockFactory );
+			preloadingDirectory.setPreload( true );
+			result = new FileSwitchDirectory( preloadExtensions, preloadingDirectory, result, true );
+		}
+		if ( !mmapNioExtensions.isEmpty() ) {
+			NIOFSDirectory nioDirectory = new NIOFSDirectory( directoryPath, lockFactory );
+			result = new FileSwitchDirectory( mmapNioExtensions, nioDirectory, result, true );
+		}
+		return result;
 	}
 
 	@Override
@@ -6,10 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -22,7 +29,9 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.store.FSLockFactory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.LockFactory;
 
 public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
@@ -31,6 +40,9 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 
 	public static final String NAME = "local-filesystem";
 
+	private static final String LOCK_FILE_EXTENSION =
+			FileSwitchDirectory.getExtension( IndexWriter.WRITE_LOCK_NAME );
+
 	private static final ConfigurationProperty<Path> ROOT =
 			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.ROOT )
 					.as( Path.class, Paths::get )
@@ -43,6 +55,30 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS )
+					.asString().validate( LocalFileSystemDirectoryProvider::checkMMapFileExtension ).multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS )
+					.asString().validate( LocalFileSystemDirectoryProvider::checkMMapFileExtension ).multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_CACHED_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_CACHED_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_SEGMENT_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_SEGMENT_SIZE )
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -54,6 +90,10 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 					context.eventContext() );
 		}
 		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		Set<String> mmapPreloadExtensions =
+				new LinkedHashSet<>( FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS.get( propertySource ) );
+		Set<String> mmapNioExtensions =
+				new LinkedHashSet<>( FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS.get( propertySource ) );
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
 
@@ -63,9 +103,41 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 			directoryPath = directoryPath.resolve( shardId.get() );
 		}
 
+		int nrtCacheMaxCachedSize = NRT_CACHE_MAX_CACHED_SIZE.get( propertySource );
+		int nrtCacheMaxSegmentSize = NRT_CACHE_MAX_SEGMENT_SIZE.get( propertySource );
+
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, lockFactorySupplier,
+				mmapPreloadExtensions, mmapNioExtensions,
+				nrtCacheMaxCachedSize, nrtCacheMaxSegmentSize, context.eventContext()
 		);
 	}
 
+	@Override
+	public Set<String> existingShardIdentifiers(DirectoryCreationContext context) {
+		Path indexDirectory = ROOT.get( context.configurationPropertySource() ).toAbsolutePath()
+				.resolve( context.indexName() );
+		if ( !Files.isDirectory( indexDirectory ) ) {
+			return Collections.emptySet();
+		}
+		Set<String> shardIds = new LinkedHashSet<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( indexDirectory, Files::isDirectory ) ) {
+			for ( Path shardDirectory : stream ) {
+				shardIds.add( shardDirectory.getFileName().toString() );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToListShards( indexDirectory, e.getMessage(), context.eventContext(), e );
+		}
+		return shardIds;
+	}
+
+	private static void checkMMapFileExtension(String extension) {
+		// FileSwitchDirectory dispatches lock files ("write.lock") based on their extension, too:
+		// they must stay in the default directory.
+		if ( LOCK_FILE_EXTENSION.equals( extension ) ) {
+			throw log.invalidMMapFileExtension( extension );
+		}
+	}
+
 }
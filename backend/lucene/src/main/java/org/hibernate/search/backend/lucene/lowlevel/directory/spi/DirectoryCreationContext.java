@@ -34,6 +34,8 @@ public interface DirectoryCreationContext {
 
 	/**
 	 * @return A {@link BeanResolver}.
+	 * @throws org.hibernate.search.util.common.SearchException If the directory is created at runtime
+	 * rather than on startup, e.g. for tenant shards with the shard-per-tenant multi-tenancy strategy.
 	 */
 	BeanResolver beanResolver();
 
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.spi;
 
+import java.util.Collections;
+import java.util.Set;
+
 public interface DirectoryProvider {
 
 	/**
@@ -26,4 +29,23 @@ public interface DirectoryProvider {
 	 */
 	DirectoryHolder createDirectoryHolder(DirectoryCreationContext context);
 
+	/**
+	 * Lists the identifiers of the shards of a given index that already exist, e.g. from a previous run.
+	 * <p>
+	 * Used when shards are not known in advance, e.g. with the shard-per-tenant multi-tenancy strategy,
+	 * so that schema management and operations targeting all shards also affect existing shards
+	 * that were not accessed yet.
+	 * <p>
+	 * The default implementation returns an empty set,
+	 * which is appropriate for providers that do not persist indexes.
+	 *
+	 * @param context The creation context of the index, giving access to configuration and environment.
+	 * {@link DirectoryCreationContext#shardId()} is always empty.
+	 * @return The identifiers of existing shards, as passed to {@link #createDirectoryHolder(DirectoryCreationContext)}
+	 * through {@link DirectoryCreationContext#shardId()} when they were created.
+	 */
+	default Set<String> existingShardIdentifiers(DirectoryCreationContext context) {
+		return Collections.emptySet();
+	}
+
 }
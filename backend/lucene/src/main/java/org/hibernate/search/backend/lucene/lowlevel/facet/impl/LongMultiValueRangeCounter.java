@@ -18,7 +18,7 @@
  * Copied with some changes from {@code org.apache.lucene.facet.range.LongRangeCounter}
  * of <a href="https://lucene.apache.org/">Apache Lucene project</a>.
  */
-class LongMultiValueRangeCounter {
+public class LongMultiValueRangeCounter {
 
 	final LongRangeNode root;
 	final long[] boundaries;
@@ -11,18 +11,20 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler) {
-		return new DebugIOStrategy( threads, failureHandler );
+	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler,
+			BackendMetrics metrics) {
+		return new DebugIOStrategy( threads, failureHandler, metrics );
 	}
 
-	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
-		super( threads, failureHandler );
+	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler, BackendMetrics metrics) {
+		super( threads, failureHandler, metrics );
 	}
 
 	@Override
@@ -33,7 +35,8 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				directoryHolder, configSource,
 				null, 0,
 				threads,
-				failureHandler
+				failureHandler,
+				metrics
 		);
 	}
 
@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -19,10 +20,12 @@ public abstract class IOStrategy {
 
 	final BackendThreads threads;
 	final FailureHandler failureHandler;
+	final BackendMetrics metrics;
 
-	protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
+	protected IOStrategy(BackendThreads threads, FailureHandler failureHandler, BackendMetrics metrics) {
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
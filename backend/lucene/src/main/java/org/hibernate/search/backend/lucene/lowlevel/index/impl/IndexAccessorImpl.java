@@ -121,6 +121,20 @@ public void dropIndexIfExisting() {
 		}
 	}
 
+	/**
+	 * Closes the index writer and index reader, if open, in order to release the resources they hold.
+	 * <p>
+	 * The index writer and index reader will be re-opened on demand.
+	 */
+	public void releaseResources() {
+		try {
+			clear();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToReleaseIdleShardResources( e.getMessage(), eventContext, e );
+		}
+	}
+
 	private synchronized void clear() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
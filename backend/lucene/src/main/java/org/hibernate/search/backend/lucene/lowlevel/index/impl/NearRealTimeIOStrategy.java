@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -34,12 +35,13 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.build();
 
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
-			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler,
+			BackendMetrics metrics) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
 		return new NearRealTimeIOStrategy(
 				timingSource, commitInterval, refreshInterval,
-				threads, failureHandler
+				threads, failureHandler, metrics
 		);
 	}
 
@@ -49,8 +51,9 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
-		super( threads, failureHandler );
+			FailureHandler failureHandler,
+			BackendMetrics metrics) {
+		super( threads, failureHandler, metrics );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
@@ -66,7 +69,7 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, configSource,
 				timingSource, commitInterval, threads,
-				failureHandler
+				failureHandler, metrics
 		);
 	}
 
@@ -76,7 +79,8 @@ IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				metrics.refreshDurations() );
 	}
 
 }
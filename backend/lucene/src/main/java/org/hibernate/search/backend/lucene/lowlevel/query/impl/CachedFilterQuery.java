@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.DocIdSetBuilder;
+
+/**
+ * A query matching the same documents as a given filter,
+ * relying on a {@link MetadataFilterCache} to only evaluate the filter once per segment.
+ */
+final class CachedFilterQuery extends Query {
+	private final MetadataFilterCache cache;
+	private final Query filter;
+
+	CachedFilterQuery(MetadataFilterCache cache, Query filter) {
+		this.cache = cache;
+		this.filter = filter;
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getName() + "{" + filter.toString( field ) + "}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		CachedFilterQuery other = (CachedFilterQuery) obj;
+		return filter.equals( other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return filter.hashCode();
+	}
+
+	@Override
+	public Query rewrite(IndexReader reader) throws IOException {
+		Query rewrittenFilter = filter.rewrite( reader );
+		if ( rewrittenFilter != filter ) {
+			return new CachedFilterQuery( cache, rewrittenFilter );
+		}
+		return this;
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		filter.visit( visitor.getSubVisitor( BooleanClause.Occur.FILTER, this ) );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, 1.0f ) {
+			// Created lazily, so that nothing gets computed when all segments are cached.
+			private Weight filterWeight;
+
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				DocIdSet docIdSet = cache.get( context, filter );
+				if ( docIdSet == null ) {
+					docIdSet = computeDocIdSet( context );
+					cache.put( context, filter, docIdSet );
+				}
+				if ( docIdSet == DocIdSet.EMPTY ) {
+					return null; // Skip this leaf
+				}
+				return new ConstantScoreScorer( this, this.score(), scoreMode, docIdSet.iterator() );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// Caching is handled by the metadata filter cache: keep this out of Lucene's query cache.
+				return false;
+			}
+
+			private DocIdSet computeDocIdSet(LeafReaderContext context) throws IOException {
+				if ( filterWeight == null ) {
+					// Bypass the query cache of the searcher on purpose.
+					filterWeight = filter.createWeight( searcher, ScoreMode.COMPLETE_NO_SCORES, 1.0f );
+				}
+				Scorer filterScorer = filterWeight.scorer( context );
+				if ( filterScorer == null ) {
+					return DocIdSet.EMPTY;
+				}
+				DocIdSetIterator matchingDocs = filterScorer.iterator();
+				DocIdSetBuilder builder = new DocIdSetBuilder( context.reader().maxDoc() );
+				builder.add( matchingDocs );
+				return builder.build();
+			}
+		};
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.Query;
+
+/**
+ * A per-segment cache of the documents matching metadata filters,
+ * such as the tenant ID filter.
+ * <p>
+ * Such filters are added to almost every search query and only depend on the segment and on the filter itself,
+ * so their matching documents are cached per segment core,
+ * independently of Lucene's query cache and its caching policy.
+ * <p>
+ * Cached entries are removed when the corresponding segment core is closed.
+ */
+public final class MetadataFilterCache {
+
+	private final ConcurrentMap<IndexReader.CacheKey, ConcurrentMap<Query, DocIdSet>> docIdSetsBySegment =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * @param filter A filter that only depends on the content of each segment, e.g. a term query.
+	 * Must implement {@link Query#equals(Object)} and {@link Query#hashCode()} properly.
+	 * @return A query matching the same documents as {@code filter},
+	 * whose matching documents are cached per segment.
+	 */
+	public Query cached(Query filter) {
+		return new CachedFilterQuery( this, filter );
+	}
+
+	DocIdSet get(LeafReaderContext context, Query filter) {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			return null;
+		}
+		ConcurrentMap<Query, DocIdSet> docIdSets = docIdSetsBySegment.get( cacheHelper.getKey() );
+		return docIdSets == null ? null : docIdSets.get( filter );
+	}
+
+	void put(LeafReaderContext context, Query filter, DocIdSet docIdSet) {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// This segment cannot be cached
+			return;
+		}
+		docIdSetsBySegment.computeIfAbsent( cacheHelper.getKey(), key -> {
+			cacheHelper.addClosedListener( docIdSetsBySegment::remove );
+			return new ConcurrentHashMap<>();
+		} )
+				.put( filter, docIdSet );
+	}
+
+	int segmentCountForTests() {
+		return docIdSetsBySegment.size();
+	}
+
+}
@@ -9,6 +9,9 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -27,9 +30,18 @@
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final JfrEventType REFRESH_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.lucene.Refresh", "Lucene Refresh" )
+					.description( "Refresh of a near-real-time index reader" )
+					.category( "Lucene" )
+					.field( boolean.class, "changed", "Changed" )
+					.build();
+	private static final int REFRESH_EVENT_CHANGED = 0;
+
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final Histogram refreshDurations;
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,10 +49,11 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, Histogram refreshDurations) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.refreshDurations = refreshDurations;
 	}
 
 	@Override
@@ -81,6 +94,8 @@ public DirectoryReader getOrCreate() throws IOException {
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
+		JfrEvent event = REFRESH_EVENT_TYPE.begin();
+		long start = refreshDurations.isEnabled() ? System.nanoTime() : 0L;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
@@ -96,6 +111,11 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 			}
 		}
 
+		if ( refreshDurations.isEnabled() ) {
+			refreshDurations.record( System.nanoTime() - start );
+		}
+		event.set( REFRESH_EVENT_CHANGED, oldEntry != freshEntry ).commit();
+
 		if ( oldEntry != freshEntry ) {
 			setCurrentReaderEntry( freshEntry );
 		}
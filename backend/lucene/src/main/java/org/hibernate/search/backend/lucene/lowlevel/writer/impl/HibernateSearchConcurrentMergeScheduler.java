@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -21,6 +24,7 @@
 /**
  * We customize Lucene's ConcurrentMergeScheduler to route eventual exceptions to our configurable failure handler
  * and override the name of merge threads.
+ * It also records the count and duration of merges.
  *
  * @see FailureHandler
  * @since 3.3
@@ -35,14 +39,29 @@ class HibernateSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 	private final String contextDescription;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
+	private final Counter merges;
+	private final Histogram mergeDurations;
 
 	HibernateSearchConcurrentMergeScheduler(String indexName, String contextDescription,
 			ThreadProvider threadProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			Counter merges, Histogram mergeDurations) {
 		this.indexName = indexName;
 		this.contextDescription = contextDescription;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
+		this.merges = merges;
+		this.mergeDurations = mergeDurations;
+	}
+
+	@Override
+	protected void doMerge(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
+		long start = mergeDurations.isEnabled() ? System.nanoTime() : 0L;
+		super.doMerge( mergeSource, merge );
+		merges.increment();
+		if ( mergeDurations.isEnabled() ) {
+			mergeDurations.record( System.nanoTime() - start );
+		}
 	}
 
 	@Override
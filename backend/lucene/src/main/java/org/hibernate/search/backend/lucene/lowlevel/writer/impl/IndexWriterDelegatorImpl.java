@@ -14,6 +14,9 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -35,11 +38,20 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JfrEventType COMMIT_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.lucene.Commit", "Lucene Commit" )
+					.description( "Commit of an index writer" )
+					.category( "Lucene" )
+					.field( String.class, "index", "Index" )
+					.build();
+	private static final int COMMIT_EVENT_INDEX = 0;
+
 	private final IndexWriter delegate;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final FailureHandler failureHandler;
+	private final Histogram commitDurations;
 
 	private final SingletonTask delayedCommitTask;
 	private final Object commitLock = new Object();
@@ -50,12 +62,14 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
 			FailureHandler failureHandler,
-			DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			DelayedCommitFailureHandler delayedCommitFailureHandler,
+			Histogram commitDurations) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.failureHandler = failureHandler;
+		this.commitDurations = commitDurations;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -175,7 +189,15 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
+				JfrEvent event = COMMIT_EVENT_TYPE.begin();
+				long start = commitDurations.isEnabled() ? System.nanoTime() : 0L;
 				delegate.commit();
+				if ( commitDurations.isEnabled() ) {
+					commitDurations.record( System.nanoTime() - start );
+				}
+				if ( event.isRecording() ) {
+					event.set( COMMIT_EVENT_INDEX, eventContext.render() ).commit();
+				}
 				updateCommitExpiration();
 			}
 		}
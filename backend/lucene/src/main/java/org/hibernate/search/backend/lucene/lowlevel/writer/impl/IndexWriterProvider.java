@@ -13,6 +13,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -39,6 +40,7 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final BackendMetrics metrics;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -54,7 +56,8 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			BackendMetrics metrics) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -63,6 +66,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
 	}
 
 	/**
@@ -120,7 +124,8 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
 							failureHandler,
-							this::clearAfterFailure
+							this::clearAfterFailure,
+							metrics.commitDurations()
 					);
 					log.trace( "IndexWriter opened" );
 					currentWriter.set( indexWriterDelegator );
@@ -143,7 +148,8 @@ private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
 		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
-				threads.getThreadProvider(), failureHandler
+				threads.getThreadProvider(), failureHandler,
+				metrics.merges(), metrics.mergeDurations()
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
@@ -22,7 +22,15 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * Each tenant is assigned a dedicated shard in each index.
+	 * <p>
+	 * Documents of a given tenant are routed to the shard of that tenant,
+	 * and search queries only target the shard of the current tenant.
+	 */
+	SHARD_PER_TENANT("shard-per-tenant");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
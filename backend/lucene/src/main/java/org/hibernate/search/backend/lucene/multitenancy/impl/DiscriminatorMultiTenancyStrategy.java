@@ -26,6 +26,11 @@ public boolean isMultiTenancySupported() {
 		return true;
 	}
 
+	@Override
+	public boolean isShardPerTenant() {
+		return false;
+	}
+
 	@Override
 	public void contributeToIndexedDocument(Document document, String tenantId) {
 		document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), tenantId ) );
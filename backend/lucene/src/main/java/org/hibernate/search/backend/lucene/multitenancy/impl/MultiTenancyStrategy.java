@@ -22,6 +22,13 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * Indicates if the strategy assigns a dedicated shard to each tenant.
+	 *
+	 * @return {@code true} if each tenant has its own shard in each index, {@code false} otherwise.
+	 */
+	boolean isShardPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
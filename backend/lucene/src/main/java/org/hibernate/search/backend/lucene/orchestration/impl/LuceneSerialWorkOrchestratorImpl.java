@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
@@ -39,6 +40,7 @@
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final BackendMetrics metrics;
 
 	private HashTable<BatchingExecutor<LuceneBatchedWorkProcessor>> executors;
 
@@ -47,15 +49,18 @@
 	 * @param processor A processor to use in the background thread.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metrics The metrics for this backend.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
 			String name, LuceneBatchedWorkProcessor processor,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			BackendMetrics metrics) {
 		super( name );
 		this.processor = processor;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -68,6 +73,13 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	/**
+	 * @return {@code true} if all works submitted so far were completely executed, {@code false} otherwise.
+	 */
+	public boolean isIdle() {
+		return completion().isDone();
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
@@ -80,7 +92,9 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
-					failureHandler
+					failureHandler,
+					metrics.registry(),
+					BackendMetrics.INDEXING_PREFIX
 			) );
 		}
 
@@ -48,10 +48,10 @@ public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work,
+			String tenantId, Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, tenantId, routingKeys, work, indexReader, cachingContext
 		);
 		Throwable throwable = null;
 		try {
@@ -109,7 +109,7 @@ protected void doStop() {
 
 		WorkExecution(Similarity similarity, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work,
+				String tenantId, Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
 				LuceneQueryCachingContext cachingContext) {
 			this.similarity = similarity;
@@ -117,7 +117,7 @@ protected void doStop() {
 			this.work = work;
 
 			if ( indexReader == null ) {
-				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, tenantId, routingKeys );
 				this.closeIndexReader = true;
 			}
 			else {
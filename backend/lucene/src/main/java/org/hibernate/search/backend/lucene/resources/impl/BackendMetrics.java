@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.resources.impl;
+
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+
+/**
+ * The metrics recorded by the Lucene backend, retrieved once from the registry
+ * so that recording values on hot paths doesn't involve any lookup.
+ */
+public final class BackendMetrics {
+
+	public static final String INDEXING_PREFIX = "lucene.indexing";
+
+	private final MetricsRegistry registry;
+
+	private final Histogram commitDurations;
+	private final Histogram refreshDurations;
+	private final Counter merges;
+	private final Histogram mergeDurations;
+
+	private final Histogram queryRewriteDurations;
+	private final Histogram queryCollectDurations;
+	private final Histogram queryTopDocsDataDurations;
+	private final Histogram queryLoadDurations;
+
+	public BackendMetrics(MetricsRegistry registry) {
+		this.registry = registry;
+		this.commitDurations = registry.histogram( "lucene.commit.duration" );
+		this.refreshDurations = registry.histogram( "lucene.refresh.duration" );
+		this.merges = registry.counter( "lucene.merge.count" );
+		this.mergeDurations = registry.histogram( "lucene.merge.duration" );
+		this.queryRewriteDurations = registry.histogram( "lucene.query.rewrite.duration" );
+		this.queryCollectDurations = registry.histogram( "lucene.query.collect.duration" );
+		this.queryTopDocsDataDurations = registry.histogram( "lucene.query.top_docs_data.duration" );
+		this.queryLoadDurations = registry.histogram( "lucene.query.load.duration" );
+	}
+
+	public MetricsRegistry registry() {
+		return registry;
+	}
+
+	public Histogram commitDurations() {
+		return commitDurations;
+	}
+
+	public Histogram refreshDurations() {
+		return refreshDurations;
+	}
+
+	public Counter merges() {
+		return merges;
+	}
+
+	public Histogram mergeDurations() {
+		return mergeDurations;
+	}
+
+	public Histogram queryRewriteDurations() {
+		return queryRewriteDurations;
+	}
+
+	public Histogram queryCollectDurations() {
+		return queryCollectDurations;
+	}
+
+	public Histogram queryTopDocsDataDurations() {
+		return queryTopDocsDataDurations;
+	}
+
+	public Histogram queryLoadDurations() {
+		return queryLoadDurations;
+	}
+}
@@ -46,6 +46,7 @@ public LuceneSearchQueryIndexScope<?> searchScope() {
 	public IndexReader openIndexReader(Set<String> routingKeys) {
 		Set<String> indexNames = searchScope.hibernateSearchIndexNames();
 		Collection<? extends LuceneSearchIndexContext> indexManagerContexts = searchScope.indexes();
-		return HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+		// No tenant: target all tenants.
+		return HibernateSearchMultiReader.open( indexNames, indexManagerContexts, null, routingKeys );
 	}
 }
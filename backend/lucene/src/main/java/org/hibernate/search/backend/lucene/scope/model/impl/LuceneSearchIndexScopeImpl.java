@@ -17,6 +17,7 @@
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.MetadataFilterCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.impl.LuceneSearchAggregationFactoryImpl;
@@ -68,6 +69,7 @@
 	private final SearchBackendContext backendContext;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final MetadataFilterCache metadataFilterCache;
 
 	// Global timing source
 	private final TimingSource timingSource;
@@ -85,12 +87,14 @@ public LuceneSearchIndexScopeImpl(BackendMappingContext mappingContext,
 			SearchBackendContext backendContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
+			MetadataFilterCache metadataFilterCache,
 			TimingSource timingSource,
 			Set<? extends LuceneScopeIndexManagerContext> indexManagerContexts) {
 		super( mappingContext, toModels( indexManagerContexts ) );
 		this.backendContext = backendContext;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.metadataFilterCache = metadataFilterCache;
 		this.timingSource = timingSource;
 		// Use LinkedHashMap/LinkedHashSet to ensure stable order when generating requests
 		this.mappedTypeNameToIndex = new LinkedHashMap<>();
@@ -110,6 +114,7 @@ private LuceneSearchIndexScopeImpl(LuceneSearchIndexScopeImpl parentScope,
 		this.backendContext = parentScope.backendContext;
 		this.analysisDefinitionRegistry = parentScope.analysisDefinitionRegistry;
 		this.multiTenancyStrategy = parentScope.multiTenancyStrategy;
+		this.metadataFilterCache = parentScope.metadataFilterCache;
 		this.timingSource = parentScope.timingSource;
 		this.mappedTypeNameToIndex = parentScope.mappedTypeNameToIndex;
 
@@ -190,7 +195,9 @@ public LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry() {
 
 	@Override
 	public Query filterOrNull(String tenantId) {
-		return multiTenancyStrategy.filterOrNull( tenantId );
+		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
+		// The tenant filter is added to every search query: cache its matching documents per segment.
+		return filter == null ? null : metadataFilterCache.cached( filter );
 	}
 
 	@Override
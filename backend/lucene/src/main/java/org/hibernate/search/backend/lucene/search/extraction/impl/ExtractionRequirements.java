@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
@@ -46,11 +47,15 @@ private ExtractionRequirements(Builder builder) {
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
 			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
-			int requestedTotalHitCountThreshold)
+			int requestedTotalHitCountThreshold, Histogram rewriteDurations)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
 		// we have optimizations in place when there is a single query and this query is a MatchAllDocsQuery.
+		long rewriteStart = rewriteDurations.isEnabled() ? System.nanoTime() : 0L;
 		Query rewrittenLuceneQuery = indexSearcher.rewrite( originalLuceneQuery );
+		if ( rewriteDurations.isEnabled() ) {
+			rewriteDurations.record( System.nanoTime() - rewriteStart );
+		}
 
 		int totalHitCountThreshold;
 		if ( rewrittenLuceneQuery instanceof MatchAllDocsQuery ) {
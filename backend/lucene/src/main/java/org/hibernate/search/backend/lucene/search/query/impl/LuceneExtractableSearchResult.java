@@ -22,6 +22,7 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentValueConvertContextImpl;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
@@ -41,12 +42,14 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final TimeoutManager timeoutManager;
+	private final Histogram topDocsDataDurations;
 
 	public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
 			IndexSearcher indexSearcher,
 			LuceneCollectors luceneCollectors,
 			LuceneSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager) {
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager,
+			Histogram topDocsDataDurations) {
 		this.requestContext = requestContext;
 		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( requestContext.getSessionContext() );
 		this.indexSearcher = indexSearcher;
@@ -54,6 +57,7 @@ public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestCont
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.timeoutManager = timeoutManager;
+		this.topDocsDataDurations = topDocsDataDurations;
 	}
 
 	public LuceneLoadableSearchResult<H> extract() throws IOException {
@@ -72,7 +76,11 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 			endExclusive = Math.min( endExclusive, scoreDocs.length );
 		}
 
+		long topDocsDataStart = topDocsDataDurations.isEnabled() ? System.nanoTime() : 0L;
 		luceneCollectors.collectTopDocsData( startInclusive, endExclusive );
+		if ( topDocsDataDurations.isEnabled() ) {
+			topDocsDataDurations.record( System.nanoTime() - topDocsDataStart );
+		}
 
 		ProjectionHitMapper<?, ?> projectionHitMapper = requestContext.getLoadingContext().createProjectionHitMapper();
 		List<Object> extractedData = extractHits( projectionHitMapper, startInclusive, endExclusive );
@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
@@ -63,6 +64,7 @@
 
 	private final SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final LuceneSearchProjection<?, H> rootProjection;
+	private final BackendMetrics metrics;
 
 	private List<LuceneFieldComparatorSource> nestedFieldSorts;
 
@@ -80,7 +82,8 @@ public LuceneSearchQueryBuilder(
 			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder,
-			LuceneSearchProjection<?, H> rootProjection) {
+			LuceneSearchProjection<?, H> rootProjection,
+			BackendMetrics metrics) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 
@@ -90,6 +93,7 @@ public LuceneSearchQueryBuilder(
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -242,7 +246,8 @@ public LuceneSearchQuery<H> build() {
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				metrics
 		);
 
 		return new LuceneSearchQueryImpl<>(
@@ -254,7 +259,8 @@ public LuceneSearchQuery<H> build() {
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher, totalHitCountThreshold
+				searcher, totalHitCountThreshold,
+				metrics.queryLoadDurations()
 		);
 	}
 }
@@ -26,6 +26,9 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
@@ -43,6 +46,22 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JfrEventType QUERY_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.lucene.Query", "Lucene Query" )
+					.description( "Execution of a search query, including entity loading" )
+					.category( "Lucene" )
+					.field( String.class, "indexNames", "Index Names" )
+					.field( long.class, "hitCount", "Hit Count" )
+					.field( long.class, "tookMillis", "Took (ms)" )
+					.field( boolean.class, "timedOut", "Timed Out" )
+					.field( boolean.class, "failed", "Failed" )
+					.build();
+	private static final int QUERY_EVENT_INDEX_NAMES = 0;
+	private static final int QUERY_EVENT_HIT_COUNT = 1;
+	private static final int QUERY_EVENT_TOOK = 2;
+	private static final int QUERY_EVENT_TIMED_OUT = 3;
+	private static final int QUERY_EVENT_FAILED = 4;
+
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchQueryIndexScope<?> scope;
@@ -53,6 +72,7 @@
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final Long totalHitCountThreshold;
+	private final Histogram loadDurations;
 
 	private TimeoutManager timeoutManager;
 
@@ -64,7 +84,8 @@
 			TimeoutManager timeoutManager,
 			Query luceneQuery, Sort luceneSort,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
-			Long totalHitCountThreshold) {
+			Long totalHitCountThreshold,
+			Histogram loadDurations) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.scope = scope;
@@ -76,6 +97,7 @@
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.loadDurations = loadDurations;
 	}
 
 	@Override
@@ -118,9 +140,10 @@ public long fetchTotalHitCount() {
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
 		Set<String> indexNames = scope.hibernateSearchIndexNames();
 		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
-				indexNames, scope.indexes(), routingKeys );
-		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys, timeoutManager,
-				searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
+				indexNames, scope.indexes(), sessionContext.tenantIdentifier(), routingKeys );
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope,
+				sessionContext.tenantIdentifier(), routingKeys, timeoutManager,
+				searcher, totalHitCountThreshold( true ), loadingContext, indexReader, chunkSize );
 	}
 
 	@Override
@@ -172,20 +195,45 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 	}
 
 	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount) {
-		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
-				totalHitCountThreshold( trackTotalHitCount ) );
-		LuceneSearchResult<H> result = doSubmit( work )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
-		return result;
+		JfrEvent event = QUERY_EVENT_TYPE.begin();
+		LuceneSearchResult<H> result = null;
+		try {
+			timeoutManager.start();
+			ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
+					totalHitCountThreshold( trackTotalHitCount ) );
+			LuceneLoadableSearchResult<H> loadableResult = doSubmit( work );
+			long loadStart = loadDurations.isEnabled() ? System.nanoTime() : 0L;
+			/*
+			 * WARNING: the following call must run in the user thread.
+			 * If we introduce async processing, we will have to add a loadAsync method here,
+			 * as well as in ProjectionHitMapper and EntityLoader.
+			 * This method may not be easy to implement for blocking mappers,
+			 * so we may choose to throw exceptions for those.
+			 */
+			result = loadableResult.loadBlocking();
+			if ( loadDurations.isEnabled() ) {
+				loadDurations.record( System.nanoTime() - loadStart );
+			}
+			timeoutManager.stop();
+			return result;
+		}
+		finally {
+			// Also record failed queries, which are generally the most interesting ones
+			commitQueryEvent( event, result );
+		}
+	}
+
+	private void commitQueryEvent(JfrEvent event, LuceneSearchResult<H> resultOrNull) {
+		if ( !event.isRecording() ) {
+			return;
+		}
+		event.set( QUERY_EVENT_INDEX_NAMES, String.join( ",", scope.hibernateSearchIndexNames() ) );
+		if ( resultOrNull != null ) {
+			event.set( QUERY_EVENT_HIT_COUNT, resultOrNull.total().hitCountLowerBound() )
+					.set( QUERY_EVENT_TOOK, resultOrNull.took().toMillis() )
+					.set( QUERY_EVENT_TIMED_OUT, resultOrNull.timedOut() );
+		}
+		event.set( QUERY_EVENT_FAILED, resultOrNull == null ).commit();
 	}
 
 	private Explanation doExplain(String typeName, String id) {
@@ -203,6 +251,7 @@ private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
 				scope.indexes(),
+				sessionContext.tenantIdentifier(),
 				routingKeys,
 				work
 		);
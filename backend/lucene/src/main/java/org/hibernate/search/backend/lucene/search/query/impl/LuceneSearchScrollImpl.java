@@ -21,6 +21,7 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -32,10 +33,12 @@
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchQueryIndexScope<?> scope;
+	private final String tenantId;
 	private final Set<String> routingKeys;
 	private final TimeoutManager timeoutManager;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final int totalHitCountThreshold;
+	private final SearchLoadingContext<?, ?> loadingContext;
 
 	// specific to this scroll instance:
 	private final HibernateSearchMultiReader indexReader;
@@ -48,18 +51,20 @@
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
-			Set<String> routingKeys,
+			String tenantId, Set<String> routingKeys,
 			TimeoutManager timeoutManager,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
-			int totalHitCountThreshold,
+			int totalHitCountThreshold, SearchLoadingContext<?, ?> loadingContext,
 			HibernateSearchMultiReader indexReader, int chunkSize) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.scope = scope;
+		this.tenantId = tenantId;
 		this.routingKeys = routingKeys;
 		this.timeoutManager = timeoutManager;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.loadingContext = loadingContext;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
 		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
@@ -107,6 +112,10 @@ private LuceneSearchScrollResult<H> doNext() {
 
 		int nextChunkEndIndexInPage = nextChunkStartIndexInPage + chunkSize;
 
+		if ( nextChunkOffset > 0 ) {
+			loadingContext.beforeLoadingNextChunk();
+		}
+
 		LuceneLoadableSearchResult<H> loadableSearchResult;
 		try {
 			loadableSearchResult = currentPage.extract( nextChunkStartIndexInPage, nextChunkEndIndexInPage );
@@ -135,6 +144,7 @@ private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiRead
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
 				scope.indexes(),
+				tenantId,
 				routingKeys,
 				work, indexReader
 		);
@@ -12,11 +12,13 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
+import org.hibernate.search.backend.lucene.resources.impl.BackendMetrics;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
@@ -40,6 +42,7 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final BackendMetrics metrics;
 
 	private TimeoutManager timeoutManager;
 
@@ -47,12 +50,14 @@
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			BackendMetrics metrics) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -90,7 +95,7 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold );
 
 		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
-				rootProjection, aggregations, timeoutManager );
+				rootProjection, aggregations, timeoutManager, metrics.queryTopDocsDataDurations() );
 	}
 
 	@Override
@@ -128,7 +133,12 @@ private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
 				maxDocs, totalHitCountThreshold );
+		Histogram collectDurations = metrics.queryCollectDurations();
+		long start = collectDurations.isEnabled() ? System.nanoTime() : 0L;
 		luceneCollectors.collectMatchingDocs( offset, limit );
+		if ( collectDurations.isEnabled() ) {
+			collectDurations.record( System.nanoTime() - start );
+		}
 		return luceneCollectors;
 	}
 
@@ -160,7 +170,8 @@ private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReade
 			int maxDocs, int totalHitCountThreshold) throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
+				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold,
+				metrics.queryRewriteDurations()
 		);
 	}
 
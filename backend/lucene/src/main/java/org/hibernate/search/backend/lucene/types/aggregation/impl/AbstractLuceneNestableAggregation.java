@@ -9,8 +9,8 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
-import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -34,7 +34,7 @@
 		this.nestedFilter = builder.nestedFilter;
 	}
 
-	protected NestedDocsProvider createNestedDocsProvider(AggregationExtractContext context) {
+	protected NestedDocsProvider createNestedDocsProvider(CollectorExecutionContext context) {
 		NestedDocsProvider nestedDocsProvider = null;
 		if ( nestedDocumentPath != null ) {
 			nestedDocsProvider = context.createNestedDocsProvider( nestedDocumentPath, nestedFilter );
@@ -14,8 +14,8 @@
 import java.util.Map;
 import java.util.Set;
 
-import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
@@ -25,27 +25,28 @@
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
 
-import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.FacetsCollector;
-import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Collector;
 
 /**
  * @param <F> The type of field values exposed to the mapper.
- * @param <T> The type of terms returned by the Lucene Facets.
+ * @param <T> The type of terms returned by the collector.
  * @param <K> The type of keys in the returned map. It can be {@code F}
  * or a different type if value converters are used.
+ * @param <C> The type of collector counting documents for each term.
  */
-public abstract class AbstractLuceneFacetsBasedTermsAggregation<F, T, K>
-		extends AbstractLuceneBucketAggregation<K, Long> {
+public abstract class AbstractLuceneTermsAggregation<F, T, K, C extends Collector>
+		extends AbstractLuceneBucketAggregation<K, Long>
+		implements CollectorFactory<C> {
 
 	private final ProjectionConverter<F, ? extends K> fromFieldValueConverter;
+	private final CollectorKey<C> collectorKey = CollectorKey.create();
 
 	private final BucketOrder order;
 	private final int maxTermCount;
 	private final int minDocCount;
 
-	AbstractLuceneFacetsBasedTermsAggregation(AbstractBuilder<F, T, K> builder) {
+	AbstractLuceneTermsAggregation(AbstractBuilder<F, T, K> builder) {
 		super( builder );
 		this.fromFieldValueConverter = builder.fromFieldValueConverter;
 		this.order = builder.order;
@@ -55,7 +56,12 @@
 
 	@Override
 	public void request(AggregationRequestContext context) {
-		context.requireCollector( FacetsCollectorFactory.INSTANCE );
+		context.requireCollector( this );
+	}
+
+	@Override
+	public CollectorKey<C> getCollectorKey() {
+		return collectorKey;
 	}
 
 	@Override
@@ -93,45 +99,40 @@ public final Map<K, Long> extract(AggregationExtractContext context) throws IOEx
 		return toMap( convertContext, buckets );
 	}
 
-	abstract FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider, int limit) throws IOException;
+	/**
+	 * @param collector The collector, after matching documents were collected.
+	 * @param limit The maximum number of buckets to return.
+	 * @return The buckets with the highest document count, in descending count order,
+	 * ties being broken by ascending term order.
+	 */
+	abstract List<Bucket<T>> getTopBuckets(C collector, int limit) throws IOException;
 
 	abstract Set<T> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException;
 
 	abstract Comparator<T> getAscendingTermComparator();
 
-	abstract T labelToTerm(String label);
-
 	abstract F termToFieldValue(T key);
 
 	private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws IOException {
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
-
-		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
+		C collector = context.getCollector( collectorKey );
 
 		/*
 		 * TODO HSEARCH-3666 What if the sort order is by term value?
-		 *  Lucene returns facets in descending count order.
-		 *  If that's what we need, then we can ask Lucene to apply the "maxTermCount" limit directly.
+		 *  Collectors return buckets in descending count order.
+		 *  If that's what we need, then we can ask the collector to apply the "maxTermCount" limit directly.
 		 *  This is what we do here.
 		 *  But if we need a different sort, then having to retrieve the "top N" facets by document count
 		 *  becomes clearly sub-optimal: to properly implement this, we would need to retrieve
-		 *  *all* facets, and Lucene would allocate an array of Integer.MAX_VALUE elements.
-		 *  To improve on this, we would need to re-implement the facet collections.
+		 *  *all* buckets.
 		 */
 		int limit = maxTermCount;
-		FacetResult facetResult = getTopChildren( context.getIndexReader(), facetsCollector, nestedDocsProvider, limit );
-
 		List<Bucket<T>> buckets = new ArrayList<>();
 
-		if ( facetResult != null ) {
-			// Add results for matching documents
-			for ( LabelAndValue labelAndValue : facetResult.labelValues ) {
-				long count = (Integer) labelAndValue.value;
-				if ( count >= minDocCount ) {
-					buckets.add( new Bucket<>( labelToTerm( labelAndValue.label ), count ) );
-				}
+		// Add results for matching documents
+		for ( Bucket<T> bucket : getTopBuckets( collector, limit ) ) {
+			if ( bucket.count >= minDocCount ) {
+				buckets.add( bucket );
 			}
 		}
 
@@ -208,7 +209,7 @@ public void maxTermCount(int maxTermCount) {
 		}
 
 		@Override
-		public abstract AbstractLuceneFacetsBasedTermsAggregation<F, T, K> build();
+		public abstract AbstractLuceneTermsAggregation<F, T, K, ?> build();
 
 		protected final void order(BucketOrder order) {
 			this.order = order;
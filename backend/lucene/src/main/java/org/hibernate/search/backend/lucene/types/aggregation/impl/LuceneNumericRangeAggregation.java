@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
-import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -15,8 +14,10 @@
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericRangeCollector;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
@@ -30,9 +31,6 @@
 import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 
 /**
  * @param <F> The type of field values.
@@ -41,7 +39,8 @@
  * or a different type if value converters are used.
  */
 public class LuceneNumericRangeAggregation<F, E extends Number, K>
-		extends AbstractLuceneBucketAggregation<Range<K>, Long> {
+		extends AbstractLuceneBucketAggregation<Range<K>, Long>
+		implements CollectorFactory<NumericRangeCollector> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -50,6 +49,8 @@
 	private final List<Range<K>> rangesInOrder;
 	private final List<Range<E>> encodedRangesInOrder;
 
+	private final CollectorKey<NumericRangeCollector> collectorKey = CollectorKey.create();
+
 	private LuceneNumericRangeAggregation(Builder<F, E, K> builder) {
 		super( builder );
 		this.codec = builder.codec;
@@ -59,27 +60,30 @@ private LuceneNumericRangeAggregation(Builder<F, E, K> builder) {
 
 	@Override
 	public void request(AggregationRequestContext context) {
-		context.requireCollector( FacetsCollectorFactory.INSTANCE );
+		context.requireCollector( this );
 	}
 
 	@Override
-	public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOException {
+	public NumericRangeCollector createCollector(CollectorExecutionContext context) {
 		LuceneNumericDomain<E> numericDomain = codec.getDomain();
+		return numericDomain.createRangeCollector( absoluteFieldPath, encodedRangesInOrder,
+				createNestedDocsProvider( context ) );
+	}
 
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
-
-		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
+	@Override
+	public CollectorKey<NumericRangeCollector> getCollectorKey() {
+		return collectorKey;
+	}
 
-		Facets facetsCount = numericDomain.createRangeFacetCounts(
-				absoluteFieldPath, facetsCollector, encodedRangesInOrder,
-				nestedDocsProvider
-		);
+	@Override
+	public Map<Range<K>, Long> extract(AggregationExtractContext context) {
+		NumericRangeCollector collector = context.getCollector( collectorKey );
 
-		FacetResult facetResult = facetsCount.getTopChildren( rangesInOrder.size(), absoluteFieldPath );
+		int[] counts = collector.counts();
 
 		Map<Range<K>, Long> result = new LinkedHashMap<>();
 		for ( int i = 0; i < rangesInOrder.size(); i++ ) {
-			result.put( rangesInOrder.get( i ), (long) (Integer) facetResult.labelValues[i].value );
+			result.put( rangesInOrder.get( i ), (long) counts[i] );
 		}
 
 		return result;
@@ -7,11 +7,15 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericTermsCollector;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -21,14 +25,14 @@
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
 
-import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
+import com.carrotsearch.hppc.LongIntScatterMap;
+import com.carrotsearch.hppc.cursors.LongIntCursor;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.PriorityQueue;
 
 /**
  * @param <F> The type of field values.
@@ -36,7 +40,7 @@
  * or a different type if value converters are used.
  */
 public class LuceneNumericTermsAggregation<F, E extends Number, K>
-		extends AbstractLuceneFacetsBasedTermsAggregation<F, E, K> {
+		extends AbstractLuceneTermsAggregation<F, E, K, NumericTermsCollector> {
 
 	private final AbstractLuceneNumericFieldCodec<F, E> codec;
 	private final LuceneNumericDomain<E> numericDomain;
@@ -51,12 +55,39 @@ private LuceneNumericTermsAggregation(Builder<F, E, K> builder) {
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
-		Facets facetCounts = numericDomain.createTermsFacetCounts(
-				absoluteFieldPath, facetsCollector, nestedDocsProvider
-		);
-		return facetCounts.getTopChildren( limit, absoluteFieldPath );
+	public NumericTermsCollector createCollector(CollectorExecutionContext context) {
+		return numericDomain.createTermsCollector( absoluteFieldPath, createNestedDocsProvider( context ) );
+	}
+
+	@Override
+	List<Bucket<E>> getTopBuckets(NumericTermsCollector collector, int limit) {
+		LongIntScatterMap counts = collector.counts();
+		if ( counts.isEmpty() ) {
+			return new ArrayList<>();
+		}
+		PriorityQueue<LongIntCursor> queue = new PriorityQueue<LongIntCursor>( Math.min( limit, counts.size() ) ) {
+			@Override
+			protected boolean lessThan(LongIntCursor a, LongIntCursor b) {
+				// sort by count descending, breaking ties by value ascending:
+				return a.value < b.value || ( a.value == b.value && a.key > b.key );
+			}
+		};
+		LongIntCursor reuse = null;
+		for ( LongIntCursor cursor : counts ) {
+			if ( reuse == null ) {
+				reuse = new LongIntCursor();
+			}
+			reuse.key = cursor.key;
+			reuse.value = cursor.value;
+			reuse = queue.insertWithOverflow( reuse );
+		}
+		List<Bucket<E>> buckets = new ArrayList<>( queue.size() );
+		while ( queue.size() != 0 ) {
+			LongIntCursor entry = queue.pop();
+			buckets.add( new Bucket<>( numericDomain.sortedDocValueToTerm( entry.key ), entry.value ) );
+		}
+		Collections.reverse( buckets );
+		return buckets;
 	}
 
 	@Override
@@ -88,11 +119,6 @@ Comparator<E> getAscendingTermComparator() {
 		return termComparator;
 	}
 
-	@Override
-	E labelToTerm(String termAsString) {
-		return numericDomain.sortedDocValueToTerm( Long.parseLong( termAsString ) );
-	}
-
 	@Override
 	F termToFieldValue(E term) {
 		return codec.decode( term );
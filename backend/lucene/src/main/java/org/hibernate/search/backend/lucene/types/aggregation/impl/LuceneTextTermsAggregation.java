@@ -7,13 +7,16 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TextTermsCollector;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextMultiValueFacetCounts;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -21,8 +24,7 @@
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
 
-import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.TopOrdAndIntQueue;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
@@ -33,7 +35,7 @@
  * or a different type if value converters are used.
  */
 public class LuceneTextTermsAggregation<K>
-		extends AbstractLuceneFacetsBasedTermsAggregation<String, String, K> {
+		extends AbstractLuceneTermsAggregation<String, String, K, TextTermsCollector> {
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
@@ -42,16 +44,49 @@ private LuceneTextTermsAggregation(Builder<K> builder) {
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
+	public TextTermsCollector createCollector(CollectorExecutionContext context) throws IOException {
 		JoiningTextMultiValuesSource valueSource = JoiningTextMultiValuesSource.fromField(
-				absoluteFieldPath, nestedDocsProvider
-		);
-		TextMultiValueFacetCounts facetCounts = new TextMultiValueFacetCounts(
-				reader, absoluteFieldPath, valueSource, facetsCollector
+				absoluteFieldPath, createNestedDocsProvider( context )
 		);
+		return new TextTermsCollector( context.getIndexSearcher().getIndexReader(), absoluteFieldPath, valueSource );
+	}
 
-		return facetCounts.getTopChildren( limit, absoluteFieldPath );
+	@Override
+	List<Bucket<String>> getTopBuckets(TextTermsCollector collector, int limit) throws IOException {
+		int[] counts = collector.counts();
+		TopOrdAndIntQueue queue = null;
+		TopOrdAndIntQueue.OrdAndValue reuse = null;
+		int bottomCount = 0;
+		for ( int ord = 0; ord < counts.length; ord++ ) {
+			if ( counts[ord] > bottomCount ) {
+				if ( reuse == null ) {
+					reuse = new TopOrdAndIntQueue.OrdAndValue();
+				}
+				reuse.ord = ord;
+				reuse.value = counts[ord];
+				if ( queue == null ) {
+					// Lazy init, so we don't create this for the
+					// sparse case unnecessarily
+					queue = new TopOrdAndIntQueue( limit );
+				}
+				reuse = queue.insertWithOverflow( reuse );
+				if ( queue.size() == limit ) {
+					bottomCount = queue.top().value;
+				}
+			}
+		}
+
+		if ( queue == null ) {
+			return new ArrayList<>();
+		}
+
+		List<Bucket<String>> buckets = new ArrayList<>( queue.size() );
+		while ( queue.size() != 0 ) {
+			TopOrdAndIntQueue.OrdAndValue ordAndValue = queue.pop();
+			buckets.add( new Bucket<>( collector.lookupOrd( ordAndValue.ord ).utf8ToString(), ordAndValue.value ) );
+		}
+		Collections.reverse( buckets );
+		return buckets;
 	}
 
 	@Override
@@ -86,11 +121,6 @@ Comparator<String> getAscendingTermComparator() {
 		return STRING_COMPARATOR;
 	}
 
-	@Override
-	String labelToTerm(String label) {
-		return label;
-	}
-
 	@Override
 	String termToFieldValue(String key) {
 		return key;
@@ -6,27 +6,25 @@
  */
 package org.hibernate.search.backend.lucene.types.lowlevel.impl;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Comparator;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericRangeCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericTermsCollector;
 import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.FloatValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DoubleMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningLongMultiValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueRangeFacetCounts;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.FloatPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneFloatDomain implements LuceneNumericDomain<Float> {
@@ -84,30 +82,29 @@ public Float sortedDocValueToTerm(long longValue) {
 	}
 
 	@Override
-	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider) throws IOException {
+	public NumericTermsCollector createTermsCollector(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider) {
 		// As we don't need to apply any operation to terms except sometimes a sort,
 		// we can simply rely on raw, int values, whose order is the same as their corresponding float value.
 		// Values are ultimately converted back to the Float equivalent by calling sortedDocValueToTerm.
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueFacetCounts( absoluteFieldPath, source, facetsCollector );
+		return new NumericTermsCollector( source );
 	}
 
 	@Override
-	public Facets createRangeFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	public NumericRangeCollector createRangeCollector(String absoluteFieldPath,
 			Collection<? extends Range<? extends Float>> ranges,
-			NestedDocsProvider nestedDocsProvider) throws IOException {
+			NestedDocsProvider nestedDocsProvider) {
 		// As we don't need to apply any operation to terms except sometimes a sort,
 		// we can simply rely on raw, int values, whose order is the same as their corresponding float value.
 		// Values are ultimately converted back to the Float equivalent by calling sortedDocValueToTerm.
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueRangeFacetCounts(
-				absoluteFieldPath, source,
-				facetsCollector,
+		return new NumericRangeCollector(
+				source,
 				FacetCountsUtils.createLongRangesForFloatingPointValues(
 						ranges, value -> (long) NumericUtils.floatToSortableInt( value ),
 						Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY
@@ -115,6 +112,11 @@ public Facets createRangeFacetCounts(String absoluteFieldPath, FacetsCollector f
 		);
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.FLOAT;
+	}
+
 	@Override
 	public IndexableField createIndexField(String absoluteFieldPath, Float numericValue) {
 		return new FloatPoint( absoluteFieldPath, numericValue );
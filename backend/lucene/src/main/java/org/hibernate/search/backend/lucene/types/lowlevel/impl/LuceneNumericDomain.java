@@ -6,19 +6,19 @@
  */
 package org.hibernate.search.backend.lucene.types.lowlevel.impl;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Comparator;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericRangeCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericTermsCollector;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
 
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public interface LuceneNumericDomain<E extends Number> {
 
@@ -40,12 +40,15 @@
 
 	E sortedDocValueToTerm(long longValue);
 
-	Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider) throws IOException;
+	NumericTermsCollector createTermsCollector(String absoluteFieldPath, NestedDocsProvider nestedDocsProvider);
 
-	Facets createRangeFacetCounts(String absoluteFieldPath,
-			FacetsCollector facetsCollector, Collection<? extends Range<? extends E>> ranges,
-			NestedDocsProvider nestedDocsProvider) throws IOException;
+	NumericRangeCollector createRangeCollector(String absoluteFieldPath,
+			Collection<? extends Range<? extends E>> ranges, NestedDocsProvider nestedDocsProvider);
+
+	/**
+	 * @return The type to use for native sort fields, consistent with {@link #createIndexField(String, Number)}.
+	 */
+	SortField.Type getSortFieldType();
 
 	IndexableField createIndexField(String absoluteFieldPath, E numericValue);
 
@@ -37,6 +37,12 @@ public abstract class AbstractLuceneDocumentValueSort extends AbstractLuceneReve
 
 	protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		super( builder );
+		SortField nativeSortField = builder.toNativeSortFieldOrNull();
+		if ( nativeSortField != null ) {
+			sortField = nativeSortField;
+			nestedFieldSort = null;
+			return;
+		}
 		LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
 		sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
 		nestedFieldSort = builder.nestedDocumentPath != null ? fieldComparatorSource : null;
@@ -84,6 +90,16 @@ public void filter(SearchPredicate filter) {
 
 		protected abstract LuceneFieldComparatorSource toFieldComparatorSource();
 
+		/**
+		 * @return A sort field relying on Lucene's built-in comparators,
+		 * which are able to skip non-competitive documents,
+		 * or {@code null} if this sort requires a custom comparator source
+		 * (multi-valued fields, nested documents, ...).
+		 */
+		protected SortField toNativeSortFieldOrNull() {
+			return null;
+		}
+
 		protected final MultiValueMode getMultiValueMode() {
 			MultiValueMode multiValueMode;
 			if ( mode == null ) {
@@ -28,6 +28,7 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.util.BytesRef;
 
 public class LuceneStandardFieldSort extends AbstractLuceneDocumentValueSort {
@@ -143,6 +144,28 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 			return new LuceneNumericFieldComparatorSource<>( nestedDocumentPath, codec.getDomain(),
 					(E) getEffectiveMissingValue(), getMultiValueMode(), getNestedFilter() );
 		}
+
+		@Override
+		protected SortField toNativeSortFieldOrNull() {
+			if ( nestedDocumentPath != null || field.multiValuedInRoot() ) {
+				return null;
+			}
+			if ( missingValue != SortMissingValue.MISSING_FIRST && missingValue != SortMissingValue.MISSING_LAST ) {
+				// Replacement of missing values is left to the custom comparator source.
+				return null;
+			}
+			// The field is single-valued, so the sort mode is irrelevant.
+			SortedNumericSortField sortField = new SortedNumericSortField( absoluteFieldPath,
+					codec.getDomain().getSortFieldType(), order == SortOrder.DESC );
+			sortField.setMissingValue( getEffectiveMissingValue() );
+			if ( missingValue == SortMissingValue.MISSING_LAST ) {
+				// Points and doc values are indexed under the same name, see AbstractLuceneNumericFieldCodec.
+				// Only skip documents using points when documents without a value are never competitive:
+				// those documents are not in the points tree.
+				sortField.setCanUsePoints();
+			}
+			return sortField;
+		}
 	}
 
 	public static class TextFieldFactory<F>
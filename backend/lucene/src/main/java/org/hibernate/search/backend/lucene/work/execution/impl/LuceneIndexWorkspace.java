@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -32,13 +33,14 @@ public LuceneIndexWorkspace(LuceneWorkFactory factory,
 
 	@Override
 	public CompletableFuture<?> mergeSegments() {
-		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.mergeSegments(), false );
+		return doSubmit( indexManagerContext.managementOrchestrators( sessionContext.tenantIdentifier(),
+				Collections.emptySet() ), factory.mergeSegments(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(Set<String> routingKeys) {
 		return doSubmit(
-				indexManagerContext.managementOrchestrators( routingKeys ),
+				indexManagerContext.managementOrchestrators( sessionContext.tenantIdentifier(), routingKeys ),
 				factory.deleteAll( sessionContext.tenantIdentifier(), routingKeys ),
 				true
 		);
@@ -46,12 +48,14 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.flush(), false );
+		return doSubmit( indexManagerContext.managementOrchestrators( sessionContext.tenantIdentifier(),
+				Collections.emptySet() ), factory.flush(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false );
+		return doSubmit( indexManagerContext.managementOrchestrators( sessionContext.tenantIdentifier(),
+				Collections.emptySet() ), factory.refresh(), false );
 	}
 
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
@@ -27,9 +27,7 @@ public interface WorkExecutionIndexManagerContext {
 
 	String mappedTypeName();
 
-	LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey);
+	LuceneSerialWorkOrchestrator indexingOrchestrator(String tenantId, String documentId, String routingKey);
 
-	List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys);
-
-	List<LuceneParallelWorkOrchestrator> allManagementOrchestrators();
+	List<LuceneParallelWorkOrchestrator> managementOrchestrators(String tenantId, Set<String> routingKeys);
 }
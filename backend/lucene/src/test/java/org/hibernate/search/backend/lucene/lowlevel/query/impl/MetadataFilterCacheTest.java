@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+public class MetadataFilterCacheTest {
+
+	private final MetadataFilterCache cache = new MetadataFilterCache();
+
+	@Test
+	public void matchesSameDocumentsAndEvictsOnSegmentClose() throws Exception {
+		try ( ByteBuffersDirectory directory = new ByteBuffersDirectory();
+				IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			addDocument( writer, "tenant1" );
+			addDocument( writer, "tenant2" );
+			addDocument( writer, "tenant1" );
+			writer.commit();
+			// Second segment
+			addDocument( writer, "tenant1" );
+			writer.commit();
+
+			Query filter = new TermQuery( new Term( "tenant", "tenant1" ) );
+			Query otherFilter = new TermQuery( new Term( "tenant", "tenant3" ) );
+
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				assertThat( reader.leaves() ).hasSize( 2 );
+				IndexSearcher searcher = new IndexSearcher( reader );
+
+				assertThat( searcher.count( cache.cached( filter ) ) ).isEqualTo( 3 );
+				assertThat( cache.segmentCountForTests() ).isEqualTo( 2 );
+				// Served from the cache
+				assertThat( searcher.count( cache.cached( filter ) ) ).isEqualTo( 3 );
+				assertThat( searcher.count( cache.cached( otherFilter ) ) ).isZero();
+				assertThat( cache.segmentCountForTests() ).isEqualTo( 2 );
+
+				// Deletions are taken into account even though the cache is per segment core
+				writer.deleteDocuments( new Term( "id", "0" ) );
+				writer.commit();
+				try ( DirectoryReader newReader = DirectoryReader.openIfChanged( reader ) ) {
+					assertThat( new IndexSearcher( newReader ).count( cache.cached( filter ) ) ).isEqualTo( 2 );
+				}
+			}
+
+			assertThat( cache.segmentCountForTests() ).isZero();
+		}
+	}
+
+	private int nextId = 0;
+
+	private void addDocument(IndexWriter writer, String tenantId) throws Exception {
+		Document document = new Document();
+		document.add( new StringField( "id", String.valueOf( nextId++ ), Field.Store.NO ) );
+		document.add( new StringField( "tenant", tenantId, Field.Store.NO ) );
+		writer.addDocument( document );
+	}
+}
@@ -15,6 +15,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -284,6 +285,30 @@ public void scrolling() {
 		} );
 	}
 
+	@Test
+	public void streaming() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> collectedIds = new ArrayList<>();
+
+			// tag::fetching-streaming[]
+			try ( Stream<Book> stream = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.clearSessionBetweenChunks( true ) ) // <1>
+					.stream( 20 ) ) { // <2>
+				stream.forEach( hit -> { // <3>
+					// ... do something with the hits ...
+					// end::fetching-streaming[]
+					collectedIds.add( hit.getId() );
+					// tag::fetching-streaming[]
+				} );
+			}
+			// end::fetching-streaming[]
+
+			assertThat( collectedIds ).containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
 	@Test
 	public void searchQuery() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
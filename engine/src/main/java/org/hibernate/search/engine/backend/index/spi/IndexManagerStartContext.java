@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.index.spi;
 
+import java.util.List;
+
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
@@ -32,4 +34,16 @@ public interface IndexManagerStartContext {
 
 	ConfigurationPropertySource configurationPropertySource();
 
+	/**
+	 * Executes the given tasks, potentially in parallel, and waits for all of them to complete.
+	 * <p>
+	 * Useful to start the multiple parts of an index, e.g. shards, in parallel.
+	 * Parallelism is bounded by {@link org.hibernate.search.engine.cfg.EngineSettings#BOOTSTRAP_PARALLELISM}.
+	 *
+	 * @param tasks The tasks to execute.
+	 * @throws RuntimeException The failure of the first failing task, in the order of the given list,
+	 * with failures of other tasks added as suppressed exceptions.
+	 */
+	void executeInParallel(List<? extends Runnable> tasks);
+
 }
@@ -15,6 +15,10 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -31,6 +35,16 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JfrEventType BATCH_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.Batch", "Batch" )
+					.description( "Processing of a batch of works by a batching executor" )
+					.category( "Orchestration" )
+					.field( String.class, "executor", "Executor" )
+					.field( int.class, "workCount", "Work Count" )
+					.build();
+	private static final int BATCH_EVENT_EXECUTOR = 0;
+	private static final int BATCH_EVENT_WORK_COUNT = 1;
+
 	private final String name;
 
 	private final FailureHandler failureHandler;
@@ -53,10 +67,32 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, failureHandler, MetricsRegistry.noOp(), "" );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry A registry to record the depth of the queue ({@code <metricNamePrefix>.queue.depth})
+	 * and the size of batches ({@code <metricNamePrefix>.batch.size}) into.
+	 * @param metricNamePrefix The prefix of metric names.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry, String metricNamePrefix) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch,
+				metricsRegistry.histogram( metricNamePrefix + ".queue.depth" ),
+				metricsRegistry.histogram( metricNamePrefix + ".batch.size" ) );
 	}
 
 	@Override
@@ -140,19 +176,27 @@ public CompletableFuture<?> completion() {
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Histogram queueDepths;
+		private final Histogram batchSizes;
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, Histogram queueDepths, Histogram batchSizes) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.queueDepths = queueDepths;
+			this.batchSizes = batchSizes;
 		}
 
 		@Override
 		public CompletableFuture<?> work() {
 			workBuffer.clear();
+			if ( queueDepths.isEnabled() ) {
+				// Avoid the cost of size(), which acquires a lock, when metrics are disabled.
+				queueDepths.record( workQueue.size() );
+			}
 			workQueue.drainTo( workBuffer, maxTasksPerBatch );
 
 			if ( workBuffer.isEmpty() ) {
@@ -161,11 +205,14 @@ public CompletableFuture<?> work() {
 			}
 
 			int workCount = workBuffer.size();
+			batchSizes.record( workCount );
 			boolean traceEnabled = log.isTraceEnabled();
 			if ( traceEnabled ) {
 				log.tracef( "Processing %d works in executor '%s'", workCount, name );
 			}
 
+			JfrEvent event = BATCH_EVENT_TYPE.begin();
+
 			processor.beginBatch();
 
 			for ( BatchedWork<? super P> work : workBuffer ) {
@@ -179,6 +226,10 @@ public CompletableFuture<?> work() {
 
 			// Nothing more to do, end the batch and terminate
 			CompletableFuture<?> future = processor.endBatch();
+			if ( event.isRecording() ) {
+				event.set( BATCH_EVENT_EXECUTOR, name ).set( BATCH_EVENT_WORK_COUNT, workCount );
+				future.whenComplete( (result, throwable) -> event.commit() );
+			}
 			if ( traceEnabled ) {
 				future.whenComplete( (result, throwable) -> {
 					log.tracef( "Processed %d works in executor '%s'", workCount, name );
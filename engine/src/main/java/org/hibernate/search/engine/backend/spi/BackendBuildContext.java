@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.backend.spi;
 
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -30,6 +31,8 @@ public interface BackendBuildContext {
 
 	TimingSource timingSource();
 
+	MetricsRegistry metricsRegistry();
+
 	boolean multiTenancyEnabled();
 
 }
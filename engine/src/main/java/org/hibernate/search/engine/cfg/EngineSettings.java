@@ -58,6 +58,42 @@ private EngineSettings() {
 	 */
 	public static final String BACKGROUND_FAILURE_HANDLER = PREFIX + Radicals.BACKGROUND_FAILURE_HANDLER;
 
+	/**
+	 * Whether thread pools dedicated to tasks that spend most of their time blocked,
+	 * such as loading identifiers during mass indexing or processing outbox events,
+	 * should use virtual threads instead of platform threads.
+	 * <p>
+	 * The number of threads in those pools still bounds the number of concurrent tasks,
+	 * but each thread is much cheaper, allowing for much higher concurrency.
+	 * Thread pools dedicated to CPU-bound tasks, such as index writes
+	 * or loading entities and building documents during mass indexing, always use platform threads.
+	 * Virtual threads are created through the configured
+	 * {@link org.hibernate.search.engine.environment.thread.spi.ThreadProvider},
+	 * so custom thread providers that do not support virtual threads will keep using platform threads.
+	 * <p>
+	 * Requires JDK 21 or later; ignored with a warning on older JDKs.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#VIRTUAL_THREADS_ENABLED}.
+	 */
+	public static final String VIRTUAL_THREADS_ENABLED = PREFIX + Radicals.VIRTUAL_THREADS_ENABLED;
+
+	/**
+	 * The maximum number of threads used to start backends, indexes and index shards in parallel during bootstrap.
+	 * <p>
+	 * Starting an index may involve I/O, such as opening directories or checking the index schema,
+	 * so starting indexes in parallel can noticeably reduce the bootstrap time of applications with many indexes.
+	 * Set this to {@code 1} to start everything sequentially, from the bootstrapping thread.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#BOOTSTRAP_PARALLELISM}.
+	 */
+	public static final String BOOTSTRAP_PARALLELISM = PREFIX + Radicals.BOOTSTRAP_PARALLELISM;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -70,6 +106,8 @@ private Radicals() {
 		public static final String BACKENDS = "backends";
 		public static final String CONFIGURATION_PROPERTY_CHECKING_STRATEGY = "configuration_property_checking.strategy";
 		public static final String BACKGROUND_FAILURE_HANDLER = "background_failure_handler";
+		public static final String VIRTUAL_THREADS_ENABLED = "virtual_threads.enabled";
+		public static final String BOOTSTRAP_PARALLELISM = "bootstrap.parallelism";
 	}
 
 	/**
@@ -83,6 +121,10 @@ public static final class Defaults {
 		public static final BeanReference<? extends FailureHandler> BACKGROUND_FAILURE_HANDLER =
 				BeanReference.of( FailureHandler.class, LogFailureHandler.NAME );
 
+		public static final boolean VIRTUAL_THREADS_ENABLED = false;
+
+		public static final int BOOTSTRAP_PARALLELISM = 4;
+
 		private Defaults() {
 		}
 
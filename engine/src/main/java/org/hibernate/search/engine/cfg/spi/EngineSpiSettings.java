@@ -10,6 +10,8 @@
 import java.util.List;
 
 import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.metrics.impl.NoOpMetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
@@ -49,6 +51,43 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link MetricsRegistry} used to record runtime metrics,
+	 * such as indexing queue depths, batch sizes, commit and refresh durations, request latencies, ...
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsRegistry}.
+	 * Built-in registries are {@code none}, which ignores all metrics,
+	 * and {@code in-memory}, which keeps metrics in memory and can export them through JMX,
+	 * see {@link #METRICS_JMX_ENABLED}.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_REGISTRY}, a registry that ignores all metrics.
+	 */
+	public static final String METRICS_REGISTRY = PREFIX + Radicals.METRICS_REGISTRY;
+
+	/**
+	 * Whether metrics should be exported through JMX, on the platform MBean server.
+	 * <p>
+	 * Only works with the {@code in-memory} {@link #METRICS_REGISTRY metrics registry}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_JMX_ENABLED}.
+	 */
+	public static final String METRICS_JMX_ENABLED = PREFIX + Radicals.METRICS_JMX_ENABLED;
+
+	/**
+	 * The object name of the MBean exposing metrics through JMX.
+	 * <p>
+	 * Only relevant if {@link #METRICS_JMX_ENABLED} is {@code true}.
+	 * Should be set to a different value for each Hibernate Search instance in the same JVM.
+	 * <p>
+	 * Expects a String representing a valid JMX object name.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_JMX_OBJECT_NAME}.
+	 */
+	public static final String METRICS_JMX_OBJECT_NAME = PREFIX + Radicals.METRICS_JMX_OBJECT_NAME;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -59,6 +98,9 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS_REGISTRY = "metrics.registry";
+		public static final String METRICS_JMX_ENABLED = "metrics.jmx.enabled";
+		public static final String METRICS_JMX_OBJECT_NAME = "metrics.jmx.object_name";
 	}
 
 	/**
@@ -72,5 +114,9 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( ThreadProvider.class, EmbeddedThreadProvider.NAME );
+		public static final BeanReference<? extends MetricsRegistry> METRICS_REGISTRY =
+				BeanReference.of( MetricsRegistry.class, NoOpMetricsRegistry.NAME );
+		public static final boolean METRICS_JMX_ENABLED = false;
+		public static final String METRICS_JMX_OBJECT_NAME = "org.hibernate.search:type=Metrics";
 	}
 }
@@ -32,11 +32,14 @@ void closeOnFailure() {
 		backend.stop();
 	}
 
-	BackendImplementor start(RootFailureCollector rootFailureCollector,
+	ContextualFailureCollector failureCollector(RootFailureCollector rootFailureCollector) {
+		return rootFailureCollector.withContext( eventContext );
+	}
+
+	BackendImplementor start(ContextualFailureCollector backendFailureCollector,
 			BeanResolver beanResolver,
 			ConfigurationPropertySource rootPropertySource,
 			ThreadPoolProvider threadPoolProvider) {
-		ContextualFailureCollector backendFailureCollector = rootFailureCollector.withContext( eventContext );
 		ConfigurationPropertySource backendPropertySource = propertySourceExtractor.extract( rootPropertySource );
 		BackendStartContextImpl startContext = new BackendStartContextImpl(
 				backendFailureCollector,
@@ -0,0 +1,137 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.impl.Throwables;
+
+/**
+ * Executes bootstrap tasks, such as starting backends, index managers or shards, in parallel.
+ * <p>
+ * The calling thread always takes part in the execution of tasks,
+ * so that {@link #executeAll(List)} may safely be called from a task that is itself executed by this executor:
+ * waiting for tasks that are already running on other threads cannot lead to a deadlock.
+ * <p>
+ * For the same reason, submitting tasks must never block:
+ * unlike pools created through {@link ThreadPoolProvider#newFixedThreadPool(int, String)},
+ * whose bounded queue blocks submitters when full,
+ * the queue of this executor is unbounded.
+ * Queued tasks are cheap, since tasks claimed by the calling thread in the meantime are simply skipped.
+ */
+final class BootstrapExecutor implements AutoCloseable {
+
+	static final String THREAD_NAME_PREFIX = "Bootstrap";
+
+	static BootstrapExecutor create(ThreadPoolProvider threadPoolProvider, int parallelism) {
+		if ( parallelism <= 1 ) {
+			return new BootstrapExecutor( null );
+		}
+		// The calling thread counts as one of the parallel threads.
+		int threads = parallelism - 1;
+		return new BootstrapExecutor( new ThreadPoolExecutor( threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(),
+				threadPoolProvider.threadProvider().createThreadFactory( THREAD_NAME_PREFIX ) ) );
+	}
+
+	private final ExecutorService executor;
+
+	private BootstrapExecutor(ExecutorService executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public void close() {
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Executes the given tasks and waits for all of them to complete, even if some fail.
+	 *
+	 * @param tasks The tasks to execute.
+	 * @throws RuntimeException The failure of the first failing task, in the order of the given list,
+	 * with failures of other tasks added as suppressed exceptions.
+	 */
+	void executeAll(List<? extends Runnable> tasks) {
+		List<ClaimableTask> claimableTasks = new ArrayList<>( tasks.size() );
+		for ( Runnable task : tasks ) {
+			claimableTasks.add( new ClaimableTask( task ) );
+		}
+		if ( executor != null && claimableTasks.size() > 1 ) {
+			for ( ClaimableTask task : claimableTasks ) {
+				executor.execute( task );
+			}
+		}
+		// Execute the tasks that no other thread picked up yet.
+		for ( ClaimableTask task : claimableTasks ) {
+			task.run();
+		}
+		Throwable failure = null;
+		for ( ClaimableTask task : claimableTasks ) {
+			Throwable taskFailure = task.awaitFailureOrNull();
+			if ( taskFailure == null ) {
+				continue;
+			}
+			if ( failure == null ) {
+				failure = taskFailure;
+			}
+			else {
+				failure.addSuppressed( taskFailure );
+			}
+		}
+		if ( failure != null ) {
+			throw Throwables.toRuntimeException( failure );
+		}
+	}
+
+	private static final class ClaimableTask implements Runnable {
+		private final Runnable delegate;
+		private final AtomicBoolean claimed = new AtomicBoolean( false );
+		private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+		private ClaimableTask(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void run() {
+			if ( !claimed.compareAndSet( false, true ) ) {
+				// Already executed, or being executed, by another thread.
+				return;
+			}
+			try {
+				delegate.run();
+				completion.complete( null );
+			}
+			catch (Throwable e) {
+				completion.completeExceptionally( e );
+			}
+		}
+
+		Throwable awaitFailureOrNull() {
+			try {
+				completion.join();
+				return null;
+			}
+			catch (CompletionException e) {
+				return e.getCause();
+			}
+		}
+	}
+
+}
@@ -32,13 +32,17 @@ void closeOnFailure() {
 		indexManager.stop();
 	}
 
-	IndexManagerImplementor start(RootFailureCollector rootFailureCollector,
+	ContextualFailureCollector failureCollector(RootFailureCollector rootFailureCollector) {
+		return rootFailureCollector.withContext( eventContext );
+	}
+
+	IndexManagerImplementor start(ContextualFailureCollector indexFailureCollector,
 			BeanResolver beanResolver,
-			ConfigurationPropertySource rootPropertySource) {
-		ContextualFailureCollector indexFailureCollector = rootFailureCollector.withContext( eventContext );
+			ConfigurationPropertySource rootPropertySource,
+			BootstrapExecutor bootstrapExecutor) {
 		ConfigurationPropertySource indexPropertySource = propertySourceExtractor.extract( rootPropertySource );
 		IndexManagerStartContextImpl startContext = new IndexManagerStartContextImpl(
-				indexFailureCollector, beanResolver, indexPropertySource
+				indexFailureCollector, beanResolver, indexPropertySource, bootstrapExecutor
 		);
 		try {
 			indexManager.start( startContext );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.List;
+
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -15,13 +17,16 @@ class IndexManagerStartContextImpl implements IndexManagerStartContext {
 	private final ContextualFailureCollector failureCollector;
 	private final BeanResolver beanResolver;
 	private final ConfigurationPropertySource configurationPropertySource;
+	private final BootstrapExecutor bootstrapExecutor;
 
 	IndexManagerStartContextImpl(ContextualFailureCollector failureCollector,
 			BeanResolver beanResolver,
-			ConfigurationPropertySource configurationPropertySource) {
+			ConfigurationPropertySource configurationPropertySource,
+			BootstrapExecutor bootstrapExecutor) {
 		this.failureCollector = failureCollector;
 		this.beanResolver = beanResolver;
 		this.configurationPropertySource = configurationPropertySource;
+		this.bootstrapExecutor = bootstrapExecutor;
 	}
 
 	@Override
@@ -38,4 +43,9 @@ public BeanResolver beanResolver() {
 	public ConfigurationPropertySource configurationPropertySource() {
 		return configurationPropertySource;
 	}
+
+	@Override
+	public void executeInParallel(List<? extends Runnable> tasks) {
+		bootstrapExecutor.executeAll( tasks );
+	}
 }
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingKey;
@@ -33,13 +34,15 @@ void closeOnFailure() {
 	}
 
 	CompletableFuture<?> start(RootFailureCollector rootFailureCollector, BeanResolver beanResolver,
-			ConfigurationPropertySource propertySource, ThreadPoolProvider threadPoolProvider) {
+			ConfigurationPropertySource propertySource, ThreadPoolProvider threadPoolProvider,
+			MetricsRegistry metricsRegistry) {
 		ContextualFailureCollector mappingFailureCollector = rootFailureCollector.withContext( key );
 		MappingStartContextImpl startContext = new MappingStartContextImpl(
 				mappingFailureCollector,
 				beanResolver,
 				propertySource,
-				threadPoolProvider
+				threadPoolProvider,
+				metricsRegistry
 		);
 		return mapping.start( startContext )
 				.exceptionally( Futures.handler( e -> {
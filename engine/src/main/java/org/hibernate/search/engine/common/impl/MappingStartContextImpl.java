@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
@@ -17,15 +18,18 @@ class MappingStartContextImpl implements MappingStartContext {
 	private final BeanResolver beanResolver;
 	private final ConfigurationPropertySource configurationPropertySource;
 	private final ThreadPoolProvider threadPoolProvider;
+	private final MetricsRegistry metricsRegistry;
 
 	MappingStartContextImpl(ContextualFailureCollector failureCollector,
 			BeanResolver beanResolver,
 			ConfigurationPropertySource configurationPropertySource,
-			ThreadPoolProvider threadPoolProvider) {
+			ThreadPoolProvider threadPoolProvider,
+			MetricsRegistry metricsRegistry) {
 		this.failureCollector = failureCollector;
 		this.beanResolver = beanResolver;
 		this.configurationPropertySource = configurationPropertySource;
 		this.threadPoolProvider = threadPoolProvider;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	@Override
@@ -47,4 +51,9 @@ public ConfigurationPropertySource configurationPropertySource() {
 	public ThreadPoolProvider threadPoolProvider() {
 		return threadPoolProvider;
 	}
+
+	@Override
+	public MetricsRegistry metricsRegistry() {
+		return metricsRegistry;
+	}
 }
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -30,13 +31,14 @@ class RootBuildContext {
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final MetricsRegistry metricsRegistry;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
 			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource, MetricsRegistry metricsRegistry) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -46,6 +48,7 @@ class RootBuildContext {
 		this.failureHandler = failureHandler;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -83,4 +86,8 @@ EngineThreads getEngineThreads() {
 	TimingSource getTimingSource() {
 		return timingSource;
 	}
+
+	MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
 }
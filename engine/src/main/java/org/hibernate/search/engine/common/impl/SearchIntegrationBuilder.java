@@ -16,6 +16,8 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.metrics.impl.MetricsJmxExporter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationEnvironment;
@@ -62,6 +64,30 @@ public class SearchIntegrationBuilder implements SearchIntegration.Builder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> VIRTUAL_THREADS_ENABLED =
+			ConfigurationProperty.forKey( EngineSettings.Radicals.VIRTUAL_THREADS_ENABLED )
+					.asBoolean()
+					.withDefault( EngineSettings.Defaults.VIRTUAL_THREADS_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<BeanReference<? extends MetricsRegistry>> METRICS_REGISTRY =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_REGISTRY )
+					.asBeanReference( MetricsRegistry.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_REGISTRY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> METRICS_JMX_ENABLED =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_JMX_ENABLED )
+					.asBoolean()
+					.withDefault( EngineSpiSettings.Defaults.METRICS_JMX_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<String> METRICS_JMX_OBJECT_NAME =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_JMX_OBJECT_NAME )
+					.asString()
+					.withDefault( EngineSpiSettings.Defaults.METRICS_JMX_OBJECT_NAME )
+					.build();
+
 	private final SearchIntegrationEnvironment environment;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
 
@@ -107,6 +133,8 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 		boolean checkingRootFailures = false;
 		EngineThreads engineThreads = null;
 		TimingSource timingSource = null;
+		BeanHolder<? extends MetricsRegistry> metricsRegistryHolder = null;
+		MetricsJmxExporter metricsJmxExporter = null;
 
 		try {
 			frozen = true;
@@ -118,15 +146,22 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			FailureHandler failureHandler = failureHandlerHolder.get();
 
 			threadProviderHolder = THREAD_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
-			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
+			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder,
+					VIRTUAL_THREADS_ENABLED.get( propertySource ) );
 			engineThreads = new EngineThreads( threadPoolProvider );
 			timingSource = new DefaultTimingSource( engineThreads );
 
+			metricsRegistryHolder = METRICS_REGISTRY.getAndTransform( propertySource, beanResolver::resolve );
+			if ( METRICS_JMX_ENABLED.get( propertySource ) ) {
+				metricsJmxExporter = MetricsJmxExporter.start( metricsRegistryHolder.get(),
+						METRICS_JMX_OBJECT_NAME.get( propertySource ) );
+			}
+
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					environment.classResolver(), environment.resourceResolver(), beanResolver,
 					failureCollector, threadPoolProvider, failureHandler,
-					engineThreads, timingSource
+					engineThreads, timingSource, metricsRegistryHolder.get()
 			);
 
 			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanResolver, propertySource, rootBuildContext );
@@ -195,7 +230,8 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
 					indexManagerBuildingStateHolder.getIndexManagersNonStartedStates(),
 					environment.propertyChecker(),
-					engineThreads, timingSource
+					engineThreads, timingSource,
+					metricsRegistryHolder, metricsJmxExporter
 			);
 		}
 		catch (RuntimeException e) {
@@ -238,6 +274,8 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( SearchIntegrationEnvironment::close, environment );
 			closer.push( EngineThreads::onStop, engineThreads );
 			closer.push( TimingSource::stop, timingSource );
+			closer.push( MetricsJmxExporter::stop, metricsJmxExporter );
+			closer.push( BeanHolder::close, metricsRegistryHolder );
 
 			throw rethrownException;
 		}
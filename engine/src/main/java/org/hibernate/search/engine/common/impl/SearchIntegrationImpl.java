@@ -18,6 +18,8 @@
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.metrics.impl.MetricsJmxExporter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanProvider;
@@ -50,6 +52,8 @@ public class SearchIntegrationImpl implements SearchIntegration {
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final BeanHolder<? extends MetricsRegistry> metricsRegistryHolder;
+	private final MetricsJmxExporter metricsJmxExporter;
 
 	SearchIntegrationImpl(BeanProvider beanProvider,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
@@ -57,7 +61,8 @@ public class SearchIntegrationImpl implements SearchIntegration {
 			Map<MappingKey<?, ?>, MappingImplementor<?>> mappings,
 			Map<String, BackendImplementor> backends,
 			Map<String, IndexManagerImplementor> indexManagers,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource,
+			BeanHolder<? extends MetricsRegistry> metricsRegistryHolder, MetricsJmxExporter metricsJmxExporter) {
 		this.beanProvider = beanProvider;
 		this.failureHandlerHolder = failureHandlerHolder;
 		this.threadPoolProvider = threadPoolProvider;
@@ -66,6 +71,8 @@ public class SearchIntegrationImpl implements SearchIntegration {
 		this.indexManagers = indexManagers;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRegistryHolder = metricsRegistryHolder;
+		this.metricsJmxExporter = metricsJmxExporter;
 	}
 
 	@Override
@@ -141,6 +148,8 @@ public void close() {
 			closer.pushAll( BeanProvider::close, beanProvider );
 			closer.pushAll( EngineThreads::onStop, engineThreads );
 			closer.pushAll( TimingSource::stop, timingSource );
+			closer.pushAll( MetricsJmxExporter::stop, metricsJmxExporter );
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 		}
 		catch (RuntimeException e) {
 			rootFailureCollector.withContext( EventContexts.defaultContext() ).add( e );
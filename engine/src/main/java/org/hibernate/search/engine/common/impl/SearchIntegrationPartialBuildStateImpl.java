@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -14,11 +16,15 @@
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertyChecker;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationEnvironment;
 import org.hibernate.search.engine.common.spi.SearchIntegrationFinalizer;
 import org.hibernate.search.engine.common.spi.SearchIntegrationPartialBuildState;
+import org.hibernate.search.engine.common.metrics.impl.MetricsJmxExporter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -31,6 +37,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.EngineEventContextMessages;
+import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
@@ -38,6 +45,12 @@
 
 class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartialBuildState {
 
+	private static final ConfigurationProperty<Integer> BOOTSTRAP_PARALLELISM =
+			ConfigurationProperty.forKey( EngineSettings.Radicals.BOOTSTRAP_PARALLELISM )
+					.asIntegerStrictlyPositive()
+					.withDefault( EngineSettings.Defaults.BOOTSTRAP_PARALLELISM )
+					.build();
+
 	private final BeanProvider beanProvider;
 	private final BeanResolver beanResolver;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
@@ -57,6 +70,8 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final BeanHolder<? extends MetricsRegistry> metricsRegistryHolder;
+	private final MetricsJmxExporter metricsJmxExporter;
 
 	SearchIntegrationPartialBuildStateImpl(
 			BeanProvider beanProvider, BeanResolver beanResolver,
@@ -66,7 +81,8 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 			Map<String, BackendNonStartedState> nonStartedBackends,
 			Map<String, IndexManagerNonStartedState> nonStartedIndexManagers,
 			ConfigurationPropertyChecker partialConfigurationPropertyChecker,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource,
+			BeanHolder<? extends MetricsRegistry> metricsRegistryHolder, MetricsJmxExporter metricsJmxExporter) {
 		this.beanProvider = beanProvider;
 		this.beanResolver = beanResolver;
 		this.failureHandlerHolder = failureHandlerHolder;
@@ -77,6 +93,8 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 		this.partialConfigurationPropertyChecker = partialConfigurationPropertyChecker;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRegistryHolder = metricsRegistryHolder;
+		this.metricsJmxExporter = metricsJmxExporter;
 	}
 
 	@Override
@@ -94,6 +112,8 @@ public void closeOnFailure() {
 			closer.pushAll( BeanProvider::close, beanProvider );
 			closer.pushAll( EngineThreads::onStop, engineThreads );
 			closer.pushAll( TimingSource::stop, timingSource );
+			closer.pushAll( MetricsJmxExporter::stop, metricsJmxExporter );
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 		}
 	}
 
@@ -155,23 +175,14 @@ public SearchIntegration finalizeIntegration() {
 			RootFailureCollector failureCollector =
 					new RootFailureCollector( EngineEventContextMessages.INSTANCE.bootstrap() );
 
-			// Start backends
-			for ( Map.Entry<String, BackendNonStartedState> entry : nonStartedBackends.entrySet() ) {
-				startedBackends.put(
-						entry.getKey(),
-						entry.getValue().start( failureCollector, beanResolver, propertySource, threadPoolProvider )
-				);
-			}
-			failureCollector.checkNoFailure();
+			try ( BootstrapExecutor bootstrapExecutor = BootstrapExecutor.create( threadPoolProvider,
+					BOOTSTRAP_PARALLELISM.get( propertySource ) ) ) {
+				startBackends( failureCollector, bootstrapExecutor );
+				failureCollector.checkNoFailure();
 
-			// Start indexes
-			for ( Map.Entry<String, IndexManagerNonStartedState> entry : nonStartedIndexManagers.entrySet() ) {
-				startedIndexManagers.put(
-						entry.getKey(),
-						entry.getValue().start( failureCollector, beanResolver, propertySource )
-				);
+				startIndexManagers( failureCollector, bootstrapExecutor );
+				failureCollector.checkNoFailure();
 			}
-			failureCollector.checkNoFailure();
 
 			// Start mappings
 			CompletableFuture<?>[] mappingFutures = new CompletableFuture<?>[fullyBuiltNonStartedMappings.size()];
@@ -179,7 +190,7 @@ public SearchIntegration finalizeIntegration() {
 			// Start
 			for ( MappingNonStartedState state : fullyBuiltNonStartedMappings.values() ) {
 				mappingFutures[mappingIndex] = state.start( failureCollector, beanResolver, propertySource,
-						threadPoolProvider );
+						threadPoolProvider, metricsRegistryHolder.get() );
 				++mappingIndex;
 			}
 			// Wait for the starting operation to finish
@@ -199,8 +210,45 @@ public SearchIntegration finalizeIntegration() {
 					fullyBuiltStartedMappings,
 					startedBackends,
 					startedIndexManagers,
-					engineThreads, timingSource
+					engineThreads, timingSource,
+					metricsRegistryHolder, metricsJmxExporter
 			);
 		}
+
+		private void startBackends(RootFailureCollector failureCollector, BootstrapExecutor bootstrapExecutor) {
+			List<String> names = new ArrayList<>( nonStartedBackends.keySet() );
+			BackendImplementor[] backends = new BackendImplementor[names.size()];
+			List<Runnable> tasks = new ArrayList<>( names.size() );
+			for ( int i = 0; i < names.size(); i++ ) {
+				int index = i;
+				BackendNonStartedState state = nonStartedBackends.get( names.get( i ) );
+				// Create failure contexts upfront so that failures are reported in a deterministic order
+				ContextualFailureCollector backendFailureCollector = state.failureCollector( failureCollector );
+				tasks.add( () -> backends[index] = state.start( backendFailureCollector, beanResolver, propertySource,
+						threadPoolProvider ) );
+			}
+			bootstrapExecutor.executeAll( tasks );
+			for ( int i = 0; i < names.size(); i++ ) {
+				startedBackends.put( names.get( i ), backends[i] );
+			}
+		}
+
+		private void startIndexManagers(RootFailureCollector failureCollector, BootstrapExecutor bootstrapExecutor) {
+			List<String> names = new ArrayList<>( nonStartedIndexManagers.keySet() );
+			IndexManagerImplementor[] indexManagers = new IndexManagerImplementor[names.size()];
+			List<Runnable> tasks = new ArrayList<>( names.size() );
+			for ( int i = 0; i < names.size(); i++ ) {
+				int index = i;
+				IndexManagerNonStartedState state = nonStartedIndexManagers.get( names.get( i ) );
+				// Create failure contexts upfront so that failures are reported in a deterministic order
+				ContextualFailureCollector indexFailureCollector = state.failureCollector( failureCollector );
+				tasks.add( () -> indexManagers[index] = state.start( indexFailureCollector, beanResolver, propertySource,
+						bootstrapExecutor ) );
+			}
+			bootstrapExecutor.executeAll( tasks );
+			for ( int i = 0; i < names.size(); i++ ) {
+				startedIndexManagers.put( names.get( i ), indexManagers[i] );
+			}
+		}
 	}
 }
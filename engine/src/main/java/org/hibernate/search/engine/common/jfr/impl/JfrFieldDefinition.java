@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.jfr.impl;
+
+public final class JfrFieldDefinition {
+
+	final Class<?> type;
+	final String name;
+	final String label;
+
+	public JfrFieldDefinition(Class<?> type, String name, String label) {
+		this.type = type;
+		this.name = name;
+		this.label = label;
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.jfr.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Access to the Java Flight Recorder API.
+ * <p>
+ * The API is accessed through reflection, so that this code compiles for Java 8 and runs on JDKs without JFR.
+ * Event types are defined dynamically through {@code jdk.jfr.EventFactory},
+ * since a subclass of {@code jdk.jfr.Event} would not compile for Java 8.
+ */
+public final class JfrSupport {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JfrSupport INSTANCE = createOrNull();
+
+	/**
+	 * @return The JFR support, or {@code null} if JFR is not available on this JVM.
+	 */
+	public static JfrSupport getOrNull() {
+		return INSTANCE;
+	}
+
+	private static JfrSupport createOrNull() {
+		try {
+			return new JfrSupport();
+		}
+		catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			log.jfrNotSupported( e.getMessage(), e );
+			return null;
+		}
+	}
+
+	private final Class<? extends Annotation> nameAnnotation;
+	private final Class<? extends Annotation> labelAnnotation;
+	private final Class<? extends Annotation> descriptionAnnotation;
+	private final Class<? extends Annotation> categoryAnnotation;
+	private final Constructor<?> annotationElementConstructor;
+	private final Constructor<?> valueDescriptorConstructor;
+	private final Method eventFactoryCreate;
+	private final Method eventFactoryGetEventType;
+	private final MethodHandle eventFactoryNewEvent;
+	private final MethodHandle eventTypeIsEnabled;
+	private final MethodHandle eventBegin;
+	private final MethodHandle eventSet;
+	private final MethodHandle eventCommit;
+
+	private JfrSupport() throws ReflectiveOperationException {
+		nameAnnotation = annotationClass( "jdk.jfr.Name" );
+		labelAnnotation = annotationClass( "jdk.jfr.Label" );
+		descriptionAnnotation = annotationClass( "jdk.jfr.Description" );
+		categoryAnnotation = annotationClass( "jdk.jfr.Category" );
+
+		Class<?> annotationElementClass = Class.forName( "jdk.jfr.AnnotationElement" );
+		annotationElementConstructor = annotationElementClass.getConstructor( Class.class, Object.class );
+		Class<?> valueDescriptorClass = Class.forName( "jdk.jfr.ValueDescriptor" );
+		valueDescriptorConstructor = valueDescriptorClass.getConstructor( Class.class, String.class, List.class );
+
+		Class<?> eventFactoryClass = Class.forName( "jdk.jfr.EventFactory" );
+		eventFactoryCreate = eventFactoryClass.getMethod( "create", List.class, List.class );
+		eventFactoryGetEventType = eventFactoryClass.getMethod( "getEventType" );
+		Class<?> eventTypeClass = Class.forName( "jdk.jfr.EventType" );
+		Class<?> eventClass = Class.forName( "jdk.jfr.Event" );
+
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		eventFactoryNewEvent = lookup.findVirtual( eventFactoryClass, "newEvent", MethodType.methodType( eventClass ) )
+				.asType( MethodType.methodType( Object.class, Object.class ) );
+		eventTypeIsEnabled = lookup.findVirtual( eventTypeClass, "isEnabled", MethodType.methodType( boolean.class ) );
+		eventBegin = lookup.findVirtual( eventClass, "begin", MethodType.methodType( void.class ) )
+				.asType( MethodType.methodType( void.class, Object.class ) );
+		eventSet = lookup.findVirtual( eventClass, "set", MethodType.methodType( void.class, int.class, Object.class ) )
+				.asType( MethodType.methodType( void.class, Object.class, int.class, Object.class ) );
+		eventCommit = lookup.findVirtual( eventClass, "commit", MethodType.methodType( void.class ) )
+				.asType( MethodType.methodType( void.class, Object.class ) );
+	}
+
+	/**
+	 * Defines and registers a new event type.
+	 * <p>
+	 * Event types are generally defined in static initializers, so this never throws:
+	 * failures are logged and the event type is simply not available.
+	 *
+	 * @return The event factory, to pass to {@link #newEvent(Object)},
+	 * or {@code null} if the event type could not be defined.
+	 */
+	public Object createEventFactoryOrNull(String name, String label, String description, String[] category,
+			List<JfrFieldDefinition> fields) {
+		try {
+			List<Object> eventAnnotations = new ArrayList<>();
+			eventAnnotations.add( annotationElementConstructor.newInstance( nameAnnotation, name ) );
+			eventAnnotations.add( annotationElementConstructor.newInstance( labelAnnotation, label ) );
+			if ( description != null ) {
+				eventAnnotations.add( annotationElementConstructor.newInstance( descriptionAnnotation, description ) );
+			}
+			eventAnnotations.add( annotationElementConstructor.newInstance( categoryAnnotation, category ) );
+
+			List<Object> valueDescriptors = new ArrayList<>();
+			for ( JfrFieldDefinition field : fields ) {
+				List<Object> fieldAnnotations = new ArrayList<>();
+				fieldAnnotations.add( annotationElementConstructor.newInstance( labelAnnotation, field.label ) );
+				valueDescriptors.add( valueDescriptorConstructor.newInstance( field.type, field.name, fieldAnnotations ) );
+			}
+
+			return eventFactoryCreate.invoke( null, eventAnnotations, valueDescriptors );
+		}
+		catch (InvocationTargetException e) {
+			Throwable cause = e.getCause() == null ? e : e.getCause();
+			log.unableToDefineJfrEventType( name, cause.getMessage(), cause );
+			return null;
+		}
+		catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			log.unableToDefineJfrEventType( name, e.getMessage(), e );
+			return null;
+		}
+	}
+
+	/**
+	 * @param eventFactory An event factory returned by
+	 * {@link #createEventFactoryOrNull(String, String, String, String[], List)}.
+	 * @return A method handle returning whether the corresponding event type is enabled, taking no argument.
+	 */
+	public MethodHandle isEnabledHandle(Object eventFactory) {
+		try {
+			return eventTypeIsEnabled.bindTo( eventFactoryGetEventType.invoke( eventFactory ) );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new AssertionFailure( "Unable to retrieve a JFR event type", e );
+		}
+	}
+
+	public Object newEvent(Object eventFactory) {
+		try {
+			return eventFactoryNewEvent.invokeExact( eventFactory );
+		}
+		catch (Throwable e) {
+			throw unexpected( e );
+		}
+	}
+
+	public void begin(Object event) {
+		try {
+			eventBegin.invokeExact( event );
+		}
+		catch (Throwable e) {
+			throw unexpected( e );
+		}
+	}
+
+	public void set(Object event, int fieldIndex, Object value) {
+		try {
+			eventSet.invokeExact( event, fieldIndex, value );
+		}
+		catch (Throwable e) {
+			throw unexpected( e );
+		}
+	}
+
+	public void commit(Object event) {
+		try {
+			eventCommit.invokeExact( event );
+		}
+		catch (Throwable e) {
+			throw unexpected( e );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Annotation> annotationClass(String name) throws ClassNotFoundException {
+		return (Class<? extends Annotation>) Class.forName( name );
+	}
+
+	private static RuntimeException unexpected(Throwable e) {
+		if ( e instanceof RuntimeException ) {
+			return (RuntimeException) e;
+		}
+		if ( e instanceof Error ) {
+			throw (Error) e;
+		}
+		return new AssertionFailure( "Unexpected exception when emitting a JFR event", e );
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.jfr.spi;
+
+import org.hibernate.search.engine.common.jfr.impl.JfrSupport;
+
+/**
+ * A Java Flight Recorder event, created through {@link JfrEventType#begin()}.
+ * <p>
+ * Not thread-safe, but may be committed from a different thread than the one that created it.
+ */
+public final class JfrEvent {
+
+	static final JfrEvent NO_OP = new JfrEvent( null, null );
+
+	private final JfrSupport support;
+	private final Object delegate;
+
+	JfrEvent(JfrSupport support, Object delegate) {
+		this.support = support;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return {@code true} if this event will actually be recorded, {@code false} if it is a no-op.
+	 * Useful to avoid computing expensive field values.
+	 */
+	public boolean isRecording() {
+		return delegate != null;
+	}
+
+	/**
+	 * @param fieldIndex The index of the field, in the order of definition in {@link JfrEventType.Builder#field(Class, String, String)}.
+	 * @param value The value of the field.
+	 * @return {@code this}, for method chaining.
+	 */
+	public JfrEvent set(int fieldIndex, Object value) {
+		if ( delegate != null ) {
+			support.set( delegate, fieldIndex, value );
+		}
+		return this;
+	}
+
+	/**
+	 * Stops timing this event and records it.
+	 */
+	public void commit() {
+		if ( delegate != null ) {
+			support.commit( delegate );
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.jfr.spi;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.common.jfr.impl.JfrFieldDefinition;
+import org.hibernate.search.engine.common.jfr.impl.JfrSupport;
+
+/**
+ * A custom Java Flight Recorder event type.
+ * <p>
+ * Event types should be defined once, in a static constant.
+ * When JFR is not available or the event type is not enabled (e.g. because nothing is being recorded),
+ * {@link #begin()} returns a no-op event and the instrumented code only pays for a single check.
+ */
+public final class JfrEventType {
+
+	/**
+	 * @param name The name of the event type, e.g. {@code org.hibernate.search.lucene.Commit}.
+	 * @param label A human-readable label for the event type.
+	 * @return A builder.
+	 */
+	public static Builder builder(String name, String label) {
+		return new Builder( name, label );
+	}
+
+	private final JfrSupport support;
+	private final Object eventFactory;
+	private final MethodHandle isEnabled;
+
+	private JfrEventType(Builder builder) {
+		this.support = JfrSupport.getOrNull();
+		this.eventFactory = support == null ? null
+				: support.createEventFactoryOrNull( builder.name, builder.label, builder.description,
+						builder.category, builder.fields );
+		// If JFR is not available or the event type could not be defined, events are never enabled.
+		this.isEnabled = eventFactory == null ? null : support.isEnabledHandle( eventFactory );
+	}
+
+	/**
+	 * @return {@code true} if events of this type are currently being recorded, {@code false} otherwise.
+	 */
+	public boolean isEnabled() {
+		if ( isEnabled == null ) {
+			return false;
+		}
+		try {
+			return (boolean) isEnabled.invokeExact();
+		}
+		catch (Throwable e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates an event and starts timing it.
+	 * <p>
+	 * The event must be {@link JfrEvent#commit() committed} once the operation is complete.
+	 *
+	 * @return A new event, or a no-op event if this event type is not {@link #isEnabled() enabled}.
+	 */
+	public JfrEvent begin() {
+		if ( !isEnabled() ) {
+			return JfrEvent.NO_OP;
+		}
+		Object event = support.newEvent( eventFactory );
+		support.begin( event );
+		return new JfrEvent( support, event );
+	}
+
+	public static final class Builder {
+		private final String name;
+		private final String label;
+		private String description;
+		private String[] category = new String[] { "Hibernate Search" };
+		private final List<JfrFieldDefinition> fields = new ArrayList<>();
+
+		private Builder(String name, String label) {
+			this.name = name;
+			this.label = label;
+		}
+
+		public Builder description(String description) {
+			this.description = description;
+			return this;
+		}
+
+		/**
+		 * @param subCategory The sub-category of events of this type, within the "Hibernate Search" category.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder category(String subCategory) {
+			this.category = new String[] { "Hibernate Search", subCategory };
+			return this;
+		}
+
+		/**
+		 * Adds a field to the event type.
+		 * <p>
+		 * Fields are referenced by index when {@link JfrEvent#set(int, Object) setting their value},
+		 * in the order they were added, starting with 0.
+		 *
+		 * @param type The type of the field: a primitive type or {@link String}.
+		 * @param name The name of the field.
+		 * @param label A human-readable label for the field.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder field(Class<?> type, String name, String label) {
+			fields.add( new JfrFieldDefinition( type, name, label ) );
+			return this;
+		}
+
+		public JfrEventType build() {
+			return new JfrEventType( this );
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+
+final class InMemoryCounter implements Counter {
+
+	private final LongAdder count = new LongAdder();
+
+	@Override
+	public void increment() {
+		count.increment();
+	}
+
+	@Override
+	public void add(long delta) {
+		count.add( delta );
+	}
+
+	long get() {
+		return count.sum();
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+
+/**
+ * A histogram with exponential (power of two) buckets.
+ * <p>
+ * Recording a value is lock-free and allocation-free;
+ * percentiles are approximate: they are reported as the upper bound of the bucket they fall into.
+ */
+final class InMemoryHistogram implements Histogram {
+
+	// Bucket 0 holds 0, bucket i > 0 holds values in [2^(i-1), 2^i - 1]
+	private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	@Override
+	public void record(long value) {
+		long sanitizedValue = Math.max( value, 0L );
+		buckets.incrementAndGet( Long.SIZE - Long.numberOfLeadingZeros( sanitizedValue ) );
+		count.increment();
+		sum.add( sanitizedValue );
+		long currentMax = max.get();
+		while ( sanitizedValue > currentMax && !max.compareAndSet( currentMax, sanitizedValue ) ) {
+			currentMax = max.get();
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Adds attributes {@code <name>.count}, {@code <name>.sum}, {@code <name>.max}, {@code <name>.mean},
+	 * {@code <name>.p50}, {@code <name>.p90} and {@code <name>.p99} to the given map.
+	 */
+	void snapshot(String name, Map<String, Number> result) {
+		long currentCount = count.sum();
+		long currentSum = sum.sum();
+		long currentMax = max.get();
+		result.put( name + ".count", currentCount );
+		result.put( name + ".sum", currentSum );
+		result.put( name + ".max", currentMax );
+		result.put( name + ".mean", currentCount == 0 ? 0.0 : (double) currentSum / currentCount );
+		long[] bucketCounts = new long[BUCKET_COUNT];
+		long total = 0L;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			bucketCounts[i] = buckets.get( i );
+			total += bucketCounts[i];
+		}
+		result.put( name + ".p50", percentile( bucketCounts, total, 0.50, currentMax ) );
+		result.put( name + ".p90", percentile( bucketCounts, total, 0.90, currentMax ) );
+		result.put( name + ".p99", percentile( bucketCounts, total, 0.99, currentMax ) );
+	}
+
+	private static long percentile(long[] bucketCounts, long total, double percentile, long max) {
+		if ( total == 0L ) {
+			return 0L;
+		}
+		long threshold = (long) Math.ceil( total * percentile );
+		long cumulated = 0L;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulated += bucketCounts[i];
+			if ( cumulated >= threshold ) {
+				return Math.min( bucketUpperBound( i ), max );
+			}
+		}
+		return max;
+	}
+
+	private static long bucketUpperBound(int bucketIndex) {
+		if ( bucketIndex == Long.SIZE ) {
+			return Long.MAX_VALUE;
+		}
+		return ( 1L << bucketIndex ) - 1;
+	}
+}
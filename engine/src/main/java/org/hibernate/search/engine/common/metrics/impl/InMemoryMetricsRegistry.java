@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+
+/**
+ * A metrics registry keeping metrics in memory,
+ * so that they can be inspected programmatically or exported through JMX.
+ */
+public final class InMemoryMetricsRegistry implements MetricsRegistry {
+
+	public static final String NAME = "in-memory";
+
+	private final ConcurrentMap<String, InMemoryCounter> counters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, InMemoryHistogram> histograms = new ConcurrentHashMap<>();
+
+	@Override
+	public Counter counter(String name) {
+		return counters.computeIfAbsent( name, ignored -> new InMemoryCounter() );
+	}
+
+	@Override
+	public Histogram histogram(String name) {
+		return histograms.computeIfAbsent( name, ignored -> new InMemoryHistogram() );
+	}
+
+	/**
+	 * @return A snapshot of all metrics, as a map from attribute name to value, sorted by name.
+	 * Counters are exposed as a single attribute named after the counter;
+	 * histograms are exposed as multiple attributes, see {@link InMemoryHistogram#snapshot(String, Map)}.
+	 */
+	public Map<String, Number> snapshot() {
+		Map<String, Number> result = new TreeMap<>();
+		for ( Map.Entry<String, InMemoryCounter> entry : counters.entrySet() ) {
+			result.put( entry.getKey(), entry.getValue().get() );
+		}
+		for ( Map.Entry<String, InMemoryHistogram> entry : histograms.entrySet() ) {
+			entry.getValue().snapshot( entry.getKey(), result );
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Exports the metrics of an {@link InMemoryMetricsRegistry} through JMX, on the platform MBean server.
+ */
+public final class MetricsJmxExporter {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param registry The metrics registry.
+	 * @param objectName The name of the MBean to register.
+	 * @return An exporter, to {@link #stop() stop} on shutdown,
+	 * or {@code null} if the registry could not be exported.
+	 */
+	public static MetricsJmxExporter start(MetricsRegistry registry, String objectName) {
+		if ( !( registry instanceof InMemoryMetricsRegistry ) ) {
+			log.metricsRegistryNotExportable( registry, InMemoryMetricsRegistry.NAME );
+			return null;
+		}
+		try {
+			ObjectName name = new ObjectName( objectName );
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			server.registerMBean( new MetricsMBean( (InMemoryMetricsRegistry) registry ), name );
+			return new MetricsJmxExporter( server, name );
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToRegisterMetricsMBean( objectName, e.getMessage(), e );
+			return null;
+		}
+	}
+
+	private final MBeanServer server;
+	private final ObjectName name;
+
+	private MetricsJmxExporter(MBeanServer server, ObjectName name) {
+		this.server = server;
+		this.name = name;
+	}
+
+	public void stop() {
+		try {
+			server.unregisterMBean( name );
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToUnregisterMetricsMBean( name.toString(), e.getMessage(), e );
+		}
+	}
+}
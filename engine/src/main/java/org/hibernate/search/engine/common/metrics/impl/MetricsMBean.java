@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanNotificationInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+/**
+ * A read-only MBean exposing each metric of an {@link InMemoryMetricsRegistry} as an attribute.
+ * <p>
+ * Metrics can be registered at any time, so attributes are computed on each call.
+ */
+final class MetricsMBean implements DynamicMBean {
+
+	private final InMemoryMetricsRegistry registry;
+
+	MetricsMBean(InMemoryMetricsRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		Number value = registry.snapshot().get( attribute );
+		if ( value == null ) {
+			throw new AttributeNotFoundException( attribute );
+		}
+		return value;
+	}
+
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		// Metrics are read-only: there is no writable attribute
+		throw new AttributeNotFoundException( attribute.getName() );
+	}
+
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		Map<String, Number> snapshot = registry.snapshot();
+		AttributeList result = new AttributeList();
+		for ( String attribute : attributes ) {
+			Number value = snapshot.get( attribute );
+			if ( value != null ) {
+				result.add( new Attribute( attribute, value ) );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		// Metrics are read-only
+		return new AttributeList();
+	}
+
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		// There is no operation on metrics
+		throw new ReflectionException( new NoSuchMethodException( actionName ) );
+	}
+
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		Map<String, Number> snapshot = registry.snapshot();
+		MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[snapshot.size()];
+		int i = 0;
+		for ( Map.Entry<String, Number> entry : snapshot.entrySet() ) {
+			attributes[i] = new MBeanAttributeInfo( entry.getKey(), entry.getValue().getClass().getName(),
+					entry.getKey(), true, false, false );
+			++i;
+		}
+		return new MBeanInfo( getClass().getName(), "Hibernate Search metrics",
+				attributes, null, new MBeanOperationInfo[0], new MBeanNotificationInfo[0] );
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import org.hibernate.search.engine.common.metrics.spi.Counter;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+
+public final class NoOpMetricsRegistry implements MetricsRegistry, Counter, Histogram {
+
+	public static final String NAME = "none";
+
+	public static final NoOpMetricsRegistry INSTANCE = new NoOpMetricsRegistry();
+
+	private NoOpMetricsRegistry() {
+	}
+
+	@Override
+	public Counter counter(String name) {
+		return this;
+	}
+
+	@Override
+	public Histogram histogram(String name) {
+		return this;
+	}
+
+	@Override
+	public void increment() {
+		// No-op
+	}
+
+	@Override
+	public void add(long delta) {
+		// No-op
+	}
+
+	@Override
+	public void record(long value) {
+		// No-op
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+}
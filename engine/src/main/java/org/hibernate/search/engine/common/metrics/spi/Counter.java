@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+/**
+ * A monotonically increasing count of events.
+ *
+ * @see MetricsRegistry#counter(String)
+ */
+public interface Counter {
+
+	/**
+	 * Increments the count by one.
+	 */
+	void increment();
+
+	/**
+	 * @param delta A positive or zero amount to add to the count.
+	 */
+	void add(long delta);
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+/**
+ * The distribution of a recorded value, e.g. a duration or a batch size.
+ *
+ * @see MetricsRegistry#histogram(String)
+ */
+public interface Histogram {
+
+	/**
+	 * @param value A positive or zero value to record.
+	 * Durations must be expressed in nanoseconds.
+	 */
+	void record(long value);
+
+	/**
+	 * @return {@code true} if recorded values are actually used,
+	 * {@code false} if they are ignored and callers may skip computing them altogether
+	 * (e.g. skip calls to {@link System#nanoTime()}).
+	 */
+	boolean isEnabled();
+
+}
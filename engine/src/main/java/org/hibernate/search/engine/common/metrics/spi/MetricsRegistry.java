@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import org.hibernate.search.engine.common.metrics.impl.NoOpMetricsRegistry;
+
+/**
+ * A registry of runtime metrics, recorded by Hibernate Search components on their hot paths.
+ * <p>
+ * Components are expected to retrieve their {@link Counter counters} and {@link Histogram histograms}
+ * once, when they are created, and to record values on the retrieved instances afterwards.
+ * Recording values must be cheap, thread-safe and must not allocate.
+ * <p>
+ * Metric names are dot-separated, e.g. {@code lucene.commit.duration}.
+ * Durations are always recorded in nanoseconds.
+ *
+ * @see org.hibernate.search.engine.cfg.spi.EngineSpiSettings#METRICS_REGISTRY
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * @param name The name of the counter.
+	 * @return The counter with that name, created if necessary.
+	 * Multiple calls with the same name return counters recording to the same metric.
+	 */
+	Counter counter(String name);
+
+	/**
+	 * @param name The name of the histogram.
+	 * @return The histogram with that name, created if necessary.
+	 * Multiple calls with the same name return histograms recording to the same metric.
+	 */
+	Histogram histogram(String name);
+
+	/**
+	 * @return A registry that ignores all recorded values.
+	 */
+	static MetricsRegistry noOp() {
+		return NoOpMetricsRegistry.INSTANCE;
+	}
+
+}
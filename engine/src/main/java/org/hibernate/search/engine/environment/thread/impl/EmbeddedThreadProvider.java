@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.environment.thread.impl;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 
@@ -37,6 +38,16 @@ public ThreadFactory createThreadFactory(String prefix) {
 		return new SimpleThreadFactory( group, namePrefix );
 	}
 
+	@Override
+	public ThreadFactory createVirtualThreadFactory(String prefix, ThreadFactory virtualThreadFactory) {
+		AtomicInteger threadNumber = new AtomicInteger( 1 );
+		return runnable -> {
+			Thread thread = virtualThreadFactory.newThread( runnable );
+			thread.setName( createThreadName( prefix, threadNumber.getAndIncrement() ) );
+			return thread;
+		};
+	}
+
 	private String createFullThreadNamePrefix(String prefix) {
 		return commonThreadNamePrefix + prefix + " - ";
 	}
@@ -11,6 +11,7 @@
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,9 +34,17 @@ public class ThreadPoolProviderImpl implements ThreadPoolProvider {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final BeanHolder<? extends ThreadProvider> threadProviderHolder;
+	private final ThreadFactory rawVirtualThreadFactoryOrNull;
 
 	public ThreadPoolProviderImpl(BeanHolder<? extends ThreadProvider> threadProviderHolder) {
+		this( threadProviderHolder, false );
+	}
+
+	public ThreadPoolProviderImpl(BeanHolder<? extends ThreadProvider> threadProviderHolder,
+			boolean virtualThreadsEnabled) {
 		this.threadProviderHolder = threadProviderHolder;
+		this.rawVirtualThreadFactoryOrNull = virtualThreadsEnabled
+				? VirtualThreadSupport.createRawFactoryOrNull() : null;
 	}
 
 	public void close() {
@@ -56,22 +65,62 @@ public ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefi
 
 	@Override
 	public ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefix, int queueSize) {
+		return newFixedThreadPool( threads, queueSize, threadProviderHolder.get().createThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix) {
+		return newScheduledExecutor( threads, threadProviderHolder.get().createThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public ThreadPoolExecutor newBlockingFixedThreadPool(int threads, String threadNamePrefix) {
+		return newBlockingFixedThreadPool( threads, threadNamePrefix, QUEUE_MAX_LENGTH );
+	}
+
+	@Override
+	public ThreadPoolExecutor newBlockingFixedThreadPool(int threads, String threadNamePrefix, int queueSize) {
+		return newFixedThreadPool( threads, queueSize, blockingThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public ScheduledExecutorService newBlockingScheduledExecutor(int threads, String threadNamePrefix) {
+		return newScheduledExecutor( threads, blockingThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public boolean isVirtualThreadsEnabled() {
+		return rawVirtualThreadFactoryOrNull != null;
+	}
+
+	private ThreadFactory blockingThreadFactory(String threadNamePrefix) {
+		if ( rawVirtualThreadFactoryOrNull != null ) {
+			return threadProviderHolder.get().createVirtualThreadFactory( threadNamePrefix,
+					rawVirtualThreadFactoryOrNull );
+		}
+		else {
+			return threadProviderHolder.get().createThreadFactory( threadNamePrefix );
+		}
+	}
+
+	private ThreadPoolExecutor newFixedThreadPool(int threads, int queueSize, ThreadFactory threadFactory) {
+		// With virtual threads, the fixed number of threads in the pool bounds concurrency,
+		// like a semaphore would, while each thread only costs a few kilobytes of heap.
 		return new ThreadPoolExecutor(
 				threads,
 				threads,
 				0L,
 				TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<>( queueSize ),
-				threadProviderHolder.get().createThreadFactory( threadNamePrefix ),
+				threadFactory,
 				new BlockPolicy()
 		);
 	}
 
-	@Override
-	public ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix) {
+	private ScheduledExecutorService newScheduledExecutor(int threads, ThreadFactory threadFactory) {
 		ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(
 				threads,
-				threadProviderHolder.get().createThreadFactory( threadNamePrefix ),
+				threadFactory,
 				new BlockPolicy()
 		);
 		// Prevents cancelled tasks from piling up in the execution queue.
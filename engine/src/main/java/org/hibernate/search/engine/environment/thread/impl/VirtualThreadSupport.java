@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.thread.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Creates thread factories for virtual threads, if supported by the JVM (JDK 21+).
+ * <p>
+ * Virtual threads are accessed through reflection, so that this code compiles and runs on older JDKs.
+ * The resulting factory is handed to {@link org.hibernate.search.engine.environment.thread.spi.ThreadProvider},
+ * which decides whether and how to use it.
+ */
+final class VirtualThreadSupport {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @return A factory for unstarted virtual threads, or {@code null} if virtual threads are not supported.
+	 */
+	static ThreadFactory createRawFactoryOrNull() {
+		try {
+			Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+			Object builder = ofVirtual.invoke( null );
+			Method factory = ofVirtual.getReturnType().getMethod( "factory" );
+			return (ThreadFactory) factory.invoke( builder );
+		}
+		catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException
+				| RuntimeException e) {
+			// Most likely virtual threads are not available (JDK < 21),
+			// or only available as a preview feature (JDK 19/20) that was not enabled.
+			log.virtualThreadsNotSupported( e.getMessage(), e );
+			return null;
+		}
+	}
+
+	private VirtualThreadSupport() {
+	}
+
+}
@@ -56,4 +56,64 @@ public interface ThreadPoolProvider {
 	 */
 	ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix);
 
+	/**
+	 * Creates a new fixed size {@link ThreadPoolExecutor} for tasks that spend most of their time blocked,
+	 * e.g. waiting for the database.
+	 * <p>
+	 * Same as {@link #newFixedThreadPool(int, String)},
+	 * except the pool may use virtual threads if {@link #isVirtualThreadsEnabled() enabled}.
+	 * By default, simply delegates to that method.
+	 *
+	 * @param threads the number of threads, i.e. the maximum number of tasks executing concurrently
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @return the new ExecutorService
+	 */
+	default ThreadPoolExecutor newBlockingFixedThreadPool(int threads, String threadNamePrefix) {
+		return newFixedThreadPool( threads, threadNamePrefix );
+	}
+
+	/**
+	 * Creates a new fixed size {@link ThreadPoolExecutor} for tasks that spend most of their time blocked,
+	 * e.g. waiting for the database.
+	 * <p>
+	 * Same as {@link #newFixedThreadPool(int, String, int)},
+	 * except the pool may use virtual threads if {@link #isVirtualThreadsEnabled() enabled}.
+	 * By default, simply delegates to that method.
+	 *
+	 * @param threads the number of threads, i.e. the maximum number of tasks executing concurrently
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @param queueSize the size of the queue to store Runnables when all threads are busy
+	 * @return the new ExecutorService
+	 */
+	default ThreadPoolExecutor newBlockingFixedThreadPool(int threads, String threadNamePrefix, int queueSize) {
+		return newFixedThreadPool( threads, threadNamePrefix, queueSize );
+	}
+
+	/**
+	 * Creates a new fixed size {@link ScheduledExecutorService} for tasks that spend most of their time blocked,
+	 * e.g. waiting for the database.
+	 * <p>
+	 * Same as {@link #newScheduledExecutor(int, String)},
+	 * except the pool may use virtual threads if {@link #isVirtualThreadsEnabled() enabled}.
+	 * By default, simply delegates to that method.
+	 *
+	 * @param threads the number of threads, i.e. the maximum number of tasks executing concurrently
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @return the new ExecutorService
+	 */
+	default ScheduledExecutorService newBlockingScheduledExecutor(int threads, String threadNamePrefix) {
+		return newScheduledExecutor( threads, threadNamePrefix );
+	}
+
+	/**
+	 * @return {@code true} if virtual threads are enabled and supported by the JVM,
+	 * in which case pools created for blocking tasks use the factory returned by
+	 * {@link ThreadProvider#createVirtualThreadFactory(String, java.util.concurrent.ThreadFactory)};
+	 * {@code false} otherwise, which is the default.
+	 * @see org.hibernate.search.engine.cfg.EngineSettings#VIRTUAL_THREADS_ENABLED
+	 */
+	default boolean isVirtualThreadsEnabled() {
+		return false;
+	}
+
 }
@@ -17,4 +17,21 @@ public interface ThreadProvider {
 
 	ThreadFactory createThreadFactory(String prefix);
 
+	/**
+	 * Creates a thread factory for tasks that spend most of their time blocked,
+	 * when {@link org.hibernate.search.engine.cfg.EngineSettings#VIRTUAL_THREADS_ENABLED virtual threads are enabled}
+	 * and supported by the JVM.
+	 * <p>
+	 * Defaults to {@link #createThreadFactory(String)}, i.e. platform threads:
+	 * implementations must opt in to virtual threads explicitly,
+	 * typically by wrapping {@code virtualThreadFactory} to customize the threads it creates.
+	 *
+	 * @param prefix A label to identify the threads.
+	 * @param virtualThreadFactory A factory for unstarted, unnamed virtual threads, provided by the JVM.
+	 * @return A thread factory.
+	 */
+	default ThreadFactory createVirtualThreadFactory(String prefix, ThreadFactory virtualThreadFactory) {
+		return createThreadFactory( prefix );
+	}
+
 }
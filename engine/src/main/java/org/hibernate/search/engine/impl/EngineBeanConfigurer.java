@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.impl;
 
+import org.hibernate.search.engine.common.metrics.impl.InMemoryMetricsRegistry;
+import org.hibernate.search.engine.common.metrics.impl.NoOpMetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
@@ -21,6 +24,14 @@ public void configure(BeanConfigurationContext context) {
 				ThreadProvider.class, EmbeddedThreadProvider.NAME,
 				beanResolver -> BeanHolder.of( new EmbeddedThreadProvider() )
 		);
+		context.define(
+				MetricsRegistry.class, NoOpMetricsRegistry.NAME,
+				beanResolver -> BeanHolder.of( NoOpMetricsRegistry.INSTANCE )
+		);
+		context.define(
+				MetricsRegistry.class, InMemoryMetricsRegistry.NAME,
+				beanResolver -> BeanHolder.of( new InMemoryMetricsRegistry() )
+		);
 		context.define(
 				FailureHandler.class, LogFailureHandler.NAME,
 				beanResolver -> BeanHolder.of( new LogFailureHandler() )
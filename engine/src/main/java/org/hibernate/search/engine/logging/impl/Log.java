@@ -491,4 +491,38 @@ SearchException targetFieldsSpanningMultipleNestedPaths(String fieldPath1,
 			@FormatWith(EventContextNoPrefixFormatter.class) EventContext nestedPath1,
 			String fieldPath2, @FormatWith(EventContextNoPrefixFormatter.class) EventContext nestedPath2);
 
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET + 112,
+			value = "Virtual threads were enabled, but they are not supported by this JVM: %1$s."
+					+ " Falling back to platform threads. Virtual threads require JDK 21 or later.")
+	void virtualThreadsNotSupported(String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET + 113,
+			value = "Unable to register the metrics MBean '%1$s': %2$s")
+	void unableToRegisterMetricsMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET + 114,
+			value = "Unable to unregister the metrics MBean '%1$s': %2$s")
+	void unableToUnregisterMetricsMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET + 115,
+			value = "Exporting metrics through JMX was requested, but the metrics registry '%1$s' does not support it."
+					+ " Use the '%2$s' metrics registry to export metrics through JMX.")
+	void metricsRegistryNotExportable(Object registry, String exportableRegistryName);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 116,
+			value = "Java Flight Recorder is not available on this JVM: %1$s."
+					+ " Hibernate Search will not emit JFR events.")
+	void jfrNotSupported(String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET + 117,
+			value = "Unable to define the Java Flight Recorder event type '%1$s': %2$s."
+					+ " Hibernate Search will not emit events of this type.")
+	void unableToDefineJfrEventType(String name, String causeMessage, @Cause Throwable cause);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.mapper.mapping.spi;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
@@ -43,4 +44,9 @@ public interface MappingStartContext {
 	 */
 	ThreadPoolProvider threadPoolProvider();
 
+	/**
+	 * @return A registry for runtime metrics.
+	 */
+	MetricsRegistry metricsRegistry();
+
 }
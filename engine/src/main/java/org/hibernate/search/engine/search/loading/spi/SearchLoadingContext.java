@@ -19,4 +19,13 @@
 
 	ProjectionHitMapper<R, E> createProjectionHitMapper();
 
+	/**
+	 * Called by scrolls before creating a projection hit mapper for a chunk of hits,
+	 * except for the first chunk.
+	 * <p>
+	 * Not called when fetching hits outside of a scroll, even if the same query is fetched multiple times.
+	 */
+	default void beforeLoadingNextChunk() {
+	}
+
 }
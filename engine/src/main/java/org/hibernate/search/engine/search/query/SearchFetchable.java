@@ -9,7 +9,10 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.hibernate.search.engine.search.query.impl.SearchScrollSpliterator;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
 
@@ -151,4 +154,28 @@
 	 */
 	SearchScroll<H> scroll(int chunkSize);
 
+	/**
+	 * Execute the query continuously to deliver <strong>all</strong> hits as a {@link Stream},
+	 * without any sort of limit.
+	 * <p>
+	 * Hits are fetched lazily, in chunks, through a {@link SearchScroll}:
+	 * the next chunk is only fetched (and the corresponding entities only loaded)
+	 * when all hits of the previous chunk have been consumed.
+	 * Useful to process large datasets without holding all hits in memory.
+	 * <p>
+	 * As the stream maintains a reference to internal resources that ultimately must be freed,
+	 * the client must call {@link Stream#close()} when it no longer needs the stream,
+	 * e.g. by using a try-with-resources block.
+	 *
+	 * @param chunkSize The maximum number of hits to fetch (and load) at once.
+	 * @return The {@link Stream}.
+	 * @throws IllegalArgumentException if passed 0 or less for {@code chunkSize}.
+	 * @see #scroll(int)
+	 */
+	default Stream<H> stream(int chunkSize) {
+		SearchScroll<H> scroll = scroll( chunkSize );
+		return StreamSupport.stream( new SearchScrollSpliterator<>( scroll ), false )
+				.onClose( scroll::close );
+	}
+
 }
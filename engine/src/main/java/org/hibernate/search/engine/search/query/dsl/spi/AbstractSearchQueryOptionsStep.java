@@ -12,6 +12,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
@@ -181,6 +182,11 @@ public SearchScroll<H> scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
 	}
 
+	@Override
+	public Stream<H> stream(int chunkSize) {
+		return toQuery().stream( chunkSize );
+	}
+
 	protected abstract S thisAsS();
 
 	protected abstract PDF predicateFactory();
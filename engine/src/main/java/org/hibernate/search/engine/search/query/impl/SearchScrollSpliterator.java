@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+
+/**
+ * A spliterator iterating lazily over the hits of a {@link SearchScroll},
+ * fetching the next chunk only when all hits of the current chunk have been consumed.
+ *
+ * @param <H> The type of hits.
+ */
+public final class SearchScrollSpliterator<H> extends Spliterators.AbstractSpliterator<H> {
+
+	private final SearchScroll<H> scroll;
+
+	private Iterator<H> currentChunk = Collections.emptyIterator();
+	private boolean exhausted = false;
+
+	public SearchScrollSpliterator(SearchScroll<H> scroll) {
+		super( Long.MAX_VALUE, Spliterator.ORDERED );
+		this.scroll = scroll;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super H> action) {
+		while ( !currentChunk.hasNext() ) {
+			if ( exhausted ) {
+				return false;
+			}
+			SearchScrollResult<H> chunk = scroll.next();
+			if ( !chunk.hasHits() ) {
+				exhausted = true;
+				return false;
+			}
+			// The list of hits may be empty even though there are more hits,
+			// e.g. if matching entities could not be found in the database: just move on to the next chunk.
+			currentChunk = chunk.hits().iterator();
+		}
+		action.accept( currentChunk.next() );
+		return true;
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+public class BootstrapExecutorTest {
+
+	private final ThreadPoolProviderImpl threadPoolProvider =
+			new ThreadPoolProviderImpl( BeanHolder.of( new EmbeddedThreadProvider() ), false );
+
+	@Test
+	public void parallel() {
+		int taskCount = 3;
+		CountDownLatch allStarted = new CountDownLatch( taskCount );
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		List<Runnable> tasks = new ArrayList<>();
+		for ( int i = 0; i < taskCount; i++ ) {
+			tasks.add( () -> {
+				threadNames.add( Thread.currentThread().getName() );
+				allStarted.countDown();
+				// Would time out if tasks were executed sequentially
+				awaitOrFail( allStarted );
+			} );
+		}
+		try ( BootstrapExecutor executor = BootstrapExecutor.create( threadPoolProvider, taskCount ) ) {
+			executor.executeAll( tasks );
+		}
+		assertThat( threadNames ).hasSize( taskCount )
+				.contains( Thread.currentThread().getName() );
+	}
+
+	@Test
+	public void nested() {
+		Set<String> executed = ConcurrentHashMap.newKeySet();
+		try ( BootstrapExecutor executor = BootstrapExecutor.create( threadPoolProvider, 2 ) ) {
+			List<Runnable> outerTasks = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				int outer = i;
+				outerTasks.add( () -> {
+					List<Runnable> innerTasks = new ArrayList<>();
+					for ( int j = 0; j < 4; j++ ) {
+						int inner = j;
+						innerTasks.add( () -> executed.add( outer + "-" + inner ) );
+					}
+					// Must not deadlock even though all pool threads may be waiting here
+					executor.executeAll( innerTasks );
+				} );
+			}
+			executor.executeAll( outerTasks );
+		}
+		assertThat( executed ).hasSize( 16 );
+	}
+
+	@Test
+	public void nested_manyTasks() {
+		// More tasks than the queue of thread pools created by ThreadPoolProvider#newFixedThreadPool can hold,
+		// e.g. many indexes with many shards each.
+		int outerCount = 300;
+		int innerCount = 10;
+		Set<String> executed = ConcurrentHashMap.newKeySet();
+		try ( BootstrapExecutor executor = BootstrapExecutor.create( threadPoolProvider, 4 ) ) {
+			List<Runnable> outerTasks = new ArrayList<>();
+			for ( int i = 0; i < outerCount; i++ ) {
+				int outer = i;
+				outerTasks.add( () -> {
+					List<Runnable> innerTasks = new ArrayList<>();
+					for ( int j = 0; j < innerCount; j++ ) {
+						int inner = j;
+						innerTasks.add( () -> executed.add( outer + "-" + inner ) );
+					}
+					executor.executeAll( innerTasks );
+				} );
+			}
+			executor.executeAll( outerTasks );
+		}
+		assertThat( executed ).hasSize( outerCount * innerCount );
+	}
+
+	@Test
+	public void sequential() {
+		List<String> threadNames = new ArrayList<>();
+		try ( BootstrapExecutor executor = BootstrapExecutor.create( threadPoolProvider, 1 ) ) {
+			executor.executeAll( Arrays.asList(
+					() -> threadNames.add( Thread.currentThread().getName() ),
+					() -> threadNames.add( Thread.currentThread().getName() )
+			) );
+		}
+		assertThat( threadNames ).containsOnly( Thread.currentThread().getName() );
+	}
+
+	@Test
+	public void failure() {
+		SearchException failure1 = new SearchException( "failure1" );
+		SearchException failure2 = new SearchException( "failure2" );
+		Set<Integer> executed = ConcurrentHashMap.newKeySet();
+		try ( BootstrapExecutor executor = BootstrapExecutor.create( threadPoolProvider, 2 ) ) {
+			assertThatThrownBy( () -> executor.executeAll( Arrays.asList(
+					() -> executed.add( 0 ),
+					() -> {
+						throw failure1;
+					},
+					() -> executed.add( 2 ),
+					() -> {
+						throw failure2;
+					}
+			) ) )
+					.isSameAs( failure1 )
+					.satisfies( e -> assertThat( e.getSuppressed() ).containsExactly( failure2 ) );
+		}
+		// Failures must not prevent other tasks from executing
+		assertThat( executed ).containsOnly( 0, 2 );
+	}
+
+	private static void awaitOrFail(CountDownLatch latch) {
+		try {
+			if ( !latch.await( 10, TimeUnit.SECONDS ) ) {
+				throw new IllegalStateException( "Timed out waiting for other tasks" );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( e );
+		}
+	}
+
+}
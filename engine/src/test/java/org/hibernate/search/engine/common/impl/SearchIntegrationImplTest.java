@@ -18,6 +18,7 @@
 
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -94,7 +95,8 @@ public void setup() {
 		indexManagers.put( "index2", indexManager2Mock );
 
 		searchIntegration = new SearchIntegrationImpl( beanProviderMock, failureHandlerHolderMock,
-				threadPoolProviderMock, mappings, backends, indexManagers, engineThreadsMock, timingSourceMock );
+				threadPoolProviderMock, mappings, backends, indexManagers, engineThreadsMock, timingSourceMock,
+				BeanHolder.of( MetricsRegistry.noOp() ), null );
 	}
 
 	@Test
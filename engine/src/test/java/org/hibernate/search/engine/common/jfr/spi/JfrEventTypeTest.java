@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.jfr.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrEventTypeTest {
+
+	private static final String EVENT_NAME = "org.hibernate.search.test.JfrEventTypeTest";
+
+	private static final JfrEventType EVENT_TYPE = JfrEventType.builder( EVENT_NAME, "Test" )
+			.category( "Test" )
+			.field( String.class, "text", "Text" )
+			.field( int.class, "count", "Count" )
+			.build();
+
+	// JFR does not support fields of type Object
+	private static final JfrEventType INVALID_EVENT_TYPE = JfrEventType.builder( EVENT_NAME + "Invalid", "Invalid" )
+			.field( Object.class, "invalid", "Invalid" )
+			.build();
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void notRecording() {
+		assertThat( EVENT_TYPE.isEnabled() ).isFalse();
+		JfrEvent event = EVENT_TYPE.begin();
+		assertThat( event.isRecording() ).isFalse();
+		// Should not fail
+		event.set( 0, "foo" ).set( 1, 42 ).commit();
+	}
+
+	@Test
+	public void invalidEventType() throws Exception {
+		try ( Recording recording = new Recording() ) {
+			recording.enable( EVENT_NAME + "Invalid" );
+			recording.start();
+
+			// An event type that cannot be defined should behave as if it was never enabled
+			assertThat( INVALID_EVENT_TYPE.isEnabled() ).isFalse();
+			JfrEvent event = INVALID_EVENT_TYPE.begin();
+			assertThat( event.isRecording() ).isFalse();
+			// Should not fail
+			event.set( 0, new Object() ).commit();
+
+			recording.stop();
+		}
+	}
+
+	@Test
+	public void recording() throws Exception {
+		Path file = temporaryFolder.newFile( "recording.jfr" ).toPath();
+		try ( Recording recording = new Recording() ) {
+			recording.enable( EVENT_NAME );
+			recording.start();
+
+			assertThat( EVENT_TYPE.isEnabled() ).isTrue();
+			JfrEvent event = EVENT_TYPE.begin();
+			assertThat( event.isRecording() ).isTrue();
+			event.set( 0, "foo" ).set( 1, 42 ).commit();
+
+			recording.stop();
+			recording.dump( file );
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents( file ).stream()
+				.filter( e -> EVENT_NAME.equals( e.getEventType().getName() ) )
+				.collect( Collectors.toList() );
+		assertThat( events ).hasSize( 1 );
+		RecordedEvent recorded = events.get( 0 );
+		assertThat( recorded.getString( "text" ) ).isEqualTo( "foo" );
+		assertThat( recorded.getInt( "count" ) ).isEqualTo( 42 );
+		assertThat( recorded.getEventType().getCategoryNames() ).containsExactly( "Hibernate Search", "Test" );
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+
+import org.junit.Test;
+
+public class InMemoryMetricsRegistryTest {
+
+	private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+	@Test
+	public void counter() {
+		registry.counter( "my.counter" ).increment();
+		registry.counter( "my.counter" ).add( 41L );
+
+		assertThat( registry.snapshot() ).containsEntry( "my.counter", 42L );
+	}
+
+	@Test
+	public void histogram() {
+		Histogram histogram = registry.histogram( "my.histogram" );
+		assertThat( histogram.isEnabled() ).isTrue();
+		for ( long i = 1; i <= 100; i++ ) {
+			histogram.record( i );
+		}
+
+		Map<String, Number> snapshot = registry.snapshot();
+		assertThat( snapshot )
+				.containsEntry( "my.histogram.count", 100L )
+				.containsEntry( "my.histogram.sum", 5050L )
+				.containsEntry( "my.histogram.max", 100L )
+				.containsEntry( "my.histogram.mean", 50.5 )
+				// Percentiles are reported as the upper bound of their (power of two) bucket
+				.containsEntry( "my.histogram.p50", 63L )
+				.containsEntry( "my.histogram.p90", 100L )
+				.containsEntry( "my.histogram.p99", 100L );
+	}
+
+	@Test
+	public void histogram_empty() {
+		registry.histogram( "my.histogram" );
+
+		assertThat( registry.snapshot() )
+				.containsEntry( "my.histogram.count", 0L )
+				.containsEntry( "my.histogram.mean", 0.0 )
+				.containsEntry( "my.histogram.p99", 0L );
+	}
+
+	@Test
+	public void noOp() {
+		MetricsRegistry noOp = MetricsRegistry.noOp();
+		assertThat( noOp.histogram( "my.histogram" ).isEnabled() ).isFalse();
+		noOp.counter( "my.counter" ).increment();
+		noOp.histogram( "my.histogram" ).record( 42L );
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.management.Attribute;
+import javax.management.AttributeNotFoundException;
+import javax.management.ReflectionException;
+
+import org.junit.Test;
+
+public class MetricsMBeanTest {
+
+	private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+	private final MetricsMBean mbean = new MetricsMBean( registry );
+
+	@Test
+	public void getAttribute() throws Exception {
+		registry.counter( "my.counter" ).add( 42L );
+
+		assertThat( mbean.getAttribute( "my.counter" ) ).isEqualTo( 42L );
+		assertThatThrownBy( () -> mbean.getAttribute( "unknown" ) )
+				.isInstanceOf( AttributeNotFoundException.class );
+	}
+
+	@Test
+	public void setAttribute() {
+		registry.counter( "my.counter" ).add( 42L );
+
+		assertThatThrownBy( () -> mbean.setAttribute( new Attribute( "my.counter", 0L ) ) )
+				.isInstanceOf( AttributeNotFoundException.class )
+				.hasMessageContaining( "my.counter" );
+	}
+
+	@Test
+	public void invoke() {
+		assertThatThrownBy( () -> mbean.invoke( "reset", new Object[0], new String[0] ) )
+				.isInstanceOf( ReflectionException.class )
+				.extracting( Throwable::getCause )
+				.isInstanceOf( NoSuchMethodException.class );
+	}
+}
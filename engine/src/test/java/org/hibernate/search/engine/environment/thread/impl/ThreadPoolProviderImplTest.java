@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.thread.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+
+import org.junit.Test;
+
+public class ThreadPoolProviderImplTest {
+
+	@Test
+	public void blockingPool_virtualThreadsDisabled() throws Exception {
+		ThreadPoolProvider provider = new ThreadPoolProviderImpl( BeanHolder.of( new EmbeddedThreadProvider() ), false );
+		assertThat( provider.isVirtualThreadsEnabled() ).isFalse();
+
+		ThreadPoolExecutor executor = provider.newBlockingFixedThreadPool( 2, "Blocking" );
+		try {
+			Thread thread = executeAndGetThread( executor );
+			assertThat( thread.getName() ).startsWith( "Hibernate Search - Blocking" );
+			assertThat( isVirtual( thread ) ).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void blockingPool_virtualThreadsEnabled() throws Exception {
+		ThreadPoolProvider provider = new ThreadPoolProviderImpl( BeanHolder.of( new EmbeddedThreadProvider() ), true );
+		boolean supported = VirtualThreadSupport.createRawFactoryOrNull() != null;
+		// Falls back to platform threads if the JVM does not support virtual threads
+		assertThat( provider.isVirtualThreadsEnabled() ).isEqualTo( supported );
+
+		ThreadPoolExecutor executor = provider.newBlockingFixedThreadPool( 2, "Blocking" );
+		try {
+			Thread thread = executeAndGetThread( executor );
+			assertThat( thread.getName() ).startsWith( "Hibernate Search - Blocking" );
+			assertThat( isVirtual( thread ) ).isEqualTo( supported );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// Non-blocking pools always use platform threads
+		executor = provider.newFixedThreadPool( 2, "NonBlocking" );
+		try {
+			Thread thread = executeAndGetThread( executor );
+			assertThat( thread.getName() ).startsWith( "Hibernate Search - NonBlocking" );
+			assertThat( isVirtual( thread ) ).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void blockingPool_virtualThreadsEnabled_customThreadProvider() throws Exception {
+		ThreadProvider customThreadProvider = new ThreadProvider() {
+			private final ThreadProvider delegate = new EmbeddedThreadProvider( "Custom - " );
+
+			@Override
+			public String createThreadName(String prefix, int threadNumber) {
+				return delegate.createThreadName( prefix, threadNumber );
+			}
+
+			@Override
+			public ThreadFactory createThreadFactory(String prefix) {
+				return delegate.createThreadFactory( prefix );
+			}
+		};
+		ThreadPoolProvider provider = new ThreadPoolProviderImpl( BeanHolder.of( customThreadProvider ), true );
+
+		// Thread providers that do not opt in to virtual threads keep using platform threads
+		ThreadPoolExecutor executor = provider.newBlockingFixedThreadPool( 2, "Blocking" );
+		try {
+			Thread thread = executeAndGetThread( executor );
+			assertThat( thread.getName() ).startsWith( "Custom - Blocking" );
+			assertThat( isVirtual( thread ) ).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Thread executeAndGetThread(ExecutorService executor)
+			throws ExecutionException, InterruptedException {
+		return executor.submit( Thread::currentThread ).get();
+	}
+
+	private static boolean isVirtual(Thread thread) throws Exception {
+		Method isVirtual;
+		try {
+			isVirtual = Thread.class.getMethod( "isVirtual" );
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+		return (boolean) isVirtual.invoke( thread );
+	}
+
+}
@@ -666,6 +666,35 @@ public void multipleHosts_failover_timeout() {
 		}
 	}
 
+	@Test
+	public void multipleHosts_hedging() {
+		String payload = "{ \"query\": { \"match_all\": {} } }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+		wireMockRule2.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ).withFixedDelay( 5_000 /* 5s => will be hedged */ ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.HOSTS, httpHostAndPortFor( wireMockRule1, wireMockRule2 ) );
+					properties.accept( ElasticsearchBackendSettings.REQUEST_HEDGING_ENABLED, "true" );
+					properties.accept( ElasticsearchBackendSettings.REQUEST_HEDGING_MIN_DELAY, "100" /* 100ms */ );
+					// Use a timeout much higher than the hedging delay, because wiremock can be really slow...
+					properties.accept( ElasticsearchBackendSettings.READ_TIMEOUT, "3000" /* 3s */ );
+				}
+		) ) {
+			// Whichever node is tried first, the fast node must answer before the read timeout
+			for ( int i = 0; i < 4; i++ ) {
+				ElasticsearchResponse result = doPost( client, "/myIndex/_search", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+
+			wireMockRule1.verify( 4, postRequestedFor( urlPathMatching( "/myIndex/_search" ) ) );
+		}
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-2469")
 	public void multipleHosts_failover_fault() {
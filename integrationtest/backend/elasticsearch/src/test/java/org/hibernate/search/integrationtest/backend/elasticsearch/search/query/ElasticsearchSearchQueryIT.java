@@ -141,6 +141,52 @@ public void projection_sourceFiltering() {
 		query.fetchAll();
 	}
 
+	@Test
+	public void projection_responseFiltering() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<Object> query = scope.query()
+				.select( f -> f.field( "string" ) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readName )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':['string']}", JsonObject.class ) )
+						.param( "filter_path", "took,timed_out,_shards,_scroll_id,hits.total,"
+								+ "hits.hits._id,hits.hits._source,error,status" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
+	@Test
+	public void noHits_responseFiltering() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<Object> query = scope.query()
+				.select( f -> f.field( "string" ) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readName )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':false}", JsonObject.class ) )
+						.param( "size", 0 )
+						.param( "filter_path", "took,timed_out,_shards,_scroll_id,hits.total,error,status" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetch( 0 );
+	}
+
 	@Test
 	public void routing() {
 		StubMappingScope scope = index.createScope();
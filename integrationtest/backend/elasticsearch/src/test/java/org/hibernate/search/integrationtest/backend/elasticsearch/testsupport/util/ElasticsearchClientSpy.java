@@ -36,6 +36,7 @@ public boolean allowDuplicates() {
 			return false;
 		}
 	} );
+	private volatile CompletableFuture<?> requestBarrier;
 
 	@Override
 	public Statement apply(Statement base, Description description) {
@@ -77,6 +78,17 @@ public int getRequestCount() {
 		return requestCount.get();
 	}
 
+	/**
+	 * Hold all requests submitted from now on until the given future completes.
+	 * <p>
+	 * Useful to let works accumulate in indexing queues while a request is in progress.
+	 *
+	 * @param barrier A future that will be completed when requests are allowed to proceed.
+	 */
+	public void holdRequestsUntil(CompletableFuture<?> barrier) {
+		this.requestBarrier = barrier;
+	}
+
 	public BeanReference<ElasticsearchClientFactory> factoryReference() {
 		return beanResolver -> {
 			BeanHolder<ElasticsearchClientFactory> delegateHolder =
@@ -131,18 +143,27 @@ public void close() {
 		@Override
 		public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 			requestCount.incrementAndGet();
+			CompletableFuture<?> barrier = requestBarrier;
 			return expectations.verify(
 					new ElasticsearchClientSubmitCall( request ),
 					// If there was an expectation, check it is met and forward the request to the actual client
 					(expectedCall, actualCall) -> {
 						expectedCall.verify( actualCall );
-						return () -> delegate.submit( request );
+						return () -> forward( barrier, request );
 					},
 					// If there wasn't any expectation, just forward the request to the actual client
-					call -> delegate.submit( request )
+					call -> forward( barrier, request )
 			);
 		}
 
+		private CompletableFuture<ElasticsearchResponse> forward(CompletableFuture<?> barrier,
+				ElasticsearchRequest request) {
+			if ( barrier == null ) {
+				return delegate.submit( request );
+			}
+			return barrier.thenCompose( ignored -> delegate.submit( request ) );
+		}
+
 		@Override
 		public <T> T unwrap(Class<T> clientClass) {
 			throw new UnsupportedOperationException();
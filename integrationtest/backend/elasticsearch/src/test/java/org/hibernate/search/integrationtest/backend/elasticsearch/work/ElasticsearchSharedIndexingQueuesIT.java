@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.index.IndexingQueueScope;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Test indexing with indexing queues shared by all indexes of the backend.
+ */
+public class ElasticsearchSharedIndexingQueuesIT {
+
+	private static final String ID_1 = "id_1";
+	private static final String ID_2 = "id_2";
+	private static final String ID_3 = "id_3";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	private final ElasticsearchTestDialect dialect = ElasticsearchTestDialect.get();
+	private final Gson gson = new Gson();
+
+	private final StubMappedIndex index1 = StubMappedIndex.withoutFields().name( "index1" );
+	private final StubMappedIndex index2 = StubMappedIndex.withoutFields().name( "index2" );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withBackendProperty(
+						ElasticsearchBackendSettings.INDEXING_QUEUE_SCOPE, IndexingQueueScope.BACKEND.externalRepresentation()
+				)
+				// A single queue, so that works on different document IDs end up in the same queue
+				.withBackendProperty( ElasticsearchIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withIndexes( index1, index2 )
+				.setup();
+	}
+
+	@Test
+	public void multipleIndexes() {
+		BulkIndexer indexer1 = index1.bulkIndexer()
+				.add( ID_1, document -> { } )
+				.add( ID_2, document -> { } );
+		BulkIndexer indexer2 = index2.bulkIndexer()
+				.add( ID_1, document -> { } )
+				.add( ID_2, document -> { } );
+		indexer1.join( indexer2 );
+
+		assertThatQuery( index1.createScope( index2 ).query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( c -> c
+						.doc( index1.typeName(), ID_1 )
+						.doc( index1.typeName(), ID_2 )
+						.doc( index2.typeName(), ID_1 )
+						.doc( index2.typeName(), ID_2 )
+				);
+
+		// Works on the same document ID in different indexes must not interfere with each other
+		IndexIndexingPlan plan1 = index1.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan1.delete( referenceProvider( ID_1 ) );
+		IndexIndexingPlan plan2 = index2.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan2.delete( referenceProvider( ID_2 ) );
+		plan1.execute().join();
+		plan2.execute().join();
+		index2.createWorkspace().refresh().join();
+
+		assertThatQuery( index1.createScope( index2 ).query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( c -> c
+						.doc( index1.typeName(), ID_2 )
+						.doc( index2.typeName(), ID_1 )
+				);
+	}
+
+	@Test
+	public void multipleIndexes_sameBulk() {
+		// Hold the first bulk request, so that the next works accumulate in the shared queue
+		CompletableFuture<Void> releaseRequests = new CompletableFuture<>();
+		clientSpy.holdRequestsUntil( releaseRequests );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.body( indexAction( index1, ID_1 ) )
+						.body( new JsonObject() )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		CompletableFuture<?> firstFuture = add( index1, ID_1 );
+		await().untilAsserted( () -> clientSpy.verifyExpectationsMet() );
+
+		// Works for both indexes must be sent in a single bulk request
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.body( indexAction( index1, ID_2 ) )
+						.body( new JsonObject() )
+						.body( indexAction( index2, ID_3 ) )
+						.body( new JsonObject() )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		CompletableFuture<?> secondFuture = add( index1, ID_2 );
+		CompletableFuture<?> thirdFuture = add( index2, ID_3 );
+		releaseRequests.complete( null );
+		CompletableFuture.allOf( firstFuture, secondFuture, thirdFuture ).join();
+		clientSpy.verifyExpectationsMet();
+
+		assertThatQuery( index1.createScope( index2 ).query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( c -> c
+						.doc( index1.typeName(), ID_1 )
+						.doc( index1.typeName(), ID_2 )
+						.doc( index2.typeName(), ID_3 )
+				);
+	}
+
+	private CompletableFuture<?> add(StubMappedIndex index, String id) {
+		IndexIndexingPlan plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( id ), document -> { } );
+		return plan.execute();
+	}
+
+	private JsonObject indexAction(StubMappedIndex index, String id) {
+		return gson.fromJson( "{'index':{'_index': '" + defaultWriteAlias( index.name() ) + "',"
+				+ dialect.getTypeNameForMappingAndBulkApi().map( name -> "'_type': '" + name + "'," ).orElse( "" )
+				+ "'_id': '" + id + "'}}", JsonObject.class );
+	}
+
+}
@@ -12,6 +12,8 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
@@ -29,8 +31,10 @@
 import org.apache.logging.log4j.Level;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 public class LuceneLocalFileSystemDirectoryIT extends AbstractBuiltInDirectoryIT {
 
@@ -123,6 +127,107 @@ public void filesystemAccessStrategy_invalid() {
 				);
 	}
 
+	@Test
+	public void filesystemAccessStrategy_mmap_preloadAndNioExtensions() {
+		// Small segments are stored in compound files by default
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "mmap" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS, "cfs,cfe,si" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS, "si" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() ).allSatisfy( directory -> {
+			assertThat( directory ).isInstanceOf( FileSwitchDirectory.class );
+			FileSwitchDirectory nioSwitch = (FileSwitchDirectory) directory;
+			assertThat( nioSwitch.getPrimaryDir() ).isInstanceOf( NIOFSDirectory.class );
+			assertThat( nioSwitch.getSecondaryDir() ).isInstanceOf( FileSwitchDirectory.class );
+			FileSwitchDirectory preloadSwitch = (FileSwitchDirectory) nioSwitch.getSecondaryDir();
+			assertThat( preloadSwitch.getPrimaryDir() ).isInstanceOfSatisfying( MMapDirectory.class,
+					mmapDirectory -> assertThat( mmapDirectory.getPreload() ).isTrue() );
+			assertThat( preloadSwitch.getSecondaryDir() ).isInstanceOfSatisfying( MMapDirectory.class,
+					mmapDirectory -> assertThat( mmapDirectory.getPreload() ).isFalse() );
+		} );
+
+		// Files must be found regardless of the directory they were written with
+		index.createWorkspace().flush().join();
+		index.createWorkspace().mergeSegments().join();
+		assertThat( index.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( 3L );
+	}
+
+	@Test
+	public void filesystemAccessStrategy_mmap_preloadExtensions_lockInvalid() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS, "cfs,lock"
+		) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '"
+						+ "hibernate.search.backend." + LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS + "'" )
+				.hasMessageContaining( "Invalid index file extension: 'lock'" );
+	}
+
+	@Test
+	public void filesystemAccessStrategy_mmap_nioExtensions_lockInvalid() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS, "cfs,lock"
+		) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '"
+						+ "hibernate.search.backend." + LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_NIO_EXTENSIONS + "'" )
+				.hasMessageContaining( "Invalid index file extension: 'lock'" );
+	}
+
+	@Test
+	public void filesystemAccessStrategy_nio_mmapOptionsIgnored() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD_EXTENSIONS, "cfs" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() )
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( NIOFSDirectory.class ) );
+	}
+
+	@Test
+	public void nrtCache_default() {
+		setup( c -> c );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() )
+				.allSatisfy( directory -> assertThat( directory ).isNotInstanceOf( NRTCachingDirectory.class ) );
+	}
+
+	@Test
+	public void nrtCache_enabled() throws IOException {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE, 10 )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHE_MAX_SEGMENT_SIZE, 1 ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() )
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOfSatisfying( NRTCachingDirectory.class,
+						cachingDirectory -> assertThat( cachingDirectory.getDelegate() ).isInstanceOf( FSDirectory.class ) ) );
+
+		// Committing must spill cached segments to the filesystem
+		index.createWorkspace().flush().join();
+		for ( Directory directory : directories() ) {
+			NRTCachingDirectory cachingDirectory = (NRTCachingDirectory) directory;
+			assertThat( cachingDirectory.listCachedFiles() ).isEmpty();
+			assertThat( cachingDirectory.getDelegate().listAll() ).anyMatch( name -> name.startsWith( "segments_" ) );
+		}
+	}
+
+	@Test
+	public void nrtCache_invalid() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneIndexSettings.DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE, -1
+		) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '"
+						+ "hibernate.search.backend." + LuceneIndexSettings.DIRECTORY_NRT_CACHE_MAX_CACHED_SIZE + "'" );
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-filesystem";
@@ -157,14 +262,20 @@ private void testFileSystemAccessStrategy(String strategyName,
 
 		checkIndexingAndQuerying();
 
-		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
-		assertThat( luceneIndexManager.getShardsForTests() )
-				.extracting( Shard::indexAccessorForTests )
-				.extracting( IndexAccessorImpl::getDirectoryForTests )
-				.isNotEmpty()
+		assertThat( directories() )
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( expectedDirectoryClass ) );
 	}
 
+	private List<Directory> directories() {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		List<Directory> directories = luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::indexAccessorForTests )
+				.map( IndexAccessorImpl::getDirectoryForTests )
+				.collect( Collectors.toList() );
+		assertThat( directories ).isNotEmpty();
+		return directories;
+	}
+
 	private static long directorySize(Path directory) throws IOException {
 		return Files.walk( directory )
 				.filter( p -> p.toFile().isFile() )
@@ -0,0 +1,306 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Test the shard-per-tenant multi-tenancy strategy,
+ * see {@link org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName#SHARD_PER_TENANT}.
+ */
+public class LuceneShardPerTenantIT {
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( TENANT_1 );
+	private final StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( TENANT_2 );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void indexingAndSearching() {
+		setup( setupHelper.start() );
+
+		// Tenant shards are created lazily
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).isEmpty();
+
+		initData();
+
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 2 );
+
+		assertThatQuery( index.createScope().query( tenant1SessionContext ).where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		assertThatQuery( index.createScope().query( tenant2SessionContext ).where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+		assertThatQuery( index.createScope().query( tenant1SessionContext )
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.id().matching( "1" ) ) )
+				.hasHitsAnyOrder( "tenant1_text1" );
+		assertThatQuery( index.createScope().query( tenant2SessionContext )
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.id().matching( "1" ) ) )
+				.hasHitsAnyOrder( "tenant2_text1" );
+	}
+
+	@Test
+	public void purge() {
+		setup( setupHelper.start() );
+		initData();
+
+		index.createWorkspace( tenant1SessionContext ).purge( Collections.emptySet() ).join();
+		index.createWorkspace( tenant1SessionContext ).refresh().join();
+
+		assertThatQuery( index.createScope().query( tenant1SessionContext ).where( f -> f.matchAll() ) )
+				.hasNoHits();
+		assertThatQuery( index.createScope().query( tenant2SessionContext ).where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+	}
+
+	@Test
+	public void maxOpenShards() {
+		setup( setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_MAX_OPEN_SHARDS, 1 ) );
+
+		// Each access to a tenant will close the index writer and reader of the other tenant;
+		// they should be re-opened transparently.
+		for ( int i = 0; i < 3; i++ ) {
+			String id = String.valueOf( i );
+			index.bulkIndexer( tenant1SessionContext, true )
+					.add( id, document -> document.addValue( index.binding().string, "tenant1_text" + id ) )
+					.join();
+			index.bulkIndexer( tenant2SessionContext, true )
+					.add( id, document -> document.addValue( index.binding().string, "tenant2_text" + id ) )
+					.join();
+		}
+
+		assertThatQuery( index.createScope().query( tenant1SessionContext ).where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "0", "1", "2" );
+		assertThatQuery( index.createScope().query( tenant2SessionContext ).where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "0", "1", "2" );
+	}
+
+	@Test
+	public void maxOpenShards_concurrentAccess() throws InterruptedException, ExecutionException {
+		setup( setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_MAX_OPEN_SHARDS, 1 )
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_SHARD_IDLE_TIMEOUT, 1 ) );
+
+		int threadCount = 4;
+		int documentsPerThread = 50;
+		// Index writers and readers keep being closed while other threads index and search;
+		// no work should fail and no document should be lost.
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < threadCount; t++ ) {
+				int threadIndex = t;
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < documentsPerThread; i++ ) {
+						String id = threadIndex + "_" + i;
+						StubBackendSessionContext sessionContext = ( i % 2 == 0 ) ? tenant1SessionContext
+								: tenant2SessionContext;
+						index.bulkIndexer( sessionContext, false )
+								.add( id, document -> document.addValue( index.binding().string, id ) )
+								.join();
+						index.createScope().query( sessionContext ).where( f -> f.matchAll() ).fetchTotalHitCount();
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		index.createWorkspace( tenant1SessionContext ).refresh().join();
+		index.createWorkspace( tenant2SessionContext ).refresh().join();
+		long expectedPerTenant = threadCount * documentsPerThread / 2;
+		assertThatQuery( index.createScope().query( tenant1SessionContext ).where( f -> f.matchAll() ) )
+				.hasTotalHitCount( expectedPerTenant );
+		assertThatQuery( index.createScope().query( tenant2SessionContext ).where( f -> f.matchAll() ) )
+				.hasTotalHitCount( expectedPerTenant );
+	}
+
+	@Test
+	public void sharding() {
+		assertThatThrownBy( () -> setup( setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexProperty( index.name(), LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.indexContext( index.name() )
+						.failure( "Invalid sharding configuration",
+								"cannot be used with the shard-per-tenant multi-tenancy strategy" )
+						.build() );
+	}
+
+	@Test
+	public void tenantIdUnsafeForFilesystem() throws IOException {
+		File root = temporaryFolder.newFolder( "root" );
+		setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() ) );
+
+		// Tenant identifiers must not be used as-is in directory names
+		StubBackendSessionContext relativePathSessionContext = new StubBackendSessionContext( "../../escaped" );
+		StubBackendSessionContext absolutePathSessionContext =
+				new StubBackendSessionContext( new File( temporaryFolder.getRoot(), "absolute" ).getAbsolutePath() );
+		index.bulkIndexer( relativePathSessionContext, true )
+				.add( "1", document -> document.addValue( index.binding().string, "relative" ) )
+				.join();
+		index.bulkIndexer( absolutePathSessionContext, true )
+				.add( "1", document -> document.addValue( index.binding().string, "absolute" ) )
+				.join();
+
+		assertThatQuery( index.createScope().query( relativePathSessionContext )
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( "relative" );
+		assertThatQuery( index.createScope().query( absolutePathSessionContext )
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( "absolute" );
+
+		assertThat( temporaryFolder.getRoot().list() ).containsExactly( "root" );
+		assertThat( root.list() ).containsExactly( index.name() );
+		assertThat( new File( root, index.name() ).list() )
+				.hasSize( 2 )
+				.allSatisfy( name -> assertThat( name ).startsWith( "tenant-" ) );
+	}
+
+	@Test
+	public void restart_dropAndCreate() throws IOException {
+		File root = temporaryFolder.newFolder( "root" );
+		SearchIntegration integration = setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) );
+		initData();
+		integration.close();
+
+		// Schema management must drop the shards of tenants that were not accessed yet in this run
+		setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) );
+
+		assertThatQuery( index.createScope().query( tenant1SessionContext ).where( f -> f.matchAll() ) )
+				.hasNoHits();
+		assertThatQuery( index.createScope().query( tenant2SessionContext ).where( f -> f.matchAll() ) )
+				.hasNoHits();
+	}
+
+	@Test
+	public void restart_dropOnShutdown() throws IOException {
+		File root = temporaryFolder.newFolder( "root" );
+		SearchIntegration integration = setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) );
+		initData();
+		integration.close();
+
+		// Dropping on shutdown must also drop the shards of tenants that were not accessed in this run
+		integration = setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY ) );
+		integration.close();
+
+		setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE ) );
+
+		assertThatQuery( index.createScope().query( tenant1SessionContext ).where( f -> f.matchAll() ) )
+				.hasNoHits();
+		assertThatQuery( index.createScope().query( tenant2SessionContext ).where( f -> f.matchAll() ) )
+				.hasNoHits();
+	}
+
+	@Test
+	public void restart_tenantLessRead() throws IOException {
+		File root = temporaryFolder.newFolder( "root" );
+		SearchIntegration integration = setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) );
+		initData();
+		integration.close();
+
+		setup( setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.getAbsolutePath() )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE ) );
+
+		// A tenant-less reader must target the shards of all tenants, even those not accessed yet in this run
+		try ( IndexReader indexReader = index.createScope().extension( LuceneExtension.get() ).openIndexReader() ) {
+			assertThat( indexReader.numDocs() ).isEqualTo( 4 );
+		}
+	}
+
+	private SearchIntegration setup(SearchSetupHelper.SetupContext setupContext) {
+		return setupContext.withIndex( index )
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, "shard-per-tenant" )
+				.withMultiTenancy()
+				.setup();
+	}
+
+	private void initData() {
+		index.bulkIndexer( tenant1SessionContext, true )
+				.add( "1", document -> document.addValue( index.binding().string, "tenant1_text1" ) )
+				.add( "2", document -> document.addValue( index.binding().string, "tenant1_text2" ) )
+				.join();
+		index.bulkIndexer( tenant2SessionContext, true )
+				.add( "1", document -> document.addValue( index.binding().string, "tenant2_text1" ) )
+				.add( "3", document -> document.addValue( index.binding().string, "tenant2_text3" ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test that sorts on single-valued numeric fields return documents with a missing value
+ * where they belong, even with enough documents for Lucene to skip non-competitive documents using points.
+ */
+public class LuceneSearchSortNumericMissingValueIT {
+
+	private static final int DOCUMENT_COUNT = 10_000;
+	private static final int MISSING_VALUE_PERIOD = 2_000;
+	private static final int LIMIT = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private static final List<Integer> ascendingValues = new ArrayList<>();
+	private static int missingValueCount = 0;
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			if ( hasMissingValue( i ) ) {
+				++missingValueCount;
+			}
+			else {
+				ascendingValues.add( i );
+			}
+		}
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> StubMapperUtils.documentProvider(
+						String.valueOf( i ),
+						document -> {
+							if ( !hasMissingValue( i ) ) {
+								document.addValue( index.binding().integer, i );
+							}
+						} ) )
+				.join();
+	}
+
+	@Test
+	public void asc_missingFirst() {
+		List<Integer> expected = new ArrayList<>();
+		addMissingValues( expected );
+		expected.addAll( ascendingValues );
+		assertSortedValues( SortOrder.ASC, true, expected );
+	}
+
+	@Test
+	public void asc_missingLast() {
+		List<Integer> expected = new ArrayList<>( ascendingValues );
+		addMissingValues( expected );
+		assertSortedValues( SortOrder.ASC, false, expected );
+	}
+
+	@Test
+	public void desc_missingFirst() {
+		List<Integer> expected = new ArrayList<>();
+		addMissingValues( expected );
+		List<Integer> descendingValues = new ArrayList<>( ascendingValues );
+		descendingValues.sort( Comparator.reverseOrder() );
+		expected.addAll( descendingValues );
+		assertSortedValues( SortOrder.DESC, true, expected );
+	}
+
+	@Test
+	public void desc_missingLast() {
+		List<Integer> expected = new ArrayList<>( ascendingValues );
+		expected.sort( Comparator.reverseOrder() );
+		addMissingValues( expected );
+		assertSortedValues( SortOrder.DESC, false, expected );
+	}
+
+	private void assertSortedValues(SortOrder order, boolean missingFirst, List<Integer> expected) {
+		// Check the top hits as well as the bottom hits, where documents with a missing value may end up
+		for ( int offset : new int[] { 0, DOCUMENT_COUNT - LIMIT } ) {
+			List<Integer> hits = index.query()
+					.select( f -> f.field( "integer", Integer.class ) )
+					.where( f -> f.matchAll() )
+					.sort( f -> missingFirst
+							? f.field( "integer" ).order( order ).missing().first()
+							: f.field( "integer" ).order( order ).missing().last() )
+					.fetchHits( offset, LIMIT );
+			assertThat( hits )
+					.as( "Hits at offset " + offset + " for order " + order
+							+ ( missingFirst ? " with missing first" : " with missing last" ) )
+					.containsExactlyElementsOf( expected.subList( offset, offset + LIMIT ) );
+		}
+	}
+
+	private static void addMissingValues(List<Integer> values) {
+		for ( int i = 0; i < missingValueCount; i++ ) {
+			values.add( null );
+		}
+	}
+
+	private static boolean hasMissingValue(int i) {
+		return i % MISSING_VALUE_PERIOD == MISSING_VALUE_PERIOD / 2;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
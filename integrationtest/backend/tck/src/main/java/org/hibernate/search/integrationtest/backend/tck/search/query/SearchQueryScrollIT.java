@@ -16,6 +16,9 @@
 
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -221,6 +224,45 @@ public void resultTotal_totalHitCountThreshold_veryHigh() {
 		}
 	}
 
+	@Test
+	public void stream_none() {
+		try ( Stream<DocumentReference> stream = matchNoneQuery().stream( CHUNK_SIZE ) ) {
+			assertThat( stream ).isEmpty();
+		}
+	}
+
+	@Test
+	public void stream_all() {
+		try ( Stream<DocumentReference> stream = matchAllQuery().stream( CHUNK_SIZE ) ) {
+			checkStreaming( stream, DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void stream_firstHalf() {
+		try ( Stream<DocumentReference> stream = matchFirstHalfQuery().stream( CHUNK_SIZE ) ) {
+			checkStreaming( stream, DOCUMENT_COUNT / 2 );
+		}
+	}
+
+	@Test
+	public void stream_partialConsumption() {
+		try ( Stream<DocumentReference> stream = matchAllQuery().stream( CHUNK_SIZE ) ) {
+			assertThat( stream.limit( CHUNK_SIZE + 1 ).map( DocumentReference::id ) )
+					.containsExactly( IntStream.range( 0, CHUNK_SIZE + 1 )
+							.mapToObj( SearchQueryScrollIT::docId ).toArray( String[]::new ) );
+		}
+	}
+
+	private void checkStreaming(Stream<DocumentReference> stream, int documentCount) {
+		List<DocumentReference> hits = stream.collect( Collectors.toList() );
+		assertThat( hits ).hasSize( documentCount );
+		for ( int i = 0; i < documentCount; i++ ) {
+			assertThat( hits.get( i ) ).extracting( DocumentReference::id ).isEqualTo( docId( i ) );
+			assertThat( hits.get( i ) ).extracting( DocumentReference::typeName ).isEqualTo( index.typeName() );
+		}
+	}
+
 	private void checkScrolling(SearchScroll<DocumentReference> scroll, int documentCount, int chunkSize) {
 		int docIndex = 0;
 		int quotient = documentCount / chunkSize;
@@ -10,6 +10,7 @@
 import static org.awaitility.Awaitility.await;
 import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -32,14 +33,25 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import org.awaitility.core.ThrowingRunnable;
 
 /**
  * Extensive tests of backend failures for automatic indexing with {@link HibernateOrmMapperDatabasePollingSettings#DATABASE_POLLING}.
  */
+@RunWith(Parameterized.class)
 public class DatabasePollingAutomaticIndexingBackendFailureIT {
 
+	@Parameterized.Parameters(name = "pipelineDepth = {0}")
+	public static List<Integer> params() {
+		return Arrays.asList( 1, 3 );
+	}
+
+	@Parameterized.Parameter
+	public int pipelineDepth;
+
 	@Rule
 	public BackendMock backendMock = new BackendMock();
 
@@ -61,6 +73,7 @@ public void setup() {
 		sessionFactory = ormSetupHelper.start()
 				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
 				.withProperty( "hibernate.search.coordination.processors.indexing.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.processors.indexing.pipeline_depth", pipelineDepth )
 				.setup( IndexedEntity.class );
 		backendMock.verifyExpectationsMet();
 	}
@@ -31,6 +31,10 @@
 		// > Sending events outside of transactions, during a flush, doesn't work for some reason;
 		//   entities are only visible from other sessions after the original session is closed.
 		"!org.hibernate.search.integrationtest.mapper.orm.automaticindexing.session.AutomaticIndexingOutOfTransactionIT",
+		// > Query statistics also include queries executed by the background event processor
+		"!org.hibernate.search.integrationtest.mapper.orm.automaticindexing.AutomaticIndexingReindexingResolutionBatchLoadingIT",
+		// > Early execution is ignored when automatic indexing is coordinated through an outbox
+		"!org.hibernate.search.integrationtest.mapper.orm.automaticindexing.session.AutomaticIndexingEarlyExecutionIT",
 		// > We do not send events for the creation of contained entities,
 		//   and as a result one particular use case involving queries instead of associations
 		//   cannot work.
@@ -10,6 +10,7 @@
 import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -28,6 +29,8 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 /**
  * Tests highly concurrent background processing of events,
@@ -35,6 +38,7 @@
  * <p>
  * This used to fail on MS SQL Server, in particular, because of its lock escalation mechanism.
  */
+@RunWith(Parameterized.class)
 @TestForIssue(jiraKey = "HSEARCH-4141")
 public class DatabasePollingAutomaticIndexingConcurrencyIT {
 
@@ -43,6 +47,14 @@ public class DatabasePollingAutomaticIndexingConcurrencyIT {
 	// Experimentation showed that larger batch sizes tend to reproduce the deadlock more reliably.
 	public static final int ENTITY_UPDATE_BATCH_SIZE = 500;
 
+	@Parameterized.Parameters(name = "pipelineDepth = {0}")
+	public static List<Integer> params() {
+		return Arrays.asList( 1, 3 );
+	}
+
+	@Parameterized.Parameter
+	public int pipelineDepth;
+
 	@Rule
 	public BackendMock backendMock = new BackendMock();
 
@@ -74,7 +86,8 @@ private SessionFactory setup(Action action, int assignedShardIndex) {
 				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
 				.withProperty( "hibernate.search.coordination.shards.static", "true" )
 				.withProperty( "hibernate.search.coordination.shards.total_count", TOTAL_SHARD_COUNT )
-				.withProperty( "hibernate.search.coordination.shards.assigned", String.valueOf( assignedShardIndex ) );
+				.withProperty( "hibernate.search.coordination.shards.assigned", String.valueOf( assignedShardIndex ) )
+				.withProperty( "hibernate.search.coordination.processors.indexing.pipeline_depth", pipelineDepth );
 
 		return context.setup( IndexedEntity.class );
 	}
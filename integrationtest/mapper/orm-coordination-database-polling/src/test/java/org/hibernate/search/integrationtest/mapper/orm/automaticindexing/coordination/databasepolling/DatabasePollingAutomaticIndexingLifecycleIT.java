@@ -9,6 +9,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.integrationtest.mapper.orm.automaticindexing.coordination.databasepolling.DatabasePollingAutomaticIndexingEventSendingIT.verifyOutboxEntry;
 
+import java.util.Arrays;
 import java.util.List;
 import javax.persistence.Basic;
 import javax.persistence.Entity;
@@ -27,9 +28,20 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+@RunWith(Parameterized.class)
 public class DatabasePollingAutomaticIndexingLifecycleIT {
 
+	@Parameterized.Parameters(name = "pipelineDepth = {0}")
+	public static List<Integer> params() {
+		return Arrays.asList( 1, 3 );
+	}
+
+	@Parameterized.Parameter
+	public int pipelineDepth;
+
 	@Rule
 	public BackendMock backendMock = new BackendMock();
 
@@ -154,6 +166,7 @@ private SessionFactory setup() {
 		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "indexedField", String.class ) );
 		sessionFactory = ormSetupHelper.start()
 				.withProperty( "hibernate.search.coordination.processors.indexing.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.processors.indexing.pipeline_depth", pipelineDepth )
 				.withProperty( "hibernate.hbm2ddl.auto", "update" )
 				.setup( IndexedEntity.class );
 		return sessionFactory;
@@ -163,6 +176,7 @@ private SessionFactory setupWithCleanup() {
 		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "indexedField", String.class ) );
 		SessionFactory sessionFactory = ormSetupHelper.start()
 				.withProperty( "hibernate.search.coordination.processors.indexing.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.processors.indexing.pipeline_depth", pipelineDepth )
 				.setup( IndexedEntity.class );
 		backendMock.verifyExpectationsMet();
 		return sessionFactory;
@@ -14,6 +14,7 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import javax.persistence.Basic;
 import javax.persistence.Entity;
@@ -38,9 +39,20 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+@RunWith(Parameterized.class)
 public class DatabasePollingAutomaticIndexingOutOfOrderIdsIT {
 
+	@Parameterized.Parameters(name = "pipelineDepth = {0}")
+	public static List<Integer> params() {
+		return Arrays.asList( 1, 3 );
+	}
+
+	@Parameterized.Parameter
+	public int pipelineDepth;
+
 	private static final String OUTBOX_EVENT_UPDATE_ID = "UPDATE HSEARCH_OUTBOX_EVENT SET ID = ? WHERE ID = ?";
 
 	private final FilteringOutboxEventFinder outboxEventFinder = new FilteringOutboxEventFinder();
@@ -60,6 +72,7 @@ public void before() {
 				.expectAnySchema( RoutedIndexedEntity.NAME );
 		sessionFactory = ormSetupHelper.start()
 				.withProperty( "hibernate.search.coordination.processors.indexing.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.processors.indexing.pipeline_depth", pipelineDepth )
 				.setup( IndexedEntity.class, RoutedIndexedEntity.class );
 		backendMock.verifyExpectationsMet();
 	}
@@ -0,0 +1,220 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing.coordination.databasepolling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.analysis.AnalyzerNames;
+import org.hibernate.search.mapper.orm.coordination.databasepolling.impl.OutboxEvent;
+import org.hibernate.search.mapper.orm.coordination.databasepolling.impl.OutboxEventPartitions;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.TypeBinderRef;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.TypeBinding;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.test.rule.StaticCounters;
+import org.hibernate.tool.schema.Action;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests for the partitioned layout of the outbox event table with the database-polling coordination strategy:
+ * checks that events are spread over partitions and that all events are handled by one and only one node,
+ * whether partitions are aligned with shards or not.
+ */
+@RunWith(Parameterized.class)
+public class DatabasePollingAutomaticIndexingPartitionedOutboxIT {
+
+	@Parameterized.Parameters(name = "totalShardCount = {0}, partitionCount = {1}")
+	public static List<Object[]> params() {
+		return Arrays.asList(
+				new Object[] { 1, 4 },
+				new Object[] { 2, 2 },
+				new Object[] { 4, 4 },
+				new Object[] { 2, 3 },
+				new Object[] { 4, 2 }
+		);
+	}
+
+	@Parameterized.Parameter
+	public int totalShardCount;
+
+	@Parameterized.Parameter(1)
+	public int partitionCount;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	@Rule
+	public StaticCounters counters = new StaticCounters();
+
+	private final List<StaticCounters.Key> sessionFactoryCounterKeys = new ArrayList<>();
+	private final List<SessionFactory> sessionFactories = new ArrayList<>();
+
+	@Before
+	public void setup() {
+		for ( int i = 0; i < totalShardCount; i++ ) {
+			sessionFactories.add( setup(
+					// Avoid session factories getting in each other's feet.
+					i == 0 ? Action.CREATE_DROP : Action.NONE,
+					i
+			) );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private SessionFactory setup(Action action, int assignedShardIndex) {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class, f -> f.analyzerName( AnalyzerNames.DEFAULT ) )
+				.field( PerSessionFactoryIndexingTracingBridge.FAKE_FIELD_NAME, PerSessionFactoryIndexingTracingBridge.FAKE_FIELD_TYPE )
+		);
+
+		StaticCounters.Key counterKey = StaticCounters.createKey();
+		sessionFactoryCounterKeys.add( counterKey );
+
+		OrmSetupHelper.SetupContext context = ormSetupHelper.start()
+				.withProperty( org.hibernate.cfg.Environment.HBM2DDL_AUTO, action )
+				.withProperty( PerSessionFactoryIndexingTracingBridge.SESSION_FACTORY_COUNTER_KEY_PROPERTY, counterKey )
+				.withProperty( "hibernate.search.coordination.outbox_event.partition_count", partitionCount );
+		if ( totalShardCount > 1 ) {
+			context = context.withProperty( "hibernate.search.coordination.shards.static", "true" )
+					.withProperty( "hibernate.search.coordination.shards.total_count", totalShardCount )
+					.withProperty( "hibernate.search.coordination.shards.assigned", String.valueOf( assignedShardIndex ) );
+		}
+		return context.setup( IndexedEntity.class );
+	}
+
+	@Test
+	public void uniqueWorkAcrossSessionFactories_insertUpdateDelete() {
+		SessionFactory sessionFactory = sessionFactories.get( 0 );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = new IndexedEntity( 1, "initial" );
+			session.save( entity );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( "1", b -> b.field( "text", "initial" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.load( IndexedEntity.class, 1 );
+			entity.setText( "updated" );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.addOrUpdate( "1", b -> b.field( "text", "updated" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.load( IndexedEntity.class, 1 );
+			session.delete( entity );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.delete( "1" );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( indexingCountAcrossAllSessionFactories() ).isEqualTo( 2 );
+		awaitAllPartitionsEmpty( sessionFactory );
+	}
+
+	@Test
+	public void allWorkExecutedOnce_manyEntities() {
+		SessionFactory sessionFactory = sessionFactories.get( 0 );
+
+		int entityCount = 500;
+
+		withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				IndexedEntity entity = new IndexedEntity( i, "initial" );
+				session.save( entity );
+
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.add( String.valueOf( i ), b -> b.field( "text", "initial" ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+		// All works must be executed exactly once
+		assertThat( indexingCountAcrossAllSessionFactories() ).isEqualTo( entityCount );
+		awaitAllPartitionsEmpty( sessionFactory );
+	}
+
+	private int indexingCountAcrossAllSessionFactories() {
+		int sum = 0;
+		for ( StaticCounters.Key counterKey : sessionFactoryCounterKeys ) {
+			sum += counters.get( counterKey );
+		}
+		return sum;
+	}
+
+	private void awaitAllPartitionsEmpty(SessionFactory sessionFactory) {
+		OutboxEventPartitions partitions = new OutboxEventPartitions( partitionCount );
+		await().untilAsserted( () -> withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < partitionCount; i++ ) {
+				assertThat( session.createQuery( "select e from " + partitions.entityName( i ) + " e", OutboxEvent.class )
+						.list() )
+						.as( "Events in partition " + i )
+						.isEmpty();
+			}
+		} ) );
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	@TypeBinding(binder = @TypeBinderRef(type = PerSessionFactoryIndexingTracingBridge.Binder.class))
+	public static class IndexedEntity {
+
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@FullTextField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing.coordination.databasepolling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.integrationtest.mapper.orm.coordination.databasepolling.FilteringOutboxEventFinder;
+import org.hibernate.search.mapper.orm.coordination.databasepolling.cfg.HibernateOrmMapperDatabasePollingSettings;
+import org.hibernate.search.mapper.orm.coordination.databasepolling.impl.OutboxEvent;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests of pipelined processing of outbox events,
+ * i.e. with a {@link HibernateOrmMapperDatabasePollingSettings#COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH pipeline depth}
+ * higher than 1.
+ */
+public class DatabasePollingAutomaticIndexingPipelineIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPollingPipelined( 3 ) );
+
+	private final FilteringOutboxEventFinder outboxEventFinder = new FilteringOutboxEventFinder()
+			// We don't need the filter: we control the progress of indexing through the backend mock instead.
+			.enableFilter( false );
+
+	private SessionFactory sessionFactory;
+	private Statistics statistics;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b.field( "indexedField", String.class ) );
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.coordination.processors.indexing.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		statistics = sessionFactory.getStatistics();
+		statistics.setStatisticsEnabled( true );
+		statistics.clear();
+	}
+
+	@Test
+	public void entityChangedWhileInFlight() {
+		CompletableFuture<Object> firstIndexingFuture = new CompletableFuture<>();
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.createAndExecuteFollowingWorks( firstIndexingFuture )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		} );
+
+		// Wait for the first batch to be submitted to the backend.
+		// We can't use backendMock.verifyExpectationsMet() here,
+		// because it waits for background indexing to complete.
+		await().untilAsserted( () -> assertThat( firstIndexingFuture.getNumberOfDependents() ).isPositive() );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue" );
+		} );
+
+		// While the first batch is being indexed, the event of the second change must be left alone:
+		// it must not be processed (the backend mock would report an unexpected work)
+		// and neither event must be deleted.
+		await().during( 500, TimeUnit.MILLISECONDS ).atMost( 5, TimeUnit.SECONDS )
+				.untilAsserted( () -> withinTransaction( sessionFactory, session -> {
+					List<OutboxEvent> outboxEntries = outboxEventFinder.findOutboxEventsNotForProcessing( session, 10,
+							Optional.empty() );
+					assertThat( outboxEntries ).hasSize( 2 );
+				} ) );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.addOrUpdate( "1", b -> b.field( "indexedField", "updatedValue" ) );
+		firstIndexingFuture.complete( null );
+		backendMock.verifyExpectationsMet();
+
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		// Each event was deleted exactly once
+		assertThat( statistics.getEntityStatistics( OutboxEvent.class.getName() ).getDeleteCount() )
+				.isEqualTo( 2 );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
@@ -46,8 +46,8 @@ public OutboxEventFinderProvider provider() {
 	}
 
 	public synchronized List<OutboxEvent> findOutboxEvents(Session session, int maxResults,
-			Optional<OutboxEventPredicate> predicate) {
-		Query<OutboxEvent> query = createQuery( session, maxResults, predicate );
+			String entityName, Optional<OutboxEventPredicate> predicate) {
+		Query<OutboxEvent> query = createQuery( session, maxResults, entityName, predicate );
 		List<OutboxEvent> returned = query.list();
 		// Only return each event once.
 		// This is important because in the case of a retry, the same event will be reused.
@@ -61,14 +61,14 @@ public synchronized List<OutboxEvent> findOutboxEvents(Session session, int maxR
 	// don't update the filter as a result of this query.
 	public synchronized List<OutboxEvent> findOutboxEventsNotForProcessing(Session session, int maxResults,
 			Optional<OutboxEventPredicate> predicate) {
-		Query<OutboxEvent> query = createQuery( session, maxResults, predicate );
+		Query<OutboxEvent> query = createQuery( session, maxResults, OutboxEvent.class.getName(), predicate );
 		return query.list();
 	}
 
 	private Query<OutboxEvent> createQuery(Session session, int maxResults,
-			Optional<OutboxEventPredicate> predicate) {
+			String entityName, Optional<OutboxEventPredicate> predicate) {
 		Optional<OutboxEventPredicate> combinedPredicate = combineFilterWithPredicate( predicate );
-		String queryString = DefaultOutboxEventFinder.createQueryString( combinedPredicate );
+		String queryString = DefaultOutboxEventFinder.createQueryString( entityName, combinedPredicate );
 		Query<OutboxEvent> query = DefaultOutboxEventFinder.createQuery( session, maxResults, queryString,
 				combinedPredicate.map( OutboxEventPredicate::params ).orElse( Collections.emptyMap() ) );
 		avoidLockingConflicts( query );
@@ -189,9 +189,9 @@ public void awaitUntilNoMoreVisibleEvents(SessionFactory sessionFactory) {
 	 */
 	private class Provider implements OutboxEventFinderProvider {
 		@Override
-		public OutboxEventFinder create(Optional<OutboxEventPredicate> predicate) {
+		public OutboxEventFinder create(String entityName, Optional<OutboxEventPredicate> predicate) {
 			return (session, maxResults) -> FilteringOutboxEventFinder.this.findOutboxEvents(
-					session, maxResults, predicate );
+					session, maxResults, entityName, predicate );
 		}
 	}
 }
@@ -0,0 +1,233 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test batch loading of containing entities during reindexing resolution,
+ * see {@link HibernateOrmMapperSettings#AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING}.
+ */
+public class AutomaticIndexingReindexingResolutionBatchLoadingIT {
+
+	private static final int LIBRARY_COUNT = 5;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void disabled() {
+		SessionFactory sessionFactory = setup( false );
+
+		Statistics statistics = updateAuthorName( sessionFactory );
+
+		// Each containing library was initialized separately
+		assertThat( statistics.getEntityFetchCount() ).isEqualTo( LIBRARY_COUNT );
+	}
+
+	@Test
+	public void enabled() {
+		SessionFactory sessionFactory = setup( true );
+
+		Statistics statistics = updateAuthorName( sessionFactory );
+
+		// All containing libraries were loaded in a single batch,
+		// then their books were fetched in a single batch for indexing
+		assertThat( statistics.getEntityFetchCount() ).isZero();
+		assertThat( statistics.getQueryExecutionCount() ).isEqualTo( 2 );
+	}
+
+	private SessionFactory setup(boolean batchLoading) {
+		backendMock.expectAnySchema( Library.NAME );
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING,
+						batchLoading )
+				.setup( Library.class, Book.class, Author.class );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			Author author = new Author( 1, "initialName" );
+			session.persist( author );
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( Library.NAME );
+			for ( int i = 0; i < LIBRARY_COUNT; i++ ) {
+				Library library = new Library( i );
+				Book book = new Book( i );
+				book.setLibrary( library );
+				library.getBooks().add( book );
+				book.setAuthor( author );
+				author.getBooks().add( book );
+				session.persist( library );
+				session.persist( book );
+				expectations.add( String.valueOf( i ), b -> b
+						.objectField( "books", b2 -> b2
+								.objectField( "author", b3 -> b3
+										.field( "name", "initialName" ) ) ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		return sessionFactory;
+	}
+
+	private Statistics updateAuthorName(SessionFactory sessionFactory) {
+		Statistics statistics = sessionFactory.getStatistics();
+		statistics.setStatisticsEnabled( true );
+		statistics.clear();
+
+		withinTransaction( sessionFactory, session -> {
+			Author author = session.get( Author.class, 1 );
+			author.setName( "updatedName" );
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( Library.NAME );
+			for ( int i = 0; i < LIBRARY_COUNT; i++ ) {
+				expectations.addOrUpdate( String.valueOf( i ), b -> b
+						.objectField( "books", b2 -> b2
+								.objectField( "author", b3 -> b3
+										.field( "name", "updatedName" ) ) ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		return statistics;
+	}
+
+	@Entity(name = Library.NAME)
+	@Indexed(index = Library.NAME)
+	public static class Library {
+		static final String NAME = "Library";
+
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "library")
+		@IndexedEmbedded
+		private List<Book> books = new ArrayList<>();
+
+		protected Library() {
+			// For ORM
+		}
+
+		Library(int id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = Book.NAME)
+	public static class Book {
+		static final String NAME = "Book";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Library library;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		private Author author;
+
+		protected Book() {
+			// For ORM
+		}
+
+		Book(int id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Library getLibrary() {
+			return library;
+		}
+
+		public void setLibrary(Library library) {
+			this.library = library;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+
+		public void setAuthor(Author author) {
+			this.author = author;
+		}
+	}
+
+	@Entity(name = Author.NAME)
+	public static class Author {
+		static final String NAME = "Author";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		protected Author() {
+			// For ORM
+		}
+
+		Author(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+}
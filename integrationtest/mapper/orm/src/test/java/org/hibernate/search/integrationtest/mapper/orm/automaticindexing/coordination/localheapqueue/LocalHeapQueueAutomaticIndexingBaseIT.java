@@ -38,6 +38,10 @@
 		// > Sending events outside of transactions, during a flush, doesn't work for some reason;
 		//   entities are only visible from other sessions after the original session is closed.
 		"!org.hibernate.search.integrationtest.mapper.orm.automaticindexing.session.AutomaticIndexingOutOfTransactionIT",
+		// > Early execution is ignored when sending events to a queue
+		"!org.hibernate.search.integrationtest.mapper.orm.automaticindexing.session.AutomaticIndexingEarlyExecutionIT",
+		// > Reindexing resolution happens in the background, so we cannot inspect the statistics of the session
+		"!org.hibernate.search.integrationtest.mapper.orm.automaticindexing.AutomaticIndexingReindexingResolutionBatchLoadingIT",
 		// > We do not send events for the creation of contained entities,
 		//   and as a result one particular use case involving queries instead of associations
 		//   cannot work.
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing.session;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.logging.log4j.Level;
+import org.hamcrest.CoreMatchers;
+
+/**
+ * Test early execution of automatic indexing in large transactions,
+ * see {@link HibernateOrmMapperSettings#AUTOMATIC_INDEXING_EARLY_EXECUTION_THRESHOLD}.
+ */
+public class AutomaticIndexingEarlyExecutionIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Rule
+	public ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
+	private SessionFactory setup(Integer threshold) {
+		backendMock.expectSchema( IndexedEntity.INDEX_NAME, b -> b
+				.field( "text", String.class )
+		);
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_EARLY_EXECUTION_THRESHOLD, threshold )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	@Test
+	public void thresholdReached() {
+		SessionFactory sessionFactory = setup( 2 );
+
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "number1" ) );
+
+			// Below the threshold: works are created on flush, but not executed
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.createFollowingWorks()
+					.add( "1", b -> b.field( "text", "number1" ) );
+			session.flush();
+			backendMock.verifyExpectationsMet();
+
+			session.persist( new IndexedEntity( 2, "number2" ) );
+
+			// Threshold reached: works are executed on flush, before the commit
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.createFollowingWorks()
+					.add( "2", b -> b.field( "text", "number2" ) );
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.executeFollowingWorks()
+					.add( "1", b -> b.field( "text", "number1" ) )
+					.add( "2", b -> b.field( "text", "number2" ) );
+			session.flush();
+			backendMock.verifyExpectationsMet();
+
+			session.persist( new IndexedEntity( 3, "number3" ) );
+
+			// Remaining works are executed on commit
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.add( "3", b -> b.field( "text", "number3" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void thresholdNotReached() {
+		SessionFactory sessionFactory = setup( 10 );
+
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "number1" ) );
+			session.persist( new IndexedEntity( 2, "number2" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.createFollowingWorks()
+					.add( "1", b -> b.field( "text", "number1" ) )
+					.add( "2", b -> b.field( "text", "number2" ) );
+			session.flush();
+			backendMock.verifyExpectationsMet();
+
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.executeFollowingWorks()
+					.add( "1", b -> b.field( "text", "number1" ) )
+					.add( "2", b -> b.field( "text", "number2" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void rollback_failureOfWorksExecutedEarly() {
+		SessionFactory sessionFactory = setup( 1 );
+		CompletableFuture<?> indexingWorkFuture = new CompletableFuture<>();
+		Throwable indexingWorkException = new RuntimeException( "Some message" );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new IndexedEntity( 1, "number1" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.createFollowingWorks()
+					.add( "1", b -> b.field( "text", "number1" ) );
+			backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+					.executeFollowingWorks( indexingWorkFuture )
+					.add( "1", b -> b.field( "text", "number1" ) );
+			session.flush();
+			backendMock.verifyExpectationsMet();
+
+			transaction.rollback();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// The works executed early can no longer be reported to the transaction,
+		// so their failure must be reported to the failure handler.
+		logged.expectEvent(
+				Level.ERROR,
+				CoreMatchers.sameInstance( indexingWorkException ),
+				"Failing operation:",
+				"Automatic indexing of Hibernate ORM entities"
+		);
+		indexingWorkFuture.completeExceptionally( indexingWorkException );
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed(index = IndexedEntity.INDEX_NAME)
+	public static class IndexedEntity {
+		static final String INDEX_NAME = "indexName";
+
+		@Id
+		private Integer id;
+		@GenericField
+		private String text;
+
+		protected IndexedEntity() { // For ORM
+		}
+
+		IndexedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
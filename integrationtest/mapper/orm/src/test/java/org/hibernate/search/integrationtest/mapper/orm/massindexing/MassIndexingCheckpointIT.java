@@ -0,0 +1,279 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Fail.fail;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.ReusableOrmSetupHolder;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+import org.junit.rules.TemporaryFolder;
+
+public class MassIndexingCheckpointIT {
+
+	@ClassRule
+	public static BackendMock backendMock = new BackendMock();
+
+	@ClassRule
+	public static ReusableOrmSetupHolder setupHolder = ReusableOrmSetupHolder.withBackendMock( backendMock );
+
+	@Rule
+	public MethodRule setupHolderMethodRule = setupHolder.methodRule();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private MassIndexingCheckpointStore store;
+
+	@ReusableOrmSetupHolder.Setup
+	public void setup(OrmSetupHelper.SetupContext setupContext) {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		setupContext.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ENABLED, false )
+				.withAnnotatedTypes( Book.class );
+	}
+
+	@Before
+	public void initData() throws IOException {
+		store = MassIndexingCheckpointStore.fileSystem( temporaryFolder.newFolder().toPath().resolve( "checkpoints" ) );
+		setupHolder.runInTransaction( session -> {
+			session.persist( new Book( 1, "Oliver Twist" ) );
+			session.persist( new Book( 2, "Ulysses" ) );
+			session.persist( new Book( 3, "Frankenstein" ) );
+		} );
+	}
+
+	@Test
+	public void noCheckpoint() {
+		massIndexingFromScratch();
+
+		// Success: checkpoints are cleared
+		assertThat( store.load() ).isEmpty();
+	}
+
+	@Test
+	public void noCheckpoint_otherTenant() {
+		// Checkpoints of other tenants must be ignored, and left alone
+		String otherTenantKey = Book.NAME + "@otherTenant";
+		store.save( otherTenantKey, MassIndexingCheckpoint.inProgress( 2 ) );
+
+		massIndexingFromScratch();
+
+		assertThat( store.load() ).containsOnlyKeys( otherTenantKey );
+	}
+
+	private void massIndexingFromScratch() {
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.checkpointStore( store );
+
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "1", b -> b.field( "title", "Oliver Twist" ) )
+					.add( "2", b -> b.field( "title", "Ulysses" ) )
+					.add( "3", b -> b.field( "title", "Frankenstein" ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void resume() {
+		store.save( Book.NAME, MassIndexingCheckpoint.inProgress( 1 ) );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.checkpointStore( store );
+
+			// Only entities after the checkpoint are indexed, and documents may already exist
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.addOrUpdate( "2", b -> b.field( "title", "Ulysses" ) )
+					.addOrUpdate( "3", b -> b.field( "title", "Frankenstein" ) );
+
+			// No purge when resuming
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( store.load() ).isEmpty();
+	}
+
+	@Test
+	public void failure_thenResume() {
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.checkpointStore( store )
+					// One batch per entity, so that the checkpoint could move past the failing entity
+					.batchSizeToLoadObjects( 1 )
+					.threadsToLoadObjects( 1 )
+					.failureHandler( context -> { } );
+
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "1", b -> b.field( "title", "Oliver Twist" ) )
+					.add( "3", b -> b.field( "title", "Frankenstein" ) )
+					.createAndExecuteFollowingWorks( failingFuture )
+					.add( "2", b -> b.field( "title", "Ulysses" ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "1 failure(s) occurred during mass indexing" );
+		} );
+
+		backendMock.verifyExpectationsMet();
+		// The checkpoint must not move past the entity whose indexing failed
+		assertThat( store.load() ).containsExactly( entry( Book.NAME, MassIndexingCheckpoint.inProgress( 1 ) ) );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.checkpointStore( store );
+
+			// The entity whose indexing failed is indexed again
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.addOrUpdate( "2", b -> b.field( "title", "Ulysses" ) )
+					.addOrUpdate( "3", b -> b.field( "title", "Frankenstein" ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( store.load() ).isEmpty();
+	}
+
+	@Test
+	public void unsupportedIdentifierType() {
+		assertThatThrownBy( () -> store.save( Book.NAME, MassIndexingCheckpoint.inProgress( new Date() ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to save mass indexing checkpoints",
+						Date.class.getName(), "identifiers must be numbers, strings, characters or UUIDs" );
+		assertThat( store.load() ).isEmpty();
+	}
+
+	@Test
+	public void resume_completed() {
+		store.save( Book.NAME, MassIndexingCheckpoint.completed() );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.checkpointStore( store );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( store.load() ).isEmpty();
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+	@Entity(name = Book.NAME)
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String NAME = "Book";
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
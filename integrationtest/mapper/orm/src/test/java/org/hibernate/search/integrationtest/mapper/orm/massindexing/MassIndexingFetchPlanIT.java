@@ -0,0 +1,235 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test fetching of associations traversed during indexing when mass indexing,
+ * see {@link HibernateOrmMapperSettings#INDEXING_LOADING_FETCH_PLAN_ENABLED}.
+ */
+public class MassIndexingFetchPlanIT {
+
+	private static final int LIBRARY_COUNT = 5;
+	private static final int BOOK_PER_LIBRARY_COUNT = 3;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void disabled() throws InterruptedException {
+		SessionFactory sessionFactory = setup( false );
+
+		Statistics statistics = massIndex( sessionFactory );
+
+		// Each collection of books, and each author, was initialized separately
+		assertThat( statistics.getCollectionFetchCount() ).isEqualTo( LIBRARY_COUNT );
+		assertThat( statistics.getEntityFetchCount() ).isEqualTo( LIBRARY_COUNT * BOOK_PER_LIBRARY_COUNT );
+	}
+
+	@Test
+	public void enabled() throws InterruptedException {
+		SessionFactory sessionFactory = setup( true );
+
+		Statistics statistics = massIndex( sessionFactory );
+
+		// Collections of books and authors were fetched in batches
+		assertThat( statistics.getCollectionFetchCount() ).isZero();
+		assertThat( statistics.getEntityFetchCount() ).isZero();
+	}
+
+	private SessionFactory setup(boolean fetchPlanEnabled) {
+		backendMock.expectAnySchema( Library.NAME );
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_ENABLED, false )
+				.withProperty( HibernateOrmMapperSettings.INDEXING_LOADING_FETCH_PLAN_ENABLED, fetchPlanEnabled )
+				.setup( Library.class, Book.class, Author.class );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < LIBRARY_COUNT; i++ ) {
+				Library library = new Library( i );
+				session.persist( library );
+				for ( int j = 0; j < BOOK_PER_LIBRARY_COUNT; j++ ) {
+					int id = i * BOOK_PER_LIBRARY_COUNT + j;
+					Author author = new Author( id, "author" + id );
+					Book book = new Book( id );
+					book.setLibrary( library );
+					library.getBooks().add( book );
+					book.setAuthor( author );
+					session.persist( author );
+					session.persist( book );
+				}
+			}
+		} );
+
+		return sessionFactory;
+	}
+
+	private Statistics massIndex(SessionFactory sessionFactory) throws InterruptedException {
+		Statistics statistics = sessionFactory.getStatistics();
+		statistics.setStatisticsEnabled( true );
+		statistics.clear();
+
+		BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks(
+				Library.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		for ( int i = 0; i < LIBRARY_COUNT; i++ ) {
+			int libraryId = i;
+			expectations.add( String.valueOf( libraryId ), b -> {
+				for ( int j = 0; j < BOOK_PER_LIBRARY_COUNT; j++ ) {
+					int id = libraryId * BOOK_PER_LIBRARY_COUNT + j;
+					b.objectField( "books", b2 -> b2
+							.objectField( "author", b3 -> b3
+									.field( "name", "author" + id ) ) );
+				}
+			} );
+		}
+		backendMock.expectIndexScaleWorks( Library.NAME )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.refresh();
+
+		Search.mapping( sessionFactory ).scope( Library.class ).massIndexer()
+				.threadsToLoadObjects( 1 )
+				.startAndWait();
+		backendMock.verifyExpectationsMet();
+
+		return statistics;
+	}
+
+	@Entity(name = Library.NAME)
+	@Indexed(index = Library.NAME)
+	public static class Library {
+		static final String NAME = "Library";
+
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "library")
+		@IndexedEmbedded
+		private List<Book> books = new ArrayList<>();
+
+		protected Library() {
+			// For ORM
+		}
+
+		Library(int id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = Book.NAME)
+	public static class Book {
+		static final String NAME = "Book";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Library library;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
+		private Author author;
+
+		protected Book() {
+			// For ORM
+		}
+
+		Book(int id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Library getLibrary() {
+			return library;
+		}
+
+		public void setLibrary(Library library) {
+			this.library = library;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+
+		public void setAuthor(Author author) {
+			this.author = author;
+		}
+	}
+
+	@Entity(name = Author.NAME)
+	public static class Author {
+		static final String NAME = "Author";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		protected Author() {
+			// For ORM
+		}
+
+		Author(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
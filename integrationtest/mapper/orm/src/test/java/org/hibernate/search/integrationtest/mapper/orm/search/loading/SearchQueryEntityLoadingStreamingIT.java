@@ -0,0 +1,204 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search.loading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubNextScrollWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test entity loading when streaming hits,
+ * see {@link org.hibernate.search.engine.search.query.SearchFetchable#stream(int)}.
+ */
+public class SearchQueryEntityLoadingStreamingIT {
+
+	private static final int ENTITY_COUNT = 12;
+	private static final int CHUNK_SIZE = 3;
+	private static final List<String> TARGET_INDEXES = Collections.singletonList( SimpleEntity.NAME );
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( SimpleEntity.NAME );
+		sessionFactory = ormSetupHelper.start().setup( SimpleEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		backendMock.inLenientMode( () -> OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( new SimpleEntity( i ) );
+			}
+		} ) );
+	}
+
+	@Test
+	public void all() {
+		withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			expectScrollAll();
+
+			List<SimpleEntity> hits;
+			try ( Stream<SimpleEntity> stream = searchSession.search( SimpleEntity.class )
+					.where( f -> f.matchAll() )
+					.stream( CHUNK_SIZE ) ) {
+				hits = stream.collect( Collectors.toList() );
+			}
+			backendMock.verifyExpectationsMet();
+
+			assertThat( hits ).extracting( SimpleEntity::getId )
+					.containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 );
+			// By default, entities stay in the session
+			assertThat( hits ).allSatisfy( hit -> assertThat( session.contains( hit ) ).isTrue() );
+		} );
+	}
+
+	@Test
+	public void clearSessionBetweenChunks() {
+		withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			expectScrollAll();
+
+			List<SimpleEntity> hits = new ArrayList<>();
+			List<Integer> managedEntityCounts = new ArrayList<>();
+			try ( Stream<SimpleEntity> stream = searchSession.search( SimpleEntity.class )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.clearSessionBetweenChunks( true ) )
+					.stream( CHUNK_SIZE ) ) {
+				stream.forEach( hit -> {
+					hits.add( hit );
+					managedEntityCounts.add( (int) hits.stream().filter( session::contains ).count() );
+				} );
+			}
+			backendMock.verifyExpectationsMet();
+
+			assertThat( hits ).extracting( SimpleEntity::getId )
+					.containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 );
+			// Only entities of the current chunk are managed by the session
+			assertThat( managedEntityCounts ).containsExactly( 1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void clearSessionBetweenChunks_notAppliedToSuccessiveFetches() {
+		withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			SearchQuery<SimpleEntity> query = searchSession.search( SimpleEntity.class )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.clearSessionBetweenChunks( true ) )
+					.toQuery();
+
+			backendMock.expectSearchObjects( TARGET_INDEXES, b -> { },
+					StubSearchWorkBehavior.of( ENTITY_COUNT, documentReferences( 0, 1, 2 ) ) );
+			List<SimpleEntity> firstHits = query.fetchAllHits();
+			backendMock.expectSearchObjects( TARGET_INDEXES, b -> { },
+					StubSearchWorkBehavior.of( ENTITY_COUNT, documentReferences( 3, 4, 5 ) ) );
+			List<SimpleEntity> secondHits = query.fetchAllHits();
+			backendMock.verifyExpectationsMet();
+
+			assertThat( secondHits ).extracting( SimpleEntity::getId ).containsExactly( 3, 4, 5 );
+			// Fetches are not chunks of a scroll: entities loaded by a previous fetch must remain managed
+			assertThat( firstHits ).extracting( SimpleEntity::getId ).containsExactly( 0, 1, 2 );
+			assertThat( firstHits ).allSatisfy( hit -> assertThat( session.contains( hit ) ).isTrue() );
+		} );
+	}
+
+	@Test
+	public void partialConsumption() {
+		withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			backendMock.expectScrollObjects( TARGET_INDEXES, CHUNK_SIZE, b -> { } );
+			backendMock.expectNextScroll( TARGET_INDEXES,
+					StubNextScrollWorkBehavior.of( ENTITY_COUNT, documentReferences( 0 ) ) );
+			backendMock.expectNextScroll( TARGET_INDEXES,
+					StubNextScrollWorkBehavior.of( ENTITY_COUNT, documentReferences( 1 ) ) );
+			// Closing the stream must close the scroll, even if not all hits were consumed
+			backendMock.expectCloseScroll( TARGET_INDEXES );
+
+			try ( Stream<SimpleEntity> stream = searchSession.search( SimpleEntity.class )
+					.where( f -> f.matchAll() )
+					.stream( CHUNK_SIZE ) ) {
+				// Chunks are only fetched when the previous one has been consumed
+				assertThat( stream.limit( 2 ).map( SimpleEntity::getId ) ).containsExactly( 0, 1 );
+			}
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	private void expectScrollAll() {
+		backendMock.expectScrollObjects( TARGET_INDEXES, CHUNK_SIZE, b -> { } );
+		for ( int base = 0; base < ENTITY_COUNT; base += CHUNK_SIZE ) {
+			backendMock.expectNextScroll( TARGET_INDEXES,
+					StubNextScrollWorkBehavior.of( ENTITY_COUNT, documentReferences( base, base + 1, base + 2 ) ) );
+		}
+		backendMock.expectNextScroll( TARGET_INDEXES, StubNextScrollWorkBehavior.afterLast() );
+		backendMock.expectCloseScroll( TARGET_INDEXES );
+	}
+
+	private static List<DocumentReference> documentReferences(int... ids) {
+		List<DocumentReference> result = new ArrayList<>();
+		for ( int id : ids ) {
+			result.add( reference( SimpleEntity.NAME, String.valueOf( id ) ) );
+		}
+		return result;
+	}
+
+	@Entity(name = SimpleEntity.NAME)
+	@Indexed(index = SimpleEntity.NAME)
+	public static class SimpleEntity {
+
+		public static final String NAME = "SimpleEntity";
+
+		@Id
+		private Integer id;
+
+		protected SimpleEntity() {
+			// For ORM
+		}
+
+		public SimpleEntity(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+}
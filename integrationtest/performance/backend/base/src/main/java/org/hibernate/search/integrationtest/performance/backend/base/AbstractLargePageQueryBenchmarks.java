@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to queries fetching large pages of hits,
+ * as is typical of exports.
+ * <p>
+ * This benchmark mainly stresses the collection and extraction of data for top documents
+ * (document references, identifiers, stored fields).
+ * Run it with {@code -prof gc} to get allocation rates.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractLargePageQueryBenchmarks extends AbstractBackendBenchmarks {
+
+	/**
+	 * The number of hits to fetch in each query.
+	 */
+	@Param({ "1000", "10000" })
+	private int pageSize;
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void documentReferences(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		List<DocumentReference> hits = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetchHits( pageSize );
+
+		for ( DocumentReference hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void identifiers(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		List<Object> hits = index.createScope().query()
+				.select( f -> f.id() )
+				.where( f -> f.matchAll() )
+				.fetchHits( pageSize );
+
+		for ( Object hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void storedFields(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		List<String> hits = index.createScope().query()
+				.select( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchHits( pageSize );
+
+		for ( String hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
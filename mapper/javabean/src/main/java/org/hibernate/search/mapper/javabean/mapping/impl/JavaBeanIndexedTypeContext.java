@@ -6,12 +6,15 @@
  */
 package org.hibernate.search.mapper.javabean.mapping.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.mapper.javabean.mapping.metadata.impl.JavaBeanEntityTypeMetadata;
 import org.hibernate.search.mapper.javabean.scope.impl.JavaBeanScopeIndexedTypeContext;
 import org.hibernate.search.mapper.javabean.session.impl.JavaBeanSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 class JavaBeanIndexedTypeContext<E> extends AbstractJavaBeanTypeContext<E>
@@ -41,6 +44,11 @@ public void indexManager(MappedIndexManager indexManager) {
 			this.indexManager = indexManager;
 		}
 
+		@Override
+		public void containedEntityPaths(Set<PojoModelPathValueNode> containedEntityPaths) {
+			// No need to fetch associations: loading is entirely up to the loading strategy.
+		}
+
 		JavaBeanIndexedTypeContext<E> build() {
 			return new JavaBeanIndexedTypeContext<>( this );
 		}
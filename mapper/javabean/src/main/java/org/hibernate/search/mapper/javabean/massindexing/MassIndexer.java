@@ -12,6 +12,7 @@
 import org.hibernate.search.mapper.javabean.loading.MassLoadingOptions;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 
 /**
@@ -140,6 +141,42 @@ public interface MassIndexer {
 	 */
 	MassIndexer failureHandler(MassIndexingFailureHandler failureHandler);
 
+	/**
+	 * Limits the rate at which entities are loaded from the database, across all loading threads.
+	 * <p>
+	 * Loading threads wait as necessary before loading each batch of entities,
+	 * and the number of batches loaded concurrently is reduced while the limit is reached.
+	 * Useful to reindex data without degrading the performance of other applications using the same database.
+	 * <p>
+	 * Defaults to no limit.
+	 *
+	 * @param entitiesPerSecond The maximum number of entities to load per second, on average.
+	 * @return {@code this} for method chaining
+	 * @see MassIndexingMonitor#loadingThrottled(org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState)
+	 */
+	@Incubating
+	MassIndexer loadingRateLimit(double entitiesPerSecond);
+
+	/**
+	 * Limits the time it takes to load a batch of entities from the database,
+	 * by dynamically adjusting the number of batches loaded concurrently.
+	 * <p>
+	 * Whenever the average latency of batch loading exceeds this limit,
+	 * the number of batches loaded concurrently is halved.
+	 * It then grows back progressively, up to {@code typesToIndexInParallel * threadsToLoadObjects},
+	 * as long as the average latency stays well below the limit.
+	 * The latency is a good indicator of the load on the database:
+	 * it increases when the database struggles to serve queries.
+	 * <p>
+	 * Defaults to no limit.
+	 *
+	 * @param latencyInMilliseconds The maximum average time it should take to load a batch of entities, in milliseconds.
+	 * @return {@code this} for method chaining
+	 * @see MassIndexingMonitor#loadingThrottled(org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState)
+	 */
+	@Incubating
+	MassIndexer loadingLatencyLimit(long latencyInMilliseconds);
+
 	/**
 	 * Sets context for use by the loading strategies.
 	 * <p>
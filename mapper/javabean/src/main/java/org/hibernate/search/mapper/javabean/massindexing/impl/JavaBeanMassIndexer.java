@@ -88,6 +88,18 @@ public MassIndexer failureHandler(MassIndexingFailureHandler failureHandler) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer loadingRateLimit(double entitiesPerSecond) {
+		delegate.loadingRateLimit( entitiesPerSecond );
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadingLatencyLimit(long latencyInMilliseconds) {
+		delegate.loadingLatencyLimit( latencyInMilliseconds );
+		return this;
+	}
+
 	@Override
 	public <T> MassIndexer context(Class<T> contextType, T context) {
 		this.context.context( contextType, context );
@@ -91,6 +91,34 @@ private HibernateOrmMapperDatabasePollingSettings() {
 	 */
 	public static final String COORDINATION_SHARDS_ASSIGNED = PREFIX + Radicals.COORDINATION_SHARDS_ASSIGNED;
 
+	/**
+	 * The number of partitions of the outbox event table, i.e. the number of physical tables outbox events are spread over.
+	 * <p>
+	 * Partitions are aligned with the entity ID hash ranges used for sharding:
+	 * when this property is set to the {@link #COORDINATION_SHARDS_TOTAL_COUNT total shard count},
+	 * each shard's events are stored in their own table,
+	 * so that each background processor polls and deletes from its own table only.
+	 * Other values are supported, but processors will then need to poll multiple tables.
+	 * <p>
+	 * With a value of {@code 1}, all events are stored in a single table named {@code HSEARCH_OUTBOX_EVENT}.
+	 * With higher values, events are stored in tables named {@code HSEARCH_OUTBOX_EVENT_0},
+	 * {@code HSEARCH_OUTBOX_EVENT_1}, etc.
+	 * <p>
+	 * <strong>WARNING:</strong> This property must have the same value for all application nodes,
+	 * and must never change unless all application nodes are stopped and the outbox event tables are empty.
+	 * Failing that, some events may not be processed.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_OUTBOX_EVENT_PARTITION_COUNT}.
+	 */
+	public static final String COORDINATION_OUTBOX_EVENT_PARTITION_COUNT =
+			PREFIX + Radicals.COORDINATION_OUTBOX_EVENT_PARTITION_COUNT;
+
 	/**
 	 * Whether the application will process entity change events.
 	 * <p>
@@ -163,6 +191,28 @@ private HibernateOrmMapperDatabasePollingSettings() {
 	public static final String COORDINATION_PROCESSORS_INDEXING_TRANSACTION_TIMEOUT =
 			PREFIX + Radicals.COORDINATION_PROCESSORS_INDEXING_TRANSACTION_TIMEOUT;
 
+	/**
+	 * In the background indexing processor, how many batches of outbox events, at most,
+	 * are being indexed at the same time.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * With a value of {@code 1}, each batch is polled, indexed, then deleted from the outbox table
+	 * before the next batch is polled.
+	 * With higher values, the processor polls the next batch and deletes events of previous batches
+	 * while the backend is still indexing the current batch.
+	 * Events are never processed by two batches at the same time,
+	 * and events related to an entity that is already being indexed are left for a later batch.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH}.
+	 */
+	public static final String COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH =
+			PREFIX + Radicals.COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -175,10 +225,12 @@ private Radicals() {
 		public static final String COORDINATION_SHARDS_STATIC = COORDINATION_PREFIX + CoordinationRadicals.SHARDS_STATIC;
 		public static final String COORDINATION_SHARDS_TOTAL_COUNT = COORDINATION_PREFIX + CoordinationRadicals.SHARDS_TOTAL_COUNT;
 		public static final String COORDINATION_SHARDS_ASSIGNED = COORDINATION_PREFIX + CoordinationRadicals.SHARDS_ASSIGNED;
+		public static final String COORDINATION_OUTBOX_EVENT_PARTITION_COUNT = COORDINATION_PREFIX + CoordinationRadicals.OUTBOX_EVENT_PARTITION_COUNT;
 		public static final String COORDINATION_PROCESSORS_INDEXING_ENABLED = COORDINATION_PREFIX + CoordinationRadicals.PROCESSORS_INDEXING_ENABLED;
 		public static final String COORDINATION_PROCESSORS_INDEXING_POLLING_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.PROCESSORS_INDEXING_POLLING_INTERVAL;
 		public static final String COORDINATION_PROCESSORS_INDEXING_BATCH_SIZE = COORDINATION_PREFIX + CoordinationRadicals.PROCESSORS_INDEXING_BATCH_SIZE;
 		public static final String COORDINATION_PROCESSORS_INDEXING_TRANSACTION_TIMEOUT = COORDINATION_PREFIX + CoordinationRadicals.PROCESSORS_INDEXING_TRANSACTION_TIMEOUT;
+		public static final String COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH = COORDINATION_PREFIX + CoordinationRadicals.PROCESSORS_INDEXING_PIPELINE_DEPTH;
 	}
 
 	/**
@@ -192,12 +244,15 @@ private CoordinationRadicals() {
 		public static final String SHARDS_STATIC = "shards.static";
 		public static final String SHARDS_TOTAL_COUNT = "shards.total_count";
 		public static final String SHARDS_ASSIGNED = "shards.assigned";
+		public static final String OUTBOX_EVENT_PREFIX = "outbox_event.";
+		public static final String OUTBOX_EVENT_PARTITION_COUNT = OUTBOX_EVENT_PREFIX + "partition_count";
 		public static final String PROCESSORS_PREFIX = "processors.";
 		public static final String PROCESSORS_INDEXING_PREFIX = PROCESSORS_PREFIX + "indexing.";
 		public static final String PROCESSORS_INDEXING_ENABLED = PROCESSORS_INDEXING_PREFIX + "enabled";
 		public static final String PROCESSORS_INDEXING_POLLING_INTERVAL = PROCESSORS_INDEXING_PREFIX + "polling_interval";
 		public static final String PROCESSORS_INDEXING_BATCH_SIZE = PROCESSORS_INDEXING_PREFIX + "batch_size";
 		public static final String PROCESSORS_INDEXING_TRANSACTION_TIMEOUT = PROCESSORS_INDEXING_PREFIX + "transaction_timeout";
+		public static final String PROCESSORS_INDEXING_PIPELINE_DEPTH = PROCESSORS_INDEXING_PREFIX + "pipeline_depth";
 	}
 
 	/**
@@ -209,9 +264,11 @@ private Defaults() {
 		}
 
 		public static final boolean COORDINATION_SHARDS_STATIC = false;
+		public static final int COORDINATION_OUTBOX_EVENT_PARTITION_COUNT = 1;
 		public static final boolean COORDINATION_PROCESSORS_INDEXING_ENABLED = true;
 		public static final int COORDINATION_PROCESSORS_INDEXING_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_PROCESSORS_INDEXING_BATCH_SIZE = 50;
+		public static final int COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH = 1;
 	}
 
 }
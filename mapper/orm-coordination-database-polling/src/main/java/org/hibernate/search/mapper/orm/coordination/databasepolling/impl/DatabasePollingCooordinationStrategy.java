@@ -27,6 +27,7 @@
 import org.hibernate.search.mapper.orm.coordination.databasepolling.cfg.HibernateOrmMapperDatabasePollingSettings;
 import org.hibernate.search.mapper.orm.coordination.databasepolling.cfg.impl.HibernateOrmMapperDatabasePollingImplSettings;
 import org.hibernate.search.mapper.orm.coordination.databasepolling.logging.impl.Log;
+import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.data.impl.RangeCompatibleHashFunction;
 import org.hibernate.search.util.common.data.impl.RangeHashTable;
 import org.hibernate.search.util.common.impl.Closer;
@@ -53,6 +54,12 @@ public class DatabasePollingCooordinationStrategy implements CooordinationStrate
 					.multivalued()
 					.build();
 
+	private static final ConfigurationProperty<Integer> OUTBOX_EVENT_PARTITION_COUNT =
+			ConfigurationProperty.forKey( HibernateOrmMapperDatabasePollingSettings.CoordinationRadicals.OUTBOX_EVENT_PARTITION_COUNT )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperDatabasePollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PARTITION_COUNT )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> PROCESSORS_INDEXING_ENABLED =
 			ConfigurationProperty.forKey( HibernateOrmMapperDatabasePollingSettings.CoordinationRadicals.PROCESSORS_INDEXING_ENABLED )
 					.asBoolean()
@@ -71,6 +78,12 @@ public class DatabasePollingCooordinationStrategy implements CooordinationStrate
 					.withDefault( HibernateOrmMapperDatabasePollingSettings.Defaults.COORDINATION_PROCESSORS_INDEXING_BATCH_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> PROCESSORS_INDEXING_PIPELINE_DEPTH =
+			ConfigurationProperty.forKey( HibernateOrmMapperDatabasePollingSettings.CoordinationRadicals.PROCESSORS_INDEXING_PIPELINE_DEPTH )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperDatabasePollingSettings.Defaults.COORDINATION_PROCESSORS_INDEXING_PIPELINE_DEPTH )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends OutboxEventFinderProvider>> PROCESSORS_INDEXING_OUTBOX_EVENT_FINDER_PROVIDER =
 			ConfigurationProperty.forKey( HibernateOrmMapperDatabasePollingImplSettings.CoordinationRadicals.PROCESSORS_INDEXING_OUTBOX_EVENT_FINDER_PROVIDER )
 					.asBeanReference( OutboxEventFinderProvider.class )
@@ -83,6 +96,7 @@ public class DatabasePollingCooordinationStrategy implements CooordinationStrate
 
 	public static final String PROCESSOR_NAME_PREFIX = "Outbox event processor";
 
+	private OutboxEventPartitions partitions;
 	private BeanHolder<? extends OutboxEventFinderProvider> finderProviderHolder;
 	private ScheduledExecutorService scheduledExecutor;
 	private List<Integer> assignedShardIndices;
@@ -90,8 +104,12 @@ public class DatabasePollingCooordinationStrategy implements CooordinationStrate
 
 	@Override
 	public void configure(CoordinationConfigurationContext context) {
-		context.mappingProducer( new DatabasePollingOutboxEventAdditionalJaxbMappingProducer() );
-		context.sendIndexingEventsTo( ctx -> new DatabasePollingOutboxEventSendingPlan( ctx.session() ), true );
+		partitions = new OutboxEventPartitions( OUTBOX_EVENT_PARTITION_COUNT.get( context.configurationPropertySource() ) );
+		context.mappingProducer( new DatabasePollingOutboxEventAdditionalJaxbMappingProducer( partitions ) );
+		for ( int i = 0; i < partitions.count(); i++ ) {
+			context.excludeFromMapping( partitions.entityName( i ) );
+		}
+		context.sendIndexingEventsTo( ctx -> new DatabasePollingOutboxEventSendingPlan( ctx.session(), partitions ), true );
 	}
 
 	@Override
@@ -154,21 +172,21 @@ private void initializeProcessors(CoordinationStrategyStartContext context) {
 		int batchSize = PROCESSORS_INDEXING_BATCH_SIZE.get( configurationSource );
 		Integer transactionTimeout = PROCESSORS_INDEXING_TRANSACTION_TIMEOUT.get( configurationSource )
 				.orElse( null );
+		int pipelineDepth = PROCESSORS_INDEXING_PIPELINE_DEPTH.get( configurationSource );
 
 		scheduledExecutor = context.threadPoolProvider()
-				.newScheduledExecutor( this.assignedShardIndices.size(), PROCESSOR_NAME_PREFIX );
+				.newBlockingScheduledExecutor( this.assignedShardIndices.size(), PROCESSOR_NAME_PREFIX );
 		// Note the hash function / table implementations MUST NOT CHANGE,
 		// otherwise existing indexes will no longer work correctly.
 		RangeCompatibleHashFunction hashFunction = DatabasePollingOutboxEventSendingPlan.HASH_FUNCTION;
 		indexingProcessors = new RangeHashTable<>( hashFunction, totalShardCount );
 		for ( int shardIndex : this.assignedShardIndices ) {
-			Optional<OutboxEventPredicate> predicate = totalShardCount == 1
-					? Optional.empty()
-					: Optional.of( new EntityIdHashRangeOutboxEventPredicate( indexingProcessors.rangeForBucket( shardIndex ) ) );
-			OutboxEventFinder finder = finderProviderHolder.get().create( predicate );
+			OutboxEventFinder finder = createFinder( indexingProcessors.rangeForBucket( shardIndex ) );
 			OutboxEventBackgroundProcessor processor = new OutboxEventBackgroundProcessor(
 					PROCESSOR_NAME_PREFIX + " - " + shardIndex,
-					context.mapping(), scheduledExecutor, finder, pollingInterval, batchSize, transactionTimeout );
+					context.mapping(), scheduledExecutor, finder, partitions,
+					pollingInterval, batchSize, transactionTimeout,
+					pipelineDepth, context.metricsRegistry() );
 			indexingProcessors.set( shardIndex, processor );
 		}
 		for ( int processedShardIndex : this.assignedShardIndices ) {
@@ -176,6 +194,20 @@ private void initializeProcessors(CoordinationStrategyStartContext context) {
 		}
 	}
 
+	private OutboxEventFinder createFinder(Range<Integer> shardRange) {
+		// Only look into partitions that can contain events for this shard,
+		// and only filter by hash in partitions that also contain events for other shards.
+		List<OutboxEventFinder> partitionFinders = new ArrayList<>();
+		for ( int partitionIndex : partitions.partitionsOverlapping( shardRange ) ) {
+			Optional<OutboxEventPredicate> predicate = partitions.isWithin( partitionIndex, shardRange )
+					? Optional.empty()
+					: Optional.of( new EntityIdHashRangeOutboxEventPredicate( shardRange ) );
+			partitionFinders.add( finderProviderHolder.get().create( partitions.entityName( partitionIndex ), predicate ) );
+		}
+		return partitionFinders.size() == 1 ? partitionFinders.get( 0 )
+				: new PartitionedOutboxEventFinder( partitionFinders );
+	}
+
 	private Integer checkTotalShardCount(Integer totalShardCount) {
 		if ( totalShardCount <= 0 ) {
 			throw log.invalidTotalShardCount();
@@ -32,41 +32,44 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	// WARNING: Always use this prefix for all tables added by Hibernate Search;
-	// we guarantee that in the documentation.
-	private static final String HSEARCH_TABLE_NAME_PREFIX = "HSEARCH_";
+	private static final String ENTITY_DEFINITION_START = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+			"<hibernate-mapping>\n";
 
-	// Must not be longer than 20 characters, so that the generator does not exceed the 30 characters for Oracle11g
-	private static final String TABLE_NAME = HSEARCH_TABLE_NAME_PREFIX + "OUTBOX_EVENT";
-
-	private static final String ENTITY_DEFINITION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
-			"<hibernate-mapping>\n" +
-			"    <class name=\"" + OutboxEvent.class.getName() + "\" table=\"" + TABLE_NAME + "\">\n" +
+	private static final String CLASS_DEFINITION_BODY =
 			"        <id name=\"id\" type=\"long\">\n" +
 			"            <generator class=\"org.hibernate.id.enhanced.SequenceStyleGenerator\">\n" +
-			"                <param name=\"sequence_name\">" + TABLE_NAME + "_GENERATOR</param>\n" +
-			"                <param name=\"table_name\">" + TABLE_NAME + "_GENERATOR</param>\n" +
+			"                <param name=\"sequence_name\">" + OutboxEventPartitions.GENERATOR_NAME + "</param>\n" +
+			"                <param name=\"table_name\">" + OutboxEventPartitions.GENERATOR_NAME + "</param>\n" +
 			"                <param name=\"initial_value\">1</param>\n" +
 			"                <param name=\"increment_size\">1</param>\n" +
 			"            </generator>\n" +
 			"        </id>\n" +
 			"        <property name=\"entityName\" type=\"string\" />\n" +
-			"        <property name=\"entityId\" type=\"string\" />\n" +
-			"        <property name=\"entityIdHash\" type=\"integer\" index=\"entityIdHash\" />\n" +
+			"        <property name=\"entityId\" type=\"string\" />\n";
+
+	private static final String CLASS_DEFINITION_END =
 			"        <property name=\"payload\" type=\"binary\" length=\"8192\" />\n" +
 			"        <property name=\"retries\" type=\"integer\" />\n" +
-			"    </class>\n" +
-			"</hibernate-mapping>\n";
+			"    </class>\n";
+
+	private static final String ENTITY_DEFINITION_END = "</hibernate-mapping>\n";
+
+	private final OutboxEventPartitions partitions;
+
+	public DatabasePollingOutboxEventAdditionalJaxbMappingProducer(OutboxEventPartitions partitions) {
+		this.partitions = partitions;
+	}
 
 	@Override
 	@SuppressForbiddenApis(reason = "Strangely, this SPI involves the internal MappingBinder class,"
 			+ " and there's nothing we can do about it")
 	public Collection<MappingDocument> produceAdditionalMappings(final MetadataImplementor metadata,
 			IndexView jandexIndex, final MappingBinder mappingBinder, final MetadataBuildingContext buildingContext) {
-		log.outboxEventGeneratedEntityMapping( ENTITY_DEFINITION );
+		String entityDefinition = createEntityDefinition();
+		log.outboxEventGeneratedEntityMapping( entityDefinition );
 		Origin origin = new Origin( SourceType.OTHER, "search" );
 
-		ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream( ENTITY_DEFINITION.getBytes() );
+		ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream( entityDefinition.getBytes() );
 		BufferedInputStream bufferedInputStream = new BufferedInputStream( byteArrayInputStream );
 		Binding<?> binding = mappingBinder.bind( bufferedInputStream, origin );
 
@@ -75,4 +78,21 @@ public Collection<MappingDocument> produceAdditionalMappings(final MetadataImple
 		MappingDocument mappingDocument = new MappingDocument( root, origin, buildingContext );
 		return Collections.singletonList( mappingDocument );
 	}
+
+	private String createEntityDefinition() {
+		StringBuilder builder = new StringBuilder( ENTITY_DEFINITION_START );
+		for ( int i = 0; i < partitions.count(); i++ ) {
+			builder.append( "    <class name=\"" ).append( OutboxEvent.class.getName() ).append( "\"" );
+			if ( partitions.count() > 1 ) {
+				// The same class is mapped once per partition, so each mapping needs its own entity name.
+				builder.append( " entity-name=\"" ).append( partitions.entityName( i ) ).append( "\"" );
+			}
+			builder.append( " table=\"" ).append( partitions.tableName( i ) ).append( "\">\n" )
+					.append( CLASS_DEFINITION_BODY )
+					.append( "        <property name=\"entityIdHash\" type=\"integer\" index=\"" )
+					.append( partitions.indexName( i ) ).append( "\" />\n" )
+					.append( CLASS_DEFINITION_END );
+		}
+		return builder.append( ENTITY_DEFINITION_END ).toString();
+	}
 }
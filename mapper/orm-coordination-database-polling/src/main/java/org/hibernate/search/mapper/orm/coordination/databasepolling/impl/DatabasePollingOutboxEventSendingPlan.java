@@ -32,10 +32,12 @@ public class DatabasePollingOutboxEventSendingPlan implements AutomaticIndexingQ
 	public static final RangeCompatibleHashFunction HASH_FUNCTION = Murmur3HashFunction.INSTANCE;
 
 	private final Session session;
+	private final OutboxEventPartitions partitions;
 	private final List<OutboxEvent> events = new ArrayList<>();
 
-	public DatabasePollingOutboxEventSendingPlan(Session session) {
+	public DatabasePollingOutboxEventSendingPlan(Session session, OutboxEventPartitions partitions) {
 		this.session = session;
+		this.partitions = partitions;
 	}
 
 	@Override
@@ -79,7 +81,7 @@ private <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> sendAndRep
 			MultiEntityOperationExecutionReport.Builder<R> builder = MultiEntityOperationExecutionReport.builder();
 			for ( OutboxEvent event : events ) {
 				try {
-					currentSession.persist( event );
+					currentSession.persist( partitions.entityNameForHash( event.getEntityIdHash() ), event );
 				}
 				catch (RuntimeException e) {
 					builder.throwable( e );
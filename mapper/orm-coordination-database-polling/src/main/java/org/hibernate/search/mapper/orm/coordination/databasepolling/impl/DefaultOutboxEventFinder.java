@@ -17,13 +17,13 @@
 public final class DefaultOutboxEventFinder implements OutboxEventFinder {
 	public static final class Provider implements OutboxEventFinderProvider {
 		@Override
-		public DefaultOutboxEventFinder create(Optional<OutboxEventPredicate> predicate) {
-			return new DefaultOutboxEventFinder( predicate );
+		public DefaultOutboxEventFinder create(String entityName, Optional<OutboxEventPredicate> predicate) {
+			return new DefaultOutboxEventFinder( entityName, predicate );
 		}
 	}
 
-	public static String createQueryString(Optional<OutboxEventPredicate> predicate) {
-		return "select e from OutboxEvent e"
+	public static String createQueryString(String entityName, Optional<OutboxEventPredicate> predicate) {
+		return "select e from " + entityName + " e"
 				+ predicate.map( p -> " where " + p.queryPart( "e" ) ).orElse( "" )
 				+ " order by e.id";
 	}
@@ -41,8 +41,8 @@ public static Query<OutboxEvent> createQuery(Session session, int maxResults,
 	private final String queryString;
 	private final Map<String, Object> params;
 
-	public DefaultOutboxEventFinder(Optional<OutboxEventPredicate> predicate) {
-		this.queryString = createQueryString( predicate );
+	public DefaultOutboxEventFinder(String entityName, Optional<OutboxEventPredicate> predicate) {
+		this.queryString = createQueryString( entityName, predicate );
 		this.params = predicate.map( OutboxEventPredicate::params ).orElse( Collections.emptyMap() );
 	}
 
@@ -7,7 +7,13 @@
 package org.hibernate.search.mapper.orm.coordination.databasepolling.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -17,6 +23,10 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.jfr.spi.JfrEvent;
+import org.hibernate.search.engine.common.jfr.spi.JfrEventType;
+import org.hibernate.search.engine.common.metrics.spi.Histogram;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingMappingContext;
 import org.hibernate.search.mapper.orm.common.spi.TransactionHelper;
@@ -27,6 +37,23 @@ public class OutboxEventBackgroundProcessor {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JfrEventType POLL_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.outbox.Poll", "Outbox Poll" )
+					.description( "Polling of the outbox table for events to process" )
+					.category( "Outbox" )
+					.field( String.class, "processor", "Processor" )
+					.field( int.class, "eventCount", "Event Count" )
+					.build();
+	private static final JfrEventType PROCESS_EVENT_TYPE =
+			JfrEventType.builder( "org.hibernate.search.outbox.Process", "Outbox Process" )
+					.description( "Processing of a batch of outbox events" )
+					.category( "Outbox" )
+					.field( String.class, "processor", "Processor" )
+					.field( int.class, "eventCount", "Event Count" )
+					.build();
+	private static final int OUTBOX_EVENT_PROCESSOR = 0;
+	private static final int OUTBOX_EVENT_EVENT_COUNT = 1;
+
 	private enum Status {
 		STOPPED,
 		STARTED
@@ -35,29 +62,43 @@ private enum Status {
 	private final String name;
 	private final AutomaticIndexingMappingContext mapping;
 	private final OutboxEventFinder finder;
+	private final OutboxEventPartitions partitions;
 	private final int pollingInterval;
 	private final int batchSize;
 	private final Integer transactionTimeout;
+	private final int pipelineDepth;
 	private final AtomicReference<Status> status = new AtomicReference<>( Status.STOPPED );
 	private final FailureHandler failureHandler;
 	private final SingletonTask processingTask;
+	private final Histogram batchSizes;
+	private final Histogram processingDurations;
+
+	// Only ever set by the pipelined worker, to skip the polling interval while batches are in flight
+	private volatile boolean scheduleImmediately = false;
 
 	public OutboxEventBackgroundProcessor(String name,
 			AutomaticIndexingMappingContext mapping, ScheduledExecutorService executor,
-			OutboxEventFinder finder,
+			OutboxEventFinder finder, OutboxEventPartitions partitions,
 			int pollingInterval, int batchSize,
-			Integer transactionTimeout) {
+			Integer transactionTimeout, int pipelineDepth,
+			MetricsRegistry metricsRegistry) {
 		this.name = name;
 		this.mapping = mapping;
 		this.finder = finder;
+		this.partitions = partitions;
 		this.pollingInterval = pollingInterval;
 		this.batchSize = batchSize;
 		this.transactionTimeout = transactionTimeout;
+		this.pipelineDepth = pipelineDepth;
+		this.batchSizes = metricsRegistry.histogram( "outbox.batch.size" );
+		this.processingDurations = metricsRegistry.histogram( "outbox.processing.duration" );
 
 		failureHandler = mapping.failureHandler();
 		processingTask = new SingletonTask(
 				name,
-				new DatabasePollingOutboxWorker( mapping.sessionFactory() ),
+				pipelineDepth > 1
+						? new PipelinedDatabasePollingOutboxWorker( mapping.sessionFactory() )
+						: new DatabasePollingOutboxWorker( mapping.sessionFactory() ),
 				new DatabasePollingHibernateOrmOutboxScheduler( executor ),
 				failureHandler
 		);
@@ -104,7 +145,11 @@ public CompletableFuture<?> work() {
 			try ( SessionImplementor session = (SessionImplementor) mapping.sessionFactory().openSession() ) {
 				final OutboxEventProcessingPlan eventProcessing = new OutboxEventProcessingPlan( mapping, session );
 				transactionHelper.inTransaction( session, transactionTimeout, s -> {
+					JfrEvent pollEvent = POLL_EVENT_TYPE.begin();
 					List<OutboxEvent> events = finder.findOutboxEvents( session, batchSize );
+					pollEvent.set( OUTBOX_EVENT_PROCESSOR, name )
+							.set( OUTBOX_EVENT_EVENT_COUNT, events.size() )
+							.commit();
 					if ( events.isEmpty() ) {
 						// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
 						return;
@@ -117,16 +162,25 @@ public CompletableFuture<?> work() {
 					ensureScheduled();
 
 					log.tracef( "Processing %d outbox events for '%s': '%s'", events.size(), name, events );
+					batchSizes.record( events.size() );
 
 					// Process the events
+					JfrEvent processEvent = PROCESS_EVENT_TYPE.begin();
+					long start = processingDurations.isEnabled() ? System.nanoTime() : 0L;
 					eventProcessing.processEvents( events );
+					if ( processingDurations.isEnabled() ) {
+						processingDurations.record( System.nanoTime() - start );
+					}
+					processEvent.set( OUTBOX_EVENT_PROCESSOR, name )
+							.set( OUTBOX_EVENT_EVENT_COUNT, events.size() )
+							.commit();
 				} );
 
 				// Updating events involves database locks on a table that
 				// can see heavily concurrent access (the outbox table),
 				// so we do that in a separate transaction, one that is as short as possible.
 				OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
-						failureHandler, eventProcessing, session, name );
+						failureHandler, eventProcessing, session, name, partitions );
 				// We potentially perform this update in multiple transactions,
 				// each loading as many events as possible using SKIP_LOCKED,
 				// to only load events that are not already locked by another processor.
@@ -162,6 +216,216 @@ private void ensureScheduled() {
 		}
 	}
 
+	/**
+	 * A worker that does not wait for the backend to index a batch of events
+	 * before polling the next batch:
+	 * up to {@code pipelineDepth} batches are being indexed at any given time,
+	 * and events of a batch are only updated (deleted or rescheduled) once that batch has been indexed.
+	 * <p>
+	 * Each batch has its own session, which stays open until the batch is indexed and its events are updated.
+	 * Polling and updating rely on the same finder and updater as {@link DatabasePollingOutboxWorker},
+	 * so the same sharding and locking guarantees apply.
+	 */
+	private class PipelinedDatabasePollingOutboxWorker implements SingletonTask.Worker {
+
+		private final TransactionHelper transactionHelper;
+		// Only accessed from work(), which is never executed concurrently.
+		private final Deque<InFlightBatch> inFlightBatches = new ArrayDeque<>();
+
+		public PipelinedDatabasePollingOutboxWorker(SessionFactoryImplementor sessionFactory) {
+			transactionHelper = new TransactionHelper( sessionFactory );
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			if ( mapping.sessionFactory().isClosed() ) {
+				// Work around HHH-14541, see DatabasePollingOutboxWorker.
+				log.sessionFactoryIsClosedOnOutboxProcessing();
+				abandonInFlightBatches();
+				return CompletableFuture.completedFuture( null );
+			}
+
+			updateIndexedBatches();
+
+			boolean foundEvents = false;
+			// As soon as Hibernate Search stops, we stop polling,
+			// but we still wait for in-flight batches to be indexed so that we can update their events.
+			if ( status.get() == Status.STARTED && inFlightBatches.size() < pipelineDepth ) {
+				foundEvents = pollAndSubmitBatch();
+			}
+
+			if ( inFlightBatches.isEmpty() ) {
+				// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
+				scheduleImmediately = false;
+				return CompletableFuture.completedFuture( null );
+			}
+
+			// Make sure we will update in-flight batches as soon as they are indexed,
+			// even if Hibernate Search is stopping.
+			// Since the worker is already working,
+			// calling ensureScheduled() will lead to re-execution right after the returned future completes.
+			scheduleImmediately = true;
+			processingTask.ensureScheduled();
+
+			if ( foundEvents && inFlightBatches.size() < pipelineDepth ) {
+				// There is room in the pipeline: poll the next batch right away.
+				return CompletableFuture.completedFuture( null );
+			}
+			// The pipeline is full, or there's nothing more to poll for now:
+			// wait for any batch to be indexed.
+			List<CompletableFuture<?>> indexingFutures = new ArrayList<>( inFlightBatches.size() );
+			for ( InFlightBatch batch : inFlightBatches ) {
+				indexingFutures.add( batch.indexingFuture );
+			}
+			return CompletableFuture.anyOf( indexingFutures.toArray( new CompletableFuture<?>[0] ) );
+		}
+
+		@Override
+		public void complete() {
+			// Make sure we poll again in a few seconds.
+			// Since the worker is no longer working at this point,
+			// calling ensureScheduled() will lead to delayed re-execution.
+			if ( status.get() == Status.STARTED ) {
+				processingTask.ensureScheduled();
+			}
+		}
+
+		private boolean pollAndSubmitBatch() {
+			SessionImplementor session = (SessionImplementor) mapping.sessionFactory().openSession();
+			try {
+				OutboxEventProcessingPlan eventProcessing = new OutboxEventProcessingPlan( mapping, session );
+				AtomicReference<InFlightBatch> submittedBatch = new AtomicReference<>();
+				transactionHelper.inTransaction( session, transactionTimeout, s -> {
+					JfrEvent pollEvent = POLL_EVENT_TYPE.begin();
+					List<OutboxEvent> events = excludeInFlight( finder.findOutboxEvents( session,
+							batchSize + inFlightEventCount() ) );
+					pollEvent.set( OUTBOX_EVENT_PROCESSOR, name )
+							.set( OUTBOX_EVENT_EVENT_COUNT, events.size() )
+							.commit();
+					if ( events.isEmpty() ) {
+						return;
+					}
+
+					log.tracef( "Processing %d outbox events for '%s': '%s'", events.size(), name, events );
+					batchSizes.record( events.size() );
+
+					// Load entities and submit works to the backend, but don't wait for indexing.
+					JfrEvent processEvent = PROCESS_EVENT_TYPE.begin();
+					long start = processingDurations.isEnabled() ? System.nanoTime() : 0L;
+					CompletableFuture<?> indexingFuture = eventProcessing.processEventsAsync( events );
+					submittedBatch.set( new InFlightBatch( session, eventProcessing, indexingFuture, processEvent, start ) );
+				} );
+				InFlightBatch batch = submittedBatch.get();
+				if ( batch == null ) {
+					session.close();
+					return false;
+				}
+				inFlightBatches.addLast( batch );
+				return true;
+			}
+			catch (RuntimeException e) {
+				session.close();
+				throw e;
+			}
+		}
+
+		/**
+		 * Events that are still in the outbox table because their batch is being indexed
+		 * must not be processed again.
+		 * Events related to entities that are being indexed are left for a later batch,
+		 * so that the same entity is never reindexed concurrently.
+		 */
+		private List<OutboxEvent> excludeInFlight(List<OutboxEvent> events) {
+			if ( inFlightBatches.isEmpty() ) {
+				return events;
+			}
+			Set<Long> inFlightIds = new HashSet<>();
+			Set<OutboxEventReference> inFlightReferences = new HashSet<>();
+			for ( InFlightBatch batch : inFlightBatches ) {
+				for ( OutboxEvent event : batch.eventProcessing.getEvents() ) {
+					inFlightIds.add( event.getId() );
+					inFlightReferences.add( event.getReference() );
+				}
+			}
+			List<OutboxEvent> result = new ArrayList<>( Math.min( events.size(), batchSize ) );
+			for ( OutboxEvent event : events ) {
+				if ( result.size() >= batchSize ) {
+					break;
+				}
+				if ( !inFlightIds.contains( event.getId() ) && !inFlightReferences.contains( event.getReference() ) ) {
+					result.add( event );
+				}
+			}
+			return result;
+		}
+
+		private int inFlightEventCount() {
+			int count = 0;
+			for ( InFlightBatch batch : inFlightBatches ) {
+				count += batch.eventProcessing.getEvents().size();
+			}
+			return count;
+		}
+
+		private void updateIndexedBatches() {
+			Iterator<InFlightBatch> iterator = inFlightBatches.iterator();
+			while ( iterator.hasNext() ) {
+				InFlightBatch batch = iterator.next();
+				if ( !batch.indexingFuture.isDone() ) {
+					continue;
+				}
+				iterator.remove();
+				try ( SessionImplementor session = batch.session ) {
+					batch.recordProcessed();
+					// See DatabasePollingOutboxWorker for the reasons behind multiple, short transactions.
+					OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
+							failureHandler, batch.eventProcessing, session, name, partitions );
+					while ( eventUpdater.thereAreStillEventsToProcess() ) {
+						transactionHelper.inTransaction( session, transactionTimeout, s -> eventUpdater.process() );
+					}
+				}
+			}
+		}
+
+		private void abandonInFlightBatches() {
+			for ( InFlightBatch batch : inFlightBatches ) {
+				try {
+					batch.session.close();
+				}
+				catch (RuntimeException e) {
+					log.debugf( e, "Failed to close the session of an in-flight batch for '%s'", name );
+				}
+			}
+			inFlightBatches.clear();
+		}
+	}
+
+	private final class InFlightBatch {
+		private final SessionImplementor session;
+		private final OutboxEventProcessingPlan eventProcessing;
+		private final CompletableFuture<?> indexingFuture;
+		private final JfrEvent processEvent;
+		private final long start;
+
+		private InFlightBatch(SessionImplementor session, OutboxEventProcessingPlan eventProcessing,
+				CompletableFuture<?> indexingFuture, JfrEvent processEvent, long start) {
+			this.session = session;
+			this.eventProcessing = eventProcessing;
+			this.indexingFuture = indexingFuture;
+			this.processEvent = processEvent;
+			this.start = start;
+		}
+
+		private void recordProcessed() {
+			if ( processingDurations.isEnabled() ) {
+				processingDurations.record( System.nanoTime() - start );
+			}
+			processEvent.set( OUTBOX_EVENT_PROCESSOR, name )
+					.set( OUTBOX_EVENT_EVENT_COUNT, eventProcessing.getEvents().size() )
+					.commit();
+		}
+	}
+
 	private class DatabasePollingHibernateOrmOutboxScheduler implements SingletonTask.Scheduler {
 		private final ScheduledExecutorService delegate;
 
@@ -171,7 +435,7 @@ private DatabasePollingHibernateOrmOutboxScheduler(ScheduledExecutorService dele
 
 		@Override
 		public Future<?> schedule(Runnable runnable) {
-			return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+			return delegate.schedule( runnable, scheduleImmediately ? 0 : pollingInterval, TimeUnit.MILLISECONDS );
 		}
 	}
 }
@@ -10,6 +10,11 @@
 
 public interface OutboxEventFinderProvider {
 
-	OutboxEventFinder create(Optional<OutboxEventPredicate> predicate);
+	/**
+	 * @param entityName The entity name of the outbox event partition to look for events in.
+	 * @param predicate An additional predicate to filter events with.
+	 * @return A finder.
+	 */
+	OutboxEventFinder create(String entityName, Optional<OutboxEventPredicate> predicate);
 
 }
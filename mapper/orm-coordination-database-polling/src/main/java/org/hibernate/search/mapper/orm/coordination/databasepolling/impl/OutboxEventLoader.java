@@ -21,16 +21,14 @@
 
 public final class OutboxEventLoader {
 
-	private static final String LOAD_QUERY = "select e from OutboxEvent e where e.id in (:ids)";
-
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private OutboxEventLoader() {
 	}
 
-	static List<OutboxEvent> loadLocking(Session session, Set<Long> ids, String processorName) {
+	static List<OutboxEvent> loadLocking(Session session, String entityName, Set<Long> ids, String processorName) {
 		try {
-			return tryLoadLocking( session, ids );
+			return tryLoadLocking( session, entityName, ids );
 		}
 		catch (OptimisticLockException lockException) {
 			// Don't be fooled by the exception type, this is actually a *pessimistic* lock failure.
@@ -43,8 +41,9 @@ static List<OutboxEvent> loadLocking(Session session, Set<Long> ids, String proc
 		}
 	}
 
-	private static List<OutboxEvent> tryLoadLocking(Session session, Set<Long> ids) {
-		Query<OutboxEvent> query = session.createQuery( LOAD_QUERY, OutboxEvent.class );
+	private static List<OutboxEvent> tryLoadLocking(Session session, String entityName, Set<Long> ids) {
+		Query<OutboxEvent> query = session.createQuery( "select e from " + entityName + " e where e.id in (:ids)",
+				OutboxEvent.class );
 		query.setParameter( "ids", ids );
 
 		// HSEARCH-4289: some databases encounter deadlocks when multiple processors query or delete events
@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.databasepolling.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
+import org.hibernate.search.util.common.data.impl.RangeHashTable;
+
+/**
+ * The partitions of the outbox event table,
+ * each mapped to its own physical table and its own entity name.
+ * <p>
+ * Events are assigned to partitions according to the hash of the entity ID,
+ * using the same hash function and the same kind of ranges as sharding,
+ * so that, when there are as many partitions as shards, each shard maps to exactly one partition.
+ */
+public final class OutboxEventPartitions {
+
+	// WARNING: Always use this prefix for all tables added by Hibernate Search;
+	// we guarantee that in the documentation.
+	private static final String HSEARCH_TABLE_NAME_PREFIX = "HSEARCH_";
+
+	// Must not be longer than 20 characters, so that the generator does not exceed the 30 characters for Oracle11g
+	static final String TABLE_NAME = HSEARCH_TABLE_NAME_PREFIX + "OUTBOX_EVENT";
+	// All partitions share the same generator, so that IDs are unique across partitions.
+	static final String GENERATOR_NAME = TABLE_NAME + "_GENERATOR";
+
+	private static final String ENTITY_NAME = OutboxEvent.class.getName();
+	private static final String INDEX_NAME = "entityIdHash";
+
+	private final RangeHashTable<String> entityNames;
+
+	public OutboxEventPartitions(int count) {
+		// Note the hash function / table implementations MUST NOT CHANGE,
+		// otherwise existing events will no longer be found.
+		this.entityNames = new RangeHashTable<>( DatabasePollingOutboxEventSendingPlan.HASH_FUNCTION, count );
+		if ( count == 1 ) {
+			entityNames.set( 0, ENTITY_NAME );
+		}
+		else {
+			for ( int i = 0; i < count; i++ ) {
+				entityNames.set( i, OutboxEvent.class.getSimpleName() + i );
+			}
+		}
+	}
+
+	public int count() {
+		return entityNames.size();
+	}
+
+	public String entityName(int partitionIndex) {
+		return entityNames.get( partitionIndex );
+	}
+
+	public String entityNameForHash(int entityIdHash) {
+		return entityNames.get( entityNames.computeIndexForHash( entityIdHash ) );
+	}
+
+	String tableName(int partitionIndex) {
+		return count() == 1 ? TABLE_NAME : TABLE_NAME + "_" + partitionIndex;
+	}
+
+	String indexName(int partitionIndex) {
+		return count() == 1 ? INDEX_NAME : INDEX_NAME + partitionIndex;
+	}
+
+	/**
+	 * @param hashRange A range of entity ID hashes, e.g. the range assigned to a shard.
+	 * @return The indices of partitions that may contain events whose entity ID hash is in the given range.
+	 */
+	public List<Integer> partitionsOverlapping(Range<Integer> hashRange) {
+		List<Integer> result = new ArrayList<>();
+		for ( int i = 0; i < count(); i++ ) {
+			Range<Integer> partitionRange = entityNames.rangeForBucket( i );
+			if ( lowerBound( partitionRange ) <= upperBound( hashRange )
+					&& lowerBound( hashRange ) <= upperBound( partitionRange ) ) {
+				result.add( i );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param partitionIndex The index of a partition.
+	 * @param hashRange A range of entity ID hashes, e.g. the range assigned to a shard.
+	 * @return {@code true} if all events in the given partition have an entity ID hash in the given range,
+	 * i.e. if filtering the events of that partition by hash is unnecessary.
+	 */
+	public boolean isWithin(int partitionIndex, Range<Integer> hashRange) {
+		Range<Integer> partitionRange = entityNames.rangeForBucket( partitionIndex );
+		return lowerBound( hashRange ) <= lowerBound( partitionRange )
+				&& upperBound( partitionRange ) <= upperBound( hashRange );
+	}
+
+	private static long lowerBound(Range<Integer> range) {
+		if ( !range.lowerBoundValue().isPresent() ) {
+			return Integer.MIN_VALUE;
+		}
+		long value = range.lowerBoundValue().get();
+		return range.lowerBoundInclusion() == RangeBoundInclusion.INCLUDED ? value : value + 1;
+	}
+
+	private static long upperBound(Range<Integer> range) {
+		if ( !range.upperBoundValue().isPresent() ) {
+			return Integer.MAX_VALUE;
+		}
+		long value = range.upperBoundValue().get();
+		return range.upperBoundInclusion() == RangeBoundInclusion.INCLUDED ? value : value - 1;
+	}
+
+}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -53,6 +54,41 @@ void processEvents(List<OutboxEvent> events) {
 		}
 	}
 
+	/**
+	 * Loads the entities and submits the indexing works to the backend,
+	 * but does not wait for the backend to execute the works.
+	 * <p>
+	 * The session must be kept open until the returned future completes.
+	 *
+	 * @param events The events to process.
+	 * @return A future that completes when failures, if any, were reported; it never completes exceptionally.
+	 */
+	CompletableFuture<?> processEventsAsync(List<OutboxEvent> events) {
+		this.events = events;
+		CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> reportFuture;
+		try {
+			addEventsToThePlan();
+			reportFuture = processingPlan.executeAndReport();
+		}
+		catch (Throwable throwable) {
+			reportMapperFailure( throwable );
+			return CompletableFuture.completedFuture( null );
+		}
+		return reportFuture.handle( Futures.handler( (report, throwable) -> {
+			if ( throwable != null ) {
+				reportMapperFailure( throwable );
+				return null;
+			}
+			try {
+				reportBackendResult( report );
+			}
+			catch (Throwable t) {
+				reportMapperFailure( t );
+			}
+			return null;
+		} ) );
+	}
+
 	List<OutboxEvent> getEvents() {
 		return events;
 	}
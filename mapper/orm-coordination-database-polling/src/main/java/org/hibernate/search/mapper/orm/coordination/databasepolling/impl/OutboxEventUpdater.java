@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,33 +29,48 @@ public class OutboxEventUpdater {
 	private final OutboxEventProcessingPlan processingPlan;
 	private final SessionImplementor session;
 	private final String processorName;
-	private final Set<Long> eventsIds;
+	private final OutboxEventPartitions partitions;
+	private final Map<String, Set<Long>> eventsIdsByEntityName;
 	private final Set<Long> failedEventIds;
 
 	public OutboxEventUpdater(FailureHandler failureHandler, OutboxEventProcessingPlan processingPlan,
-			SessionImplementor session, String processorName) {
+			SessionImplementor session, String processorName, OutboxEventPartitions partitions) {
 		this.failureHandler = failureHandler;
 		this.processingPlan = processingPlan;
 		this.session = session;
 		this.processorName = processorName;
-		this.eventsIds = processingPlan.getEvents().stream().map( OutboxEvent::getId )
-				.collect( Collectors.toSet() );
+		this.partitions = partitions;
+		this.eventsIdsByEntityName = processingPlan.getEvents().stream()
+				.collect( Collectors.groupingBy( event -> partitions.entityNameForHash( event.getEntityIdHash() ),
+						Collectors.mapping( OutboxEvent::getId, Collectors.toSet() ) ) );
 		this.failedEventIds = processingPlan.getFailedEvents().stream().map( OutboxEvent::getId )
 				.collect( Collectors.toSet() );
 	}
 
 	public boolean thereAreStillEventsToProcess() {
-		return !eventsIds.isEmpty();
+		for ( Set<Long> eventsIds : eventsIdsByEntityName.values() ) {
+			if ( !eventsIds.isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	public void process() {
-		List<OutboxEvent> lockedEvents = OutboxEventLoader.loadLocking( session, eventsIds, processorName );
+		List<OutboxEvent> lockedEvents = new ArrayList<>();
+		// Each partition is a separate table: lock events in each partition separately.
+		for ( Map.Entry<String, Set<Long>> entry : eventsIdsByEntityName.entrySet() ) {
+			if ( !entry.getValue().isEmpty() ) {
+				lockedEvents.addAll( OutboxEventLoader.loadLocking( session, entry.getKey(), entry.getValue(),
+						processorName ) );
+			}
+		}
 		List<OutboxEvent> eventToDelete = new ArrayList<>( lockedEvents );
 
 		for ( OutboxEvent event : lockedEvents ) {
 			Long id = event.getId();
 			// Make sure we consider the event as processed in "thereAreStillEventsToProcess()"
-			eventsIds.remove( id );
+			eventsIdsByEntityName.get( partitions.entityNameForHash( event.getEntityIdHash() ) ).remove( id );
 
 			if ( !failedEventIds.contains( id ) ) {
 				// The event was processed successfully; we will simply delete it.
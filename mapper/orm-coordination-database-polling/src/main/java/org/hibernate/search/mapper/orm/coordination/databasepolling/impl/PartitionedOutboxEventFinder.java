@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.databasepolling.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.Session;
+
+/**
+ * A finder looking for events in multiple partitions of the outbox event table,
+ * for processors whose hash range is not aligned with a single partition.
+ */
+final class PartitionedOutboxEventFinder implements OutboxEventFinder {
+
+	private final List<OutboxEventFinder> partitionFinders;
+
+	PartitionedOutboxEventFinder(List<OutboxEventFinder> partitionFinders) {
+		this.partitionFinders = partitionFinders;
+	}
+
+	@Override
+	public List<OutboxEvent> findOutboxEvents(Session session, int maxResults) {
+		List<OutboxEvent> result = new ArrayList<>();
+		for ( OutboxEventFinder partitionFinder : partitionFinders ) {
+			result.addAll( partitionFinder.findOutboxEvents( session, maxResults ) );
+		}
+		// Process the oldest events first, regardless of their partition.
+		result.sort( Comparator.comparing( OutboxEvent::getId ) );
+		return result.size() > maxResults ? result.subList( 0, maxResults ) : result;
+	}
+
+}
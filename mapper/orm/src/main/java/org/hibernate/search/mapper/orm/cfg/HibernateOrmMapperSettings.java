@@ -91,6 +91,45 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The number of entity changes recorded in a session
+	 * above which automatic indexing is executed early, upon the next flush,
+	 * instead of waiting for the transaction to be committed.
+	 * <p>
+	 * Useful to bound memory usage in transactions that change a very large number of entities,
+	 * e.g. data migration jobs.
+	 * The synchronization strategy still applies on commit,
+	 * and will wait for all works, including those executed early.
+	 * <p>
+	 * <strong>WARNING:</strong> works executed early are sent to the indexes before the transaction is committed:
+	 * they will not be reverted if the transaction is rolled back.
+	 * <p>
+	 * This setting is ignored when automatic indexing is coordinated through an outbox.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning automatic indexing is only ever executed on commit.
+	 */
+	public static final String AUTOMATIC_INDEXING_EARLY_EXECUTION_THRESHOLD = PREFIX + Radicals.AUTOMATIC_INDEXING_EARLY_EXECUTION_THRESHOLD;
+
+	/**
+	 * Whether automatic indexing should load containing entities in batches
+	 * when resolving which entities must be reindexed because a contained entity changed.
+	 * <p>
+	 * When enabled, containing entities are resolved breadth-first:
+	 * all uninitialized proxies reached through one level of associations are loaded together,
+	 * using one query per {@link #QUERY_LOADING_FETCH_SIZE fetch size} worth of entities,
+	 * instead of being initialized one by one as they are reached.
+	 * This avoids N+1 queries when changing an entity that is embedded in many other entities.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING}.
+	 */
+	public static final String AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING = PREFIX + Radicals.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -112,6 +151,26 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String QUERY_LOADING_FETCH_SIZE = PREFIX + Radicals.QUERY_LOADING_FETCH_SIZE;
 
+	/**
+	 * Whether associations traversed when indexing an entity should be fetched in batches
+	 * when loading entities for indexing, i.e. in the mass indexer and when processing indexing events
+	 * from an outbox.
+	 * <p>
+	 * When enabled, Hibernate Search fetches to-one associations of indexed entities
+	 * through an entity graph applied to the loading query,
+	 * and initializes collections as well as nested associations
+	 * using one query per batch of entities and per association,
+	 * instead of letting them be initialized lazily, one by one, while building documents.
+	 * Only associations that are actually traversed when indexing, e.g. through {@code @IndexedEmbedded},
+	 * are fetched.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_LOADING_FETCH_PLAN_ENABLED}.
+	 */
+	public static final String INDEXING_LOADING_FETCH_PLAN_ENABLED = PREFIX + Radicals.INDEXING_LOADING_FETCH_PLAN_ENABLED;
+
 	/**
 	 * Whether annotations should be automatically processed for entity types,
 	 * as well as nested types in those entity types, for instance embedded types.
@@ -177,8 +236,11 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.STRATEGY;
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.SYNCHRONIZATION_STRATEGY;
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.ENABLE_DIRTY_CHECK;
+		public static final String AUTOMATIC_INDEXING_EARLY_EXECUTION_THRESHOLD = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.EARLY_EXECUTION_THRESHOLD;
+		public static final String AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.REINDEXING_RESOLUTION_BATCH_LOADING;
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
+		public static final String INDEXING_LOADING_FETCH_PLAN_ENABLED = "indexing.loading.fetch_plan.enabled";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
@@ -203,6 +265,8 @@ private AutomaticIndexingRadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String SYNCHRONIZATION_STRATEGY = "synchronization.strategy";
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
+		public static final String EARLY_EXECUTION_THRESHOLD = "early_execution_threshold";
+		public static final String REINDEXING_RESOLUTION_BATCH_LOADING = "reindexing_resolution.batch_loading";
 	}
 
 	/**
@@ -237,9 +301,11 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final boolean AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING = false;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
+		public static final boolean INDEXING_LOADING_FETCH_PLAN_ENABLED = true;
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY = SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 		public static final BeanReference<CooordinationStrategy> COORDINATION_STRATEGY =
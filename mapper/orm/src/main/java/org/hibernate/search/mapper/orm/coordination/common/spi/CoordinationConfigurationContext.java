@@ -8,6 +8,7 @@
 
 import java.util.function.Function;
 
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingEventSendingSessionContext;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventSendingPlan;
 
@@ -39,4 +40,24 @@ void sendIndexingEventsTo(Function<AutomaticIndexingEventSendingSessionContext,
 	@SuppressWarnings("deprecation")
 	void mappingProducer(org.hibernate.boot.spi.AdditionalJaxbMappingProducer producer);
 
+	/**
+	 * Excludes an entity from the Hibernate Search mapping:
+	 * Hibernate Search will ignore this entity entirely, and in particular will ignore changes to this entity.
+	 * <p>
+	 * Useful for entities added through a {@link #mappingProducer(org.hibernate.boot.spi.AdditionalJaxbMappingProducer) mapping producer}
+	 * that are only relevant to the coordination strategy,
+	 * in particular when a single Java class is mapped to multiple entity names,
+	 * which Hibernate Search does not support.
+	 * @param hibernateOrmEntityName The name of the entity to exclude, as known to Hibernate ORM.
+	 */
+	void excludeFromMapping(String hibernateOrmEntityName);
+
+	/**
+	 * @return A configuration property source, appropriately masked so that the strategy
+	 * doesn't need to care about Hibernate Search prefixes (hibernate.search.*, etc.). All the properties
+	 * can be accessed at the root.
+	 * <strong>CAUTION:</strong> the property key "synchronization" and any sub-keys are reserved.
+	 */
+	ConfigurationPropertySource configurationPropertySource();
+
 }
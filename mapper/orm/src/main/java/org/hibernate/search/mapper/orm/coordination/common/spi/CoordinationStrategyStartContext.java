@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.coordination.common.spi;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
@@ -42,6 +43,11 @@ public interface CoordinationStrategyStartContext {
 	 */
 	ThreadPoolProvider threadPoolProvider();
 
+	/**
+	 * @return A registry to record runtime metrics in.
+	 */
+	MetricsRegistry metricsRegistry();
+
 	/**
 	 * @return The mapping, providing all information and operations necessary
 	 * for background processing of automatic indexing events.
@@ -7,11 +7,14 @@
 package org.hibernate.search.mapper.orm.coordination.impl;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.spi.SearchIntegrationEnvironment;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -35,7 +38,9 @@ public static CoordinationConfigurationContextImpl configure(ConfigurationProper
 			BeanResolver beanResolver) {
 		BeanHolder<? extends CooordinationStrategy> strategyHolder =
 				COORDINATION_STRATEGY.getAndTransform( propertySource, beanResolver::resolve );
-		CoordinationConfigurationContextImpl context = new CoordinationConfigurationContextImpl( strategyHolder );
+		CoordinationConfigurationContextImpl context = new CoordinationConfigurationContextImpl( strategyHolder,
+				propertySource.withMask( SearchIntegrationEnvironment.CONFIGURATION_PROPERTIES_MASK )
+						.withMask( HibernateOrmMapperSettings.Radicals.COORDINATION ) );
 		try {
 			strategyHolder.get().configure( context );
 			return context;
@@ -47,14 +52,18 @@ public static CoordinationConfigurationContextImpl configure(ConfigurationProper
 	}
 
 	private final BeanHolder<? extends CooordinationStrategy> strategyHolder;
+	private final ConfigurationPropertySource configurationPropertySource;
 
 	@SuppressWarnings("deprecation")
 	private final List<org.hibernate.boot.spi.AdditionalJaxbMappingProducer> mappingProducers = new ArrayList<>();
+	private final Set<String> excludedEntityNames = new HashSet<>();
 	private Function<AutomaticIndexingEventSendingSessionContext, AutomaticIndexingQueueEventSendingPlan> senderFactory;
 	private boolean enlistsInTransaction = false;
 
-	public CoordinationConfigurationContextImpl(BeanHolder<? extends CooordinationStrategy> strategyHolder) {
+	public CoordinationConfigurationContextImpl(BeanHolder<? extends CooordinationStrategy> strategyHolder,
+			ConfigurationPropertySource configurationPropertySource) {
 		this.strategyHolder = strategyHolder;
+		this.configurationPropertySource = configurationPropertySource;
 	}
 
 	@Override
@@ -82,6 +91,20 @@ public void mappingProducer(org.hibernate.boot.spi.AdditionalJaxbMappingProducer
 		mappingProducers.add( producer );
 	}
 
+	@Override
+	public void excludeFromMapping(String hibernateOrmEntityName) {
+		excludedEntityNames.add( hibernateOrmEntityName );
+	}
+
+	@Override
+	public ConfigurationPropertySource configurationPropertySource() {
+		return configurationPropertySource;
+	}
+
+	public Set<String> excludedEntityNames() {
+		return excludedEntityNames;
+	}
+
 	public BeanHolder<? extends CooordinationStrategy> strategyHolder() {
 		return strategyHolder;
 	}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -16,6 +18,7 @@
 public abstract class ConditionalExpressionQueryFactory<E, I> implements TypeQueryFactory<E, I> {
 
 	private static final String TYPES_PARAM_NAME = "HIBERNATE_SEARCH_INCLUDED_TYPES_FILTER";
+	private static final String RESUME_AFTER_PARAM_NAME = "HIBERNATE_SEARCH_RESUME_AFTER";
 	protected final String uniquePropertyName;
 
 	public ConditionalExpressionQueryFactory(String uniquePropertyName) {
@@ -41,6 +44,60 @@ public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor
 		);
 	}
 
+	@Override
+	public Query<Long> createQueryForCount(SharedSessionContractImplementor session, EntityPersister persister,
+			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpressionOrNull,
+			Object resumeAfterIdentifier) {
+		return createResumableQuery( session,
+				"select count(e) from " + persister.getEntityName() + " e",
+				Long.class, includedTypesFilter, conditionalExpressionOrNull, resumeAfterIdentifier, false
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Query<I> createQueryForOrderedIdentifierListing(SharedSessionContractImplementor session,
+			EntityPersister persister, Set<? extends Class<? extends E>> includedTypesFilter,
+			ConditionalExpression conditionalExpressionOrNull, Object resumeAfterIdentifierOrNull) {
+		return createResumableQuery( session,
+				"select e. " + uniquePropertyName + " from " + persister.getEntityName() + " e",
+				(Class<I>) persister.getIdentifierType().getReturnedClass(),
+				includedTypesFilter, conditionalExpressionOrNull, resumeAfterIdentifierOrNull, true
+		);
+	}
+
+	private <T> Query<T> createResumableQuery(SharedSessionContractImplementor session,
+			String hql, Class<T> returnedType, Set<? extends Class<? extends E>> includedTypesFilter,
+			ConditionalExpression conditionalExpressionOrNull, Object resumeAfterIdentifierOrNull, boolean ordered) {
+		List<String> predicates = new ArrayList<>();
+		if ( !includedTypesFilter.isEmpty() ) {
+			predicates.add( "type(e) in (:" + TYPES_PARAM_NAME + ")" );
+		}
+		if ( conditionalExpressionOrNull != null ) {
+			predicates.add( "( " + conditionalExpressionOrNull.hql() + " )" );
+		}
+		if ( resumeAfterIdentifierOrNull != null ) {
+			predicates.add( "e." + uniquePropertyName + " > :" + RESUME_AFTER_PARAM_NAME );
+		}
+		if ( !predicates.isEmpty() ) {
+			hql += " where " + String.join( " and ", predicates );
+		}
+		if ( ordered ) {
+			hql += " order by e." + uniquePropertyName;
+		}
+		Query<T> query = session.createQuery( hql, returnedType );
+		if ( !includedTypesFilter.isEmpty() ) {
+			query.setParameterList( TYPES_PARAM_NAME, includedTypesFilter );
+		}
+		if ( conditionalExpressionOrNull != null ) {
+			conditionalExpressionOrNull.applyParams( query );
+		}
+		if ( resumeAfterIdentifierOrNull != null ) {
+			query.setParameter( RESUME_AFTER_PARAM_NAME, resumeAfterIdentifierOrNull );
+		}
+		return query;
+	}
+
 	private <T> Query<T> createQueryWithConditionalExpression(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
 			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression) {
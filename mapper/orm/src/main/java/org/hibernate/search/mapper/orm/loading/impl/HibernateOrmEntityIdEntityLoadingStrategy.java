@@ -68,8 +68,8 @@ public <E2> PojoSelectionEntityLoader<E2> createLoader(Set<LoadingTypeContext<?
 			 * in particular runtime checks handling edge cases.
 			 */
 			@SuppressWarnings("unchecked")
-			PojoSelectionEntityLoader<E2> result = (PojoSelectionEntityLoader<E2>) doCreate( targetEntityTypeContext.entityPersister(), sessionContext,
-					cacheLookupStrategy, loadingOptions );
+			PojoSelectionEntityLoader<E2> result = (PojoSelectionEntityLoader<E2>) doCreate( targetEntityTypeContext.entityPersister(),
+					targetEntityTypeContexts, sessionContext, cacheLookupStrategy, loadingOptions );
 			return result;
 		}
 
@@ -91,13 +91,14 @@ public <E2> PojoSelectionEntityLoader<E2> createLoader(Set<LoadingTypeContext<?
 		 * See PojoLoader.castToExactTypeOrNull() and its callers for more information.
 		 */
 		@SuppressWarnings("unchecked")
-		PojoSelectionEntityLoader<E2> result = (PojoSelectionEntityLoader<E2>) doCreate( commonSuperType, sessionContext, cacheLookupStrategy,
-				loadingOptions );
+		PojoSelectionEntityLoader<E2> result = (PojoSelectionEntityLoader<E2>) doCreate( commonSuperType,
+				targetEntityTypeContexts, sessionContext, cacheLookupStrategy, loadingOptions );
 
 		return result;
 	}
 
 	private PojoSelectionEntityLoader<?> doCreate(EntityPersister entityPersister,
+			Set<? extends LoadingTypeContext<?>> targetEntityTypeContexts,
 			LoadingSessionContext sessionContext, EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			MutableEntityLoadingOptions loadingOptions) {
 		if ( !rootEntityPersister.getMappedClass().isAssignableFrom( entityPersister.getMappedClass() ) ) {
@@ -142,8 +143,8 @@ private PojoSelectionEntityLoader<?> doCreate(EntityPersister entityPersister,
 		// We must pass rootEntityPersister here, to avoid getting a WrongClassException when loading from the cache,
 		// even if we know we actually want instances from the most specific entity persister,
 		// because that exception cannot be recovered from.
-		return new HibernateOrmSelectionEntityByIdLoader<>( rootEntityPersister, queryFactory, sessionContext,
-				persistenceContextLookup, cacheLookupStrategyImplementor, loadingOptions );
+		return new HibernateOrmSelectionEntityByIdLoader<>( rootEntityPersister, targetEntityTypeContexts,
+				queryFactory, sessionContext, persistenceContextLookup, cacheLookupStrategyImplementor, loadingOptions );
 	}
 
 	private static EntityPersister toMostSpecificCommonEntitySuperType(SessionImplementor session,
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.Collection;
 import java.util.List;
 import javax.persistence.LockModeType;
 
@@ -21,16 +22,19 @@
 	private static final String ID_PARAMETER_NAME = "ids";
 
 	private final HibernateOrmQueryLoader<E, ?> typeQueryLoader;
+	private final Collection<? extends LoadingTypeContext<? extends E>> typeContexts;
 	private final HibernateOrmMassLoadingOptions options;
 	private final PojoMassEntitySink<E> sink;
 	private final SessionImplementor session;
 	private final TransactionHelper transactionHelper;
 
 	public HibernateOrmMassEntityLoader(HibernateOrmQueryLoader<E, ?> typeGroupLoader,
+			Collection<? extends LoadingTypeContext<? extends E>> typeContexts,
 			HibernateOrmMassLoadingOptions options,
 			PojoMassEntitySink<E> sink,
 			SessionImplementor session) {
 		this.typeQueryLoader = typeGroupLoader;
+		this.typeContexts = typeContexts;
 		this.options = options;
 		this.sink = sink;
 		this.session = session;
@@ -53,7 +57,14 @@ public void load(List<I> identifiers) throws InterruptedException {
 					.setCacheable( false )
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( identifiers.size() );
-			sink.accept( query.getResultList() );
+			if ( options.indexingFetchPlanEnabled() ) {
+				IndexingFetchPlan.applyGraph( session, query, typeContexts );
+			}
+			List<E> entities = query.getResultList();
+			if ( options.indexingFetchPlanEnabled() ) {
+				IndexingFetchPlan.initialize( session, typeContexts, entities, identifiers.size() );
+			}
+			sink.accept( entities );
 			session.clear();
 		}
 		catch (Exception e) {
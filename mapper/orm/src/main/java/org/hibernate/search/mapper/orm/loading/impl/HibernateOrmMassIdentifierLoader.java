@@ -12,6 +12,7 @@
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.common.spi.TransactionHelper;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
@@ -35,7 +36,8 @@
 	public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryLoader,
 			HibernateOrmMassLoadingOptions options,
 			PojoMassIdentifierSink<I> sink,
-			SharedSessionContractImplementor session) {
+			SharedSessionContractImplementor session,
+			boolean orderedByIdentifier, Object resumeAfterIdentifierOrNull) {
 		this.options = options;
 		this.sink = sink;
 		this.session = session;
@@ -46,7 +48,7 @@ public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryL
 		try {
 			long objectsLimit = options.objectsLimit();
 			long totalCountFromQuery = typeQueryLoader
-					.createCountQuery( session )
+					.createCountQuery( session, resumeAfterIdentifierOrNull )
 					.setCacheable( false ).uniqueResult();
 			if ( objectsLimit != 0 && objectsLimit < totalCountFromQuery ) {
 				totalCount = objectsLimit;
@@ -59,7 +61,10 @@ public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryL
 				log.debugf( "going to fetch %d primary keys", totalCount );
 			}
 
-			results = typeQueryLoader.createIdentifiersQuery( session )
+			Query<I> identifiersQuery = orderedByIdentifier
+					? typeQueryLoader.createOrderedIdentifiersQuery( session, resumeAfterIdentifierOrNull )
+					: typeQueryLoader.createIdentifiersQuery( session );
+			results = identifiersQuery
 					.setCacheable( false )
 					.setFetchSize( options.idFetchSize() )
 					.scroll( ScrollMode.FORWARD_ONLY );
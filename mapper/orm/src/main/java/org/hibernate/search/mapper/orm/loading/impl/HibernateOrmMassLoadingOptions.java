@@ -35,4 +35,9 @@ public interface HibernateOrmMassLoadingOptions {
 	 */
 	int idFetchSize();
 
+	/**
+	 * @return whether associations traversed when indexing should be fetched in batches.
+	 */
+	boolean indexingFetchPlanEnabled();
+
 }
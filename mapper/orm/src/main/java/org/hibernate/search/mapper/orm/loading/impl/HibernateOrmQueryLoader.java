@@ -21,10 +21,10 @@
 	private final ConditionalExpression conditionalExpression;
 
 	public HibernateOrmQueryLoader(TypeQueryFactory<E, I> queryFactory,
-			Set<Class<? extends E>> includedTypesFilter) {
+			EntityPersister persister, Set<Class<? extends E>> includedTypesFilter) {
 		this.queryFactory = queryFactory;
 		this.includedTypesFilter = includedTypesFilter;
-		this.persister = null;
+		this.persister = persister;
 		this.conditionalExpression = null;
 	}
 
@@ -53,6 +53,22 @@ public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session)
 				);
 	}
 
+	public Query<Long> createCountQuery(SharedSessionContractImplementor session, Object resumeAfterIdentifierOrNull) {
+		if ( resumeAfterIdentifierOrNull == null ) {
+			return createCountQuery( session );
+		}
+		return queryFactory.createQueryForCount(
+				session, persister, includedTypesFilter, conditionalExpression, resumeAfterIdentifierOrNull
+		);
+	}
+
+	public Query<I> createOrderedIdentifiersQuery(SharedSessionContractImplementor session,
+			Object resumeAfterIdentifierOrNull) {
+		return queryFactory.createQueryForOrderedIdentifierListing(
+				session, persister, includedTypesFilter, conditionalExpression, resumeAfterIdentifierOrNull
+		);
+	}
+
 	public Query<E> createLoadingQuery(SessionImplementor session, String idParameterName) {
 		return queryFactory.createQueryForLoadByUniqueProperty( session, idParameterName );
 	}
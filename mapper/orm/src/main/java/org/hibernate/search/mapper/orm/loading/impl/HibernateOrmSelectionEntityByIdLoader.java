@@ -9,6 +9,7 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.persister.entity.EntityPersister;
@@ -21,15 +22,18 @@
  */
 class HibernateOrmSelectionEntityByIdLoader<E> extends AbstractHibernateOrmSelectionEntityLoader<E> {
 
+	private final Set<? extends LoadingTypeContext<?>> targetEntityTypeContexts;
 	private final PersistenceContextLookupStrategy persistenceContextLookup;
 	private final EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor;
 
 	HibernateOrmSelectionEntityByIdLoader(EntityPersister rootEntityPersister,
+			Set<? extends LoadingTypeContext<?>> targetEntityTypeContexts,
 			TypeQueryFactory<E, ?> queryFactory, LoadingSessionContext sessionContext,
 			PersistenceContextLookupStrategy persistenceContextLookup,
 			EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor,
 			MutableEntityLoadingOptions loadingOptions) {
 		super( rootEntityPersister, queryFactory, sessionContext, loadingOptions );
+		this.targetEntityTypeContexts = targetEntityTypeContexts;
 		this.persistenceContextLookup = persistenceContextLookup;
 		this.cacheLookupStrategyImplementor = cacheLookupStrategyImplementor;
 	}
@@ -42,6 +46,9 @@ protected List<E> doLoadEntities(List<?> allIds, Long timeout) {
 
 		int fetchSize = loadingOptions.fetchSize();
 		Query<E> query = createQuery( fetchSize, timeout );
+		if ( loadingOptions.indexingFetchPlanEnabled() ) {
+			IndexingFetchPlan.applyGraph( sessionContext.session(), query, targetEntityTypeContexts );
+		}
 
 		List<Object> ids = new ArrayList<>( fetchSize );
 		for ( int i = 0; i < keys.length; i++ ) {
@@ -81,6 +88,11 @@ protected List<E> doLoadEntities(List<?> allIds, Long timeout) {
 			loadedEntities.set( i, loaded );
 		}
 
+		if ( loadingOptions.indexingFetchPlanEnabled() ) {
+			IndexingFetchPlan.initialize( sessionContext.session(), targetEntityTypeContexts, loadedEntities,
+					fetchSize );
+		}
+
 		return loadedEntities;
 	}
 
@@ -35,12 +35,14 @@ public final class HibernateOrmSelectionLoadingContext implements PojoSelectionL
 	private final LoadingSessionContext sessionContext;
 	private final MutableEntityLoadingOptions loadingOptions;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
+	private final boolean clearSessionBetweenChunks;
 
 	private HibernateOrmSelectionLoadingContext(Builder builder) {
 		typeContextProvider = builder.typeContextProvider;
 		sessionContext = builder.sessionContext;
 		loadingOptions = builder.loadingOptions;
 		cacheLookupStrategy = builder.cacheLookupStrategy;
+		clearSessionBetweenChunks = builder.clearSessionBetweenChunks;
 	}
 
 	@Override
@@ -53,6 +55,13 @@ public void checkOpen() {
 		}
 	}
 
+	@Override
+	public void beforeLoadingNextChunk() {
+		if ( clearSessionBetweenChunks ) {
+			sessionContext.session().clear();
+		}
+	}
+
 	@Override
 	public PojoRuntimeIntrospector runtimeIntrospector() {
 		return sessionContext.runtimeIntrospector();
@@ -84,6 +93,7 @@ public MutableEntityLoadingOptions loadingOptions() {
 		private final LoadingSessionContext sessionContext;
 		private final MutableEntityLoadingOptions loadingOptions;
 		private EntityLoadingCacheLookupStrategy cacheLookupStrategy;
+		private boolean clearSessionBetweenChunks = false;
 
 		public Builder(LoadingMappingContext mappingContext, LoadingIndexedTypeContextProvider typeContextProvider,
 				LoadingSessionContext sessionContext) {
@@ -122,6 +132,25 @@ public SearchLoadingOptionsStep graph(String graphName, GraphSemantic semantic)
 			return graph( sessionContext.session().getEntityGraph( graphName ), semantic );
 		}
 
+		@Override
+		public SearchLoadingOptionsStep clearSessionBetweenChunks(boolean clearSession) {
+			this.clearSessionBetweenChunks = clearSession;
+			return this;
+		}
+
+		/**
+		 * Enables or disables fetching associations traversed when indexing,
+		 * for contexts where entities are loaded in order to index them.
+		 *
+		 * @param enabled Whether to apply indexing fetch plans.
+		 * @return {@code this}, for method chaining.
+		 * @see IndexingFetchPlan
+		 */
+		public Builder indexingFetchPlanEnabled(boolean enabled) {
+			loadingOptions.indexingFetchPlanEnabled( enabled );
+			return this;
+		}
+
 		@Override
 		public PojoSelectionLoadingContext build() {
 			return new HibernateOrmSelectionLoadingContext( this );
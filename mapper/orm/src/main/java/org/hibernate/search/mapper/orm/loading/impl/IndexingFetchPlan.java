@@ -0,0 +1,402 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.Graph;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.type.AssociationType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * A plan to fetch the associations traversed when indexing entities of a given type,
+ * so that associated entities are loaded in a few batch queries
+ * instead of being lazily initialized one by one while building documents.
+ * <p>
+ * To-one associations of the indexed entity type are fetched through an entity graph,
+ * created for each query loading the indexed entities.
+ * Collections, as well as associations that could not be fetched through the entity graph,
+ * are initialized after the indexed entities were loaded, one level of associations at a time,
+ * using queries with an {@code IN} predicate on identifiers.
+ */
+public final class IndexingFetchPlan {
+
+	private static final String IDS_PARAMETER_NAME = "ids";
+
+	/**
+	 * @param sessionFactory The session factory.
+	 * @param entityPersister The persister of the indexed entity type.
+	 * @param containedEntityPaths The paths to entities reached through associations when indexing this type.
+	 * @return A fetch plan, or {@code null} if there is nothing to fetch.
+	 */
+	public static IndexingFetchPlan create(SessionFactoryImplementor sessionFactory, EntityPersister entityPersister,
+			Collection<PojoModelPathValueNode> containedEntityPaths) {
+		Node root = new Node( entityPersister );
+		for ( PojoModelPathValueNode path : containedEntityPaths ) {
+			root.add( sessionFactory, propertyNames( path ), 0 );
+		}
+		if ( root.isEmpty() ) {
+			return null;
+		}
+		// Loading queries always target the root entity type, so the graph must apply to that type.
+		EntityPersister rootEntityPersister = HibernateOrmUtils.toRootEntityType( sessionFactory, entityPersister );
+		return new IndexingFetchPlan( root, rootEntityPersister,
+				graphJavaTypeOrNull( sessionFactory, rootEntityPersister, root ) );
+	}
+
+	/**
+	 * Applies the entity graph of the fetch plan, if any, to a query loading entities of the given types.
+	 *
+	 * @param session The session the query was created with.
+	 * @param query The query loading entities.
+	 * @param typeContexts The types of entities loaded by the query.
+	 */
+	public static void applyGraph(Session session, Query<?> query,
+			Collection<? extends LoadingTypeContext<?>> typeContexts) {
+		if ( typeContexts.size() != 1 ) {
+			// The same query loads entities of different types, with different fetch plans.
+			// Associations will be initialized after loading.
+			return;
+		}
+		IndexingFetchPlan plan = typeContexts.iterator().next().indexingFetchPlan();
+		if ( plan != null && plan.graphJavaType != null ) {
+			// Associations in the graph are fetched, other associations keep their mapped fetch type.
+			query.applyGraph( plan.createGraph( session ), GraphSemantic.LOAD );
+		}
+	}
+
+	/**
+	 * Initializes associations traversed when indexing the given entities.
+	 *
+	 * @param session The session the entities were loaded with.
+	 * @param typeContexts The types of the given entities.
+	 * @param entities The entities to initialize associations of. May contain {@code null} elements.
+	 * @param batchSize The maximum number of entities/collections to initialize with each query.
+	 */
+	public static void initialize(SessionImplementor session, Collection<? extends LoadingTypeContext<?>> typeContexts,
+			List<?> entities, int batchSize) {
+		Map<String, IndexingFetchPlan> plansByEntityName = new HashMap<>();
+		for ( LoadingTypeContext<?> typeContext : typeContexts ) {
+			IndexingFetchPlan plan = typeContext.indexingFetchPlan();
+			if ( plan != null ) {
+				plansByEntityName.put( typeContext.entityPersister().getEntityName(), plan );
+			}
+		}
+		if ( plansByEntityName.isEmpty() ) {
+			return;
+		}
+		Map<IndexingFetchPlan, List<Object>> entitiesByPlan = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			if ( entity == null ) {
+				continue;
+			}
+			IndexingFetchPlan plan = plansByEntityName.get( session.getEntityPersister( null, entity ).getEntityName() );
+			if ( plan != null ) {
+				entitiesByPlan.computeIfAbsent( plan, ignored -> new ArrayList<>() ).add( entity );
+			}
+		}
+		for ( Map.Entry<IndexingFetchPlan, List<Object>> entry : entitiesByPlan.entrySet() ) {
+			entry.getKey().root.initialize( session, entry.getValue(), batchSize );
+		}
+	}
+
+	private final Node root;
+	private final EntityPersister rootEntityPersister;
+	private final Class<?> graphJavaType;
+
+	private IndexingFetchPlan(Node root, EntityPersister rootEntityPersister, Class<?> graphJavaType) {
+		this.root = root;
+		this.rootEntityPersister = rootEntityPersister;
+		this.graphJavaType = graphJavaType;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + root + "]";
+	}
+
+	private static List<String> propertyNames(PojoModelPathValueNode path) {
+		List<String> result = new ArrayList<>();
+		PojoModelPath node = path;
+		while ( node != null ) {
+			if ( node instanceof PojoModelPathPropertyNode ) {
+				result.add( ( (PojoModelPathPropertyNode) node ).propertyName() );
+			}
+			node = node.parent();
+		}
+		Collections.reverse( result );
+		return result;
+	}
+
+	/**
+	 * @return The Java type to create entity graphs for, or {@code null} if no entity graph should be used.
+	 */
+	private static Class<?> graphJavaTypeOrNull(SessionFactoryImplementor sessionFactory,
+			EntityPersister rootEntityPersister, Node root) {
+		EntityTypeDescriptor<?> typeDescriptorOrNull =
+				sessionFactory.getMetamodel().entity( rootEntityPersister.getEntityName() );
+		if ( typeDescriptorOrNull == null ) {
+			// Most likely this is a dynamic-map entity; they don't have a representation in the JPA metamodel.
+			// Associations will be initialized after loading.
+			return null;
+		}
+		Class<?> javaType = typeDescriptorOrNull.getJavaType();
+		if ( javaType == null || sessionFactory.getMetamodel().entity( javaType ) != typeDescriptorOrNull ) {
+			// Entity graphs can only be created for a Java type through public APIs,
+			// and this Java type is mapped to other entity types, or to none at all.
+			// Associations will be initialized after loading.
+			return null;
+		}
+		for ( String propertyName : root.toOneAssociations.keySet() ) {
+			if ( propertyTypeOrNull( rootEntityPersister, propertyName ) != null ) {
+				return javaType;
+			}
+		}
+		// All to-one associations are declared in subtypes of the root entity type: there is nothing to fetch.
+		return null;
+	}
+
+	private RootGraph<?> createGraph(Session session) {
+		RootGraph<?> graph = session.createEntityGraph( graphJavaType );
+		for ( Map.Entry<String, Node> entry : root.toOneAssociations.entrySet() ) {
+			String propertyName = entry.getKey();
+			if ( propertyTypeOrNull( rootEntityPersister, propertyName ) == null ) {
+				// The property is declared in a subtype of the root entity type and cannot be part of the graph.
+				// The association will be initialized after loading.
+				continue;
+			}
+			addToGraph( graph, propertyName, entry.getValue() );
+		}
+		return graph;
+	}
+
+	private static void addToGraph(Graph<?> graph, String propertyName, Node node) {
+		if ( node.toOneAssociations.isEmpty() ) {
+			graph.addAttributeNode( propertyName );
+			return;
+		}
+		Graph<?> subGraph = graph.addSubGraph( propertyName );
+		for ( Map.Entry<String, Node> entry : node.toOneAssociations.entrySet() ) {
+			addToGraph( subGraph, entry.getKey(), entry.getValue() );
+		}
+	}
+
+	private static Type propertyTypeOrNull(EntityPersister persister, String propertyName) {
+		// Only consider properties of this entity type: properties declared in subtypes cannot be fetched.
+		Integer index = persister.getEntityMetamodel().getPropertyIndexOrNull( propertyName );
+		return index == null ? null : persister.getPropertyTypes()[index];
+	}
+
+	private static final class Node {
+		private final EntityPersister persister;
+		private final Map<String, Node> toOneAssociations = new LinkedHashMap<>();
+		private final Map<String, Node> collections = new LinkedHashMap<>();
+
+		Node(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		@Override
+		public String toString() {
+			return persister.getEntityName() + "{toOne=" + toOneAssociations + ", collections=" + collections + "}";
+		}
+
+		boolean isEmpty() {
+			return toOneAssociations.isEmpty() && collections.isEmpty();
+		}
+
+		void add(SessionFactoryImplementor sessionFactory, List<String> propertyNames, int index) {
+			if ( index >= propertyNames.size() ) {
+				return;
+			}
+			String propertyName = propertyNames.get( index );
+			Type type = propertyTypeOrNull( persister, propertyName );
+			Map<String, Node> target;
+			if ( type == null ) {
+				// Not a persistent property (e.g. a transient getter), or declared in a subtype:
+				// we cannot fetch it.
+				return;
+			}
+			else if ( type.isEntityType() ) {
+				target = toOneAssociations;
+			}
+			else if ( type.isCollectionType()
+					&& ( (CollectionType) type ).getElementType( sessionFactory ).isEntityType() ) {
+				target = collections;
+			}
+			else {
+				// Embeddable, collection of embeddables, ...: not supported.
+				return;
+			}
+			String associatedEntityName = ( (AssociationType) type ).getAssociatedEntityName( sessionFactory );
+			Node child = target.computeIfAbsent( propertyName, ignored -> new Node(
+					sessionFactory.getMetamodel().entityPersister( associatedEntityName ) ) );
+			child.add( sessionFactory, propertyNames, index + 1 );
+		}
+
+		void initialize(SessionImplementor session, List<Object> entities, int batchSize) {
+			for ( Map.Entry<String, Node> entry : collections.entrySet() ) {
+				String propertyName = entry.getKey();
+				initializeCollections( session, entities, propertyName, batchSize );
+				Node child = entry.getValue();
+				if ( child.isEmpty() ) {
+					continue;
+				}
+				CollectionType type = (CollectionType) persister.getPropertyType( propertyName );
+				Set<Object> elements = newIdentitySet();
+				for ( Object entity : entities ) {
+					Object collection = persister.getPropertyValue( entity, propertyName );
+					if ( collection == null || !Hibernate.isInitialized( collection ) ) {
+						continue;
+					}
+					Iterator<?> iterator = type.getElementsIterator( collection, session );
+					while ( iterator.hasNext() ) {
+						addUnproxied( elements, iterator.next() );
+					}
+				}
+				child.initialize( session, new ArrayList<>( elements ), batchSize );
+			}
+			for ( Map.Entry<String, Node> entry : toOneAssociations.entrySet() ) {
+				List<Object> associated = initializeToOne( session, entities, entry.getKey(), batchSize );
+				Node child = entry.getValue();
+				if ( !child.isEmpty() ) {
+					child.initialize( session, associated, batchSize );
+				}
+			}
+		}
+
+		private void initializeCollections(SessionImplementor session, List<Object> owners, String propertyName,
+				int batchSize) {
+			String identifierPropertyName = persister.getIdentifierPropertyName();
+			if ( identifierPropertyName == null ) {
+				// Cannot reference the identifier in a query; let the collections be initialized lazily.
+				return;
+			}
+			Set<Object> ownerIds = new LinkedHashSet<>();
+			for ( Object owner : owners ) {
+				Object collection = persister.getPropertyValue( owner, propertyName );
+				if ( collection != null && !Hibernate.isInitialized( collection ) ) {
+					ownerIds.add( persister.getIdentifier( owner, session ) );
+				}
+			}
+			// The result is worthless: we only execute the query to initialize the collections
+			// of owners that are already in the persistence context.
+			executeInBatches( session,
+					"select e from " + persister.getEntityName() + " e left join fetch e." + propertyName
+							+ " where e." + identifierPropertyName + " in (:" + IDS_PARAMETER_NAME + ")",
+					ownerIds, batchSize );
+		}
+
+		private List<Object> initializeToOne(SessionImplementor session, List<Object> entities, String propertyName,
+				int batchSize) {
+			Set<Object> associated = newIdentitySet();
+			Map<String, Set<Object>> uninitializedIdsByEntityName = new LinkedHashMap<>();
+			List<HibernateProxy> uninitializedProxies = new ArrayList<>();
+			for ( Object entity : entities ) {
+				Object value = persister.getPropertyValue( entity, propertyName );
+				if ( value instanceof HibernateProxy ) {
+					LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+					if ( lazyInitializer.isUninitialized() ) {
+						uninitializedIdsByEntityName
+								.computeIfAbsent( lazyInitializer.getEntityName(), ignored -> new LinkedHashSet<>() )
+								.add( lazyInitializer.getInternalIdentifier() );
+						uninitializedProxies.add( (HibernateProxy) value );
+						continue;
+					}
+				}
+				addUnproxied( associated, value );
+			}
+			for ( Map.Entry<String, Set<Object>> entry : uninitializedIdsByEntityName.entrySet() ) {
+				EntityPersister associatedPersister = session.getFactory().getMetamodel()
+						.entityPersister( entry.getKey() );
+				String identifierPropertyName = associatedPersister.getIdentifierPropertyName();
+				if ( identifierPropertyName == null ) {
+					// Cannot reference the identifier in a query; let the proxies be initialized lazily.
+					continue;
+				}
+				// The result is worthless: we only execute the query to load the entities into the persistence context,
+				// so that initializing the proxies below doesn't trigger additional queries.
+				executeInBatches( session,
+						"select e from " + associatedPersister.getEntityName()
+								+ " e where e." + identifierPropertyName + " in (:" + IDS_PARAMETER_NAME + ")",
+						entry.getValue(), batchSize );
+			}
+			for ( HibernateProxy proxy : uninitializedProxies ) {
+				if ( isInPersistenceContext( session, proxy.getHibernateLazyInitializer() ) ) {
+					// The entity was loaded above: this will not trigger any query.
+					associated.add( Hibernate.unproxy( proxy ) );
+				}
+			}
+			return new ArrayList<>( associated );
+		}
+
+		private static boolean isInPersistenceContext(SessionImplementor session, LazyInitializer lazyInitializer) {
+			EntityPersister associatedPersister = session.getFactory().getMetamodel()
+					.entityPersister( lazyInitializer.getEntityName() );
+			return session.getPersistenceContextInternal().getEntity(
+					session.generateEntityKey( lazyInitializer.getInternalIdentifier(), associatedPersister ) ) != null;
+		}
+
+		private static void executeInBatches(SessionImplementor session, String hql, Collection<Object> ids,
+				int batchSize) {
+			if ( ids.isEmpty() ) {
+				return;
+			}
+			Query<?> query = session.createQuery( hql );
+			List<Object> batch = new ArrayList<>( Math.min( batchSize, ids.size() ) );
+			for ( Object id : ids ) {
+				batch.add( id );
+				if ( batch.size() >= batchSize ) {
+					query.setParameterList( IDS_PARAMETER_NAME, batch ).getResultList();
+					batch.clear();
+				}
+			}
+			if ( !batch.isEmpty() ) {
+				query.setParameterList( IDS_PARAMETER_NAME, batch ).getResultList();
+			}
+		}
+
+		private static void addUnproxied(Set<Object> target, Object value) {
+			if ( value == null || !Hibernate.isInitialized( value ) ) {
+				// Uninitialized proxies will simply be initialized lazily, if necessary.
+				return;
+			}
+			target.add( Hibernate.unproxy( value ) );
+		}
+
+		private static Set<Object> newIdentitySet() {
+			return Collections.newSetFromMap( new IdentityHashMap<>() );
+		}
+	}
+
+}
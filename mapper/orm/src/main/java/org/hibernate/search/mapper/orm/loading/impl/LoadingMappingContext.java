@@ -16,6 +16,8 @@ public interface LoadingMappingContext {
 
 	int fetchSize();
 
+	boolean indexingFetchPlanEnabled();
+
 	LoadingSessionContext sessionContext(EntityManager entityManager);
 
 }
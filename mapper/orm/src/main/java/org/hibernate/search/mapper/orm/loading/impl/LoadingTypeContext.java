@@ -29,4 +29,10 @@
 
 	List<PojoRawTypeIdentifier<? super E>> ascendingSuperTypes();
 
+	/**
+	 * @return The plan to fetch associations traversed when indexing entities of this type,
+	 * or {@code null} if there is nothing to fetch.
+	 */
+	IndexingFetchPlan indexingFetchPlan();
+
 }
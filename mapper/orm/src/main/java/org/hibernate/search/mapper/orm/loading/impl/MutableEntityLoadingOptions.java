@@ -14,6 +14,7 @@
 
 public class MutableEntityLoadingOptions {
 	private int fetchSize;
+	private boolean indexingFetchPlanEnabled = false;
 
 	private List<EntityGraphHint<?>> entityGraphHints;
 
@@ -30,6 +31,14 @@ public void fetchSize(int fetchSize) {
 		this.fetchSize = fetchSize;
 	}
 
+	public boolean indexingFetchPlanEnabled() {
+		return indexingFetchPlanEnabled;
+	}
+
+	public void indexingFetchPlanEnabled(boolean indexingFetchPlanEnabled) {
+		this.indexingFetchPlanEnabled = indexingFetchPlanEnabled;
+	}
+
 	public EntityGraphHint<?> entityGraphHintOrNullForType(EntityPersister entityPersister) {
 		if ( entityGraphHints == null ) {
 			return null;
@@ -46,6 +46,14 @@ Query<Long> createQueryForCount(SharedSessionContractImplementor session, Entity
 	Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session, EntityPersister persister,
 			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression);
 
+	Query<Long> createQueryForCount(SharedSessionContractImplementor session, EntityPersister persister,
+			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpressionOrNull,
+			Object resumeAfterIdentifier);
+
+	Query<I> createQueryForOrderedIdentifierListing(SharedSessionContractImplementor session, EntityPersister persister,
+			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpressionOrNull,
+			Object resumeAfterIdentifierOrNull);
+
 	Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName);
 
 }
@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -16,10 +18,12 @@
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmEntityIdEntityLoadingStrategy;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmEntityLoadingStrategy;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmNonEntityIdPropertyEntityLoadingStrategy;
+import org.hibernate.search.mapper.orm.loading.impl.IndexingFetchPlan;
 import org.hibernate.search.mapper.orm.loading.impl.LoadingTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
 import org.hibernate.search.mapper.pojo.identity.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
@@ -37,6 +41,7 @@
 	private final IdentifierMapping identifierMapping;
 	private final PojoPathFilter dirtyFilter;
 	private final List<PojoRawTypeIdentifier<? super E>> ascendingSuperTypes;
+	private final IndexingFetchPlan indexingFetchPlan;
 
 	// Casts are safe because the loading strategy will target either "E" or "? super E", by contract
 	@SuppressWarnings("unchecked")
@@ -69,6 +74,8 @@
 			loadingStrategy = null;
 		}
 		this.dirtyFilter = builder.dirtyFilter;
+		this.indexingFetchPlan = IndexingFetchPlan.create( sessionFactory, entityPersister,
+				builder.containedEntityPaths );
 	}
 
 	@Override
@@ -108,6 +115,11 @@ public List<PojoRawTypeIdentifier<? super E>> ascendingSuperTypes() {
 		return ascendingSuperTypes;
 	}
 
+	@Override
+	public IndexingFetchPlan indexingFetchPlan() {
+		return indexingFetchPlan;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		if ( documentIdIsEntityId ) {
@@ -134,6 +146,7 @@ public PojoPathFilter dirtyFilter() {
 		private IdentifierMapping identifierMapping;
 		private PojoPathFilter dirtyFilter;
 		private final List<PojoRawTypeIdentifier<? super E>> ascendingSuperTypes;
+		Set<PojoModelPathValueNode> containedEntityPaths = Collections.emptySet();
 
 		AbstractBuilder(PojoRawTypeModel<E> typeModel, String jpaEntityName, String hibernateOrmEntityName) {
 			this.typeIdentifier = typeModel.typeIdentifier();
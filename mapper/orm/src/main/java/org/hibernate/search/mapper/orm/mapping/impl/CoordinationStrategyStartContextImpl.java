@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
@@ -48,6 +49,11 @@ public ThreadPoolProvider threadPoolProvider() {
 		return delegate.threadPoolProvider();
 	}
 
+	@Override
+	public MetricsRegistry metricsRegistry() {
+		return delegate.metricsRegistry();
+	}
+
 	@Override
 	public AutomaticIndexingMappingContext mapping() {
 		return mapping;
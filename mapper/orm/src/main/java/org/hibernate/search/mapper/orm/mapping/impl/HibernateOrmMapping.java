@@ -90,6 +90,12 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_FETCH_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> INDEXING_LOADING_FETCH_PLAN_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.INDEXING_LOADING_FETCH_PLAN_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.INDEXING_LOADING_FETCH_PLAN_ENABLED )
+					.build();
+
 	private static final ConfigurationProperty<SchemaManagementStrategyName> SCHEMA_MANAGEMENT_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.SCHEMA_MANAGEMENT_STRATEGY )
 					.as( SchemaManagementStrategyName.class, SchemaManagementStrategyName::of )
@@ -106,6 +112,8 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 		int fetchSize = QUERY_LOADING_FETCH_SIZE.get( propertySource );
 
+		boolean indexingFetchPlanEnabled = INDEXING_LOADING_FETCH_PLAN_ENABLED.get( propertySource );
+
 		SchemaManagementStrategyName schemaManagementStrategyName = SCHEMA_MANAGEMENT_STRATEGY.get( propertySource );
 		SchemaManagementListener schemaManagementListener = new SchemaManagementListener( schemaManagementStrategyName );
 
@@ -113,7 +121,7 @@ public static MappingImplementor<HibernateOrmMapping> create(
 				mappingDelegate, typeContextContainer, sessionFactory,
 				coordinationStrategyHolder,
 				configuredAutomaticIndexingStrategy,
-				cacheLookupStrategy, fetchSize,
+				cacheLookupStrategy, fetchSize, indexingFetchPlanEnabled,
 				schemaManagementListener
 		);
 	}
@@ -124,6 +132,7 @@ public static MappingImplementor<HibernateOrmMapping> create(
 	private final ConfiguredAutomaticIndexingStrategy configuredAutomaticIndexingStrategy;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
+	private final boolean indexingFetchPlanEnabled;
 
 	private final SchemaManagementListener schemaManagementListener;
 
@@ -136,6 +145,7 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			ConfiguredAutomaticIndexingStrategy configuredAutomaticIndexingStrategy,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			int fetchSize,
+			boolean indexingFetchPlanEnabled,
 			SchemaManagementListener schemaManagementListener) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
@@ -144,6 +154,7 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 		this.configuredAutomaticIndexingStrategy = configuredAutomaticIndexingStrategy;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
+		this.indexingFetchPlanEnabled = indexingFetchPlanEnabled;
 		this.schemaManagementListener = schemaManagementListener;
 	}
 
@@ -281,6 +292,11 @@ public int fetchSize() {
 		return fetchSize;
 	}
 
+	@Override
+	public boolean indexingFetchPlanEnabled() {
+		return indexingFetchPlanEnabled;
+	}
+
 	@Override
 	public SessionFactoryImplementor sessionFactory() {
 		return sessionFactory;
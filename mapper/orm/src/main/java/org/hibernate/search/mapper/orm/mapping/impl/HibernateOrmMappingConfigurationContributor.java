@@ -36,11 +36,13 @@
 public final class HibernateOrmMappingConfigurationContributor implements PojoMappingConfigurationContributor {
 	private final HibernateOrmBasicTypeMetadataProvider basicTypeMetadataProvider;
 	private final HibernateOrmBootstrapIntrospector introspector;
+	private final Set<String> excludedEntityNames;
 
 	HibernateOrmMappingConfigurationContributor(HibernateOrmBasicTypeMetadataProvider basicTypeMetadataProvider,
-			HibernateOrmBootstrapIntrospector introspector) {
+			HibernateOrmBootstrapIntrospector introspector, Set<String> excludedEntityNames) {
 		this.basicTypeMetadataProvider = basicTypeMetadataProvider;
 		this.introspector = introspector;
+		this.excludedEntityNames = excludedEntityNames;
 	}
 
 	@Override
@@ -49,6 +51,9 @@ public void configure(MappingBuildContext buildContext, PojoMappingConfiguration
 		Set<PojoRawTypeModel<?>> processedEmbeddableTypes = new LinkedHashSet<>();
 
 		for ( PersistentClass persistentClass : basicTypeMetadataProvider.getPersistentClasses() ) {
+			if ( excludedEntityNames.contains( persistentClass.getEntityName() ) ) {
+				continue;
+			}
 			Class<?> clazz = persistentClass.getMappedClass();
 			PojoRawTypeModel<?> typeModel;
 			if ( persistentClass.hasPojoRepresentation() ) {
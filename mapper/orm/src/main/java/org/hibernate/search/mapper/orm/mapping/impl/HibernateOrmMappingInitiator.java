@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.Set;
+
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.annotations.common.reflection.ReflectionManager;
 import org.hibernate.boot.Metadata;
@@ -112,12 +114,15 @@ public void configure(MappingBuildContext buildContext,
 		BeanResolver beanResolver = buildContext.beanResolver();
 		ConfigurationPropertySource propertySource = buildContext.configurationPropertySource();
 
+		CoordinationConfigurationContextImpl coordinationStrategyConfiguration =
+				preIntegrationService.coordinationStrategyConfiguration();
+		Set<String> excludedEntityNames = coordinationStrategyConfiguration.excludedEntityNames();
+
 		addConfigurationContributor(
-				new HibernateOrmMappingConfigurationContributor( basicTypeMetadataProvider, introspector )
+				new HibernateOrmMappingConfigurationContributor( basicTypeMetadataProvider, introspector,
+						excludedEntityNames )
 		);
 
-		CoordinationConfigurationContextImpl coordinationStrategyConfiguration =
-				preIntegrationService.coordinationStrategyConfiguration();
 		coordinationStrategyHolder = coordinationStrategyConfiguration.strategyHolder();
 		configuredAutomaticIndexingStrategy = coordinationStrategyConfiguration.createAutomaticIndexingStrategy();
 
@@ -133,7 +138,8 @@ public void configure(MappingBuildContext buildContext,
 
 			AnnotationMappingConfigurationContext annotationMapping = annotationMapping();
 			for ( PersistentClass persistentClass : basicTypeMetadataProvider.getPersistentClasses() ) {
-				if ( persistentClass.hasPojoRepresentation() ) {
+				if ( persistentClass.hasPojoRepresentation()
+						&& !excludedEntityNames.contains( persistentClass.getEntityName() ) ) {
 					annotationMapping.add( persistentClass.getMappedClass() );
 				}
 			}
@@ -11,6 +11,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexerFilteringTypeStep;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexer;
@@ -119,6 +120,30 @@ public MassIndexer failureHandler(MassIndexingFailureHandler failureHandler) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		delegate.checkpointStore( store );
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointInterval(int intervalInSeconds) {
+		delegate.checkpointInterval( intervalInSeconds );
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadingRateLimit(double entitiesPerSecond) {
+		delegate.loadingRateLimit( entitiesPerSecond );
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadingLatencyLimit(long latencyInMilliseconds) {
+		delegate.loadingLatencyLimit( latencyInMilliseconds );
+		return this;
+	}
+
 	ConditionalExpression reindexOnly(Class<?> type, String conditionalExpression) {
 		return context.reindexOnly( type, conditionalExpression );
 	}
@@ -115,6 +115,11 @@ public int idFetchSize() {
 		return idFetchSize;
 	}
 
+	@Override
+	public boolean indexingFetchPlanEnabled() {
+		return mappingContext.indexingFetchPlanEnabled();
+	}
+
 	ConditionalExpression reindexOnly(Class<?> type, String conditionalExpression) {
 		ConditionalExpression expression = new ConditionalExpression( conditionalExpression );
 		conditionalExpressions.put( type, expression );
@@ -184,7 +189,8 @@ public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifie
 			try {
 				PojoMassIdentifierSink<I> sink = context.createSink();
 				return new HibernateOrmMassIdentifierLoader<>( typeQueryLoader,
-						HibernateOrmMassIndexingContext.this, sink, session );
+						HibernateOrmMassIndexingContext.this, sink, session,
+						context.orderedByIdentifier(), context.resumeAfterIdentifier() );
 			}
 			catch (RuntimeException e) {
 				new SuppressingCloser( e ).push( SharedSessionContractImplementor::close, session );
@@ -211,7 +217,7 @@ public PojoMassEntityLoader<I> createEntityLoader(PojoMassIndexingEntityLoadingC
 				session.setDefaultReadOnly( true );
 
 				PojoMassEntitySink<E> sink = context.createSink( mappingContext.sessionContext( session ) );
-				return new HibernateOrmMassEntityLoader<>( typeQueryLoader,
+				return new HibernateOrmMassEntityLoader<>( typeQueryLoader, typeContexts,
 						HibernateOrmMassIndexingContext.this, sink, session );
 			}
 			catch (RuntimeException e) {
@@ -25,4 +25,6 @@ public interface HibernateOrmMassIndexingMappingContext extends PojoMassIndexing
 	HibernateOrmScopeSessionContext sessionContext(EntityManager entityManager);
 
 	HibernateOrmSessionTypeContextProvider typeContextProvider();
+
+	boolean indexingFetchPlanEnabled();
 }
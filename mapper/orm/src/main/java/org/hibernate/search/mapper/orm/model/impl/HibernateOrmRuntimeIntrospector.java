@@ -63,6 +63,19 @@ public Object unproxy(Object value) {
 		return value;
 	}
 
+	@Override
+	public Object uninitializedProxyIdentifier(Object value) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			// Proxies created by a different session will be reassociated when unproxied:
+			// we cannot load them through the current session.
+			if ( lazyInitializer.isUninitialized() && lazyInitializer.getSession() == sessionImplementor ) {
+				return lazyInitializer.getInternalIdentifier();
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public boolean isIgnorableDataAccessThrowable(Throwable throwable) {
 		// Ideally we would only need to ignore LazyInitializationException,
@@ -65,4 +65,24 @@ public interface SearchLoadingOptionsStep {
 	 */
 	SearchLoadingOptionsStep graph(String graphName, GraphSemantic semantic);
 
+	/**
+	 * Clear the session before loading entities for each chunk of hits, except the first one,
+	 * when {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scrolling}
+	 * or {@link org.hibernate.search.engine.search.query.SearchFetchable#stream(int) streaming}.
+	 * <p>
+	 * This allows the garbage collector to reclaim entities loaded for previous chunks,
+	 * which is useful to process large result sets with a bounded amount of memory.
+	 * <p>
+	 * <strong>WARNING:</strong> clearing the session detaches <strong>all</strong> its entities,
+	 * including entities loaded for previous chunks, and discards all changes that were not flushed yet.
+	 * The same happens when fetching results multiple times from the same query.
+	 * Defaults to {@code false}.
+	 *
+	 * @param clearSession {@code true} to clear the session before loading each chunk of hits except the first,
+	 * {@code false} otherwise.
+	 * @return {@code this} for method chaining.
+	 * @see org.hibernate.Session#clear()
+	 */
+	SearchLoadingOptionsStep clearSessionBetweenChunks(boolean clearSession);
+
 }
@@ -59,12 +59,25 @@ public final class ConfiguredAutomaticIndexingStrategy {
 					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> EARLY_EXECUTION_THRESHOLD =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.AutomaticIndexingRadicals.EARLY_EXECUTION_THRESHOLD )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> REINDEXING_RESOLUTION_BATCH_LOADING =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.AutomaticIndexingRadicals.REINDEXING_RESOLUTION_BATCH_LOADING )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_LOADING )
+					.build();
+
 	private final Function<AutomaticIndexingEventSendingSessionContext, AutomaticIndexingQueueEventSendingPlan> senderFactory;
 	private final boolean enlistsInTransaction;
 
 	private HibernateOrmSearchSessionMappingContext mappingContext;
 	private BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy defaultSynchronizationStrategy;
+	private Integer earlyExecutionThreshold;
+	private boolean reindexingResolutionBatchLoading;
 
 	public ConfiguredAutomaticIndexingStrategy(
 			Function<AutomaticIndexingEventSendingSessionContext, AutomaticIndexingQueueEventSendingPlan> senderFactory,
@@ -103,6 +116,8 @@ public void start(HibernateOrmSearchSessionMappingContext mappingContext,
 					}
 				} );
 		defaultSynchronizationStrategy = configure( defaultSynchronizationStrategyHolder.get() );
+		earlyExecutionThreshold = EARLY_EXECUTION_THRESHOLD.get( configurationSource ).orElse( null );
+		reindexingResolutionBatchLoading = REINDEXING_RESOLUTION_BATCH_LOADING.get( configurationSource );
 		if ( AUTOMATIC_INDEXING_ENABLED.get( configurationSource )
 				&& AUTOMATIC_INDEXING_ENABLED_LEGACY_STRATEGY.getAndMap( configurationSource, enabled -> {
 					log.automaticIndexingStrategyIsDeprecated( AUTOMATIC_INDEXING_ENABLED_LEGACY_STRATEGY.resolveOrRaw( configurationSource ),
@@ -124,11 +139,16 @@ public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( BeanHolder::close, defaultSynchronizationStrategyHolder );
 			defaultSynchronizationStrategy = null;
+			earlyExecutionThreshold = null;
 			defaultSynchronizationStrategyHolder = null;
 			mappingContext = null;
 		}
 	}
 
+	public boolean reindexingResolutionBatchLoading() {
+		return reindexingResolutionBatchLoading;
+	}
+
 	public ConfiguredAutomaticIndexingSynchronizationStrategy defaultIndexingPlanSynchronizationStrategy() {
 		return defaultSynchronizationStrategy;
 	}
@@ -152,9 +172,16 @@ public PojoIndexingPlan createIndexingPlan(HibernateOrmSearchSession context,
 			return mappingContext.createIndexingPlan( context, new HibernateOrmIndexingQueueEventSendingPlan( delegate ) );
 		}
 		else {
-			return mappingContext.createIndexingPlan( context,
+			PojoIndexingPlan plan = mappingContext.createIndexingPlan( context,
 					synchronizationStrategy.getDocumentCommitStrategy(),
 					synchronizationStrategy.getDocumentRefreshStrategy() );
+			if ( earlyExecutionThreshold != null ) {
+				// Only relevant when indexing directly:
+				// sending events to a queue does not involve holding documents in memory.
+				plan = new EarlyExecutingIndexingPlan( plan, earlyExecutionThreshold,
+						mappingContext.entityReferenceFactory(), mappingContext.failureHandler() );
+			}
+			return plan;
 		}
 	}
 
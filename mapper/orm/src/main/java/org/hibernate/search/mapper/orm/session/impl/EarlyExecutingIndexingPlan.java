@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An indexing plan that executes works early, upon processing (i.e. on flush),
+ * as soon as a given number of entity changes were recorded.
+ * <p>
+ * This avoids keeping all entity changes of very large transactions in memory until the commit.
+ * The reports of works executed early are merged into the report of the final execution,
+ * so that the synchronization strategy applied on commit also covers works executed early.
+ */
+final class EarlyExecutingIndexingPlan implements PojoIndexingPlan {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoIndexingPlan delegate;
+	private final int threshold;
+	private final EntityReferenceFactory<EntityReference> entityReferenceFactory;
+	private final FailureHandler failureHandler;
+
+	private int changesSinceLastExecution = 0;
+	private final List<CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>>> earlyExecutionFutures =
+			new ArrayList<>();
+
+	EarlyExecutingIndexingPlan(PojoIndexingPlan delegate, int threshold,
+			EntityReferenceFactory<EntityReference> entityReferenceFactory, FailureHandler failureHandler) {
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.entityReferenceFactory = entityReferenceFactory;
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId,
+			DocumentRoutesDescriptor providedRoutes, Object entity) {
+		delegate.add( typeIdentifier, providedId, providedRoutes, entity );
+		++changesSinceLastExecution;
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId,
+			DocumentRoutesDescriptor providedRoutes, Object entity,
+			boolean forceSelfDirty, boolean forceContainingDirty, BitSet dirtyPaths) {
+		delegate.addOrUpdate( typeIdentifier, providedId, providedRoutes, entity,
+				forceSelfDirty, forceContainingDirty, dirtyPaths );
+		++changesSinceLastExecution;
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId,
+			DocumentRoutesDescriptor providedRoutes, Object entity) {
+		delegate.delete( typeIdentifier, providedId, providedRoutes, entity );
+		++changesSinceLastExecution;
+	}
+
+	@Override
+	public void addOrUpdateOrDelete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId,
+			DocumentRoutesDescriptor providedRoutes, boolean forceSelfDirty, boolean forceContainingDirty,
+			BitSet dirtyPaths) {
+		delegate.addOrUpdateOrDelete( typeIdentifier, providedId, providedRoutes,
+				forceSelfDirty, forceContainingDirty, dirtyPaths );
+		++changesSinceLastExecution;
+	}
+
+	@Override
+	public void process() {
+		if ( changesSinceLastExecution < threshold ) {
+			delegate.process();
+			return;
+		}
+		log.tracef( "Executing indexing plan early: %d entity changes were recorded since the last execution.",
+				changesSinceLastExecution );
+		// This processes the plan, then hands over the resulting works to the backend without waiting.
+		// Dirty paths are resolved during processing, so entities changed again later will simply be reindexed again.
+		earlyExecutionFutures.add( delegate.executeAndReport( entityReferenceFactory ) );
+		changesSinceLastExecution = 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check that the entity reference factory is the expected one, see below
+	public <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> executeAndReport(
+			EntityReferenceFactory<R> entityReferenceFactory) {
+		changesSinceLastExecution = 0;
+		if ( earlyExecutionFutures.isEmpty() ) {
+			return delegate.executeAndReport( entityReferenceFactory );
+		}
+		if ( entityReferenceFactory != this.entityReferenceFactory ) {
+			throw new AssertionFailure( "Unexpected entity reference factory: " + entityReferenceFactory
+					+ "; expected " + this.entityReferenceFactory );
+		}
+		List<CompletableFuture<MultiEntityOperationExecutionReport<R>>> futures = new ArrayList<>();
+		for ( CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> future : earlyExecutionFutures ) {
+			futures.add( (CompletableFuture<MultiEntityOperationExecutionReport<R>>) (CompletableFuture<?>) future );
+		}
+		earlyExecutionFutures.clear();
+		futures.add( delegate.executeAndReport( entityReferenceFactory ) );
+		return MultiEntityOperationExecutionReport.allOf( futures );
+	}
+
+	@Override
+	public void discard() {
+		changesSinceLastExecution = 0;
+		// Works executed early cannot be reverted: we can only stop tracking them.
+		// Nobody will look at their reports anymore, so we must report their failures ourselves.
+		for ( CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> future : earlyExecutionFutures ) {
+			future.whenComplete( Futures.handler( this::reportFailure ) );
+		}
+		earlyExecutionFutures.clear();
+		delegate.discard();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		delegate.discardNotProcessed();
+	}
+
+	private void reportFailure(MultiEntityOperationExecutionReport<EntityReference> report, Throwable throwable) {
+		EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+		if ( throwable != null ) {
+			contextBuilder.throwable( throwable );
+		}
+		else if ( report != null && report.throwable().isPresent() ) {
+			contextBuilder.throwable( report.throwable().get() );
+			for ( EntityReference entityReference : report.failingEntityReferences() ) {
+				contextBuilder.entityReference( entityReference );
+			}
+		}
+		else {
+			return;
+		}
+		contextBuilder.failingOperation( log.automaticIndexing() );
+		failureHandler.handle( contextBuilder.build() );
+	}
+
+}
@@ -221,7 +221,13 @@ public EntityReference fromDocumentReference(DocumentReference reference) {
 
 	@Override
 	public PojoSelectionLoadingContext defaultLoadingContext() {
-		return loadingContextBuilder().build();
+		// The default loading context is used to load entities for indexing,
+		// and to load containing entities in batches during reindexing resolution.
+		// In both cases the loaded entities are about to be indexed,
+		// so fetching the associations traversed during indexing is relevant.
+		return loadingContextBuilder()
+				.indexingFetchPlanEnabled( mappingContext.indexingFetchPlanEnabled() )
+				.build();
 	}
 
 	@Override
@@ -229,6 +235,11 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return runtimeIntrospector;
 	}
 
+	@Override
+	public boolean reindexingResolutionBatchLoading() {
+		return automaticIndexingStrategy.reindexingResolutionBatchLoading();
+	}
+
 	@Override
 	public PojoIndexingPlan currentIndexingPlan(boolean createIfDoesNotExist) {
 		HibernateOrmSearchSessionHolder holder =
@@ -18,6 +18,7 @@
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.extractor.mapping.programmatic.ContainerExtractorPath;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.binding.impl.PojoModelPathBinder;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
@@ -108,6 +109,21 @@ final ReindexOnUpdate reindexOnUpdate() {
 	@Override
 	abstract void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType);
 
+	@Override
+	final PojoModelPathValueNode unboundModelPathFromRootNode() {
+		PojoIndexingDependencyCollectorTypeNode<?> holderNode = parentNode.parentNode();
+		String propertyName = parentNode.modelPathFromParentNode().getPropertyModel().name();
+		ContainerExtractorPath extractorPath = modelPathFromLastEntityNode.getExtractorPath();
+		if ( holderNode.isRoot() ) {
+			return PojoModelPath.ofValue( propertyName, extractorPath );
+		}
+		PojoModelPathValueNode holderPath = holderNode.unboundModelPathFromRootNode();
+		if ( holderPath == null ) {
+			return null;
+		}
+		return holderPath.property( propertyName ).value( extractorPath );
+	}
+
 	@Override
 	void markForReindexing(AbstractPojoImplicitReindexingResolverTypeNodeBuilder<?, ?> inverseSideEntityTypeNodeBuilder,
 			BoundPojoModelPathValueNode<?, ?, ?> dependencyPathFromInverseSideEntityTypeNode) {
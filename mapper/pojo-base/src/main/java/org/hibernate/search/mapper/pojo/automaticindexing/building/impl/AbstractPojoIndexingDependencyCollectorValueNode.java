@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 
 abstract class AbstractPojoIndexingDependencyCollectorValueNode extends PojoIndexingDependencyCollectorNode {
@@ -20,6 +21,12 @@ abstract class AbstractPojoIndexingDependencyCollectorValueNode extends PojoInde
 
 	abstract void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType);
 
+	/**
+	 * @return The path to this value from the root of the dependency collector,
+	 * or {@code null} if this path cannot be represented, e.g. because it involves a disjoint value.
+	 */
+	abstract PojoModelPathValueNode unboundModelPathFromRootNode();
+
 	/**
 	 * Make sure that whenever the value represented by {@code dependencyPathFromInverseSideEntityTypeNode} changes
 	 * in the entity at the root of {@code inverseSideEntityTypeNodeBuilder},
@@ -69,6 +69,12 @@ PojoIndexingDependencyCollectorTypeNode<?> lastEntityNode() {
 		return parentNode.lastEntityNode();
 	}
 
+	@Override
+	PojoModelPathValueNode unboundModelPathFromRootNode() {
+		// The path from the parent node is unknown.
+		return null;
+	}
+
 	@Override
 	ReindexOnUpdate reindexOnUpdate() {
 		return parentNode.reindexOnUpdate();
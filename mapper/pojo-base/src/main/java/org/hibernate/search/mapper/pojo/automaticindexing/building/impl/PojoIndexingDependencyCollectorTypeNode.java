@@ -9,11 +9,13 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathCastedTypeNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathPropertyNode;
@@ -49,6 +51,12 @@
 
 	private final ReindexOnUpdate reindexOnUpdate;
 
+	/**
+	 * The paths to entities reached from this node through associations, i.e. the "contained" entities.
+	 * Only collected on the root node.
+	 */
+	private final Set<PojoModelPathValueNode> containedEntityPaths;
+
 	PojoIndexingDependencyCollectorTypeNode(PojoRawTypeModel<T> typeModel,
 			PojoImplicitReindexingResolverBuildingHelper buildingHelper) {
 		this( null, BoundPojoModelPath.root( typeModel ), buildingHelper );
@@ -71,6 +79,19 @@
 		}
 		this.reindexOnUpdate = parentNode != null ? parentNode.composeReindexOnUpdate( lastEntityNode, null )
 				: buildingHelper.getDefaultReindexOnUpdate();
+		if ( parentNode == null ) {
+			this.containedEntityPaths = new LinkedHashSet<>();
+		}
+		else {
+			this.containedEntityPaths = null;
+			if ( lastEntityNode == this ) {
+				// Indexing will reach this entity through an association: remember how.
+				PojoModelPathValueNode pathFromRootNode = parentNode.unboundModelPathFromRootNode();
+				if ( pathFromRootNode != null ) {
+					rootNode().containedEntityPaths.add( pathFromRootNode );
+				}
+			}
+		}
 	}
 
 	/*
@@ -109,6 +130,18 @@ public PojoIndexingDependencyCollectorDisjointValueNode<?> disjointValue(
 		);
 	}
 
+	/**
+	 * @return The paths to entities reached through associations when indexing the entity at the root of this collector,
+	 * e.g. through {@code @IndexedEmbedded} or through bridges declaring dependencies to other entities.
+	 * Only available on the root node, after the indexing processor was built.
+	 */
+	public Set<PojoModelPathValueNode> containedEntityPaths() {
+		if ( parentNode != null ) {
+			throw new AssertionFailure( "containedEntityPaths() called on a non-root node" );
+		}
+		return Collections.unmodifiableSet( containedEntityPaths );
+	}
+
 	@Override
 	PojoIndexingDependencyCollectorTypeNode<?> lastEntityNode() {
 		return lastEntityNode;
@@ -232,6 +265,27 @@ PojoTypeModel<T> typeModel() {
 		return modelPathFromLastEntityNode.getTypeModel();
 	}
 
+	boolean isRoot() {
+		return parentNode == null;
+	}
+
+	/**
+	 * @return The path from the root node to the value holding this type,
+	 * or {@code null} if this is the root node or if the path cannot be represented,
+	 * e.g. because it involves a disjoint value.
+	 */
+	PojoModelPathValueNode unboundModelPathFromRootNode() {
+		return parentNode == null ? null : parentNode.unboundModelPathFromRootNode();
+	}
+
+	private PojoIndexingDependencyCollectorTypeNode<?> rootNode() {
+		PojoIndexingDependencyCollectorTypeNode<?> node = lastEntityNode;
+		while ( node.parentNode != null ) {
+			node = node.parentNode.lastEntityNode();
+		}
+		return node;
+	}
+
 	List<PojoIndexingDependencyCollectorTypeNode<? extends T>> polymorphic() {
 		if (
 			// No need for polymorphism on the root type:
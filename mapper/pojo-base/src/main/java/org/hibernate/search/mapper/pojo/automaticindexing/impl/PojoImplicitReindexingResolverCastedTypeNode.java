@@ -50,6 +50,9 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			T dirty, PojoImplicitReindexingResolverRootContext context) {
+		if ( collector.deferUntilLoaded( this, dirty, context ) ) {
+			return;
+		}
 		// The caster can only cast to the raw type, beyond that we have to use an unchecked cast.
 		@SuppressWarnings("unchecked")
 		U castedDirty = (U) caster.castOrNull( context.sessionContext().runtimeIntrospector().unproxy( dirty ) );
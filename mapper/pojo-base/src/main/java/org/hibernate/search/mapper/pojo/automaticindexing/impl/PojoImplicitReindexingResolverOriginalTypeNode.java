@@ -43,6 +43,9 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			T dirty, PojoImplicitReindexingResolverRootContext context) {
+		if ( collector.deferUntilLoaded( this, dirty, context ) ) {
+			return;
+		}
 		dirty = (T) context.sessionContext().runtimeIntrospector().unproxy( dirty );
 		nested.resolveEntitiesToReindex( collector, dirty, context );
 	}
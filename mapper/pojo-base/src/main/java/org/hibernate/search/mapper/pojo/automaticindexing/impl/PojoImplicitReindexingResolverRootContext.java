@@ -40,4 +40,17 @@ public interface PojoImplicitReindexingResolverRootContext extends ContainerExtr
 	 */
 	void propagateOrIgnorePropertyAccessException(RuntimeException exception);
 
+	/**
+	 * Resumes the resolution of entities to reindex from a value whose resolution was
+	 * {@link PojoReindexingCollector#deferUntilLoaded(PojoImplicitReindexingResolverNode, Object, PojoImplicitReindexingResolverRootContext) deferred},
+	 * after that value was loaded.
+	 *
+	 * @param <T> The type of {@code dirty}.
+	 * @param collector A collector for entities that should be reindexed.
+	 * @param node The node that deferred resolution.
+	 * @param dirty The value passed to {@code node} when resolution was deferred.
+	 */
+	<T> void resolveEntitiesToReindexAfterLoading(PojoReindexingCollector collector,
+			PojoImplicitReindexingResolverNode<T> node, T dirty);
+
 }
@@ -15,4 +15,19 @@ public interface PojoReindexingCollector {
 
 	void markForReindexing(Object dirtyEntity);
 
+	/**
+	 * Defers the resolution of entities to reindex from a given value until that value is loaded,
+	 * so that it can be loaded in a single batch with other values encountered at the same depth of the resolution.
+	 *
+	 * @param <T> The type of {@code dirty}.
+	 * @param node The node to apply to {@code dirty} once it is loaded.
+	 * @param dirty A value that is dirty to some extent, and may not be loaded yet (e.g. an uninitialized proxy).
+	 * @param context The context to pass to {@code node}.
+	 * @return {@code true} if resolution was deferred, in which case the caller must not process {@code dirty} any further;
+	 * {@code false} if the caller must process {@code dirty} immediately,
+	 * e.g. because it is already loaded or because batch loading is disabled.
+	 */
+	<T> boolean deferUntilLoaded(PojoImplicitReindexingResolverNode<T> node, T dirty,
+			PojoImplicitReindexingResolverRootContext context);
+
 }
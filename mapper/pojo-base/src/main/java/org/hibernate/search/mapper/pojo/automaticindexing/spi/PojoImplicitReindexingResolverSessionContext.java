@@ -16,4 +16,14 @@ public interface PojoImplicitReindexingResolverSessionContext {
 
 	PojoRuntimeIntrospector runtimeIntrospector();
 
+	/**
+	 * @return {@code true} if entities reached through associations during reindexing resolution
+	 * should be loaded in batches, one level of associations at a time;
+	 * {@code false} if they should be loaded lazily, one by one, as they are reached.
+	 * Defaults to {@code false}.
+	 */
+	default boolean reindexingResolutionBatchLoading() {
+		return false;
+	}
+
 }
@@ -18,6 +18,16 @@ public interface PojoSelectionLoadingContext {
 	 */
 	void checkOpen();
 
+	/**
+	 * Called before loading entities for a chunk of hits, when entities were already loaded for previous chunks,
+	 * e.g. when {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scrolling}.
+	 * <p>
+	 * Implementations may release entities loaded for previous chunks, if requested by the user.
+	 * Does nothing by default.
+	 */
+	default void beforeLoadingNextChunk() {
+	}
+
 	PojoRuntimeIntrospector runtimeIntrospector();
 
 	/**
@@ -13,6 +13,7 @@
 import java.net.URISyntaxException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeOptionsStep;
@@ -21,6 +22,7 @@
 import org.hibernate.search.mapper.pojo.logging.spi.PojoTypeModelFormatter;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoContainedTypeManager;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexedTypeManager;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.spi.PojoGenericTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
@@ -636,6 +638,23 @@ SearchException massIndexingFirstFailureOnEntity(long finalFailureCount,
 			+ " identifier mapping (@DocumentId, ...) is not configured for this type.")
 	SearchException cannotWorkWithIdentifierBecauseUnconfiguredIdentifierMapping(PojoRawTypeIdentifier<?> typeIdentifier);
 
+	@Message(id = ID_OFFSET + 106, value = "Unable to load mass indexing checkpoints from %1$s: %2$s")
+	SearchException unableToLoadMassIndexingCheckpoints(String store, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 107, value = "Unable to save mass indexing checkpoints to %1$s: %2$s")
+	SearchException unableToSaveMassIndexingCheckpoints(String store, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 108, value = "Resuming mass indexing from checkpoints: %1$s."
+			+ " Schema drop/creation and purge on start are skipped.")
+	void resumingMassIndexingFromCheckpoints(Map<String, MassIndexingCheckpoint> checkpoints);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 109, value = "Mass indexing loading concurrency changed from %1$d to %2$d (maximum: %3$d):"
+			+ " average batch loading latency is %4$dms, %5$.2f entities are loaded per second.")
+	void massIndexingLoadingConcurrencyChanged(int previousConcurrency, int concurrency, int maxConcurrency,
+			long averageLatencyInMilliseconds, double entityLoadingRate);
+
 	@Message(id = ID_OFFSET + 42, value = "%1$s failure(s) occurred during mass indexing. See the logs for details."
 			+ " First failure: %2$s")
 	SearchException massIndexingFirstFailure(long finalFailureCount, String firstFailureMessage,
@@ -119,6 +119,8 @@ void preBuild(PojoImplicitReindexingResolverBuildingHelper reindexingResolverBui
 
 		preBuiltIndexingProcessor = processorBuilder.build( dependencyCollector )
 				.orElseGet( PojoIndexingProcessor::noOp );
+
+		extendedMappingCollector.containedEntityPaths( dependencyCollector.containedEntityPaths() );
 	}
 
 	void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
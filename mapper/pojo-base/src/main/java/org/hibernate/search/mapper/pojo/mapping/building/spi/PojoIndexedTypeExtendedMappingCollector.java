@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import java.util.Set;
+
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 
 /**
  * A collector of extended mapping information.
@@ -18,4 +21,11 @@ public interface PojoIndexedTypeExtendedMappingCollector extends PojoTypeExtende
 
 	void indexManager(MappedIndexManager indexManager);
 
+	/**
+	 * @param containedEntityPaths The paths to other entities that are reached through associations
+	 * when indexing this type, e.g. through {@code @IndexedEmbedded}.
+	 * Useful to eagerly fetch associations when loading entities for indexing.
+	 */
+	void containedEntityPaths(Set<PojoModelPathValueNode> containedEntityPaths);
+
 }
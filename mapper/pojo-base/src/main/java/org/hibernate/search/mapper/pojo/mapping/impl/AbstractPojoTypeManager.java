@@ -11,6 +11,7 @@
 
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverRootContext;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.identity.impl.IdentifierMappingImplementor;
@@ -143,11 +144,33 @@ public final void resolveEntitiesToReindex(PojoReindexingCollector collector, Po
 			reindexingResolver.resolveEntitiesToReindex( collector, entitySupplier.get(), context );
 		}
 		catch (RuntimeException e) {
-			EntityReferenceFactory<?> entityReferenceFactory = sessionContext.mappingContext().entityReferenceFactory();
-			Object entityReference = EntityReferenceFactory.safeCreateEntityReference(
-					entityReferenceFactory, entityName, identifier, e::addSuppressed );
-			throw log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
+			throw errorResolvingEntitiesToReindex( sessionContext, identifier, e );
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
+	public final <T> void resolveEntitiesToReindexAfterLoading(PojoReindexingCollector collector,
+			PojoWorkSessionContext sessionContext, Object identifier,
+			PojoImplicitReindexingResolverNode<T> node, T dirty,
+			PojoImplicitReindexingResolverRootContext context) {
+		try {
+			// The value was loaded, so unproxying it will not trigger loading,
+			// and passing the unproxied value ensures the node will not defer resolution again.
+			T loaded = (T) sessionContext.runtimeIntrospector().unproxy( dirty );
+			node.resolveEntitiesToReindex( collector, loaded, context );
+		}
+		catch (RuntimeException e) {
+			throw errorResolvingEntitiesToReindex( sessionContext, identifier, e );
+		}
+	}
+
+	private RuntimeException errorResolvingEntitiesToReindex(PojoWorkSessionContext sessionContext,
+			Object identifier, RuntimeException e) {
+		EntityReferenceFactory<?> entityReferenceFactory = sessionContext.mappingContext().entityReferenceFactory();
+		Object entityReference = EntityReferenceFactory.safeCreateEntityReference(
+				entityReferenceFactory, entityName, identifier, e::addSuppressed );
+		return log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
+	}
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The progress of mass indexing for a group of types,
+ * persisted in a {@link MassIndexingCheckpointStore} so that an interrupted mass indexing can be resumed.
+ * <p>
+ * Identifiers are loaded in ascending order when checkpointing is enabled,
+ * so a checkpoint only needs to record the last identifier
+ * such that all entities with a lower or equal identifier have been indexed.
+ */
+@Incubating
+public final class MassIndexingCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final MassIndexingCheckpoint COMPLETED = new MassIndexingCheckpoint( null, true );
+
+	/**
+	 * @param lastIndexedIdentifier The last identifier such that all entities
+	 * with a lower or equal identifier have been indexed. Must be {@link Serializable}.
+	 * @return A checkpoint for a group of types whose indexing is in progress.
+	 */
+	public static MassIndexingCheckpoint inProgress(Object lastIndexedIdentifier) {
+		return new MassIndexingCheckpoint( lastIndexedIdentifier, false );
+	}
+
+	/**
+	 * @return A checkpoint for a group of types whose indexing is complete.
+	 */
+	public static MassIndexingCheckpoint completed() {
+		return COMPLETED;
+	}
+
+	private final Object lastIndexedIdentifier;
+	private final boolean completed;
+
+	private MassIndexingCheckpoint(Object lastIndexedIdentifier, boolean completed) {
+		this.lastIndexedIdentifier = lastIndexedIdentifier;
+		this.completed = completed;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "lastIndexedIdentifier=" + lastIndexedIdentifier
+				+ ", completed=" + completed
+				+ "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		MassIndexingCheckpoint that = (MassIndexingCheckpoint) o;
+		return completed == that.completed
+				&& Objects.equals( lastIndexedIdentifier, that.lastIndexedIdentifier );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( lastIndexedIdentifier, completed );
+	}
+
+	/**
+	 * @return The last identifier such that all entities with a lower or equal identifier have been indexed,
+	 * or {@code null} if no entity has been indexed yet or if indexing is {@link #isCompleted() complete}.
+	 */
+	public Object lastIndexedIdentifier() {
+		return lastIndexedIdentifier;
+	}
+
+	/**
+	 * @return {@code true} if all entities of the group of types have been indexed, {@code false} otherwise.
+	 */
+	public boolean isCompleted() {
+		return completed;
+	}
+
+}
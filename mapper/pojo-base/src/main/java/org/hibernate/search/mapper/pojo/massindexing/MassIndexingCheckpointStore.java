@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import java.nio.file.Path;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.hibernate.search.mapper.pojo.massindexing.impl.FileSystemMassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.massindexing.impl.JdbcMassIndexingCheckpointStore;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A store for {@link MassIndexingCheckpoint mass indexing checkpoints},
+ * allowing a mass indexing that failed or was interrupted to resume from where it stopped.
+ * <p>
+ * Checkpoints are keyed by the name of a group of types being indexed together,
+ * followed by {@code @} and the tenant identifier with multi-tenancy.
+ * A given store should only be used by one mass indexer configuration (targeted types, ...) per tenant at a time.
+ * <p>
+ * Implementations must be threadsafe.
+ */
+@Incubating
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @return The checkpoints persisted by previous, unfinished mass indexings, by key.
+	 * Empty if there is no such mass indexing.
+	 */
+	Map<String, MassIndexingCheckpoint> load();
+
+	/**
+	 * Persists a checkpoint, replacing any previous checkpoint with the same key.
+	 *
+	 * @param key The key of the checkpoint, identifying a group of types being indexed together, and the tenant.
+	 * @param checkpoint The checkpoint.
+	 */
+	void save(String key, MassIndexingCheckpoint checkpoint);
+
+	/**
+	 * Removes a checkpoint, typically after mass indexing completed successfully.
+	 *
+	 * @param key The key of the checkpoint.
+	 */
+	void remove(String key);
+
+	/**
+	 * @param file The file to persist checkpoints to. Parent directories are created as necessary.
+	 * @return A store persisting checkpoints to a file on the local filesystem.
+	 */
+	static MassIndexingCheckpointStore fileSystem(Path file) {
+		return new FileSystemMassIndexingCheckpointStore( file );
+	}
+
+	/**
+	 * Creates a store persisting checkpoints to a database table.
+	 * <p>
+	 * The table must exist and have two columns:
+	 * {@code type_group}, a string primary key of at least 255 characters holding the checkpoint key,
+	 * and {@code checkpoint}, a binary column ({@code BLOB}, {@code VARBINARY}, {@code bytea}, ...).
+	 *
+	 * @param dataSource The data source to get connections from.
+	 * @param tableName The name of the table to persist checkpoints to.
+	 * @return A store persisting checkpoints to a database table.
+	 */
+	static MassIndexingCheckpointStore jdbc(DataSource dataSource, String tableName) {
+		return new JdbcMassIndexingCheckpointStore( dataSource, tableName );
+	}
+
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * A component that monitors progress of mass indexing.
  * <p>
@@ -91,6 +93,21 @@ public interface MassIndexingMonitor {
 	 */
 	void addToTotalCount(long increment);
 
+	/**
+	 * Notify the monitor of the current state of the controller that throttles entity loading.
+	 * <p>
+	 * This method is only invoked when a {@code loadingRateLimit} or {@code loadingLatencyLimit}
+	 * was set on the mass indexer, periodically, at most once per second.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param state The state of the throttling controller.
+	 */
+	@Incubating
+	default void loadingThrottled(MassIndexingThrottlingState state) {
+		// No-op by default
+	}
+
 	/**
 	 * Notify the monitor that indexing is complete.
 	 */
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import java.time.Duration;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A snapshot of the state of the controller that throttles entity loading during mass indexing.
+ *
+ * @see MassIndexingMonitor#loadingThrottled(MassIndexingThrottlingState)
+ */
+@Incubating
+public interface MassIndexingThrottlingState {
+
+	/**
+	 * @return The maximum number of entity batches that may currently be loaded concurrently.
+	 * Always between {@code 1} and {@link #maxLoadingConcurrency()}.
+	 */
+	int loadingConcurrency();
+
+	/**
+	 * @return The maximum number of entity batches that may ever be loaded concurrently,
+	 * i.e. the total number of loading threads.
+	 */
+	int maxLoadingConcurrency();
+
+	/**
+	 * @return The average time it took to load a batch of entities since the previous state,
+	 * not including the time spent indexing these entities.
+	 */
+	Duration averageLoadingLatency();
+
+	/**
+	 * @return The number of entities loaded per second since the previous state.
+	 */
+	double entityLoadingRate();
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Persists all checkpoints to a single file, replaced atomically on each save.
+ */
+public final class FileSystemMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Path file;
+
+	private LinkedHashMap<String, MassIndexingCheckpoint> checkpoints;
+
+	public FileSystemMassIndexingCheckpointStore(Path file) {
+		this.file = file.toAbsolutePath();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[file=" + file + "]";
+	}
+
+	@Override
+	public synchronized Map<String, MassIndexingCheckpoint> load() {
+		return Collections.unmodifiableMap( new LinkedHashMap<>( checkpoints() ) );
+	}
+
+	@Override
+	public synchronized void save(String key, MassIndexingCheckpoint checkpoint) {
+		LinkedHashMap<String, MassIndexingCheckpoint> newCheckpoints = new LinkedHashMap<>( checkpoints() );
+		newCheckpoints.put( key, checkpoint );
+		write( newCheckpoints );
+	}
+
+	@Override
+	public synchronized void remove(String key) {
+		if ( !checkpoints().containsKey( key ) ) {
+			return;
+		}
+		LinkedHashMap<String, MassIndexingCheckpoint> newCheckpoints = new LinkedHashMap<>( checkpoints() );
+		newCheckpoints.remove( key );
+		if ( newCheckpoints.isEmpty() ) {
+			try {
+				Files.deleteIfExists( file );
+			}
+			catch (IOException e) {
+				throw log.unableToSaveMassIndexingCheckpoints( toString(), e.getMessage(), e );
+			}
+			checkpoints = newCheckpoints;
+		}
+		else {
+			write( newCheckpoints );
+		}
+	}
+
+	private void write(LinkedHashMap<String, MassIndexingCheckpoint> newCheckpoints) {
+		try {
+			Path parent = file.getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+			Path tempFile = file.resolveSibling( file.getFileName() + ".tmp" );
+			Files.write( tempFile, MassIndexingCheckpointSerializer.toBytes( newCheckpoints ) );
+			Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( toString(), e.getMessage(), e );
+		}
+		checkpoints = newCheckpoints;
+	}
+
+	@SuppressWarnings("unchecked")
+	private LinkedHashMap<String, MassIndexingCheckpoint> checkpoints() {
+		if ( checkpoints == null ) {
+			if ( !Files.exists( file ) ) {
+				checkpoints = new LinkedHashMap<>();
+			}
+			else {
+				try {
+					checkpoints = (LinkedHashMap<String, MassIndexingCheckpoint>)
+							MassIndexingCheckpointSerializer.fromBytes( Files.readAllBytes( file ) );
+				}
+				catch (IOException | ClassNotFoundException | RuntimeException e) {
+					throw log.unableToLoadMassIndexingCheckpoints( toString(), e.getMessage(), e );
+				}
+			}
+		}
+		return checkpoints;
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Persists checkpoints to a database table, one row per type group.
+ */
+public final class JdbcMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final DataSource dataSource;
+	private final String tableName;
+
+	public JdbcMassIndexingCheckpointStore(DataSource dataSource, String tableName) {
+		this.dataSource = dataSource;
+		this.tableName = tableName;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[tableName=" + tableName + "]";
+	}
+
+	@Override
+	public Map<String, MassIndexingCheckpoint> load() {
+		Map<String, MassIndexingCheckpoint> result = new LinkedHashMap<>();
+		try ( Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement(
+						"select type_group, checkpoint from " + tableName + " order by type_group" );
+				ResultSet resultSet = statement.executeQuery() ) {
+			while ( resultSet.next() ) {
+				result.put( resultSet.getString( 1 ),
+						(MassIndexingCheckpoint) MassIndexingCheckpointSerializer.fromBytes( resultSet.getBytes( 2 ) ) );
+			}
+		}
+		catch (SQLException | IOException | ClassNotFoundException | RuntimeException e) {
+			throw log.unableToLoadMassIndexingCheckpoints( toString(), e.getMessage(), e );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	@Override
+	public void save(String key, MassIndexingCheckpoint checkpoint) {
+		try ( Connection connection = dataSource.getConnection() ) {
+			byte[] bytes = MassIndexingCheckpointSerializer.toBytes( checkpoint );
+			int updated;
+			try ( PreparedStatement update = connection.prepareStatement(
+					"update " + tableName + " set checkpoint = ? where type_group = ?" ) ) {
+				update.setBytes( 1, bytes );
+				update.setString( 2, key );
+				updated = update.executeUpdate();
+			}
+			if ( updated == 0 ) {
+				try ( PreparedStatement insert = connection.prepareStatement(
+						"insert into " + tableName + " (type_group, checkpoint) values (?, ?)" ) ) {
+					insert.setString( 1, key );
+					insert.setBytes( 2, bytes );
+					insert.executeUpdate();
+				}
+			}
+			commitIfNecessary( connection );
+		}
+		catch (SQLException | IOException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( toString(), e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public void remove(String key) {
+		try ( Connection connection = dataSource.getConnection() ) {
+			try ( PreparedStatement delete = connection.prepareStatement(
+					"delete from " + tableName + " where type_group = ?" ) ) {
+				delete.setString( 1, key );
+				delete.executeUpdate();
+			}
+			commitIfNecessary( connection );
+		}
+		catch (SQLException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( toString(), e.getMessage(), e );
+		}
+	}
+
+	private static void commitIfNecessary(Connection connection) throws SQLException {
+		if ( !connection.getAutoCommit() ) {
+			connection.commit();
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+
+/**
+ * Converts checkpoints, or maps of checkpoints, to bytes and back using Java serialization.
+ * <p>
+ * Checkpoints are read from external storage, so only a fixed set of classes is accepted when reading:
+ * checkpoints, maps of checkpoints, and identifiers of basic types.
+ * Identifier types are also checked when writing, so that unsupported identifiers are reported early.
+ */
+final class MassIndexingCheckpointSerializer {
+
+	private static final Set<String> ALLOWED_CLASS_NAMES = Collections.unmodifiableSet( new HashSet<>( Arrays.asList(
+			MassIndexingCheckpoint.class.getName(),
+			LinkedHashMap.class.getName(),
+			HashMap.class.getName(),
+			String.class.getName(),
+			Character.class.getName(),
+			Number.class.getName(),
+			Byte.class.getName(),
+			Short.class.getName(),
+			Integer.class.getName(),
+			Long.class.getName(),
+			BigInteger.class.getName(),
+			BigDecimal.class.getName(),
+			UUID.class.getName(),
+			// Used internally by the serialized form of BigInteger
+			byte[].class.getName(),
+			int[].class.getName()
+	) ) );
+
+	private MassIndexingCheckpointSerializer() {
+	}
+
+	static byte[] toBytes(MassIndexingCheckpoint checkpoint) throws IOException {
+		checkIdentifierType( checkpoint );
+		return doToBytes( checkpoint );
+	}
+
+	static byte[] toBytes(LinkedHashMap<String, MassIndexingCheckpoint> checkpoints) throws IOException {
+		for ( MassIndexingCheckpoint checkpoint : checkpoints.values() ) {
+			checkIdentifierType( checkpoint );
+		}
+		return doToBytes( checkpoints );
+	}
+
+	private static byte[] doToBytes(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( object );
+		}
+		return bytes.toByteArray();
+	}
+
+	static Object fromBytes(byte[] bytes) throws IOException, ClassNotFoundException {
+		try ( ObjectInputStream in = new FilteringObjectInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			return in.readObject();
+		}
+	}
+
+	private static void checkIdentifierType(MassIndexingCheckpoint checkpoint) throws InvalidClassException {
+		// Fail early, instead of persisting a checkpoint that could never be read
+		Object identifier = checkpoint.lastIndexedIdentifier();
+		if ( identifier != null ) {
+			checkAllowed( identifier.getClass().getName() );
+		}
+	}
+
+	private static void checkAllowed(String className) throws InvalidClassException {
+		if ( !ALLOWED_CLASS_NAMES.contains( className ) ) {
+			throw new InvalidClassException( className, "Unsupported type in mass indexing checkpoints;"
+					+ " identifiers must be numbers, strings, characters or UUIDs" );
+		}
+	}
+
+	private static final class FilteringObjectInputStream extends ObjectInputStream {
+		private FilteringObjectInputStream(InputStream in) throws IOException {
+			super( in );
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			// Check before loading the class, so that no unexpected class is ever instantiated
+			checkAllowed( desc.getName() );
+			return super.resolveClass( desc );
+		}
+	}
+
+}
@@ -10,6 +10,9 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
@@ -35,6 +38,7 @@ public class PojoDefaultMassIndexer implements PojoMassIndexer {
 	private final Set<? extends PojoMassIndexingIndexedTypeContext<?>> targetedIndexedTypes;
 	private final PojoScopeSchemaManager scopeSchemaManager;
 	private final PojoScopeWorkspace scopeWorkspace;
+	private final String tenantId;
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
@@ -43,6 +47,10 @@ public class PojoDefaultMassIndexer implements PojoMassIndexer {
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private MassIndexingCheckpointStore checkpointStore;
+	private int checkpointIntervalInSeconds = 60;
+	private double loadingRateLimit = 0;
+	private long loadingLatencyLimitInMilliseconds = 0;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -52,13 +60,15 @@ public PojoDefaultMassIndexer(PojoMassIndexingContext indexingContext,
 			PojoMassIndexingTypeContextProvider typeContextProvider,
 			Set<? extends PojoMassIndexingIndexedTypeContext<?>> targetedIndexedTypes,
 			PojoScopeSchemaManager scopeSchemaManager,
-			PojoScopeWorkspace scopeWorkspace) {
+			PojoScopeWorkspace scopeWorkspace,
+			String tenantId) {
 		this.indexingContext = indexingContext;
 		this.mappingContext = mappingContext;
 		this.typeContextProvider = typeContextProvider;
 		this.targetedIndexedTypes = targetedIndexedTypes;
 		this.scopeSchemaManager = scopeSchemaManager;
 		this.scopeWorkspace = scopeWorkspace;
+		this.tenantId = tenantId;
 	}
 
 	@Override
@@ -103,6 +113,39 @@ public PojoDefaultMassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer checkpointInterval(int intervalInSeconds) {
+		if ( intervalInSeconds < 1 ) {
+			throw new IllegalArgumentException( "intervalInSeconds must be at least 1" );
+		}
+		this.checkpointIntervalInSeconds = intervalInSeconds;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer loadingRateLimit(double entitiesPerSecond) {
+		if ( entitiesPerSecond <= 0 ) {
+			throw new IllegalArgumentException( "entitiesPerSecond must be strictly positive" );
+		}
+		this.loadingRateLimit = entitiesPerSecond;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer loadingLatencyLimit(long latencyInMilliseconds) {
+		if ( latencyInMilliseconds < 1 ) {
+			throw new IllegalArgumentException( "latencyInMilliseconds must be at least 1" );
+		}
+		this.loadingLatencyLimitInMilliseconds = latencyInMilliseconds;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer monitor(MassIndexingMonitor monitor) {
 		this.monitor = monitor;
@@ -157,7 +200,10 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				typeGroupsToIndex, scopeSchemaManager, scopeWorkspace,
 				typesToIndexInParallel, documentBuilderThreads,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart,
-				purgeAtStart, mergeSegmentsAfterPurge
+				purgeAtStart, mergeSegmentsAfterPurge,
+				checkpointStore == null ? null : new PojoMassIndexingCheckpointing( checkpointStore,
+						TimeUnit.SECONDS.toMillis( checkpointIntervalInSeconds ), tenantId ),
+				loadingRateLimit, loadingLatencyLimitInMilliseconds
 		);
 	}
 
@@ -9,12 +9,14 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.mapper.pojo.logging.impl.PojoEventContextMessages;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -43,13 +45,17 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final PojoMassIndexingCheckpointing checkpointing;
+	private final PojoMassIndexingThrottlingController throttlingController;
 
 	public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
 			List<PojoMassIndexingIndexedTypeGroup<?>> typeGroupsToIndex,
 			PojoScopeSchemaManager scopeSchemaManager, PojoScopeWorkspace scopeWorkspace,
 			int typesToIndexInParallel, int documentBuilderThreads, boolean mergeSegmentsOnFinish,
-			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge) {
+			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
+			PojoMassIndexingCheckpointing checkpointing,
+			double loadingRateLimit, long loadingLatencyLimitInMilliseconds) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroupsToIndex = typeGroupsToIndex;
@@ -62,6 +68,10 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.checkpointing = checkpointing;
+		// Loading threads of all type groups indexed in parallel share the same database, hence the same controller.
+		this.throttlingController = PojoMassIndexingThrottlingController.create( notifier,
+				typesToIndexInParallel * documentBuilderThreads, loadingRateLimit, loadingLatencyLimitInMilliseconds );
 	}
 
 	@Override
@@ -85,6 +95,13 @@ public void runWithFailureHandler() throws InterruptedException {
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		cancelPendingTasks();
+		if ( checkpointing != null ) {
+			// Take the snapshot before the flush, so that it only covers flushed documents
+			Map<String, MassIndexingCheckpoint> snapshot = checkpointing.snapshot();
+			afterBatchOnInterruption();
+			checkpointing.save( snapshot );
+			return;
+		}
 		// Indexing performed before the exception must still be committed,
 		// in order to leave the index in a consistent state
 		afterBatchOnInterruption();
@@ -133,14 +150,23 @@ private void doBatchWork() throws InterruptedException {
 						PojoMassIndexingBatchIndexingWorkspace.THREAD_NAME_PREFIX + "Workspace" );
 
 		for ( PojoMassIndexingIndexedTypeGroup<?> typeGroup : typeGroupsToIndex ) {
+			if ( checkpointing != null && checkpointing.isCompleted( typeGroup ) ) {
+				// Already fully indexed by a previous, unfinished mass indexing
+				continue;
+			}
 			indexingFutures.add( Futures.runAsync( createBatchIndexingWorkspace( typeGroup ), executor ) );
 		}
 		executor.shutdown();
 
 		// Wait for the executor to finish
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
-		);
+		CompletableFuture<?> allIndexingFuture =
+				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) );
+		if ( checkpointing != null ) {
+			checkpointing.awaitWithCheckpoints( allIndexingFuture, scopeWorkspace );
+		}
+		else {
+			Futures.unwrappedExceptionGet( allIndexingFuture );
+		}
 	}
 
 	private <E> PojoMassIndexingBatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(
@@ -148,7 +174,10 @@ private void doBatchWork() throws InterruptedException {
 		return new PojoMassIndexingBatchIndexingWorkspace<>(
 				mappingContext, getNotifier(), typeGroup,
 				typeGroup.loadingStrategy(),
-				documentBuilderThreads );
+				documentBuilderThreads,
+				checkpointing == null ? null : checkpointing.createTracker( typeGroup ),
+				checkpointing != null && checkpointing.isResuming(),
+				throttlingController );
 	}
 
 	/**
@@ -160,6 +189,9 @@ private void afterBatch() throws InterruptedException {
 		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
+		if ( checkpointing != null ) {
+			checkpointing.finish( !getNotifier().hasFailure() );
+		}
 	}
 
 	/**
@@ -174,6 +206,11 @@ private void afterBatchOnInterruption() throws InterruptedException {
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() throws InterruptedException {
+		if ( checkpointing != null && checkpointing.isResuming() ) {
+			// Dropping or purging indexes would lose the progress recorded in checkpoints
+			return;
+		}
+
 		if ( dropAndCreateSchemaOnStart ) {
 			RootFailureCollector failureCollector = new RootFailureCollector(
 					PojoEventContextMessages.INSTANCE.schemaManagement()
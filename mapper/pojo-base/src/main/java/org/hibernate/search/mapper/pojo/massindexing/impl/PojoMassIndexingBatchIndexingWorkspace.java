@@ -41,17 +41,25 @@
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 
 	private final int entityExtractingThreads;
+	private final PojoMassIndexingCheckpointTracker checkpointTracker;
+	private final boolean resuming;
+	private final PojoMassIndexingThrottlingController throttlingController;
 
 	PojoMassIndexingBatchIndexingWorkspace(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			int entityExtractingThreads) {
+			int entityExtractingThreads,
+			PojoMassIndexingCheckpointTracker checkpointTracker, boolean resuming,
+			PojoMassIndexingThrottlingController throttlingController) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.checkpointTracker = checkpointTracker;
+		this.resuming = resuming;
+		this.throttlingController = throttlingController;
 	}
 
 	@Override
@@ -70,6 +78,9 @@ public void runWithFailureHandler() throws InterruptedException {
 		allFutures.addAll( identifierProducingFutures );
 		allFutures.addAll( indexingFutures );
 		Futures.unwrappedExceptionGet( Futures.firstFailureOrAllOf( allFutures ) );
+		if ( checkpointTracker != null ) {
+			checkpointTracker.completed();
+		}
 		log.debugf( "Indexing for %s is done", typeGroup.notifiedGroupName() );
 	}
 
@@ -95,9 +106,9 @@ private void cancelPendingTasks() {
 
 	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue) {
 		final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>( getNotifier(), typeGroup,
-				loadingStrategy, identifierQueue );
+				loadingStrategy, identifierQueue, checkpointTracker );
 		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newBlockingFixedThreadPool(
 				1,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
 		);
@@ -111,7 +122,8 @@ private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identi
 
 	private void startIndexing(PojoProducerConsumerQueue<List<I>> identifierQueue) {
 		final Runnable runnable = new PojoMassIndexingEntityLoadingRunnable<>( getNotifier(), typeGroup,
-				loadingStrategy, identifierQueue );
+				loadingStrategy, identifierQueue, checkpointTracker, resuming, throttlingController );
+		// Not a "blocking" pool: these threads also build documents, which is CPU-bound.
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
 				entityExtractingThreads,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - Entity loading"
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+
+/**
+ * Tracks which batches of identifiers of a type group have been fully indexed,
+ * in order to compute the last identifier such that all lower identifiers have been indexed.
+ * <p>
+ * Batches are registered in identifier order by the identifier loading thread,
+ * but may be indexed out of order by the entity loading threads:
+ * the checkpoint only moves forward when the oldest pending batch has been indexed.
+ * <p>
+ * The checkpoint never moves past a batch whose indexing failed, even partially,
+ * so that resuming mass indexing will index that batch again.
+ */
+final class PojoMassIndexingCheckpointTracker {
+
+	private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+	private final Object resumeAfterIdentifier;
+	private Object lastIndexedIdentifier;
+	private boolean failed = false;
+	private boolean completed = false;
+
+	PojoMassIndexingCheckpointTracker(Object resumeAfterIdentifier) {
+		this.resumeAfterIdentifier = resumeAfterIdentifier;
+		this.lastIndexedIdentifier = resumeAfterIdentifier;
+	}
+
+	/**
+	 * @return The identifier after which identifier loading should resume, or {@code null} to load all identifiers.
+	 */
+	Object resumeAfterIdentifier() {
+		return resumeAfterIdentifier;
+	}
+
+	/**
+	 * @param batch A batch of identifiers, sorted in ascending order, about to be passed to entity loading threads.
+	 * Must be called in identifier order.
+	 */
+	synchronized void registered(List<?> batch) {
+		pendingBatches.addLast( new PendingBatch( batch ) );
+	}
+
+	/**
+	 * @param batch A batch of identifiers previously passed to {@link #registered(List)},
+	 * whose entities have all been indexed successfully.
+	 */
+	synchronized void indexed(List<?> batch) {
+		for ( PendingBatch pendingBatch : pendingBatches ) {
+			// Batches are compared by identity on purpose
+			if ( pendingBatch.batch == batch ) {
+				pendingBatch.indexed = true;
+				break;
+			}
+		}
+		while ( !pendingBatches.isEmpty() && pendingBatches.peekFirst().indexed ) {
+			List<?> indexedBatch = pendingBatches.removeFirst().batch;
+			lastIndexedIdentifier = indexedBatch.get( indexedBatch.size() - 1 );
+		}
+	}
+
+	/**
+	 * @param batch A batch of identifiers previously passed to {@link #registered(List)},
+	 * for which the indexing of at least one entity failed.
+	 * The batch is never marked as indexed, so the checkpoint will stop right before it.
+	 */
+	synchronized void failed(List<?> batch) {
+		failed = true;
+	}
+
+	synchronized void completed() {
+		completed = true;
+	}
+
+	synchronized MassIndexingCheckpoint checkpoint() {
+		if ( completed && !failed ) {
+			return MassIndexingCheckpoint.completed();
+		}
+		return MassIndexingCheckpoint.inProgress( lastIndexedIdentifier );
+	}
+
+	private static final class PendingBatch {
+		private final List<?> batch;
+		private boolean indexed = false;
+
+		private PendingBatch(List<?> batch) {
+			this.batch = batch;
+		}
+	}
+}
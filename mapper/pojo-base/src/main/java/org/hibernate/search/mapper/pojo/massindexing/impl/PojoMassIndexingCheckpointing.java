@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Periodically persists the progress of mass indexing to a {@link MassIndexingCheckpointStore}.
+ * <p>
+ * Checkpoints are only persisted after a flush of the indexes,
+ * so that a checkpoint never covers documents that could be lost in a crash.
+ * <p>
+ * Checkpoints are keyed by type group name and tenant identifier,
+ * so that checkpoints of other tenants in the same store are left alone.
+ */
+final class PojoMassIndexingCheckpointing {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final char TENANT_SEPARATOR = '@';
+
+	private final MassIndexingCheckpointStore store;
+	private final long intervalMillis;
+	private final String tenantId;
+	// All maps below are indexed by checkpoint key
+	private final Map<String, MassIndexingCheckpoint> previousCheckpoints = new LinkedHashMap<>();
+	private final Map<String, PojoMassIndexingCheckpointTracker> trackers = new LinkedHashMap<>();
+	private final Map<String, MassIndexingCheckpoint> savedCheckpoints = new LinkedHashMap<>();
+
+	PojoMassIndexingCheckpointing(MassIndexingCheckpointStore store, long intervalMillis, String tenantId) {
+		this.store = store;
+		this.intervalMillis = intervalMillis;
+		this.tenantId = tenantId;
+		for ( Map.Entry<String, MassIndexingCheckpoint> entry : store.load().entrySet() ) {
+			if ( isForCurrentTenant( entry.getKey() ) ) {
+				previousCheckpoints.put( entry.getKey(), entry.getValue() );
+			}
+		}
+		this.savedCheckpoints.putAll( previousCheckpoints );
+		if ( !previousCheckpoints.isEmpty() ) {
+			log.resumingMassIndexingFromCheckpoints( previousCheckpoints );
+		}
+	}
+
+	private String key(PojoMassIndexingIndexedTypeGroup<?> typeGroup) {
+		String typeGroupName = typeGroup.notifiedGroupName();
+		// Entity names cannot contain the separator
+		return tenantId == null ? typeGroupName : typeGroupName + TENANT_SEPARATOR + tenantId;
+	}
+
+	private boolean isForCurrentTenant(String key) {
+		int separatorIndex = key.indexOf( TENANT_SEPARATOR );
+		if ( separatorIndex < 0 ) {
+			return tenantId == null;
+		}
+		return key.substring( separatorIndex + 1 ).equals( tenantId );
+	}
+
+	boolean isResuming() {
+		return !previousCheckpoints.isEmpty();
+	}
+
+	boolean isCompleted(PojoMassIndexingIndexedTypeGroup<?> typeGroup) {
+		MassIndexingCheckpoint previous = previousCheckpoints.get( key( typeGroup ) );
+		return previous != null && previous.isCompleted();
+	}
+
+	PojoMassIndexingCheckpointTracker createTracker(PojoMassIndexingIndexedTypeGroup<?> typeGroup) {
+		String key = key( typeGroup );
+		MassIndexingCheckpoint previous = previousCheckpoints.get( key );
+		PojoMassIndexingCheckpointTracker tracker = new PojoMassIndexingCheckpointTracker(
+				previous == null ? null : previous.lastIndexedIdentifier() );
+		trackers.put( key, tracker );
+		return tracker;
+	}
+
+	/**
+	 * Waits for the given future to complete, persisting checkpoints periodically in the meantime.
+	 */
+	void awaitWithCheckpoints(CompletableFuture<?> future, PojoScopeWorkspace scopeWorkspace)
+			throws InterruptedException {
+		while ( true ) {
+			try {
+				future.get( intervalMillis, TimeUnit.MILLISECONDS );
+				return;
+			}
+			catch (TimeoutException e) {
+				checkpoint( scopeWorkspace );
+			}
+			catch (ExecutionException e) {
+				throw Throwables.toRuntimeException( e.getCause() );
+			}
+		}
+	}
+
+	/**
+	 * Flushes indexes, then persists the progress made up to the start of this method.
+	 */
+	void checkpoint(PojoScopeWorkspace scopeWorkspace) throws InterruptedException {
+		Map<String, MassIndexingCheckpoint> snapshot = snapshot();
+		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		save( snapshot );
+	}
+
+	/**
+	 * To be called once indexes have been flushed at the end of mass indexing.
+	 *
+	 * @param success Whether mass indexing completed without any failure.
+	 * If so, checkpoints of the current tenant are removed so that the next mass indexing starts from scratch.
+	 */
+	void finish(boolean success) {
+		if ( success ) {
+			for ( String key : savedCheckpoints.keySet() ) {
+				store.remove( key );
+			}
+			savedCheckpoints.clear();
+		}
+		else {
+			save( snapshot() );
+		}
+	}
+
+	Map<String, MassIndexingCheckpoint> snapshot() {
+		Map<String, MassIndexingCheckpoint> snapshot = new LinkedHashMap<>();
+		for ( Map.Entry<String, PojoMassIndexingCheckpointTracker> entry : trackers.entrySet() ) {
+			snapshot.put( entry.getKey(), entry.getValue().checkpoint() );
+		}
+		return snapshot;
+	}
+
+	void save(Map<String, MassIndexingCheckpoint> snapshot) {
+		for ( Map.Entry<String, MassIndexingCheckpoint> entry : snapshot.entrySet() ) {
+			String key = entry.getKey();
+			MassIndexingCheckpoint checkpoint = entry.getValue();
+			if ( !checkpoint.equals( savedCheckpoints.get( key ) ) ) {
+				store.save( key, checkpoint );
+				savedCheckpoints.put( key, checkpoint );
+			}
+		}
+	}
+
+}
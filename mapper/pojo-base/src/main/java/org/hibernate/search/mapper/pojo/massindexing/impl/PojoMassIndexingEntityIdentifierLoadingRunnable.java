@@ -27,15 +27,18 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final PojoMassIndexingCheckpointTracker checkpointTracker;
 
 	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+			PojoProducerConsumerQueue<List<I>> identifierQueue,
+			PojoMassIndexingCheckpointTracker checkpointTracker) {
 		super( notifier );
 		this.loadingStrategy = loadingStrategy;
 		this.typeGroup = typeGroup;
 		this.identifierQueue = identifierQueue;
+		this.checkpointTracker = checkpointTracker;
 	}
 
 	@Override
@@ -88,6 +91,10 @@ public PojoMassIdentifierSink<I> createSink() {
 				public void accept(List<? extends I> batch) throws InterruptedException {
 					log.tracef( "produced a list of ids %s", batch );
 					List<I> copy = new ArrayList<>( batch );
+					if ( checkpointTracker != null ) {
+						// Register before entity loading threads get a chance to index the batch
+						checkpointTracker.registered( copy );
+					}
 					identifierQueue.put( copy );
 				}
 
@@ -97,5 +104,15 @@ public void complete() {
 				}
 			};
 		}
+
+		@Override
+		public boolean orderedByIdentifier() {
+			return checkpointTracker != null;
+		}
+
+		@Override
+		public Object resumeAfterIdentifier() {
+			return checkpointTracker == null ? null : checkpointTracker.resumeAfterIdentifier();
+		}
 	}
 }
@@ -35,15 +35,23 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final PojoMassIndexingCheckpointTracker checkpointTracker;
+	private final boolean resuming;
+	private final PojoMassIndexingThrottlingController throttlingController;
 
 	protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+			PojoProducerConsumerQueue<List<I>> identifierQueue,
+			PojoMassIndexingCheckpointTracker checkpointTracker, boolean resuming,
+			PojoMassIndexingThrottlingController throttlingController) {
 		super( notifier );
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.identifierQueue = identifierQueue;
+		this.checkpointTracker = checkpointTracker;
+		this.resuming = resuming;
+		this.throttlingController = throttlingController;
 	}
 
 	@Override
@@ -57,7 +65,20 @@ protected void runWithFailureHandler() throws InterruptedException {
 				if ( idList != null ) {
 					log.tracef( "received list of ids %s", idList );
 					// This will pass the loaded entities to the sink, which will trigger indexing for those entities.
-					entityLoader.load( idList );
+					load( entityLoader, context, idList );
+					if ( checkpointTracker != null ) {
+						List<I> indexedIdList = idList;
+						context.ongoingIndexing().whenComplete( ( ignored, throwable ) -> {
+							// Entity failures are reported separately; here we only need to know about them
+							// so that the checkpoint doesn't move past entities that were not indexed.
+							if ( throwable == null ) {
+								checkpointTracker.indexed( indexedIdList );
+							}
+							else {
+								checkpointTracker.failed( indexedIdList );
+							}
+						} );
+					}
 				}
 			}
 			while ( idList != null );
@@ -66,6 +87,25 @@ protected void runWithFailureHandler() throws InterruptedException {
 		log.trace( "finished" );
 	}
 
+	private void load(PojoMassEntityLoader<I> entityLoader, LoadingContext context, List<I> idList)
+			throws InterruptedException {
+		if ( throttlingController == null ) {
+			entityLoader.load( idList );
+			return;
+		}
+		throttlingController.beforeLoading( idList.size() );
+		long sinkNanosBefore = context.sinkNanos;
+		long start = System.nanoTime();
+		try {
+			entityLoader.load( idList );
+		}
+		finally {
+			// Only account for the time spent loading, not for the time spent waiting for indexing in the sink.
+			long latencyNanos = System.nanoTime() - start - ( context.sinkNanos - sinkNanosBefore );
+			throttlingController.afterLoading( idList.size(), latencyNanos );
+		}
+	}
+
 	@Override
 	protected void cleanUpOnFailure() {
 		// Nothing to do
@@ -92,6 +132,8 @@ private final class LoadingContext implements PojoMassIndexingEntityLoadingConte
 
 		private final List<IndexingBatch> batches;
 		private int currentBatchIndex = 0;
+		// Time spent in the sink by the loading thread, used to compute the loading latency.
+		private long sinkNanos = 0;
 
 		public LoadingContext() {
 			batches = new ArrayList<>( CONCURRENT_BATCHES );
@@ -114,6 +156,16 @@ public void accept(List<? extends E> batch) throws InterruptedException {
 					if ( batch == null || batch.isEmpty() ) {
 						return;
 					}
+					long start = System.nanoTime();
+					try {
+						doAccept( batch );
+					}
+					finally {
+						sinkNanos += System.nanoTime() - start;
+					}
+				}
+
+				private void doAccept(List<? extends E> batch) throws InterruptedException {
 					IndexingBatch currentBatch = batches.get( currentBatchIndex );
 					// Make sure we don't erase state about an ongoing batch:
 					// wait for an ongoing batch to finish before we start a new one.
@@ -130,6 +182,20 @@ public void accept(List<? extends E> batch) throws InterruptedException {
 			};
 		}
 
+		/**
+		 * @return A future that completes when all entities passed to the sink so far have been indexed,
+		 * successfully or not.
+		 */
+		CompletableFuture<?> ongoingIndexing() {
+			List<CompletableFuture<?>> futures = new ArrayList<>();
+			for ( IndexingBatch batch : batches ) {
+				if ( batch.indexingFutures != null ) {
+					Collections.addAll( futures, batch.indexingFutures );
+				}
+			}
+			return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) );
+		}
+
 		public void waitForLastBatches() throws InterruptedException {
 			for ( IndexingBatch batch : batches ) {
 				batch.waitForIndexingEndAndReport();
@@ -205,9 +271,16 @@ private CompletableFuture<?> startIndexing(PojoMassIndexingSessionContext sessio
 			CompletableFuture<?> future;
 			try {
 				PojoRawTypeIdentifier<?> typeIdentifier = detectTypeIdentifier( sessionContext, entity );
-				future = indexer.add( typeIdentifier, null, null, entity,
-						// Commit and refresh are handled globally after all documents are indexed.
-						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				if ( resuming ) {
+					// Documents indexed after the last checkpoint may already exist, and the index was not purged.
+					future = indexer.addOrUpdate( typeIdentifier, null, null, entity,
+							DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				}
+				else {
+					future = indexer.add( typeIdentifier, null, null, entity,
+							// Commit and refresh are handled globally after all documents are indexed.
+							DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				}
 			}
 			catch (RuntimeException e) {
 				future = new CompletableFuture<>();
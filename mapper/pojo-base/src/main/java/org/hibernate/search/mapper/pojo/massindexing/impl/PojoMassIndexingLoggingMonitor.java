@@ -8,10 +8,12 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState;
 
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -26,6 +28,7 @@ public class PojoMassIndexingLoggingMonitor implements MassIndexingMonitor {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final AtomicLong documentsDoneCounter = new AtomicLong();
 	private final LongAdder totalCounter = new LongAdder();
+	private final AtomicInteger loadingConcurrency = new AtomicInteger( -1 );
 	private volatile long startTime;
 	private final int logAfterNumberOfDocuments;
 
@@ -83,6 +86,20 @@ public void addToTotalCount(long count) {
 		log.indexingEntities( count );
 	}
 
+	@Override
+	public void loadingThrottled(MassIndexingThrottlingState state) {
+		int previous = loadingConcurrency.getAndSet( state.loadingConcurrency() );
+		if ( previous == -1 ) {
+			previous = state.maxLoadingConcurrency();
+		}
+		// Only log changes, to avoid flooding the logs.
+		if ( previous != state.loadingConcurrency() ) {
+			log.massIndexingLoadingConcurrencyChanged( previous, state.loadingConcurrency(),
+					state.maxLoadingConcurrency(), state.averageLoadingLatency().toMillis(),
+					state.entityLoadingRate() );
+		}
+	}
+
 	@Override
 	public void indexingCompleted() {
 		log.indexingEntitiesCompleted( totalCounter.longValue() );
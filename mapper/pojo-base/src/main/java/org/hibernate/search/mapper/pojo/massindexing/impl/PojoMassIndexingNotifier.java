@@ -15,6 +15,7 @@
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureContext;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingSessionContext;
 
@@ -82,6 +83,10 @@ void reportDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
 	}
 
+	void reportLoadingThrottled(MassIndexingThrottlingState state) {
+		monitor.loadingThrottled( state );
+	}
+
 	void reportEntityIndexingFailure(PojoMassIndexingIndexedTypeGroup<?> typeGroup,
 			PojoMassIndexingSessionContext sessionContext, Object entity, Exception exception) {
 		// Don't record these failures as suppressed beyond the first one, because there may be hundreds of them.
@@ -101,6 +106,10 @@ void reportEntityIndexingFailure(PojoMassIndexingIndexedTypeGroup<?> typeGroup,
 		failureHandler.handle( contextBuilder.build() );
 	}
 
+	boolean hasFailure() {
+		return firstFailure.get() != null;
+	}
+
 	void reportIndexingCompleted() {
 		monitor.indexingCompleted();
 
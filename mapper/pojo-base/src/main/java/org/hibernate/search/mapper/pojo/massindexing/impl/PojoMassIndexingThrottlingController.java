@@ -0,0 +1,225 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState;
+
+/**
+ * Throttles entity loading during mass indexing, so as to limit the load on the source database.
+ * <p>
+ * Shared by all loading threads of a mass indexing, across all type groups.
+ * <ul>
+ *     <li>The rate limit, if any, is enforced by delaying the start of each batch load
+ *     so that the number of loaded entities never exceeds the limit on average.</li>
+ *     <li>The latency limit, if any, is enforced by adjusting the number of batches that may be loaded concurrently:
+ *     the concurrency is halved whenever the average loading latency exceeds the limit,
+ *     and grows back one step at a time while the latency stays comfortably below the limit.</li>
+ * </ul>
+ * When loading threads spend their time waiting for the rate limit,
+ * the concurrency is reduced as well, since additional concurrent loads
+ * would only hold database connections without loading anything more.
+ */
+final class PojoMassIndexingThrottlingController {
+
+	static final long DEFAULT_ADJUSTMENT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 1 );
+
+	// Only grow the concurrency back when the latency is below this ratio of the limit,
+	// to avoid oscillating around the limit.
+	private static final double LATENCY_GROWTH_THRESHOLD_RATIO = 0.8;
+
+	static PojoMassIndexingThrottlingController create(PojoMassIndexingNotifier notifier, int maxConcurrency,
+			double rateLimit, long latencyLimitInMilliseconds) {
+		if ( rateLimit <= 0 && latencyLimitInMilliseconds <= 0 ) {
+			return null;
+		}
+		return new PojoMassIndexingThrottlingController( notifier, maxConcurrency, rateLimit,
+				TimeUnit.MILLISECONDS.toNanos( latencyLimitInMilliseconds ), DEFAULT_ADJUSTMENT_INTERVAL_NANOS );
+	}
+
+	private final PojoMassIndexingNotifier notifier;
+	private final int maxConcurrency;
+	private final double rateLimit;
+	private final long latencyLimitNanos;
+	private final long adjustmentIntervalNanos;
+
+	// All fields below are guarded by "this"
+	private int concurrency;
+	private int ongoingLoads = 0;
+	private long nextLoadNanos;
+	private long windowStartNanos;
+	private long windowBatches = 0;
+	private long windowEntities = 0;
+	private long windowLatencyNanos = 0;
+	private boolean windowConcurrencyContended = false;
+	private boolean windowRateContended = false;
+
+	PojoMassIndexingThrottlingController(PojoMassIndexingNotifier notifier, int maxConcurrency,
+			double rateLimit, long latencyLimitNanos, long adjustmentIntervalNanos) {
+		this.notifier = notifier;
+		this.maxConcurrency = maxConcurrency;
+		this.rateLimit = rateLimit;
+		this.latencyLimitNanos = latencyLimitNanos;
+		this.adjustmentIntervalNanos = adjustmentIntervalNanos;
+		this.concurrency = maxConcurrency;
+		long now = System.nanoTime();
+		this.nextLoadNanos = now;
+		this.windowStartNanos = now;
+	}
+
+	/**
+	 * Waits until loading a batch of the given size is allowed,
+	 * then marks the batch as being loaded.
+	 * <p>
+	 * If this method returns normally, it must be followed by a call to {@link #afterLoading(int, long)},
+	 * even if loading fails.
+	 *
+	 * @param entityCount The number of entities in the batch.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	void beforeLoading(int entityCount) throws InterruptedException {
+		long delayNanos;
+		synchronized ( this ) {
+			while ( ongoingLoads >= concurrency ) {
+				windowConcurrencyContended = true;
+				wait();
+			}
+			++ongoingLoads;
+			if ( rateLimit <= 0 ) {
+				return;
+			}
+			// Reserve a slot for this batch: the next batch will have to wait until this one "fits" in the rate limit.
+			long now = System.nanoTime();
+			long start = Math.max( now, nextLoadNanos );
+			nextLoadNanos = start + (long) ( entityCount * TimeUnit.SECONDS.toNanos( 1 ) / rateLimit );
+			delayNanos = start - now;
+			if ( delayNanos > 0 ) {
+				windowRateContended = true;
+			}
+		}
+		if ( delayNanos > 0 ) {
+			try {
+				TimeUnit.NANOSECONDS.sleep( delayNanos );
+			}
+			catch (InterruptedException e) {
+				release();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Marks a batch as loaded, allowing other batches to be loaded,
+	 * and adjusts the concurrency if necessary.
+	 *
+	 * @param entityCount The number of entities in the batch.
+	 * @param latencyNanos The time it took to load the batch, in nanoseconds.
+	 */
+	void afterLoading(int entityCount, long latencyNanos) {
+		State state;
+		synchronized ( this ) {
+			--ongoingLoads;
+			++windowBatches;
+			windowEntities += entityCount;
+			windowLatencyNanos += latencyNanos;
+			state = adjustIfNecessary();
+			notifyAll();
+		}
+		if ( state != null ) {
+			notifier.reportLoadingThrottled( state );
+		}
+	}
+
+	synchronized int concurrency() {
+		return concurrency;
+	}
+
+	private synchronized void release() {
+		--ongoingLoads;
+		notifyAll();
+	}
+
+	private State adjustIfNecessary() {
+		long now = System.nanoTime();
+		long elapsedNanos = now - windowStartNanos;
+		if ( elapsedNanos < adjustmentIntervalNanos ) {
+			return null;
+		}
+		long averageLatencyNanos = windowLatencyNanos / windowBatches;
+		if ( latencyLimitNanos > 0 && averageLatencyNanos > latencyLimitNanos ) {
+			// The database is struggling: back off quickly.
+			concurrency = Math.max( 1, concurrency / 2 );
+		}
+		else if ( windowRateContended ) {
+			// Loading threads are already waiting for the rate limit: more concurrency would not help.
+			concurrency = Math.max( 1, concurrency - 1 );
+		}
+		else if ( windowConcurrencyContended && ( latencyLimitNanos <= 0
+				|| averageLatencyNanos < latencyLimitNanos * LATENCY_GROWTH_THRESHOLD_RATIO ) ) {
+			// The database is coping well and loading threads are waiting for a slot: grow slowly.
+			concurrency = Math.min( maxConcurrency, concurrency + 1 );
+		}
+		double entityRate = elapsedNanos == 0 ? 0.0
+				: windowEntities * (double) TimeUnit.SECONDS.toNanos( 1 ) / elapsedNanos;
+		State state = new State( concurrency, maxConcurrency, Duration.ofNanos( averageLatencyNanos ), entityRate );
+
+		windowStartNanos = now;
+		windowBatches = 0;
+		windowEntities = 0;
+		windowLatencyNanos = 0;
+		windowConcurrencyContended = false;
+		windowRateContended = false;
+		return state;
+	}
+
+	private static final class State implements MassIndexingThrottlingState {
+		private final int loadingConcurrency;
+		private final int maxLoadingConcurrency;
+		private final Duration averageLoadingLatency;
+		private final double entityLoadingRate;
+
+		private State(int loadingConcurrency, int maxLoadingConcurrency, Duration averageLoadingLatency,
+				double entityLoadingRate) {
+			this.loadingConcurrency = loadingConcurrency;
+			this.maxLoadingConcurrency = maxLoadingConcurrency;
+			this.averageLoadingLatency = averageLoadingLatency;
+			this.entityLoadingRate = entityLoadingRate;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "loadingConcurrency=" + loadingConcurrency
+					+ ", maxLoadingConcurrency=" + maxLoadingConcurrency
+					+ ", averageLoadingLatency=" + averageLoadingLatency
+					+ ", entityLoadingRate=" + entityLoadingRate
+					+ "]";
+		}
+
+		@Override
+		public int loadingConcurrency() {
+			return loadingConcurrency;
+		}
+
+		@Override
+		public int maxLoadingConcurrency() {
+			return maxLoadingConcurrency;
+		}
+
+		@Override
+		public Duration averageLoadingLatency() {
+			return averageLoadingLatency;
+		}
+
+		@Override
+		public double entityLoadingRate() {
+			return entityLoadingRate;
+		}
+	}
+}
@@ -8,8 +8,10 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A MassIndexer is useful to rebuild the indexes from the
@@ -129,4 +131,78 @@ public interface PojoMassIndexer {
 	 * @return {@code this} for method chaining
 	 */
 	PojoMassIndexer failureHandler(MassIndexingFailureHandler failureHandler);
+
+	/**
+	 * Enables checkpointing, allowing a mass indexing that failed or was interrupted to resume where it stopped.
+	 * <p>
+	 * When enabled, identifiers are loaded in ascending order,
+	 * and the last identifier such that all entities with a lower identifier have been indexed
+	 * is periodically persisted to the given store, right after the indexes are flushed.
+	 * If the store contains checkpoints on start, mass indexing resumes from these checkpoints:
+	 * schema drop/creation and purge on start are skipped, as are types whose indexing already completed.
+	 * Checkpoints are cleared once mass indexing completes without any failure.
+	 * Checkpoints are persisted separately for each tenant.
+	 * <p>
+	 * Entities whose indexing failed are reported to the {@link MassIndexingFailureHandler failure handler},
+	 * and checkpoints never move past them: on resume, indexing starts again from the batch
+	 * containing the first entity whose indexing failed.
+	 * <p>
+	 * Requires entity identifiers to be comparable in the database,
+	 * and to be numbers, strings, characters or UUIDs.
+	 *
+	 * @param store The store to persist checkpoints to. See {@link MassIndexingCheckpointStore#fileSystem(java.nio.file.Path)}
+	 * and {@link MassIndexingCheckpointStore#jdbc(javax.sql.DataSource, String)}.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	PojoMassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Sets the interval between two checkpoints when {@link #checkpointStore(MassIndexingCheckpointStore) checkpointing}
+	 * is enabled.
+	 * <p>
+	 * Each checkpoint involves flushing the indexes, so shorter intervals slow down mass indexing.
+	 * Defaults to 60 seconds.
+	 *
+	 * @param intervalInSeconds The interval between two checkpoints, in seconds.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	PojoMassIndexer checkpointInterval(int intervalInSeconds);
+
+	/**
+	 * Limits the rate at which entities are loaded from the database, across all loading threads.
+	 * <p>
+	 * Loading threads wait as necessary before loading each batch of entities,
+	 * and the number of batches loaded concurrently is reduced while the limit is reached.
+	 * Useful to reindex data without degrading the performance of other applications using the same database.
+	 * <p>
+	 * Defaults to no limit.
+	 *
+	 * @param entitiesPerSecond The maximum number of entities to load per second, on average.
+	 * @return {@code this} for method chaining
+	 * @see MassIndexingMonitor#loadingThrottled(org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState)
+	 */
+	@Incubating
+	PojoMassIndexer loadingRateLimit(double entitiesPerSecond);
+
+	/**
+	 * Limits the time it takes to load a batch of entities from the database,
+	 * by dynamically adjusting the number of batches loaded concurrently.
+	 * <p>
+	 * Whenever the average latency of batch loading exceeds this limit,
+	 * the number of batches loaded concurrently is halved.
+	 * It then grows back progressively, up to {@code typesToIndexInParallel * threadsToLoadObjects},
+	 * as long as the average latency stays well below the limit.
+	 * The latency is a good indicator of the load on the database:
+	 * it increases when the database struggles to serve queries.
+	 * <p>
+	 * Defaults to no limit.
+	 *
+	 * @param latencyInMilliseconds The maximum average time it should take to load a batch of entities, in milliseconds.
+	 * @return {@code this} for method chaining
+	 * @see MassIndexingMonitor#loadingThrottled(org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState)
+	 */
+	@Incubating
+	PojoMassIndexer loadingLatencyLimit(long latencyInMilliseconds);
 }
@@ -29,4 +29,16 @@
 	 */
 	PojoMassIdentifierSink<I> createSink();
 
+	/**
+	 * @return Whether identifiers must be loaded in ascending order,
+	 * which is necessary when mass indexing is checkpointed.
+	 */
+	boolean orderedByIdentifier();
+
+	/**
+	 * @return The identifier after which loading should resume, or {@code null} to load all identifiers.
+	 * When non-null, only identifiers strictly greater than this one must be loaded.
+	 */
+	Object resumeAfterIdentifier();
+
 }
@@ -28,6 +28,16 @@ public interface PojoRuntimeIntrospector {
 	 */
 	Object unproxy(Object value);
 
+	/**
+	 * @param value An object that may be a proxy.
+	 * @return The identifier of the entity {@code value} is a proxy for, if {@code value} is a proxy that was not loaded yet,
+	 * or {@code null} if {@link #unproxy(Object) unproxying} {@code value} does not require loading.
+	 * Defaults to always returning {@code null}, which is correct for mappers that do not use proxies.
+	 */
+	default Object uninitializedProxyIdentifier(Object value) {
+		return null;
+	}
+
 	/**
 	 * @param throwable A {@link Throwable} thrown while accessing data on an entity: calling a getter, accessing a field,
 	 * accessing the elements of a container, etc.
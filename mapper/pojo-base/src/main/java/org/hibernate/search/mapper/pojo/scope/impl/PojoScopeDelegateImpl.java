@@ -156,7 +156,7 @@ public PojoScopeSchemaManager schemaManager() {
 	@Override
 	public PojoMassIndexer massIndexer(PojoMassIndexingContext context, DetachedBackendSessionContext detachedSession) {
 		return new PojoDefaultMassIndexer( context, mappingContext, indexedTypeContextProvider, targetedTypeContexts,
-				schemaManager(), workspace( detachedSession ) );
+				schemaManager(), workspace( detachedSession ), detachedSession.tenantIdentifier() );
 	}
 
 	@Override
@@ -43,4 +43,9 @@ public ProjectionHitMapper<R, E> createProjectionHitMapper() {
 		return new PojoProjectionHitMapper<>( targetTypesByEntityName, documentReferenceConverter, sessionContext,
 				loadingPlan );
 	}
+
+	@Override
+	public void beforeLoadingNextChunk() {
+		delegate.beforeLoadingNextChunk();
+	}
 }
@@ -14,6 +14,7 @@
 
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverRootContext;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.automaticindexing.spi.PojoImplicitReindexingResolverSessionContext;
@@ -188,6 +189,13 @@ public void propagateOrIgnorePropertyAccessException(RuntimeException exception)
 			throw exception;
 		}
 
+		@Override
+		public <T> void resolveEntitiesToReindexAfterLoading(PojoReindexingCollector collector,
+				PojoImplicitReindexingResolverNode<T> node, T dirty) {
+			typeContext().resolveEntitiesToReindexAfterLoading( collector, sessionContext, identifier,
+					node, dirty, this );
+		}
+
 		private boolean isIgnorableDataAccessThrowable(RuntimeException exception) {
 			Throwable firstNonSearchThrowable = exception;
 			while ( firstNonSearchThrowable instanceof SearchException ) {
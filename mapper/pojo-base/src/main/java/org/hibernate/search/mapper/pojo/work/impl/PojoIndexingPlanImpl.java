@@ -17,9 +17,12 @@
 
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverRootContext;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.loading.impl.PojoLoadingPlan;
 import org.hibernate.search.mapper.pojo.loading.impl.PojoMultiLoaderLoadingPlan;
+import org.hibernate.search.mapper.pojo.loading.spi.PojoLoadingTypeContext;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -38,6 +41,7 @@ public class PojoIndexingPlanImpl implements PojoIndexingPlan, PojoLoadingPlanPr
 	private final PojoWorkSessionContext sessionContext;
 	private final PojoRuntimeIntrospector introspector;
 	private final PojoIndexingPlanStrategy strategy;
+	private final boolean reindexingResolutionBatchLoading;
 
 	// Use a LinkedHashMap for deterministic iteration
 	protected final Map<PojoRawTypeIdentifier<?>, PojoIndexedTypeIndexingPlan<?, ?>> indexedTypeDelegates = new LinkedHashMap<>();
@@ -46,6 +50,8 @@ public class PojoIndexingPlanImpl implements PojoIndexingPlan, PojoLoadingPlanPr
 	private boolean isProcessing = false;
 	private boolean mayRequireLoading = false;
 	private PojoLoadingPlan<Object> loadingPlan = null;
+	private List<DeferredReindexingResolution<?>> deferredReindexingResolutions = new ArrayList<>();
+	private PojoLoadingPlan<Object> reindexingResolutionLoadingPlan = null;
 
 	public PojoIndexingPlanImpl(PojoWorkIndexedTypeContextProvider indexedTypeContextProvider,
 			PojoWorkContainedTypeContextProvider containedTypeContextProvider,
@@ -56,6 +62,7 @@ public PojoIndexingPlanImpl(PojoWorkIndexedTypeContextProvider indexedTypeContex
 		this.sessionContext = sessionContext;
 		this.introspector = sessionContext.runtimeIntrospector();
 		this.strategy = strategy;
+		this.reindexingResolutionBatchLoading = sessionContext.reindexingResolutionBatchLoading();
 	}
 
 	@Override
@@ -127,6 +134,7 @@ public void process() {
 			for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : frozenIndexedTypeDelegates ) {
 				delegate.resolveDirty( this, this, shouldResolveDirtyForDeleteOnly );
 			}
+			resolveDeferredReindexing();
 			for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
 				delegate.process( this );
 			}
@@ -138,6 +146,8 @@ public void process() {
 			isProcessing = false;
 			mayRequireLoading = false;
 			loadingPlan = null;
+			deferredReindexingResolutions.clear();
+			reindexingResolutionLoadingPlan = null;
 		}
 	}
 
@@ -188,6 +198,67 @@ public void markForReindexing(Object containingEntity) {
 		delegate.updateBecauseOfContained( containingEntity );
 	}
 
+	@Override
+	public <T> boolean deferUntilLoaded(PojoImplicitReindexingResolverNode<T> node, T dirty,
+			PojoImplicitReindexingResolverRootContext context) {
+		if ( !reindexingResolutionBatchLoading ) {
+			return false;
+		}
+		Object identifier = getIntrospector().uninitializedProxyIdentifier( dirty );
+		if ( identifier == null ) {
+			// Already loaded: no need to defer anything.
+			return false;
+		}
+		PojoLoadingTypeContext<?> typeContext = loadingTypeContextOrNull( getIntrospector().detectEntityType( dirty ) );
+		if ( typeContext == null ) {
+			// We don't know how to load this type: let it be loaded lazily.
+			return false;
+		}
+		if ( reindexingResolutionLoadingPlan == null ) {
+			reindexingResolutionLoadingPlan = new PojoMultiLoaderLoadingPlan<>( sessionContext.defaultLoadingContext() );
+		}
+		reindexingResolutionLoadingPlan.planLoading( typeContext, identifier );
+		deferredReindexingResolutions.add( new DeferredReindexingResolution<>( node, dirty, context ) );
+		return true;
+	}
+
+	/*
+	 * Resolves entities to reindex breadth-first:
+	 * each iteration loads, in a single batch, all entities whose resolution was deferred in the previous iteration,
+	 * then resumes resolution from these entities, which may defer resolution of entities at the next level.
+	 */
+	private void resolveDeferredReindexing() {
+		while ( !deferredReindexingResolutions.isEmpty() ) {
+			List<DeferredReindexingResolution<?>> resolutions = deferredReindexingResolutions;
+			deferredReindexingResolutions = new ArrayList<>();
+			PojoLoadingPlan<Object> resolutionsLoadingPlan = reindexingResolutionLoadingPlan;
+			reindexingResolutionLoadingPlan = null;
+
+			log.tracef( "Loading %d entities to resume reindexing resolution", resolutions.size() );
+			resolutionsLoadingPlan.loadBlocking( null );
+			for ( DeferredReindexingResolution<?> resolution : resolutions ) {
+				resolution.resume( this );
+			}
+		}
+	}
+
+	private PojoLoadingTypeContext<?> loadingTypeContextOrNull(PojoRawTypeIdentifier<?> typeIdentifier) {
+		if ( typeIdentifier == null ) {
+			return null;
+		}
+		Optional<? extends PojoWorkIndexedTypeContext<?, ?>> indexedTypeContextOptional =
+				indexedTypeContextProvider.forExactType( typeIdentifier );
+		if ( indexedTypeContextOptional.isPresent() ) {
+			return indexedTypeContextOptional.get();
+		}
+		Optional<? extends PojoWorkContainedTypeContext<?, ?>> containedTypeContextOptional =
+				containedTypeContextProvider.forExactType( typeIdentifier );
+		if ( containedTypeContextOptional.isPresent() ) {
+			return containedTypeContextOptional.get();
+		}
+		return null;
+	}
+
 	private PojoRuntimeIntrospector getIntrospector() {
 		return introspector;
 	}
@@ -263,4 +334,21 @@ private <I, E> PojoIndexedTypeIndexingPlan<I, E> createDelegate(PojoWorkIndexedT
 	private PojoContainedTypeIndexingPlan<?, ?> createDelegate(PojoWorkContainedTypeContext<?, ?> typeContext) {
 		return strategy.createDelegate( typeContext, sessionContext );
 	}
+
+	private static final class DeferredReindexingResolution<T> {
+		private final PojoImplicitReindexingResolverNode<T> node;
+		private final T dirty;
+		private final PojoImplicitReindexingResolverRootContext context;
+
+		private DeferredReindexingResolution(PojoImplicitReindexingResolverNode<T> node, T dirty,
+				PojoImplicitReindexingResolverRootContext context) {
+			this.node = node;
+			this.dirty = dirty;
+			this.context = context;
+		}
+
+		void resume(PojoReindexingCollector collector) {
+			context.resolveEntitiesToReindexAfterLoading( collector, node, dirty );
+		}
+	}
 }
@@ -8,6 +8,7 @@
 
 import java.util.function.Supplier;
 
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverRootContext;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.model.path.impl.PojoPathOrdinals;
@@ -37,6 +38,11 @@ void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			Supplier<E> entitySupplier,
 			PojoImplicitReindexingResolverRootContext context);
 
+	<T> void resolveEntitiesToReindexAfterLoading(PojoReindexingCollector collector,
+			PojoWorkSessionContext sessionContext, Object identifier,
+			PojoImplicitReindexingResolverNode<T> node, T dirty,
+			PojoImplicitReindexingResolverRootContext context);
+
 	PojoPathOrdinals pathOrdinals();
 
 }
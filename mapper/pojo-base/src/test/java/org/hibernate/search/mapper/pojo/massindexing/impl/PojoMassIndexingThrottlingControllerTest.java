@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingThrottlingState;
+
+import org.junit.Test;
+
+public class PojoMassIndexingThrottlingControllerTest {
+
+	private static final long MS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+	private final List<MassIndexingThrottlingState> states = new CopyOnWriteArrayList<>();
+
+	private final PojoMassIndexingNotifier notifier = new PojoMassIndexingNotifier(
+			context -> { }, new RecordingMonitor() );
+
+	@Test
+	public void noLimit() {
+		assertThat( PojoMassIndexingThrottlingController.create( notifier, 4, 0, 0 ) ).isNull();
+	}
+
+	@Test
+	public void latencyLimit_shrink() throws InterruptedException {
+		PojoMassIndexingThrottlingController controller = createController( 8, 0, 100 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 8 );
+
+		load( controller, 10, 200 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 4 );
+		load( controller, 10, 200 * MS );
+		load( controller, 10, 200 * MS );
+		load( controller, 10, 200 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 1 );
+
+		assertThat( states ).hasSize( 4 );
+		MassIndexingThrottlingState lastState = states.get( 3 );
+		assertThat( lastState.loadingConcurrency() ).isEqualTo( 1 );
+		assertThat( lastState.maxLoadingConcurrency() ).isEqualTo( 8 );
+		assertThat( lastState.averageLoadingLatency().toMillis() ).isEqualTo( 200 );
+	}
+
+	@Test
+	public void latencyLimit_grow() throws Exception {
+		PojoMassIndexingThrottlingController controller = createController( 2, 0, 100 * MS );
+		load( controller, 10, 200 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 1 );
+
+		// Loading threads waiting for a slot, but latency is low: concurrency should grow back
+		controller.beforeLoading( 10 );
+		CompletableFuture<?> waitingLoad = CompletableFuture.runAsync( () -> {
+			try {
+				load( controller, 10, 10 * MS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		} );
+		awaitWaitingThread();
+		controller.afterLoading( 10, 10 * MS );
+		waitingLoad.get( 10, TimeUnit.SECONDS );
+		assertThat( controller.concurrency() ).isEqualTo( 2 );
+
+		// Concurrency never exceeds the maximum
+		load( controller, 10, 10 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void latencyLimit_noGrowthWithoutContention() throws InterruptedException {
+		PojoMassIndexingThrottlingController controller = createController( 4, 0, 100 * MS );
+		load( controller, 10, 200 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 2 );
+
+		// No thread is waiting for a slot: growing would be pointless
+		load( controller, 10, 10 * MS );
+		assertThat( controller.concurrency() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void rateLimit() throws InterruptedException {
+		// 100 entities per second, i.e. 10ms per entity
+		PojoMassIndexingThrottlingController controller = createController( 4, 100, 0 );
+
+		long start = System.nanoTime();
+		for ( int i = 0; i < 4; i++ ) {
+			// 10 entities: the next batch must wait 100ms
+			load( controller, 10, 0 );
+		}
+		long elapsedNanos = System.nanoTime() - start;
+		assertThat( elapsedNanos ).isGreaterThanOrEqualTo( 300 * MS );
+
+		// Threads had to wait for the rate limit: concurrency should decrease
+		assertThat( controller.concurrency() ).isLessThan( 4 );
+	}
+
+	private PojoMassIndexingThrottlingController createController(int maxConcurrency, double rateLimit,
+			long latencyLimitNanos) {
+		// Adjust after every batch, to keep the test deterministic
+		return new PojoMassIndexingThrottlingController( notifier, maxConcurrency, rateLimit, latencyLimitNanos, 0 );
+	}
+
+	private static void load(PojoMassIndexingThrottlingController controller, int entityCount, long latencyNanos)
+			throws InterruptedException {
+		controller.beforeLoading( entityCount );
+		controller.afterLoading( entityCount, latencyNanos );
+	}
+
+	private static void awaitWaitingThread() throws InterruptedException {
+		// Contention is only flagged once the other thread actually waits for a loading slot.
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( !hasWaitingThread() ) {
+			if ( System.nanoTime() > deadline ) {
+				throw new IllegalStateException( "Timed out waiting for a thread to wait for a loading slot" );
+			}
+			Thread.sleep( 10 );
+		}
+	}
+
+	private static boolean hasWaitingThread() {
+		for ( Thread thread : Thread.getAllStackTraces().keySet() ) {
+			if ( thread.getState() == Thread.State.WAITING ) {
+				for ( StackTraceElement element : thread.getStackTrace() ) {
+					if ( element.getClassName().equals( PojoMassIndexingThrottlingController.class.getName() )
+							&& element.getMethodName().equals( "beforeLoading" ) ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private class RecordingMonitor implements MassIndexingMonitor {
+		@Override
+		public void documentsAdded(long increment) {
+		}
+
+		@Override
+		public void documentsBuilt(long increment) {
+		}
+
+		@Override
+		public void entitiesLoaded(long increment) {
+		}
+
+		@Override
+		public void addToTotalCount(long increment) {
+		}
+
+		@Override
+		public void indexingCompleted() {
+		}
+
+		@Override
+		public void loadingThrottled(MassIndexingThrottlingState state) {
+			states.add( state );
+		}
+	}
+}
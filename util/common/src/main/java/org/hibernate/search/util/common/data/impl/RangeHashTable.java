@@ -66,7 +66,11 @@ public int computeIndex(CharSequence key) {
 		return computeIndexForHash( hashFunction.hash( key ) );
 	}
 
-	// Exposed for testing only
+	/**
+	 * @param hash A {@link HashFunction#hash(CharSequence) hash}.
+	 *
+	 * @return The index of the bucket whose {@link #rangeForBucket(int) range} contains that hash.
+	 */
 	public int computeIndexForHash(int hash) {
 		int searchResult = Arrays.binarySearch( lowerBounds, hash );
 		return searchResult >= 0 ? searchResult : -( searchResult + 2 );
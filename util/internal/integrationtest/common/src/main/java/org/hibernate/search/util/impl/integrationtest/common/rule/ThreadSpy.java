@@ -87,6 +87,11 @@ public String createThreadName(String prefix, int threadNumber) {
 		public ThreadFactory createThreadFactory(String prefix) {
 			return new SpyingThreadFactory( delegate.createThreadFactory( prefix ) );
 		}
+
+		@Override
+		public ThreadFactory createVirtualThreadFactory(String prefix, ThreadFactory virtualThreadFactory) {
+			return new SpyingThreadFactory( delegate.createVirtualThreadFactory( prefix, virtualThreadFactory ) );
+		}
 	}
 
 	private class SpyingThreadFactory implements ThreadFactory {
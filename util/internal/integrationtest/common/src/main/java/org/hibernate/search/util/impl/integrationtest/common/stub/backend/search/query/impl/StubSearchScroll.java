@@ -27,6 +27,8 @@
 	private final StubSearchProjection<T> rootProjection;
 	private final StubTimeoutManager timeoutManager;
 
+	private boolean firstChunk = true;
+
 	public StubSearchScroll(StubBackendBehavior behavior, Set<String> indexNames, StubSearchWork work,
 			StubSearchProjectionContext projectionContext, SearchLoadingContext<?, ?> loadingContext,
 			StubSearchProjection<T> rootProjection, TimingSource timingSource) {
@@ -49,6 +51,13 @@ public void close() {
 	public SearchScrollResult<T> next() {
 		timeoutManager.start();
 
+		if ( firstChunk ) {
+			firstChunk = false;
+		}
+		else {
+			loadingContext.beforeLoadingNextChunk();
+		}
+
 		SearchScrollResult<T> result = behavior.executeNextScrollWork( indexNames, work, projectionContext,
 				loadingContext, rootProjection, timeoutManager.hardDeadlineOrNull()
 		);
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.util.impl.integrationtest.mapper.orm;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendIndexingWorkExpectations;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubDocumentWork;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.coordination.localheap.LocalHeapQueueCooordinationStrategy;
@@ -13,31 +16,46 @@
 public final class CoordinationStrategyExpectations {
 
 	public static CoordinationStrategyExpectations defaults() {
-		return new CoordinationStrategyExpectations( null, true, BackendIndexingWorkExpectations.sync() );
+		return new CoordinationStrategyExpectations( null, true, BackendIndexingWorkExpectations.sync(),
+				Collections.emptyMap() );
 	}
 
 	public static CoordinationStrategyExpectations localHeapQueue() {
-		return async( LocalHeapQueueCooordinationStrategy.class.getName(), ".*Local heap queue.*" );
+		return async( LocalHeapQueueCooordinationStrategy.class.getName(), ".*Local heap queue.*",
+				Collections.emptyMap() );
 	}
 
 	public static CoordinationStrategyExpectations outboxPolling() {
-		return async( "database-polling", ".*Outbox event processor.*" );
+		return outboxPolling( Collections.emptyMap() );
+	}
+
+	public static CoordinationStrategyExpectations outboxPollingPipelined(int pipelineDepth) {
+		return outboxPolling( Collections.singletonMap(
+				"hibernate.search.coordination.processors.indexing.pipeline_depth", pipelineDepth ) );
+	}
+
+	private static CoordinationStrategyExpectations outboxPolling(Map<String, Object> properties) {
+		return async( "database-polling", ".*Outbox event processor.*", properties );
 	}
 
-	private static CoordinationStrategyExpectations async(String strategyName, String threadNamePattern) {
+	private static CoordinationStrategyExpectations async(String strategyName, String threadNamePattern,
+			Map<String, Object> properties) {
 		return new CoordinationStrategyExpectations( strategyName, false,
-				BackendIndexingWorkExpectations.async( threadNamePattern, StubDocumentWork.Type.ADD_OR_UPDATE ) );
+				BackendIndexingWorkExpectations.async( threadNamePattern, StubDocumentWork.Type.ADD_OR_UPDATE ),
+				properties );
 	}
 
 	final String strategyName;
 	final boolean sync;
 	public final BackendIndexingWorkExpectations indexingWorkExpectations;
+	final Map<String, Object> properties;
 
 	private CoordinationStrategyExpectations(String strategyName, boolean sync,
-			BackendIndexingWorkExpectations indexingWorkExpectations) {
+			BackendIndexingWorkExpectations indexingWorkExpectations, Map<String, Object> properties) {
 		this.strategyName = strategyName;
 		this.sync = sync;
 		this.indexingWorkExpectations = indexingWorkExpectations;
+		this.properties = properties;
 	}
 
 }
@@ -131,6 +131,7 @@ protected void close(SessionFactory toClose) {
 			withProperty( HibernateOrmMapperSettings.SCHEMA_MANAGEMENT_STRATEGY, schemaManagementStrategyName );
 			// Set the automatic indexing strategy according to the expectations
 			withProperty( "hibernate.search.coordination.strategy", coordinationStrategyExpectations.strategyName );
+			coordinationStrategyExpectations.properties.forEach( this::withProperty );
 			// Ensure overridden properties will be applied
 			withConfiguration( builder -> overriddenProperties.forEach( builder::setProperty ) );
 		}